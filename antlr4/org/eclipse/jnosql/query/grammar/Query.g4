@@ -1,5 +1,5 @@
 grammar Query;
-select: 'select' fields 'from' entity where? skip? limit? order? EOF;
+select: 'select' fields 'from' entity where? group? skip? limit? order? EOF;
 delete: 'delete' deleteFields? 'from' entity where? EOF;
 insert: 'insert' entity (conditions | json) ttl? EOF;
 update: 'update' entity (conditions | json) EOF;
@@ -7,14 +7,18 @@ get: 'get' keys EOF;
 del: 'del' keys EOF;
 put: 'put' '{' key ',' value (',' ttl)?  '}' EOF;
 
-fields: star | name (',' name)*;
+fields: star | field (',' field)*;
+field: name | aggregate;
+aggregate: aggregateFunction (name | star) ')';
+aggregateFunction: 'count(' | 'sum(' | 'min(' | 'max(' | 'avg(';
 deleteFields: name (',' name)*;
 conditions: '(' changes ')';
 star: '*';
 skip: 'skip' INT;
 limit: 'limit' INT;
+group: 'group' 'by' name (',' name)*;
 order: 'order' 'by' orderName (orderName)*;
-orderName: name | name asc | name desc;
+orderName: name | name asc | name desc | aggregate | aggregate asc | aggregate desc;
 where: 'where' condition (and condition| or condition)* ;
 condition: eq | gt | gte | lt | lte | between | in | like;
 eq: not? name '=' value;
@@ -2,7 +2,8 @@ grammar Method;
 select: selectStart where? order? EOF;
 deleteBy: 'deleteBy' where? EOF;
 
-selectStart: 'findBy'| 'countBy'| 'existsBy';
+selectStart: 'findBy'| first | 'countBy'| 'existsBy';
+first: FIRST;
 where: condition (and condition| or condition)* ;
 condition: eq | gt | gte | lt | lte | between | in | like | truth | untruth;
 order: 'OrderBy' orderName (orderName)*;
@@ -23,6 +24,7 @@ in: variable not? 'In';
 like: variable not? 'Like';
 not: 'Not';
 variable: ANY_NAME;
+FIRST: 'find' ('First' | 'Top') [0-9]* 'By';
 ANY_NAME: [a-zA-Z_.] [a-zA-Z._0-9]*;
 WS: [ \t\r\n]+ -> skip ;
 fragment ESC :   '\\' (["\\/bfnrt] | UNICODE) ;
@@ -0,0 +1,163 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.WriteCoalescer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnManager} that coalesces the single {@link ColumnManager#insert(ColumnEntity)} and
+ * {@link ColumnManager#update(ColumnEntity)} of concurrent callers into {@link ColumnManager#insert(Iterable)} and
+ * {@link ColumnManager#update(Iterable)}, the bulk operations that the drivers run at once. The inserts and the
+ * updates share one queue, thus, they reach the decorated manager in the order they were called. Each caller waits
+ * until its entity is written and receives its own result; when a bulk operation fails, it is split and written again
+ * until each caller receives either its entity or the failure of its own write.
+ * Every other operation goes straight to the decorated manager: the inserts with time to live, the inserts and the
+ * updates of an {@link Iterable}, the deletes, the selects, the counts, {@code exists}, {@code aggregate} and
+ * {@code singleResult}.
+ *
+ * @see WriteCoalescer
+ */
+public final class CoalescingColumnManager implements ColumnManager {
+
+    private final ColumnManager manager;
+
+    private final WriteCoalescer<ColumnEntity> writes;
+
+    private final Function<List<ColumnEntity>, Iterable<ColumnEntity>> insert;
+
+    private final Function<List<ColumnEntity>, Iterable<ColumnEntity>> update;
+
+    private CoalescingColumnManager(ColumnManager manager, int batchSize, Duration window, int capacity) {
+        this.manager = manager;
+        this.writes = WriteCoalescer.of(manager.name(), batchSize, window, capacity);
+        this.insert = manager::insert;
+        this.update = manager::update;
+    }
+
+    /**
+     * Decorates the manager
+     *
+     * @param manager   the manager
+     * @param batchSize the maximum number of entities of a bulk operation
+     * @param window    the maximum time that an entity waits for others before the bulk operation
+     * @param capacity  the maximum number of entities waiting of each operation, when it is reached the callers block
+     * @return a new {@link CoalescingColumnManager}
+     * @throws NullPointerException     when either manager or window is null
+     * @throws IllegalArgumentException when either the batch size or the capacity is not positive or the window is
+     *                                  negative
+     */
+    public static CoalescingColumnManager of(ColumnManager manager, int batchSize, Duration window,
+                                               int capacity) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new CoalescingColumnManager(manager, batchSize, window, capacity);
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return writes.write(insert, entity);
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return writes.write(update, entity);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        manager.delete(query);
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        return manager.select(query);
+    }
+
+    @Override
+    public long count(ColumnQuery query) {
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) {
+        return manager.exists(query);
+    }
+
+    @Override
+    public Stream<ColumnEntity> aggregate(ColumnQuery query) {
+        return manager.aggregate(query);
+    }
+
+    @Override
+    public Optional<ColumnEntity> singleResult(ColumnQuery query) {
+        return manager.singleResult(query);
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return manager.count(columnFamily);
+    }
+
+    /**
+     * Writes the entities already queued, then closes the decorated manager
+     */
+    @Override
+    public void close() {
+        writes.close();
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingColumnManager{" +
+                "manager=" + manager +
+                '}';
+    }
+}
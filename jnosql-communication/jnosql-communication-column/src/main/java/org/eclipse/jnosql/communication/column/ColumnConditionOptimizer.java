@@ -0,0 +1,502 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Rewrites a {@link ColumnCondition} into a simpler one before it reaches the {@link ColumnManager}:
+ * <ul>
+ *     <li>the nested AND and OR conditions are flattened, and a single condition is not wrapped;</li>
+ *     <li>the duplicated conditions are removed and a double NOT is dropped;</li>
+ *     <li>the equals and in conditions of the same field at an OR become a single in;</li>
+ *     <li>an empty in cannot match, thus, the query does not need to reach the database.</li>
+ * </ul>
+ * The fields that the caller tells as single-valued have two more rewrites:
+ * <ul>
+ *     <li>the equals and range conditions of the same field at an AND are merged into the narrowest range, where the
+ *     inclusive bounds become a between;</li>
+ *     <li>a condition that cannot match, e.g.: {@code age = 10 and age = 20} or {@code age > 20 and age < 10}, is
+ *     detected.</li>
+ * </ul>
+ * Those are not right for a field that has many values, e.g.: {@code tags = 'a' and tags = 'b'} matches a row
+ * whose tags has both, thus, by default no field is taken as single-valued. Only the values that are numbers, or that
+ * have the same {@link Comparable} type, are merged; the others are kept as they are.
+ */
+public final class ColumnConditionOptimizer {
+
+    private static final TypeReference<List<ColumnCondition>> CONDITIONS = new TypeReference<>() {
+    };
+
+    private static final Predicate<String> NONE = name -> false;
+
+    private ColumnConditionOptimizer() {
+    }
+
+    /**
+     * Optimizes the condition
+     *
+     * @param condition the condition
+     * @return the optimized condition, or {@link Optional#empty()} when the condition cannot match any entity
+     * @throws NullPointerException when condition is null
+     */
+    public static Optional<ColumnCondition> optimize(ColumnCondition condition) {
+        return optimize(condition, NONE);
+    }
+
+    /**
+     * Optimizes the condition, the ranges are merged only at the single-valued fields
+     *
+     * @param condition    the condition
+     * @param singleValued checks whether the column name is a single-valued field
+     * @return the optimized condition, or {@link Optional#empty()} when the condition cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<ColumnCondition> optimize(ColumnCondition condition, Predicate<String> singleValued) {
+        Objects.requireNonNull(condition, "condition is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        return Optional.ofNullable(rewrite(condition, singleValued));
+    }
+
+    /**
+     * Optimizes the condition of the query, the query is returned as it is when there is nothing to change.
+     *
+     * @param query the query
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<ColumnQuery> optimize(ColumnQuery query) {
+        return optimize(query, NONE);
+    }
+
+    /**
+     * Optimizes the condition of the query, the ranges are merged only at the single-valued fields. The query is
+     * returned as it is when there is nothing to change.
+     *
+     * @param query        the query
+     * @param singleValued checks whether the column name is a single-valued field
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<ColumnQuery> optimize(ColumnQuery query, Predicate<String> singleValued) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        Optional<ColumnCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return Optional.of(query);
+        }
+        ColumnCondition optimized = rewrite(condition.get(), singleValued);
+        if (optimized == null) {
+            return Optional.empty();
+        } else if (optimized.equals(condition.get())) {
+            return Optional.of(query);
+        }
+        return Optional.of(new DefaultColumnQuery(query.limit(), query.skip(), query.name(), query.columns(),
+                query.sorts(), optimized, query.aggregations(), query.groupBy()));
+    }
+
+    /**
+     * Optimizes the condition of the query, the query is returned as it is when there is nothing to change.
+     *
+     * @param query the query
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<ColumnDeleteQuery> optimize(ColumnDeleteQuery query) {
+        return optimize(query, NONE);
+    }
+
+    /**
+     * Optimizes the condition of the query, the ranges are merged only at the single-valued fields. The query is
+     * returned as it is when there is nothing to change.
+     *
+     * @param query        the query
+     * @param singleValued checks whether the column name is a single-valued field
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<ColumnDeleteQuery> optimize(ColumnDeleteQuery query, Predicate<String> singleValued) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        Optional<ColumnCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return Optional.of(query);
+        }
+        ColumnCondition optimized = rewrite(condition.get(), singleValued);
+        if (optimized == null) {
+            return Optional.empty();
+        } else if (optimized.equals(condition.get())) {
+            return Optional.of(query);
+        }
+        return Optional.of(new DefaultColumnDeleteQuery(query.name(), optimized, query.columns()));
+    }
+
+    /**
+     * @return the rewritten condition or null when it cannot match
+     */
+    private static ColumnCondition rewrite(ColumnCondition condition, Predicate<String> singleValued) {
+        Column column = condition.column();
+        return switch (condition.condition()) {
+            case AND -> and(column.get(CONDITIONS), singleValued);
+            case OR -> or(column.get(CONDITIONS), singleValued);
+            case NOT -> not(column.get(ColumnCondition.class), singleValued);
+            case IN -> in(condition);
+            case BETWEEN -> singleValued.test(column.name()) ? between(condition) : condition;
+            default -> condition;
+        };
+    }
+
+    private static ColumnCondition not(ColumnCondition condition, Predicate<String> singleValued) {
+        if (Condition.NOT.equals(condition.condition())) {
+            ColumnCondition negated = condition.column().get(ColumnCondition.class);
+            return rewrite(negated, singleValued);
+        }
+        ColumnCondition optimized = rewrite(condition, singleValued);
+        if (optimized == null) {
+            return ColumnCondition.of(Column.of(Condition.NOT.getNameField(), condition), Condition.NOT);
+        }
+        return ColumnCondition.of(Column.of(Condition.NOT.getNameField(), optimized), Condition.NOT);
+    }
+
+    private static ColumnCondition in(ColumnCondition condition) {
+        if (!(condition.column().get() instanceof Iterable<?>)) {
+            return condition;
+        }
+        List<Object> values = values(condition.column());
+        if (values.isEmpty()) {
+            return null;
+        } else if (values.size() == 1) {
+            return ColumnCondition.eq(condition.column().name(), values.get(0));
+        }
+        return condition;
+    }
+
+    private static ColumnCondition between(ColumnCondition condition) {
+        List<Object> values = values(condition.column());
+        if (values.size() != 2) {
+            return condition;
+        }
+        Integer compare = compare(values.get(0), values.get(1));
+        if (compare != null && compare > 0) {
+            return null;
+        } else if (compare != null && compare == 0) {
+            return ColumnCondition.eq(condition.column().name(), values.get(0));
+        }
+        return condition;
+    }
+
+    private static ColumnCondition and(List<ColumnCondition> conditions, Predicate<String> singleValued) {
+        Set<ColumnCondition> flatten = new LinkedHashSet<>();
+        for (ColumnCondition condition : conditions) {
+            ColumnCondition optimized = rewrite(condition, singleValued);
+            if (optimized == null) {
+                return null;
+            } else if (Condition.AND.equals(optimized.condition())) {
+                flatten.addAll(optimized.column().get(CONDITIONS));
+            } else {
+                flatten.add(optimized);
+            }
+        }
+        List<ColumnCondition> merged = ranges(new ArrayList<>(flatten), singleValued);
+        if (merged == null) {
+            return null;
+        }
+        return merged.size() == 1 ? merged.get(0) : ColumnCondition.and(merged.toArray(new ColumnCondition[0]));
+    }
+
+    private static ColumnCondition or(List<ColumnCondition> conditions, Predicate<String> singleValued) {
+        Set<ColumnCondition> flatten = new LinkedHashSet<>();
+        for (ColumnCondition condition : conditions) {
+            ColumnCondition optimized = rewrite(condition, singleValued);
+            if (optimized != null && Condition.OR.equals(optimized.condition())) {
+                flatten.addAll(optimized.column().get(CONDITIONS));
+            } else if (optimized != null) {
+                flatten.add(optimized);
+            }
+        }
+        if (flatten.isEmpty()) {
+            return null;
+        }
+        List<ColumnCondition> merged = equalities(new ArrayList<>(flatten));
+        return merged.size() == 1 ? merged.get(0) : ColumnCondition.or(merged.toArray(new ColumnCondition[0]));
+    }
+
+    private static List<ColumnCondition> equalities(List<ColumnCondition> conditions) {
+        Map<String, Set<Object>> fields = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (ColumnCondition condition : conditions) {
+            if (isEquality(condition)) {
+                String name = condition.column().name();
+                counts.merge(name, 1, Integer::sum);
+                Set<Object> values = fields.computeIfAbsent(name, k -> new LinkedHashSet<>());
+                if (Condition.IN.equals(condition.condition())) {
+                    values.addAll(values(condition.column()));
+                } else {
+                    values.add(condition.column().get());
+                }
+            }
+        }
+        List<ColumnCondition> merged = new ArrayList<>(conditions.size());
+        for (ColumnCondition condition : conditions) {
+            if (!isEquality(condition) || counts.get(condition.column().name()) == 1) {
+                merged.add(condition);
+                continue;
+            }
+            Set<Object> values = fields.remove(condition.column().name());
+            if (values != null) {
+                merged.add(ColumnCondition.in(condition.column().name(), new ArrayList<>(values)));
+            }
+        }
+        return merged;
+    }
+
+    private static List<ColumnCondition> ranges(List<ColumnCondition> conditions, Predicate<String> singleValued) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        for (ColumnCondition condition : conditions) {
+            if (isRange(condition) && singleValued.test(condition.column().name())) {
+                ranges.computeIfAbsent(condition.column().name(), Range::new).add(condition);
+            }
+        }
+        List<ColumnCondition> merged = new ArrayList<>(conditions.size());
+        for (ColumnCondition condition : conditions) {
+            Range range = isRange(condition) ? ranges.get(condition.column().name()) : null;
+            if (range == null || range.conditions.size() == 1 || !range.isComparable()) {
+                merged.add(condition);
+            } else if (range.conditions.get(0) == condition) {
+                if (range.isEmpty()) {
+                    return null;
+                }
+                merged.addAll(range.conditions());
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isEquality(ColumnCondition condition) {
+        return Condition.EQUALS.equals(condition.condition()) || Condition.IN.equals(condition.condition());
+    }
+
+    private static boolean isRange(ColumnCondition condition) {
+        return switch (condition.condition()) {
+            case EQUALS, GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN, BETWEEN -> true;
+            default -> false;
+        };
+    }
+
+    private static List<Object> values(Column column) {
+        List<Object> values = new ArrayList<>();
+        Object value = column.get();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(v -> values.add(v instanceof Value wrapper ? wrapper.get() : v));
+        }
+        return values;
+    }
+
+    /**
+     * @return the comparison or null when the values cannot be compared
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Integer compare(Object value, Object other) {
+        if (value == null || other == null) {
+            return null;
+        } else if (value instanceof Number number && other instanceof Number otherNumber) {
+            BigDecimal decimal = decimal(number);
+            BigDecimal otherDecimal = decimal(otherNumber);
+            return decimal == null || otherDecimal == null ? null : decimal.compareTo(otherDecimal);
+        } else if (value instanceof Comparable comparable && value.getClass().equals(other.getClass())) {
+            return comparable.compareTo(other);
+        }
+        return null;
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * The bounds of a field at an AND, from its equals and range conditions
+     */
+    private static final class Range {
+
+        private final String name;
+
+        private final List<ColumnCondition> conditions = new ArrayList<>();
+
+        private Object equal;
+
+        private Object lower;
+
+        private boolean lowerInclusive;
+
+        private Object upper;
+
+        private boolean upperInclusive;
+
+        private boolean comparable = true;
+
+        private boolean empty;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        void add(ColumnCondition condition) {
+            conditions.add(condition);
+            if (!comparable) {
+                return;
+            }
+            Object value = condition.column().get();
+            if (value == null) {
+                comparable = false;
+                return;
+            }
+            switch (condition.condition()) {
+                case EQUALS -> equalTo(value);
+                case GREATER_THAN -> lower(value, false);
+                case GREATER_EQUALS_THAN -> lower(value, true);
+                case LESSER_THAN -> upper(value, false);
+                case LESSER_EQUALS_THAN -> upper(value, true);
+                default -> {
+                    List<Object> values = values(condition.column());
+                    if (values.size() == 2) {
+                        lower(values.get(0), true);
+                        upper(values.get(1), true);
+                    } else {
+                        comparable = false;
+                    }
+                }
+            }
+        }
+
+        boolean isComparable() {
+            if (comparable && !empty) {
+                check(equal, lower, lowerInclusive, 1);
+                check(equal, upper, upperInclusive, -1);
+                if (lower != null && upper != null) {
+                    Integer compare = compare(lower, upper);
+                    if (compare == null) {
+                        comparable = false;
+                    } else if (compare > 0 || (compare == 0 && !(lowerInclusive && upperInclusive))) {
+                        empty = true;
+                    }
+                }
+            }
+            return comparable;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        List<ColumnCondition> conditions() {
+            if (equal != null) {
+                return List.of(ColumnCondition.eq(name, equal));
+            } else if (lower != null && upper != null && lowerInclusive && upperInclusive) {
+                if (Objects.equals(compare(lower, upper), 0)) {
+                    return List.of(ColumnCondition.eq(name, lower));
+                }
+                return List.of(ColumnCondition.between(name, List.of(lower, upper)));
+            }
+            List<ColumnCondition> bounds = new ArrayList<>(2);
+            if (lower != null) {
+                bounds.add(lowerInclusive ? ColumnCondition.gte(name, lower) : ColumnCondition.gt(name, lower));
+            }
+            if (upper != null) {
+                bounds.add(upperInclusive ? ColumnCondition.lte(name, upper) : ColumnCondition.lt(name, upper));
+            }
+            return bounds;
+        }
+
+        private void check(Object value, Object bound, boolean inclusive, int signum) {
+            if (value == null || bound == null || empty) {
+                return;
+            }
+            Integer compare = compare(value, bound);
+            if (compare == null) {
+                comparable = false;
+            } else if (Integer.signum(compare) == -signum || (compare == 0 && !inclusive)) {
+                empty = true;
+            }
+        }
+
+        private void equalTo(Object value) {
+            if (equal == null) {
+                equal = value;
+                return;
+            }
+            Integer compare = compare(equal, value);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare != 0) {
+                empty = true;
+            }
+        }
+
+        private void lower(Object value, boolean inclusive) {
+            if (lower == null) {
+                lower = value;
+                lowerInclusive = inclusive;
+                return;
+            }
+            Integer compare = compare(value, lower);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare > 0 || (compare == 0 && !inclusive)) {
+                lower = value;
+                lowerInclusive = inclusive;
+            }
+        }
+
+        private void upper(Object value, boolean inclusive) {
+            if (upper == null) {
+                upper = value;
+                upperInclusive = inclusive;
+                return;
+            }
+            Integer compare = compare(value, upper);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare < 0 || (compare == 0 && !inclusive)) {
+                upper = value;
+                upperInclusive = inclusive;
+            }
+        }
+    }
+}
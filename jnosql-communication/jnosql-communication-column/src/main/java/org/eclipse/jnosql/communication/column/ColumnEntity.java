@@ -18,6 +18,7 @@
 package org.eclipse.jnosql.communication.column;
 
 
+import org.eclipse.jnosql.communication.EntitySchema;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
@@ -30,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
@@ -48,12 +50,17 @@ import static java.util.stream.Collectors.toList;
  */
 public class ColumnEntity {
 
-    private final Map<String, Column> columns = new HashMap<>();
+    private final Map<String, Column> columns;
 
     private final String name;
 
     ColumnEntity(String name) {
+        this(name, new HashMap<>());
+    }
+
+    private ColumnEntity(String name, Map<String, Column> columns) {
         this.name = name;
+        this.columns = columns;
     }
 
 
@@ -101,6 +108,21 @@ public class ColumnEntity {
         this.columns.put(name, Column.of(name, value));
     }
 
+    /**
+     * add a column within {@link ColumnEntity} whose value is decoded by the supplier only when it is read,
+     * see {@link Value#lazy(Supplier)}
+     *
+     * @param name the name of the column
+     * @param supplier the supplier of the information of the column
+     * @throws UnsupportedOperationException when this method is not supported
+     * @throws NullPointerException          when either name or supplier are null
+     */
+    public void addLazy(String name, Supplier<?> supplier) {
+        requireNonNull(name, "name is required");
+        requireNonNull(supplier, "supplier is required");
+        this.columns.put(name, Column.of(name, Value.lazy(supplier)));
+    }
+
     /**
      * Converts the columns to a Map where:
      * the key is the name the column
@@ -135,6 +157,9 @@ public class ColumnEntity {
      * @return an immutable list of columns
      */
     public List<Column> columns() {
+        if (columns instanceof SchemaColumns schemaColumns) {
+            return schemaColumns.columns();
+        }
         return columns.values()
                 .stream()
                 .collect(collectingAndThen(toList(), Collections::unmodifiableList));
@@ -174,6 +199,20 @@ public class ColumnEntity {
         return ofNullable(column);
     }
 
+    /**
+     * Reads the value of a field without creating the Column view at the schema entities.
+     *
+     * @param name the name of the field
+     * @return the value or null when there is no field
+     */
+    Value value(String name) {
+        if (columns instanceof SchemaColumns schemaColumns) {
+            return schemaColumns.value(name);
+        }
+        Column column = columns.get(name);
+        return column == null ? null : column.value();
+    }
+
     /**
      * Find a column and converts to specific value from {@link Class}
      * It is an alias to {@link Value#get(Class)}
@@ -232,6 +271,9 @@ public class ColumnEntity {
      * @return an instance copy
      */
     public ColumnEntity copy() {
+        if (columns instanceof SchemaColumns schemaColumns) {
+            return new ColumnEntity(name, schemaColumns.copy());
+        }
         ColumnEntity entity = new ColumnEntity(this.name);
         entity.columns.putAll(new HashMap<>(this.columns));
         return entity;
@@ -252,6 +294,9 @@ public class ColumnEntity {
      * @return the collection of values
      */
     public Collection<Value> values() {
+        if (columns instanceof SchemaColumns schemaColumns) {
+            return schemaColumns.valueList();
+        }
         return columns
                 .values()
                 .stream()
@@ -318,4 +363,19 @@ public class ColumnEntity {
         columnEntity.addAll(columns);
         return columnEntity;
     }
+
+    /**
+     * Creates a {@link ColumnEntity} instance whose column names are kept at the schema, which is shared by the
+     * entities of a collection, and whose values are kept at an array indexed by the slot of the name.
+     * The {@link ColumnEntity#columns()} and the {@link ColumnEntity#values()} return views that do not copy
+     * the columns.
+     *
+     * @param schema the schema of the collection, its name is the entity name
+     * @return a {@link ColumnEntity} instance
+     * @throws NullPointerException when schema is null
+     */
+    public static ColumnEntity of(EntitySchema schema) {
+        requireNonNull(schema, "schema is required");
+        return new ColumnEntity(schema.name(), new SchemaColumns(schema));
+    }
 }
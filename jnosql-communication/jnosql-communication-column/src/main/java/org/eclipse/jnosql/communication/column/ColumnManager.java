@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -124,13 +125,20 @@ public interface ColumnManager extends AutoCloseable {
 
     /**
      * Returns the number of items in the column family that match a specified query.
+     * The default implementation runs {@link ColumnManager#aggregate(ColumnQuery)}
+     * with {@link Aggregation#count()}, thus, a driver that runs the aggregation at the database counts there as well.
      * @param query the query
      * @return the number of documents from query
      * @throws NullPointerException when query is null
      */
     default long count(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultColumnQuery.countBy(query)).count();
+        String alias = Aggregation.count().alias();
+        return aggregate(DefaultColumnQuery.countBy(query)).findFirst()
+                .flatMap(entity -> entity.find(alias))
+                .map(Column::get)
+                .map(value -> ((Number) value).longValue())
+                .orElse(0L);
     }
 
     /**
@@ -144,6 +152,25 @@ public interface ColumnManager extends AutoCloseable {
         return this.select(DefaultColumnQuery.existsBy(query)).findAny().isPresent();
     }
 
+    /**
+     * Runs the {@link ColumnQuery#aggregations()} over the entities that match the query, grouped by the
+     * {@link ColumnQuery#groupBy()}, and returns one entity per group. The columns of the entity are the group by
+     * columns and the aggregations named by their {@link org.eclipse.jnosql.communication.Aggregation#alias()},
+     * e.g.: {@code customer} and {@code sum(amount)}; a null result has no column. The sorts, skip and limit of the
+     * query apply to those entities.
+     * The default implementation selects only the columns of the aggregation and folds the entities one by one,
+     * a driver should override it to run the aggregation at the database.
+     *
+     * @param query the query with the aggregations
+     * @return one entity per group
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when the query has neither aggregation nor group by
+     */
+    default Stream<ColumnEntity> aggregate(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return ColumnAggregations.aggregate(this, query);
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.ConditionPredicates;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link ColumnCondition} into a {@link Predicate} that checks a {@link ColumnEntity} in memory, thus,
+ * the condition tree is read once instead of at each entity. See {@link ConditionPredicates} for the comparison
+ * rules. A field name with dots, e.g.: {@code address.city}, reads the sub-column when the entity does not have a
+ * field with that name.
+ */
+public final class ColumnPredicates {
+
+    private ColumnPredicates() {
+    }
+
+    /**
+     * Compiles the condition
+     *
+     * @param condition the condition
+     * @return the predicate
+     * @throws NullPointerException     when condition is null
+     * @throws IllegalArgumentException when the condition has an invalid value
+     */
+    public static Predicate<ColumnEntity> compile(ColumnCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        Column column = condition.column();
+        return switch (condition.condition()) {
+            case AND -> ConditionPredicates.and(compile(column));
+            case OR -> ConditionPredicates.or(compile(column));
+            case NOT -> compile(column.get(ColumnCondition.class)).negate();
+            default -> ConditionPredicates.of(condition.condition(), column.value(), field(column.name()));
+        };
+    }
+
+    private static List<Predicate<ColumnEntity>> compile(Column column) {
+        List<ColumnCondition> conditions = column.get(new TypeReference<>() {
+        });
+        List<Predicate<ColumnEntity>> predicates = new ArrayList<>(conditions.size());
+        conditions.forEach(c -> predicates.add(compile(c)));
+        return predicates;
+    }
+
+    private static Function<ColumnEntity, Object> field(String name) {
+        String[] path = name.split("\\.");
+        if (path.length == 1) {
+            return entity -> get(entity.value(name));
+        }
+        return entity -> {
+            Value value = entity.value(name);
+            if (value == null) {
+                value = entity.value(path[0]);
+                for (int index = 1; index < path.length && value != null; index++) {
+                    value = find(value.get(), path[index]);
+                }
+            }
+            return get(value);
+        };
+    }
+
+    private static Value find(Object value, String name) {
+        if (value instanceof Column column) {
+            return name.equals(column.name()) ? column.value() : null;
+        } else if (value instanceof Iterable<?> columns) {
+            for (Object element : columns) {
+                if (element instanceof Column column && name.equals(column.name())) {
+                    return column.value();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object get(Value value) {
+        return value == null ? null : value.get();
+    }
+}
@@ -22,52 +22,74 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-
 /**
  * An object that represents a precompiled Query statement.
+ * The prepared query is immutable, and each execution creates its own query with the values bound, thus, the same
+ * statement might be executed several times. Each execution takes a copy of the values bound, and the select and
+ * delete queries built from them are kept while no value is bound again. The bound values belong to this statement,
+ * so to execute the prepared query with other values at the same time, use a statement from
+ * {@link ColumnPreparedStatement#newBinding()}.
+ * The insert and update statements also support batches: {@link ColumnPreparedStatement#addBatch()} keeps
+ * the entity with the values bound and {@link ColumnPreparedStatement#executeBatch()} writes them using the
+ * {@link ColumnManager} methods that take an {@link Iterable}, at chunks of
+ * {@link ColumnPreparedStatement#batchSize(int)} entities.
  */
 public final class ColumnPreparedStatement {
 
-    private final ColumnEntity entity;
+    /**
+     * The default number of entities written at each call of the manager at the
+     * {@link ColumnPreparedStatement#executeBatch()}
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
 
-    private final ColumnQuery columnQuery;
+    private final Function<Params, ColumnEntity> entity;
 
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final Function<Params, ColumnQuery> columnQuery;
+
+    private final Function<Params, ColumnDeleteQuery> columnDeleteQuery;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final List<String> paramsNames;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final ColumnManager manager;
 
-    private ColumnPreparedStatement(ColumnEntity entity,
-                                    ColumnQuery columnQuery,
-                                    ColumnDeleteQuery columnDeleteQuery,
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    private volatile Bound bound;
+
+    private final List<ColumnEntity> batch = new ArrayList<>();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private ColumnPreparedStatement(Function<Params, ColumnEntity> entity,
+                                    Function<Params, ColumnQuery> columnQuery,
+                                    Function<Params, ColumnDeleteQuery> columnDeleteQuery,
                                     PreparedStatementType type,
-                                    Params params,
+                                    List<String> paramsNames,
                                     String query,
-                                    List<String> paramsLeft,
                                     Duration duration,
                                     ColumnManager manager) {
         this.entity = entity;
         this.columnQuery = columnQuery;
         this.columnDeleteQuery = columnDeleteQuery;
         this.type = type;
-        this.params = params;
+        this.paramsNames = paramsNames;
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -84,46 +106,113 @@ public final class ColumnPreparedStatement {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
+        bound = null;
         return this;
     }
 
     /**
-     * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
+     * Returns a new statement that shares the prepared query and the batch size of this instance without any value
+     * bound and with an empty batch.
      *
-     * @return the single result
+     * @return a new {@link ColumnPreparedStatement} instance
+     */
+    public ColumnPreparedStatement newBinding() {
+        ColumnPreparedStatement statement = new ColumnPreparedStatement(entity, columnQuery, columnDeleteQuery, type,
+                paramsNames, query, duration, manager);
+        statement.batchSize = batchSize;
+        return statement;
+    }
+
+    /**
+     * Executes a query and return the result as {@link Stream}
+     *
+     * @return The result stream, if delete it will return an empty list
      */
     public Stream<ColumnEntity> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        Map<String, Object> bindings = bindings();
         switch (type) {
             case SELECT -> {
-                return manager.select(columnQuery);
+                return ColumnAggregations.select(manager, query(columnQuery, bindings));
             }
             case DELETE -> {
-                manager.delete(columnDeleteQuery);
+                manager.delete(query(columnDeleteQuery, bindings));
                 return Stream.empty();
             }
             case UPDATE -> {
-                return Stream.of(manager.update(entity));
+                return Stream.of(manager.update(bind(entity, bindings)));
             }
             case INSERT -> {
                 if (Objects.isNull(duration)) {
-                    return Stream.of(manager.insert(entity));
+                    return Stream.of(manager.insert(bind(entity, bindings)));
                 } else {
-                    return Stream.of(manager.insert(entity, duration));
+                    return Stream.of(manager.insert(bind(entity, bindings), duration));
                 }
             }
             default -> throw new UnsupportedOperationException("there is not support to operation type: " + type);
         }
     }
 
+    /**
+     * Adds the entity with the values currently bound to the batch of this statement. The values are kept, thus,
+     * the next entity only needs to bind the values that change.
+     *
+     * @return the same query instance
+     * @throws QueryException when the statement is neither an insert nor an update or when there are params left
+     */
+    public ColumnPreparedStatement addBatch() {
+        if (!PreparedStatementType.INSERT.equals(type) && !PreparedStatementType.UPDATE.equals(type)) {
+            throw new QueryException("The batch is supported only at insert and update, query: " + query);
+        }
+        batch.add(bind(entity, bindings()));
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of entities written at each call of the manager at the
+     * {@link ColumnPreparedStatement#executeBatch()}, the default value is
+     * {@link ColumnPreparedStatement#DEFAULT_BATCH_SIZE}
+     *
+     * @param batchSize the batch size
+     * @return the same query instance
+     * @throws IllegalArgumentException when the batch size is not positive
+     */
+    public ColumnPreparedStatement batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Writes the entities added by {@link ColumnPreparedStatement#addBatch()} using the {@link ColumnManager}
+     * methods that take an {@link Iterable}, one call for each chunk of {@link ColumnPreparedStatement#batchSize(int)}
+     * entities. The batch is empty after this method, even when the manager fails.
+     *
+     * @return the entities returned by the manager
+     */
+    public Stream<ColumnEntity> executeBatch() {
+        try {
+            List<ColumnEntity> entities = new ArrayList<>(batch.size());
+            for (int start = 0; start < batch.size(); start += batchSize) {
+                int end = Math.min(start + batchSize, batch.size());
+                write(List.copyOf(batch.subList(start, end))).forEach(entities::add);
+            }
+            return entities.stream();
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
+     *
+     * @return the single result
+     */
     public Optional<ColumnEntity> singleResult() {
         Stream<ColumnEntity> entities = result();
         final Iterator<ColumnEntity> iterator = entities.iterator();
-
         if (!iterator.hasNext()) {
             return Optional.empty();
         }
@@ -131,10 +220,48 @@ public final class ColumnPreparedStatement {
         if (!iterator.hasNext()) {
             return Optional.of(next);
         }
-
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private Iterable<ColumnEntity> write(List<ColumnEntity> entities) {
+        if (PreparedStatementType.UPDATE.equals(type)) {
+            return manager.update(entities);
+        } else if (Objects.isNull(duration)) {
+            return manager.insert(entities);
+        }
+        return manager.insert(entities, duration);
+    }
+
+    private Map<String, Object> bindings() {
+        Map<String, Object> bindings = Map.copyOf(values);
+        List<String> paramsLeft = paramsNames.stream().filter(n -> !bindings.containsKey(n)).toList();
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        return bindings;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T query(Function<Params, T> prepared, Map<String, Object> bindings) {
+        Bound last = bound;
+        if (last != null && last.bindings().equals(bindings)) {
+            return (T) last.query();
+        }
+        T query = bind(prepared, bindings);
+        bound = new Bound(bindings, query);
+        return query;
+    }
+
+    private static <T> T bind(Function<Params, T> prepared, Map<String, Object> bindings) {
+        Params params = Params.newParams();
+        T result = prepared.apply(params);
+        bindings.forEach(params::bind);
+        return result;
+    }
+
+    private record Bound(Map<String, Object> bindings, Object query) {
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, INSERT
     }
@@ -145,46 +272,47 @@ public final class ColumnPreparedStatement {
         return query;
     }
 
-    static ColumnPreparedStatement select(
-            ColumnQuery columnQuery,
-            Params params,
-            String query,
-            ColumnManager manager) {
+    static ColumnPreparedStatement select(Function<Params, ColumnQuery> columnQuery,
+                                          String query,
+                                          ColumnManager manager) {
         return new ColumnPreparedStatement(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+                null, PreparedStatementType.SELECT, paramsNames(columnQuery), query,
+                null, manager);
 
     }
 
-    static ColumnPreparedStatement delete(ColumnDeleteQuery columnDeleteQuery,
-                                          Params params,
+    static ColumnPreparedStatement delete(Function<Params, ColumnDeleteQuery> columnDeleteQuery,
                                           String query,
                                           ColumnManager manager) {
 
         return new ColumnPreparedStatement(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+                columnDeleteQuery, PreparedStatementType.DELETE, paramsNames(columnDeleteQuery), query,
+                null, manager);
 
     }
 
-    static ColumnPreparedStatement insert(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement insert(Function<Params, ColumnEntity> entity,
                                           String query,
                                           Duration duration,
                                           ColumnManager manager) {
         return new ColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+                null, PreparedStatementType.INSERT, paramsNames(entity), query,
+                duration, manager);
 
     }
 
-    static ColumnPreparedStatement update(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement update(Function<Params, ColumnEntity> entity,
                                           String query,
                                           ColumnManager manager) {
         return new ColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+                null, PreparedStatementType.UPDATE, paramsNames(entity), query,
+                null, manager);
+
+    }
 
+    private static List<String> paramsNames(Function<Params, ?> prepared) {
+        Params params = Params.newParams();
+        prepared.apply(params);
+        return List.copyOf(params.getParametersNames());
     }
 }
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -83,6 +84,25 @@ public interface ColumnQuery {
      */
     List<Sort> sorts();
 
+    /**
+     * The aggregate functions of this query, e.g.: {@code sum(amount)}. A query with either aggregations or
+     * {@link ColumnQuery#groupBy()} runs at {@link ColumnManager#aggregate(ColumnQuery)}.
+     *
+     * @return the aggregations
+     */
+    default List<Aggregation> aggregations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The columns used to group the entities of the {@link ColumnQuery#aggregations()}
+     *
+     * @return the group by columns
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
+
     /**
      * It starts the first step of {@link ColumnSelect} creation using a fluent-API way.
      * This first step will inform the fields to return to the query, such as a "select field, fieldB from database"
@@ -589,6 +609,24 @@ public interface ColumnQuery {
          */
         ColumnQueryBuilder limit(long limit);
 
+        /**
+         * Append aggregate functions in the query, see {@link ColumnManager#aggregate(ColumnQuery)}
+         *
+         * @param aggregations the aggregations
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException when there is a null aggregation
+         */
+        ColumnQueryBuilder aggregate(Aggregation... aggregations);
+
+        /**
+         * Append columns to group the entities of the aggregations. The selected columns must be at the group by.
+         *
+         * @param columns the group by columns
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException when there is a null column
+         */
+        ColumnQueryBuilder groupBy(String... columns);
+
         /**
          * It will validate and then create a {@link ColumnQuery} instance.
          *
@@ -17,8 +17,11 @@
 package org.eclipse.jnosql.communication.column;
 
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.NormalizedQuery;
+import org.eclipse.jnosql.communication.query.QueryNormalizer;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +34,27 @@ public final class ColumnQueryParser {
     private final InsertQueryParser insert = new InsertQueryParser();
     private final UpdateQueryParser update = new UpdateQueryParser();
 
+    private final boolean normalize;
+
+    /**
+     * Creates a parser that lifts the literals of the queries into parameters when the
+     * {@link QueryNormalizer#ENABLED_PROPERTY} system property is true.
+     */
+    public ColumnQueryParser() {
+        this(QueryNormalizer.isEnabled());
+    }
+
+    /**
+     * Creates a parser
+     *
+     * @param normalize when true, the {@link ColumnQueryParser#query} lifts the literals of the queries into parameters,
+     *                  thus, the queries that differ only by the literals share the same parsed query.
+     * @see QueryNormalizer
+     */
+    public ColumnQueryParser(boolean normalize) {
+        this.normalize = normalize;
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -45,6 +69,12 @@ public final class ColumnQueryParser {
      */
     public Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
         validation(query, manager, observer);
+        if (normalize) {
+            Optional<ColumnPreparedStatement> statement = normalized(query, manager, observer);
+            if (statement.isPresent()) {
+                return statement.get().result();
+            }
+        }
         String command = query.substring(0, 6);
         return switch (command) {
             case "select" -> select.query(query, manager, observer);
@@ -83,6 +113,22 @@ public final class ColumnQueryParser {
     }
 
 
+    private Optional<ColumnPreparedStatement> normalized(String query, ColumnManager manager,
+                                                         ColumnObserverParser observer) {
+        Optional<NormalizedQuery> normalized = QueryNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        ColumnPreparedStatement statement;
+        try {
+            statement = prepare(normalized.get().query(), manager, observer);
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
+        normalized.get().params().forEach(statement::bind);
+        return Optional.of(statement);
+    }
+
     private void validation(String query, ColumnManager manager, ColumnObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(manager, "manager is required");
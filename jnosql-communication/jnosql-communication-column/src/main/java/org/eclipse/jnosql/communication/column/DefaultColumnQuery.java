@@ -19,6 +19,8 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Aggregations;
 
 import java.util.Collections;
 import java.util.List;
@@ -45,15 +47,28 @@ class DefaultColumnQuery implements ColumnQuery {
 
     private final ColumnCondition condition;
 
+    private final List<Aggregation> aggregations;
+
+    private final List<String> groupBy;
+
 
     DefaultColumnQuery(long maxResults, long firstResult, String columnFamily,
                        List<String> columns, List<Sort> sorts, ColumnCondition condition) {
+        this(maxResults, firstResult, columnFamily, columns, sorts, condition, Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    DefaultColumnQuery(long maxResults, long firstResult, String columnFamily, List<String> columns,
+                       List<Sort> sorts, ColumnCondition condition, List<Aggregation> aggregations,
+                       List<String> groupBy) {
         this.maxResults = maxResults;
         this.firstResult = firstResult;
         this.columnFamily = columnFamily;
         this.columns = columns;
         this.sorts = sorts;
         this.condition = ofNullable(condition).map(ColumnCondition::readOnly).orElse(null);
+        this.aggregations = aggregations;
+        this.groupBy = groupBy;
     }
 
     @Override
@@ -86,6 +101,16 @@ class DefaultColumnQuery implements ColumnQuery {
         return unmodifiableList(sorts);
     }
 
+    @Override
+    public List<Aggregation> aggregations() {
+        return unmodifiableList(aggregations);
+    }
+
+    @Override
+    public List<String> groupBy() {
+        return unmodifiableList(groupBy);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -100,12 +125,14 @@ class DefaultColumnQuery implements ColumnQuery {
                 Objects.equals(columnFamily, that.name()) &&
                 Objects.equals(columns, that.columns()) &&
                 Objects.equals(sorts, that.sorts()) &&
-                Objects.equals(condition, that.condition().orElse(null));
+                Objects.equals(condition, that.condition().orElse(null)) &&
+                Objects.equals(aggregations, that.aggregations()) &&
+                Objects.equals(groupBy, that.groupBy());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxResults, firstResult, columnFamily, columns, sorts, condition);
+        return Objects.hash(maxResults, firstResult, columnFamily, columns, sorts, condition, aggregations, groupBy);
     }
 
     @Override
@@ -116,15 +143,22 @@ class DefaultColumnQuery implements ColumnQuery {
                 ", columns=" + columns +
                 ", sorts=" + sorts +
                 ", condition=" + condition +
+                ", aggregations=" + aggregations +
+                ", groupBy=" + groupBy +
                 '}';
     }
     static ColumnQuery countBy(ColumnQuery query) {
-        return new DefaultColumnQuery(0, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+        return new DefaultColumnQuery(0, 0, query.name(), Collections.emptyList(), Collections.emptyList(),
+                query.condition().orElse(null), List.of(Aggregation.count()), Collections.emptyList());
     }
 
     static ColumnQuery existsBy(ColumnQuery query) {
         return new DefaultColumnQuery(1, 0, query.name(), query.columns(),
                 Collections.emptyList(), query.condition().orElse(null));
     }
+
+    static ColumnQuery aggregateBy(ColumnQuery query) {
+        return new DefaultColumnQuery(0, 0, query.name(), Aggregations.fields(query.groupBy(),
+                query.aggregations()), Collections.emptyList(), query.condition().orElse(null));
+    }
 }
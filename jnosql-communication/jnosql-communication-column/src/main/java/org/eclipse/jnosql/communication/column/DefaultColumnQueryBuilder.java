@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,10 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final List<Aggregation> aggregations = new ArrayList<>();
+
+    private final List<String> groupBy = new ArrayList<>();
+
     private String documentCollection;
 
     private ColumnCondition condition;
@@ -105,13 +110,37 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         return this;
     }
 
+    @Override
+    public ColumnQuery.ColumnQueryBuilder aggregate(Aggregation... aggregations) {
+        Consumer<Aggregation> validNull = a -> requireNonNull(a, "there is null aggregation in the query");
+        Consumer<Aggregation> consume = this.aggregations::add;
+        Stream.of(aggregations).forEach(validNull.andThen(consume));
+        return this;
+    }
+
+    @Override
+    public ColumnQuery.ColumnQueryBuilder groupBy(String... columns) {
+        Consumer<String> validNull = c -> requireNonNull(c, "there is null column in the group by");
+        Consumer<String> consume = this.groupBy::add;
+        Stream.of(columns).forEach(validNull.andThen(consume));
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
+        if (aggregations.isEmpty() && groupBy.isEmpty()) {
+            return new DefaultColumnQuery(limit, skip, documentCollection,
+                    columns, sorts, condition);
+        }
+        columns.stream().filter(c -> !groupBy.contains(c)).findFirst().ifPresent(c -> {
+            throw new IllegalArgumentException("The column " + c + " must be at the group by to be selected " +
+                    "with an aggregation");
+        });
         return new DefaultColumnQuery(limit, skip, documentCollection,
-                columns, sorts, condition);
+                columns, sorts, condition, aggregations, groupBy);
     }
 
     @Override
@@ -140,12 +169,14 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 && Objects.equals(columns, that.columns)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
-                && Objects.equals(condition, that.condition);
+                && Objects.equals(condition, that.condition)
+                && Objects.equals(aggregations, that.aggregations)
+                && Objects.equals(groupBy, that.groupBy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit, aggregations, groupBy);
     }
 
     @Override
@@ -157,6 +188,8 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", aggregations=" + aggregations +
+                ", groupBy=" + groupBy +
                 '}';
     }
 }
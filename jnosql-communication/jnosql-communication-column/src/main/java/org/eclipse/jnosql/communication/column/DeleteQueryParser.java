@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.column;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.DeleteQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -43,9 +43,8 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, ColumnOb
 
     ColumnPreparedStatement prepare(String query, ColumnManager manager,
                                     ColumnObserverParser observer) {
-        Params params = Params.newParams();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return ColumnPreparedStatement.delete(columnDeleteQuery, params, query, manager);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
+        return ColumnPreparedStatement.delete(p -> getQuery(p, observer, deleteQuery), query, manager);
     }
 
 
@@ -61,13 +60,6 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, ColumnOb
         return new ColumnDeleteQueryParams(query, params);
     }
 
-    private ColumnDeleteQuery getQuery(String query, Params params, ColumnObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
     private ColumnDeleteQuery getQuery(Params params, ColumnObserverParser observer, DeleteQuery deleteQuery) {
         String columnFamily = observer.fireEntity(deleteQuery.entity());
         List<String> columns = deleteQuery.fields().stream()
@@ -81,8 +73,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, ColumnOb
 
     private ColumnDeleteQuery getQuery(String query, ColumnObserverParser observer) {
 
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         String columnFamily = observer.fireEntity(deleteQuery.entity());
         List<String> columns = deleteQuery.fields().stream()
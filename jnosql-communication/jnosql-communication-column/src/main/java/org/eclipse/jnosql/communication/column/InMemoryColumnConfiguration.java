@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+
+/**
+ * The {@link ColumnConfiguration} of an embedded database that keeps the column families in memory, e.g.: to the
+ * integration tests or as a local cache. It is not registered as a service, thus, it is chosen by its class.
+ * The {@link InMemoryConfigurations} define the id field and the indexes of each collection.
+ *
+ * @see InMemoryColumnManager
+ */
+public class InMemoryColumnConfiguration implements ColumnConfiguration {
+
+    @Override
+    public InMemoryColumnManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new InMemoryColumnManagerFactory(settings);
+    }
+}
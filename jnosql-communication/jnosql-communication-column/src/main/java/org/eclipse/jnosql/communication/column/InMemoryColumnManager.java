@@ -0,0 +1,200 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.AbstractInMemoryManager;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.eclipse.jnosql.communication.InMemoryCollection;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnManager} that keeps the column families in memory, with the whole {@link ColumnQuery} semantics: the
+ * conditions through {@link ColumnPredicates}, the sorts, skip, limit, the selected columns and the TTL.
+ * It is the same engine as the {@code InMemoryDocumentManager}, the only difference is that each column family is an
+ * {@link InMemoryCollection#sorted(String, Settings, BiFunction)}: the rows are kept ordered by the id column, thus,
+ * a range condition on the id reads only the rows at the range. There is no partitioning other than this order by
+ * id. An equals or in condition on the id, or a condition on a column with an index, reads only the candidates.
+ * The columns are kept with an {@link EntitySchema} per column family.
+ * An entity without the id field receives a random one at the insert, and an entity is replaced by another with the
+ * same id. The manager keeps copies, thus, changing an entity after the insert or the select does not change the
+ * database; the copies are deep: the sub-entities, the sub-columns, and the lists, sets and maps that hold them are
+ * copied as well, the other values, e.g.: texts, numbers and dates, are shared.
+ *
+ * @see InMemoryColumnConfiguration
+ * @see AbstractInMemoryManager
+ */
+public class InMemoryColumnManager extends AbstractInMemoryManager<ColumnEntity, ColumnCondition>
+        implements ColumnManager {
+
+    private static final BiFunction<ColumnEntity, String, Object> READER = (entity, name) -> {
+        Value value = entity.value(name);
+        return value == null ? null : value.get();
+    };
+
+    private static final TypeReference<List<ColumnCondition>> CONDITIONS = new TypeReference<>() {
+    };
+
+    InMemoryColumnManager(String name, Settings settings) {
+        super(name, READER, collection -> InMemoryCollection.sorted(collection, settings, READER));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        delete(query.name(), query.condition(), query.columns());
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query.name(), query.condition(), query.sorts(), query.skip(), query.limit(), query.columns());
+    }
+
+    /**
+     * The column families live while the {@link InMemoryColumnManagerFactory} is open, thus, it does nothing.
+     */
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        clearCollections();
+    }
+
+    @Override
+    protected String entityName(ColumnEntity entity) {
+        return entity.name();
+    }
+
+    @Override
+    protected void add(ColumnEntity entity, String field, Object value) {
+        entity.add(field, value);
+    }
+
+    @Override
+    protected ColumnEntity store(ColumnEntity entity, EntitySchema schema) {
+        ColumnEntity stored = ColumnEntity.of(schema);
+        entity.columns().forEach(column -> stored.add(copy(column)));
+        return stored;
+    }
+
+    @Override
+    protected ColumnEntity remove(ColumnEntity entity, List<String> fields) {
+        ColumnEntity changed = entity.copy();
+        fields.forEach(changed::remove);
+        return changed;
+    }
+
+    @Override
+    protected ColumnEntity project(ColumnEntity entity, List<String> fields) {
+        if (fields.isEmpty()) {
+            ColumnEntity copy = entity.copy();
+            entity.columns().stream().filter(InMemoryColumnManager::isNested)
+                    .forEach(column -> copy.add(copy(column)));
+            return copy;
+        }
+        ColumnEntity projection = ColumnEntity.of(entity.name());
+        fields.forEach(field -> entity.find(field).map(InMemoryColumnManager::copy).ifPresent(projection::add));
+        return projection;
+    }
+
+    @Override
+    protected Optional<ColumnCondition> optimize(ColumnCondition condition) {
+        return ColumnConditionOptimizer.optimize(condition);
+    }
+
+    @Override
+    protected Predicate<ColumnEntity> compile(ColumnCondition condition) {
+        return ColumnPredicates.compile(condition);
+    }
+
+    @Override
+    protected Condition type(ColumnCondition condition) {
+        return condition.condition();
+    }
+
+    @Override
+    protected String field(ColumnCondition condition) {
+        return condition.column().name();
+    }
+
+    @Override
+    protected Object value(ColumnCondition condition) {
+        return condition.column().get();
+    }
+
+    @Override
+    protected List<ColumnCondition> conditions(ColumnCondition condition) {
+        return condition.column().get(CONDITIONS);
+    }
+
+    /**
+     * @return the same column when its value is neither a sub-entity, a sub-column nor a collection, otherwise a
+     * deep copy
+     */
+    private static Column copy(Column column) {
+        return isNested(column) ? Column.of(column.name(), copy(column.get())) : column;
+    }
+
+    private static boolean isNested(Column column) {
+        Object value = column.get();
+        return value instanceof ColumnEntity || value instanceof Column || value instanceof Iterable<?>
+                || value instanceof Map<?, ?>;
+    }
+
+    /**
+     * Copies the values that might be changed by the caller: the sub-entities, the columns and the collections and
+     * maps that hold them, at any depth; the other values are returned as they are.
+     */
+    private static Object copy(Object value) {
+        if (value instanceof ColumnEntity entity) {
+            ColumnEntity copy = ColumnEntity.of(entity.name());
+            entity.columns().forEach(column -> copy.add(copy(column)));
+            return copy;
+        } else if (value instanceof Column column) {
+            return Column.of(column.name(), copy(column.get()));
+        } else if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            set.forEach(element -> copy.add(copy(element)));
+            return copy;
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> copy = new ArrayList<>();
+            iterable.forEach(element -> copy.add(copy(element)));
+            return copy;
+        } else if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, element) -> copy.put(key, copy(element)));
+            return copy;
+        }
+        return value;
+    }
+}
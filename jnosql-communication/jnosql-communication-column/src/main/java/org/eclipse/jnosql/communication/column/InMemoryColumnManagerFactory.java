@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link ColumnManagerFactory} of the {@link InMemoryColumnConfiguration}: the databases live while the
+ * factory is open, thus, the managers of the same database share the column families.
+ */
+public class InMemoryColumnManagerFactory implements ColumnManagerFactory {
+
+    private final Settings settings;
+
+    private final Map<String, InMemoryColumnManager> managers = new ConcurrentHashMap<>();
+
+    InMemoryColumnManagerFactory(Settings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public InMemoryColumnManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return managers.computeIfAbsent(database, name -> new InMemoryColumnManager(name, settings));
+    }
+
+    @Override
+    public void close() {
+        managers.values().forEach(InMemoryColumnManager::clear);
+        managers.clear();
+    }
+}
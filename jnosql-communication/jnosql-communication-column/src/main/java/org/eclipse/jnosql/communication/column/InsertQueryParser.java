@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.column;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.InsertQuery;
-import org.eclipse.jnosql.communication.query.InsertQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 
@@ -35,8 +35,7 @@ final class InsertQueryParser extends ConditionQueryParser {
 
     Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
 
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryCache.INSERT.apply(query);
 
         String columnFamily = insertQuery.entity();
         Params params = Params.newParams();
@@ -55,16 +54,14 @@ final class InsertQueryParser extends ConditionQueryParser {
     ColumnPreparedStatement prepare(String query, ColumnManager manager,
                                     ColumnObserverParser observer) {
 
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryCache.INSERT.apply(query);
 
         String columnFamily = observer.fireEntity(insertQuery.entity());
-        Params params = Params.newParams();
 
         Optional<Duration> ttl = insertQuery.ttl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
 
-        return ColumnPreparedStatement.insert(entity, params, query, ttl.orElse(null), manager);
+        return ColumnPreparedStatement.insert(p -> getEntity(insertQuery, columnFamily, p, observer), query,
+                ttl.orElse(null), manager);
 
     }
 
@@ -19,12 +19,15 @@ package org.eclipse.jnosql.communication.column;
 
 import jakarta.data.repository.Direction;
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -41,18 +44,15 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
     Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
 
         ColumnQuery columnQuery = getColumnQuery(query, observer);
-        return manager.select(columnQuery);
+        return ColumnAggregations.select(manager, columnQuery);
     }
 
 
     ColumnPreparedStatement prepare(String query, ColumnManager manager, ColumnObserverParser observer) {
 
-        Params params = Params.newParams();
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
 
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return ColumnPreparedStatement.select(columnQuery, params, query, manager);
+        return ColumnPreparedStatement.select(p -> getColumnQuery(p, selectQuery, observer), query, manager);
     }
 
 
@@ -69,8 +69,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
 
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
         String columnFamily = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -87,7 +86,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return columnQuery(selectQuery, observer, limit, skip, columnFamily, columns, sorts, condition);
     }
 
     private ColumnQuery getColumnQuery(Params params, SelectQuery selectQuery, ColumnObserverParser observer) {
@@ -104,7 +103,27 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
                 .map(c -> Conditions.getCondition(c, params, observer, columnFamily))
                 .orElse(null);
 
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return columnQuery(selectQuery, observer, limit, skip, columnFamily, columns, sorts, condition);
+    }
+
+    private ColumnQuery columnQuery(SelectQuery selectQuery, ColumnObserverParser observer, long limit, long skip,
+                                    String columnFamily, List<String> columns, List<Sort> sorts,
+                                    ColumnCondition condition) {
+        if (selectQuery.aggregations().isEmpty() && selectQuery.groupBy().isEmpty()) {
+            return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        }
+        Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+        selectQuery.aggregations().forEach(a -> aggregations.put(a.alias(),
+                a.field().map(f -> a.to(observer.fireField(columnFamily, f))).orElse(a)));
+        List<String> groupBy = selectQuery.groupBy().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .toList();
+        List<Sort> aggregationSorts = selectQuery.orderBy().stream()
+                .map(s -> aggregations.containsKey(s.property()) ? Sort.of(aggregations.get(s.property()).alias(),
+                        s.isAscending() ? Direction.ASC : Direction.DESC, false) : toSort(s, observer, columnFamily))
+                .toList();
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, aggregationSorts, condition,
+                List.copyOf(aggregations.values()), groupBy);
     }
 
     private Sort toSort(Sort sort, ColumnObserverParser observer, String entity) {
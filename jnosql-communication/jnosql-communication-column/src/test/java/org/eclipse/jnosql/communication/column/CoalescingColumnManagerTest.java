@@ -0,0 +1,205 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingColumnManagerTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    private ColumnManager delegate;
+
+    private CoalescingColumnManager manager;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        this.delegate = Mockito.mock(ColumnManager.class);
+        when(delegate.name()).thenReturn("database");
+        when(delegate.insert(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.update(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        this.manager = CoalescingColumnManager.of(delegate, BATCH_SIZE, Duration.ofSeconds(10), 100);
+        this.executor = Executors.newFixedThreadPool(BATCH_SIZE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        manager.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> CoalescingColumnManager.of(null, 1,
+                Duration.ZERO, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CoalescingColumnManager.of(delegate, 0,
+                Duration.ZERO, 1));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insert((ColumnEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.update((ColumnEntity) null));
+    }
+
+    @Test
+    public void shouldGroupConcurrentInserts() throws Exception {
+        List<Future<ColumnEntity>> results = new ArrayList<>();
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            ColumnEntity entity = person(index);
+            results.add(executor.submit(() -> manager.insert(entity)));
+        }
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            assertThat(results.get(index).get(5, TimeUnit.SECONDS)).isEqualTo(person(index));
+        }
+        verify(delegate, times(1)).insert(anyIterable());
+        verify(delegate, never()).insert(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldGroupConcurrentUpdates() throws Exception {
+        List<Future<ColumnEntity>> results = new ArrayList<>();
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            ColumnEntity entity = person(index);
+            results.add(executor.submit(() -> manager.update(entity)));
+        }
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            assertThat(results.get(index).get(5, TimeUnit.SECONDS)).isEqualTo(person(index));
+        }
+        verify(delegate, times(1)).update(anyIterable());
+        verify(delegate, never()).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldReturnTheFailureToTheEntityThatFailed() throws Exception {
+        ColumnEntity failed = person(BATCH_SIZE - 1);
+        when(delegate.insert(anyIterable())).thenAnswer(invocation -> {
+            List<ColumnEntity> entities = new ArrayList<>();
+            invocation.<Iterable<ColumnEntity>>getArgument(0).forEach(entities::add);
+            if (entities.contains(failed)) {
+                throw new IllegalStateException("bulk");
+            }
+            return entities;
+        });
+        List<Future<ColumnEntity>> results = new ArrayList<>();
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            ColumnEntity entity = person(index);
+            results.add(executor.submit(() -> manager.insert(entity)));
+        }
+        for (int index = 0; index < BATCH_SIZE - 1; index++) {
+            assertThat(results.get(index).get(5, TimeUnit.SECONDS)).isEqualTo(person(index));
+        }
+        Future<ColumnEntity> result = results.get(BATCH_SIZE - 1);
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        verify(delegate, never()).insert(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldKeepTheOrderOfInsertsAndUpdates() throws Exception {
+        ColumnEntity entity = person(1);
+        CompletableFuture<ColumnEntity> inserted = new CompletableFuture<>();
+        awaitWaiting(start(() -> manager.insert(entity), inserted));
+        CompletableFuture<ColumnEntity> updated = new CompletableFuture<>();
+        awaitWaiting(start(() -> manager.update(entity), updated));
+        manager.close();
+        assertThat(inserted.get(5, TimeUnit.SECONDS)).isEqualTo(entity);
+        assertThat(updated.get(5, TimeUnit.SECONDS)).isEqualTo(entity);
+        InOrder order = Mockito.inOrder(delegate);
+        order.verify(delegate).insert(List.of(entity));
+        order.verify(delegate).update(List.of(entity));
+    }
+
+    @Test
+    public void shouldDelegateTheRemainingOperations() {
+        ColumnEntity entity = person(1);
+        Duration ttl = Duration.ofMinutes(1);
+        ColumnQuery query = ColumnQuery.select().from("Person").build();
+        ColumnDeleteQuery deleteQuery = ColumnDeleteQuery.delete().from("Person").build();
+        when(delegate.insert(entity, ttl)).thenReturn(entity);
+        when(delegate.count("Person")).thenReturn(10L);
+        manager.insert(entity, ttl);
+        manager.insert(List.of(entity));
+        manager.update(List.of(entity));
+        manager.select(query);
+        manager.count(query);
+        manager.exists(query);
+        manager.singleResult(query);
+        manager.delete(deleteQuery);
+        assertThat(manager.name()).isEqualTo("database");
+        assertThat(manager.count("Person")).isEqualTo(10L);
+        verify(delegate).insert(entity, ttl);
+        verify(delegate).insert(List.of(entity));
+        verify(delegate).update(List.of(entity));
+        verify(delegate).select(query);
+        verify(delegate).count(query);
+        verify(delegate).exists(query);
+        verify(delegate).singleResult(query);
+        verify(delegate).delete(deleteQuery);
+    }
+
+    @Test
+    public void shouldWritePendingEntitiesWhenClosed() {
+        CoalescingColumnManager closed = CoalescingColumnManager.of(delegate, 1, Duration.ZERO, 1);
+        assertThat(closed.insert(person(1))).isEqualTo(person(1));
+        closed.close();
+        verify(delegate).close();
+        Assertions.assertThrows(IllegalStateException.class, () -> closed.insert(person(2)));
+    }
+
+    private static Thread start(Supplier<ColumnEntity> write, CompletableFuture<ColumnEntity> result) {
+        Thread thread = new Thread(() -> result.complete(write.get()));
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static ColumnEntity person(int id) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", "Person " + id);
+        return entity;
+    }
+}
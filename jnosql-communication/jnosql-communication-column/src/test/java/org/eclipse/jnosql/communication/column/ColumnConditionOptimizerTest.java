@@ -0,0 +1,157 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.and;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.between;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.eq;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.gt;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.gte;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.in;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.like;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.lt;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.lte;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.not;
+import static org.eclipse.jnosql.communication.column.ColumnCondition.or;
+
+class ColumnConditionOptimizerTest {
+
+    private static final Predicate<String> AGE = "age"::equals;
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> ColumnConditionOptimizer.optimize((ColumnCondition) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ColumnConditionOptimizer.optimize((ColumnQuery) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ColumnConditionOptimizer.optimize((ColumnDeleteQuery) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ColumnConditionOptimizer.optimize(eq("age", 10), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldKeepCondition() {
+        ColumnCondition condition = and(eq("name", "Ada"), gt("age", 10));
+        assertThat(ColumnConditionOptimizer.optimize(condition)).contains(condition);
+        assertThat(ColumnConditionOptimizer.optimize(like("name", "A%"))).contains(like("name", "A%"));
+    }
+
+    @Test
+    public void shouldFlatten() {
+        ColumnCondition condition = and(and(eq("name", "Ada")), and(like("city", "S%"), and(gt("age", 10))));
+        assertThat(ColumnConditionOptimizer.optimize(condition))
+                .contains(and(eq("name", "Ada"), like("city", "S%"), gt("age", 10)));
+        assertThat(ColumnConditionOptimizer.optimize(or(or(like("name", "A%")), like("name", "B%"))))
+                .contains(or(like("name", "A%"), like("name", "B%")));
+    }
+
+    @Test
+    public void shouldRemoveDuplicated() {
+        assertThat(ColumnConditionOptimizer.optimize(and(eq("name", "Ada"), eq("name", "Ada"))))
+                .contains(eq("name", "Ada"));
+        assertThat(ColumnConditionOptimizer.optimize(not(not(eq("name", "Ada"))))).contains(eq("name", "Ada"));
+    }
+
+    @Test
+    public void shouldConvertOrToIn() {
+        ColumnCondition condition = or(eq("age", 1), eq("age", 2), like("name", "A%"), in("age", List.of(2, 3)));
+        assertThat(ColumnConditionOptimizer.optimize(condition))
+                .contains(or(in("age", List.of(1, 2, 3)), like("name", "A%")));
+        assertThat(ColumnConditionOptimizer.optimize(or(eq("age", 1), eq("age", 2))))
+                .contains(in("age", List.of(1, 2)));
+        assertThat(ColumnConditionOptimizer.optimize(in("age", List.of(1)))).contains(eq("age", 1));
+    }
+
+    @Test
+    public void shouldMergeRanges() {
+        assertThat(ColumnConditionOptimizer.optimize(and(gte("age", 10), lte("age", 20L), eq("name", "Ada")),
+                AGE))
+                .contains(and(between("age", List.of(10, 20L)), eq("name", "Ada")));
+        assertThat(ColumnConditionOptimizer.optimize(and(gt("age", 10), gt("age", 15), lt("age", 20)), AGE))
+                .contains(and(gt("age", 15), lt("age", 20)));
+        assertThat(ColumnConditionOptimizer.optimize(and(gte("age", 10), lte("age", 10)), AGE))
+                .contains(eq("age", 10));
+        assertThat(ColumnConditionOptimizer.optimize(and(eq("age", 15), between("age", List.of(10, 20))), AGE))
+                .contains(eq("age", 15));
+    }
+
+    @Test
+    public void shouldKeepRangesThatCannotBeCompared() {
+        ColumnCondition condition = and(gt("age", 10), lt("age", "20"));
+        assertThat(ColumnConditionOptimizer.optimize(condition, AGE)).contains(condition);
+    }
+
+    @Test
+    public void shouldDetectContradiction() {
+        assertThat(ColumnConditionOptimizer.optimize(and(eq("age", 10), eq("age", 20)), AGE)).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(and(gt("age", 20), lt("age", 10)), AGE)).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(and(gt("age", 10), lt("age", 10)), AGE)).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(and(eq("age", 5), gte("age", 10)), AGE)).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(in("age", List.of()))).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(between("age", List.of(20, 10)), AGE)).isEmpty();
+        assertThat(ColumnConditionOptimizer.optimize(or(and(eq("age", 10), eq("age", 20)), eq("name", "Ada")),
+                AGE))
+                .contains(eq("name", "Ada"));
+    }
+
+    @Test
+    public void shouldNotMergeFieldsThatAreNotSingleValued() {
+        ColumnCondition tags = and(eq("tags", "a"), eq("tags", "b"));
+        assertThat(ColumnConditionOptimizer.optimize(tags)).contains(tags);
+        assertThat(ColumnConditionOptimizer.optimize(tags, AGE)).contains(tags);
+        ColumnCondition ages = and(gt("age", 20), lt("age", 10));
+        assertThat(ColumnConditionOptimizer.optimize(ages)).contains(ages);
+        assertThat(ColumnConditionOptimizer.optimize(between("age", List.of(20, 10))))
+                .contains(between("age", List.of(20, 10)));
+        assertThat(ColumnConditionOptimizer.optimize(and(and(eq("tags", "a")), eq("tags", "b"))))
+                .contains(tags);
+    }
+
+    @Test
+    public void shouldOptimizeQuery() {
+        ColumnQuery query = ColumnQuery.select().from("Person").where("age").gt(10).and("age").gt(15).build();
+        Optional<ColumnQuery> optimized = ColumnConditionOptimizer.optimize(query, AGE);
+        assertThat(optimized).isPresent();
+        assertThat(optimized.get().name()).isEqualTo("Person");
+        assertThat(optimized.get().condition()).contains(gt("age", 15));
+        ColumnQuery same = ColumnQuery.select().from("Person").where("age").gt(10).build();
+        assertThat(ColumnConditionOptimizer.optimize(same, AGE)).containsSame(same);
+        ColumnQuery empty = ColumnQuery.select().from("Person").where("age").eq(10).and("age").eq(11).build();
+        assertThat(ColumnConditionOptimizer.optimize(empty, AGE)).isEmpty();
+    }
+
+    @Test
+    public void shouldOptimizeDeleteQuery() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.delete().from("Person").where("age").eq(10)
+                .or("age").eq(11).build();
+        Optional<ColumnDeleteQuery> optimized = ColumnConditionOptimizer.optimize(query);
+        assertThat(optimized.flatMap(ColumnDeleteQuery::condition).map(ColumnCondition::condition))
+                .contains(Condition.IN);
+        ColumnDeleteQuery all = ColumnDeleteQuery.delete().from("Person").build();
+        assertThat(ColumnConditionOptimizer.optimize(all)).containsSame(all);
+    }
+}
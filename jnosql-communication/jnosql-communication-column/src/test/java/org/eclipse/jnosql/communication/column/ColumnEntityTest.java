@@ -17,6 +17,7 @@
 
 package org.eclipse.jnosql.communication.column;
 
+import org.eclipse.jnosql.communication.EntitySchema;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.junit.jupiter.api.Assertions;
@@ -28,6 +29,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -43,7 +45,7 @@ public class ColumnEntityTest {
 
     @Test
     public void shouldReturnErrorWhenNameIsNull() {
-        Assertions.assertThrows(NullPointerException.class, () -> ColumnEntity.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> ColumnEntity.of((String) null));
     }
 
     @Test
@@ -420,4 +422,100 @@ public class ColumnEntityTest {
         assertTrue(columnFamily.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAddLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        ColumnEntity entity = ColumnEntity.of("entity");
+        entity.addLazy("age", () -> {
+            calls.incrementAndGet();
+            return "10";
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> entity.addLazy(null, () -> "10"));
+        Assertions.assertThrows(NullPointerException.class, () -> entity.addLazy("age", null));
+        assertEquals(1, entity.size());
+        assertEquals(0, calls.get());
+        assertEquals(10, entity.find("age", Integer.class).orElseThrow());
+        assertEquals(10, entity.find("age", Integer.class).orElseThrow());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldCreateFromSchema() {
+        EntitySchema schema = EntitySchema.of("person");
+        ColumnEntity entity = ColumnEntity.of(schema);
+        entity.add("name", "Ada");
+        entity.add(Column.of("age", 10));
+        entity.add("name", "Diana");
+        assertEquals("person", entity.name());
+        assertEquals(2, entity.size());
+        assertEquals("Diana", entity.find("name", String.class).orElseThrow());
+        assertEquals(Column.of("age", 10), entity.find("age").orElseThrow());
+        assertFalse(entity.find("salary").isPresent());
+        assertThat(entity.columnNames()).containsExactly("name", "age");
+        assertThat(entity.values()).containsExactly(Value.of("Diana"), Value.of(10));
+        assertThat(entity.toMap()).isEqualTo(Map.of("name", "Diana", "age", 10));
+
+        ColumnEntity expected = ColumnEntity.of("person", List.of(Column.of("name", "Diana"), Column.of("age", 10)));
+        assertEquals(expected, entity);
+        assertEquals(entity, expected);
+        assertEquals(expected.hashCode(), entity.hashCode());
+    }
+
+    @Test
+    public void shouldReturnSchemaViews() {
+        ColumnEntity entity = ColumnEntity.of(EntitySchema.of("person"));
+        List<Column> columns = entity.columns();
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        assertThat(columns).containsExactly(Column.of("name", "Ada"), Column.of("age", 10));
+        assertEquals(Column.of("age", 10), columns.get(1));
+        assertTrue(entity.remove("name"));
+        assertFalse(entity.remove("name"));
+        assertThat(columns).containsExactly(Column.of("age", 10));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> columns.add(Column.of("name", "Ada")));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> columns.get(1));
+        entity.clear();
+        assertTrue(entity.isEmpty());
+        assertThat(columns).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnSchemaViewsByIndex() {
+        EntitySchema schema = EntitySchema.of("person");
+        ColumnEntity ada = ColumnEntity.of(schema);
+        ada.add("name", "Ada");
+        ada.add("age", 10);
+        ada.add("city", "London");
+        ColumnEntity diana = ColumnEntity.of(schema);
+        diana.add("city", "Themyscira");
+        diana.add("name", "Diana");
+        List<Column> columns = diana.columns();
+        assertEquals(Column.of("name", "Diana"), columns.get(0));
+        assertEquals(Column.of("city", "Themyscira"), columns.get(1));
+        diana.remove("name");
+        diana.add("age", 30);
+        assertEquals(Column.of("age", 30), columns.get(0));
+        assertEquals(Column.of("city", "Themyscira"), columns.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> columns.get(2));
+    }
+
+    @Test
+    public void shouldShareSchema() {
+        EntitySchema schema = EntitySchema.of("person");
+        ColumnEntity ada = ColumnEntity.of(schema);
+        ada.add("name", "Ada");
+        ColumnEntity diana = ColumnEntity.of(schema);
+        diana.add("age", 10);
+        diana.add("name", "Diana");
+        assertThat(schema.fields()).containsExactly("name", "age");
+        assertThat(ada.columns()).containsExactly(Column.of("name", "Ada"));
+        assertFalse(ada.contains("age"));
+        assertThat(diana.columnNames()).containsExactly("name", "age");
+
+        ColumnEntity copy = diana.copy();
+        copy.add("name", "Other");
+        assertEquals("Diana", diana.find("name", String.class).orElseThrow());
+        assertEquals("Other", copy.find("name", String.class).orElseThrow());
+        Assertions.assertThrows(NullPointerException.class, () -> ColumnEntity.of((EntitySchema) null));
+    }
+}
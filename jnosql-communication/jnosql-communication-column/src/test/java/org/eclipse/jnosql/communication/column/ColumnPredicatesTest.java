@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnPredicatesTest {
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> ColumnPredicates.compile(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldCompileField() {
+        Predicate<ColumnEntity> predicate = ColumnPredicates.compile(ColumnCondition.gte("age", 18));
+        assertThat(predicate).accepts(person("Ada", 36)).rejects(person("Poliana", 10), ColumnEntity.of("Person"));
+    }
+
+    @Test
+    public void shouldCompileTree() {
+        ColumnCondition condition = ColumnCondition.or(
+                ColumnCondition.and(ColumnCondition.like("name", "A%"),
+                        ColumnCondition.between("age", List.of(30, 40))),
+                ColumnCondition.in("name", List.of("Poliana", "Otavio")));
+        Predicate<ColumnEntity> predicate = ColumnPredicates.compile(condition);
+        assertThat(predicate).accepts(person("Ada", 36), person("Poliana", 10))
+                .rejects(person("Ada", 20), person("Diana", 36));
+    }
+
+    @Test
+    public void shouldCompileNot() {
+        Predicate<ColumnEntity> predicate = ColumnPredicates.compile(ColumnCondition.eq("name", "Ada").negate());
+        assertThat(predicate).accepts(person("Poliana", 10)).rejects(person("Ada", 36));
+    }
+
+    @Test
+    public void shouldCompileSubColumn() {
+        ColumnEntity entity = person("Ada", 36);
+        entity.add(Column.of("address", List.of(Column.of("city", "Salvador"), Column.of("zip", "40000"))));
+        Predicate<ColumnEntity> predicate = ColumnPredicates.compile(ColumnCondition.eq("address.city",
+                "Salvador"));
+        assertThat(predicate).accepts(entity).rejects(person("Poliana", 10));
+        ColumnEntity flat = person("Ada", 36);
+        flat.add("address.city", "Salvador");
+        assertThat(predicate).accepts(flat);
+    }
+
+    @Test
+    public void shouldCompileSchemaEntity() {
+        EntitySchema schema = EntitySchema.of("Person");
+        ColumnEntity entity = ColumnEntity.of(schema);
+        entity.add("name", "Ada");
+        entity.add("age", 36);
+        assertThat(ColumnPredicates.compile(ColumnCondition.gt("age", 30L))).accepts(entity);
+        assertThat(ColumnPredicates.compile(ColumnCondition.eq("salary", 10))).rejects(entity);
+    }
+
+    private static ColumnEntity person(String name, int age) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", name);
+        entity.add("age", age);
+        return entity;
+    }
+}
@@ -17,9 +17,15 @@
 
 package org.eclipse.jnosql.communication.column;
 
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +34,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 public class ColumnsTest {
@@ -62,4 +69,38 @@ public class ColumnsTest {
         assertEquals(Column.of("mobile", "55 1234-4567"), result.get(0).get(0));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEncodeEntity() {
+        ColumnEntity entity = ColumnEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add(Column.of("address", List.of(Column.of("city", "Salvador"), Column.of("zip", 123L))));
+        ColumnEntity decoded = Columns.codec().decode(Columns.codec().encode(entity));
+        assertEquals(entity, decoded);
+        assertEquals(10, decoded.find("age", int.class).orElseThrow());
+    }
+
+    @Test
+    public void shouldStreamJsonArray() {
+        String json = "[{\"name\": \"Ada\", \"age\": 10, \"address\": {\"city\": \"Salvador\"}, " +
+                "\"phones\": [\"1\", null], \"nick\": null}, {\"name\": \"Diana\", \"active\": true}]";
+        List<List<Column>> values = Columns.of(Json.createParser(new StringReader(json))).toList();
+        assertThat(values).hasSize(2);
+        assertThat(values.get(0)).containsExactly(Column.of("name", "Ada"), Column.of("age", BigDecimal.TEN),
+                Column.of("address", Column.of("city", "Salvador")),
+                Column.of("phones", Arrays.asList("1", null)));
+        assertThat(values.get(1)).containsExactly(Column.of("name", "Diana"), Column.of("active", true));
+    }
+
+    @Test
+    public void shouldStreamJsonArrayIncrementally() {
+        String json = "[{\"name\": \"Ada\"}, {\"name\": ";
+        List<Column> first = Columns.of(Json.createParser(new StringReader(json))).findFirst().orElseThrow();
+        assertThat(first).containsExactly(Column.of("name", "Ada"));
+        assertThrows(NullPointerException.class, () -> Columns.of((JsonParser) null));
+        assertThrows(CommunicationException.class, () -> Columns.of(Json.createParser(new StringReader("{}"))));
+        assertThrows(CommunicationException.class, () -> Columns.of(Json.createParser(new StringReader("[1]")))
+                .toList());
+    }
+}
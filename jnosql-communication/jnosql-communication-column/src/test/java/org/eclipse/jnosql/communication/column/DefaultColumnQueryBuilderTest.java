@@ -16,6 +16,7 @@
  */
 package org.eclipse.jnosql.communication.column;
 
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.TypeReference;
@@ -333,6 +334,29 @@ class DefaultColumnQueryBuilderTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenAggregateIsCalledWithNullElement() {
+        assertThrows(NullPointerException.class, () -> builder().aggregate(Aggregation.count(), null));
+        assertThrows(NullPointerException.class, () -> builder().groupBy("name", null));
+    }
+
+    @Test
+    public void shouldBuildAggregation() {
+        ColumnQuery query = builder("customer").from("Order")
+                .aggregate(Aggregation.sum("amount"), Aggregation.count())
+                .groupBy("customer").build();
+        assertEquals(List.of(Aggregation.sum("amount"), Aggregation.count()), query.aggregations());
+        assertEquals(List.of("customer"), query.groupBy());
+        assertEquals(List.of("customer"), query.columns());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSelectedColumnIsNotAtGroupBy() {
+        ColumnQuery.ColumnQueryBuilder builder = builder("customer", "status").from("Order")
+                .aggregate(Aggregation.count()).groupBy("customer");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
     @Test
     public void shouldExecuteManager() {
         ColumnManager manager = Mockito.mock(ColumnManager.class);
@@ -227,4 +227,33 @@ public class DefaultColumnQueryParserTest {
        assertThrows(NonUniqueResultException.class, prepare::singleResult);
     }
 
+    @Test
+    public void shouldNormalizeLiterals() {
+        ColumnQueryParser normalized = new ColumnQueryParser(true);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        normalized.query("select * from God where name = 'Diana' and age > 10", manager,
+                ColumnObserverParser.EMPTY);
+        normalized.query("select * from God where name = 'Ada' and age > 20", manager,
+                ColumnObserverParser.EMPTY);
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+
+        ColumnQuery diana = captor.getAllValues().get(0);
+        ColumnQuery ada = captor.getAllValues().get(1);
+        assertEquals(ColumnCondition.and(ColumnCondition.eq("name", "Diana"), ColumnCondition.gt("age", 10L)),
+                diana.condition().orElseThrow());
+        assertEquals(ColumnCondition.and(ColumnCondition.eq("name", "Ada"), ColumnCondition.gt("age", 20L)),
+                ada.condition().orElseThrow());
+    }
+
+    @Test
+    public void shouldKeepErrorsWhenNormalize() {
+        ColumnQueryParser normalized = new ColumnQueryParser(true);
+        QueryException expected = assertThrows(QueryException.class,
+                () -> parser.query("select * from God where   age = 10 limit", manager, ColumnObserverParser.EMPTY));
+        QueryException exception = assertThrows(QueryException.class,
+                () -> normalized.query("select * from God where   age = 10 limit", manager,
+                        ColumnObserverParser.EMPTY));
+        assertEquals(expected.getMessage(), exception.getMessage());
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication.column;
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,6 +69,7 @@ public class DefaultColumnQueryTest {
         assertEquals(0, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
+        assertEquals(List.of(Aggregation.count()), countQuery.aggregations());
        ColumnCondition condition = countQuery.condition().orElseThrow();
        Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
@@ -87,4 +89,31 @@ public class DefaultColumnQueryTest {
         ColumnCondition condition = countQuery.condition().orElseThrow();
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
+
+    @Test
+    public void shouldConvertAggregateBy() {
+        ColumnQuery query = ColumnQuery.builder("customer").from("Order")
+                .where(ColumnCondition.eq("status", "paid"))
+                .aggregate(Aggregation.sum("amount"), Aggregation.count(), Aggregation.max("customer"))
+                .groupBy("customer")
+                .sort(Sort.desc("sum(amount)"))
+                .skip(1).limit(2).build();
+
+        ColumnQuery aggregateQuery = DefaultColumnQuery.aggregateBy(query);
+        assertEquals("Order", aggregateQuery.name());
+        assertEquals(List.of("customer", "amount"), aggregateQuery.columns());
+        assertEquals(0, aggregateQuery.limit());
+        assertEquals(0, aggregateQuery.skip());
+        assertTrue(aggregateQuery.sorts().isEmpty());
+        assertTrue(aggregateQuery.aggregations().isEmpty());
+        assertTrue(aggregateQuery.groupBy().isEmpty());
+        assertEquals(query.condition(), aggregateQuery.condition());
+    }
+
+    @Test
+    public void shouldNotRemoveAggregations() {
+        ColumnQuery query = ColumnQuery.builder().from("Order").aggregate(Aggregation.count()).build();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.aggregations().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.groupBy().clear());
+    }
 }
\ No newline at end of file
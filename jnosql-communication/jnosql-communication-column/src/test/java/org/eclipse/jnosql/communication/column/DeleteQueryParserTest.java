@@ -394,4 +394,12 @@ class DeleteQueryParserTest {
         assertTrue(columnQuery.columns().isEmpty());
         assertEquals("God", columnQuery.name());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldReturnErrorWhenAddBatch(String query) {
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        assertThrows(QueryException.class, prepare::addBatch);
+    }
+}
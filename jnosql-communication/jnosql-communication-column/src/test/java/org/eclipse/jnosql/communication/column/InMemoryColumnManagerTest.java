@@ -0,0 +1,221 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.column.ColumnDeleteQuery.delete;
+import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
+
+class InMemoryColumnManagerTest {
+
+    private InMemoryColumnManagerFactory factory;
+
+    private ColumnManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        Settings settings = Settings.builder()
+                .put(InMemoryConfigurations.HASH_INDEX.get() + ".Person", "name")
+                .put(InMemoryConfigurations.SORTED_INDEX.get() + ".Person", "age").build();
+        factory = new InMemoryColumnConfiguration().apply(settings);
+        manager = factory.apply("database");
+        manager.insert(List.of(person(1, "Ada", 36, "Salvador"), person(2, "Poliana", 10, "Salvador"),
+                person(3, "Otavio", 30, "Lisbon"), person(4, "Maria", 50, "Lisbon")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> manager.insert((ColumnEntity) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.select(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.delete(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new InMemoryColumnConfiguration().apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldShareDatabase() {
+        assertThat(factory.apply("database")).isSameAs(manager);
+        assertThat(manager.name()).isEqualTo("database");
+        assertThat(factory.apply("other").count("Person")).isZero();
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldInsertWithId() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Diana");
+        manager.insert(entity);
+        assertThat(entity.find("_id")).isPresent();
+        Object id = entity.find("_id").orElseThrow().get();
+        assertThat(manager.select(select().from("Person").where("_id").eq(id).build()))
+                .singleElement().isEqualTo(entity);
+    }
+
+    @Test
+    public void shouldKeepCopies() {
+        ColumnEntity entity = person(5, "Diana", 20, "Paris");
+        manager.insert(entity);
+        entity.add("name", "Changed");
+        ColumnEntity selected = manager.singleResult(select().from("Person").where("_id").eq(5).build())
+                .orElseThrow();
+        assertThat(selected.find("name", String.class)).contains("Diana");
+        selected.add("name", "Changed");
+        assertThat(manager.select(select().from("Person").where("name").eq("Diana").build())).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldKeepDeepCopies() {
+        List<Column> address = new ArrayList<>(List.of(Column.of("city", "Paris")));
+        ColumnEntity phone = ColumnEntity.of("Phone");
+        phone.add("number", "1234");
+        ColumnEntity entity = person(5, "Diana", 20, "Paris");
+        entity.add("address", address);
+        entity.add("phone", phone);
+        manager.insert(entity);
+        address.add(Column.of("zip", "75001"));
+        phone.add("number", "Changed");
+
+        ColumnEntity selected = manager.singleResult(select().from("Person").where("_id").eq(5).build())
+                .orElseThrow();
+        List<Column> selectedAddress = (List<Column>) selected.find("address").orElseThrow().get();
+        ColumnEntity selectedPhone = (ColumnEntity) selected.find("phone").orElseThrow().get();
+        assertThat(selectedAddress).containsExactly(Column.of("city", "Paris"));
+        assertThat(selectedPhone.find("number", String.class)).contains("1234");
+
+        selectedAddress.add(Column.of("zip", "75001"));
+        selectedPhone.add("number", "Changed");
+        ColumnEntity other = manager.singleResult(select("address", "phone").from("Person").where("_id").eq(5)
+                .build()).orElseThrow();
+        assertThat((List<Column>) other.find("address").orElseThrow().get())
+                .containsExactly(Column.of("city", "Paris"));
+        assertThat(((ColumnEntity) other.find("phone").orElseThrow().get()).find("number", String.class))
+                .contains("1234");
+    }
+
+    @Test
+    public void shouldSelect() {
+        assertThat(names(select().from("Person").where("name").eq("Ada").build())).containsExactly("Ada");
+        assertThat(names(select().from("Person").where("age").gt(30).orderBy("age").asc().build()))
+                .containsExactly("Ada", "Maria");
+        assertThat(names(select().from("Person").where("age").between(10, 30).orderBy("name").desc().build()))
+                .containsExactly("Poliana", "Otavio");
+        assertThat(names(select().from("Person").where("city").eq("Lisbon").or("name").in(List.of("Ada"))
+                .orderBy("_id").asc().build())).containsExactly("Ada", "Otavio", "Maria");
+        assertThat(names(select().from("Person").where("name").like("%a").and("age").lt(40L)
+                .orderBy("age").asc().build())).containsExactly("Poliana", "Ada");
+        assertThat(names(select().from("Person").where("name").not().eq("Ada").orderBy("age").desc().skip(1)
+                .limit(1).build())).containsExactly("Otavio");
+        assertThat(names(select().from("Person").where("age").eq(10).and("age").eq(20).build())).isEmpty();
+        assertThat(names(select().from("God").build())).isEmpty();
+    }
+
+    @Test
+    public void shouldPruneByPartitionKey() {
+        manager.insert(person(0, "Diana", 20, "Paris"));
+        assertThat(names(select().from("Person").build())).containsExactly("Diana", "Ada", "Poliana", "Otavio",
+                "Maria");
+        assertThat(names(select().from("Person").where("_id").gt(2).build())).containsExactly("Otavio", "Maria");
+        assertThat(names(select().from("Person").where("_id").between(1, 3).and("city").eq("Salvador").build()))
+                .containsExactly("Ada", "Poliana");
+        assertThat(names(select().from("Person").where("_id").in(List.of(4, 0, 9)).build()))
+                .containsExactly("Maria", "Diana");
+        assertThat(names(select().from("Person").where("_id").lte(1).or("_id").eq(4).build()))
+                .containsExactlyInAnyOrder("Diana", "Ada", "Maria");
+    }
+
+    @Test
+    public void shouldSelectColumns() {
+        ColumnEntity entity = manager.singleResult(select("name").from("Person").where("_id").eq(1).build())
+                .orElseThrow();
+        assertThat(entity.toMap()).isEqualTo(Map.of("name", "Ada"));
+    }
+
+    @Test
+    public void shouldCountAndExists() {
+        assertThat(manager.count(select().from("Person").where("city").eq("Salvador").build())).isEqualTo(2L);
+        assertThat(manager.exists(select().from("Person").where("age").gte(50).build())).isTrue();
+        assertThat(manager.exists(select().from("Person").where("age").gt(50).build())).isFalse();
+    }
+
+    @Test
+    public void shouldUpdate() {
+        manager.update(person(1, "Ada", 37, "Paris"));
+        assertThat(names(select().from("Person").where("age").eq(37).build())).containsExactly("Ada");
+        assertThat(names(select().from("Person").where("age").eq(36).build())).isEmpty();
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Diana");
+        assertThatThrownBy(() -> manager.update(entity)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldDelete() {
+        manager.delete(delete().from("Person").where("city").eq("Lisbon").build());
+        assertThat(manager.count("Person")).isEqualTo(2L);
+        manager.delete(delete("city").from("Person").where("name").eq("Ada").build());
+        ColumnEntity ada = manager.singleResult(select().from("Person").where("_id").eq(1).build()).orElseThrow();
+        assertThat(ada.find("city")).isEmpty();
+        assertThat(ada.find("name")).isPresent();
+        manager.delete(delete().from("Person").build());
+        assertThat(manager.count("Person")).isZero();
+        manager.delete(delete().from("God").build());
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        manager.insert(person(5, "Diana", 20, "Paris"), Duration.ofMillis(1));
+        Thread.sleep(20L);
+        assertThat(names(select().from("Person").where("name").eq("Diana").build())).isEmpty();
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldQuery() {
+        assertThat(manager.query("select * from Person where age > 30 order by age desc"))
+                .extracting(e -> e.find("name", String.class).orElseThrow()).containsExactly("Maria", "Ada");
+    }
+
+    private List<String> names(ColumnQuery query) {
+        return manager.select(query).map(e -> e.find("name", String.class).orElseThrow()).toList();
+    }
+
+    private static ColumnEntity person(int id, String name, int age, String city) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", name);
+        entity.add("age", age);
+        entity.add("city", city);
+        return entity;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaColumnsTest {
+
+    @Test
+    public void shouldShareOneSchemaInstance() {
+        EntitySchema schema = EntitySchema.of("person");
+        SchemaColumns ada = new SchemaColumns(schema);
+        ada.put("name", Column.of("name", "Ada"));
+        SchemaColumns diana = new SchemaColumns(schema);
+        diana.put("age", Column.of("age", 10));
+        assertThat(ada.schema()).isSameAs(schema);
+        assertThat(diana.schema()).isSameAs(schema);
+        assertThat(diana.copy().schema()).isSameAs(schema);
+    }
+
+    @Test
+    public void shouldKeepTheValuesAtTheSlots() {
+        EntitySchema schema = EntitySchema.of("person");
+        SchemaColumns columns = new SchemaColumns(schema);
+        columns.put("name", Column.of("name", "Ada"));
+        columns.put("age", Column.of("age", 10));
+        Value[] slots = columns.slots();
+        assertThat(slots).hasSize(schema.size());
+        assertThat(slots[schema.slot("name")]).isEqualTo(Value.of("Ada"));
+        assertThat(slots[schema.slot("age")]).isEqualTo(Value.of(10));
+    }
+
+    @Test
+    public void shouldCopyTheSlotsOnly() {
+        SchemaColumns columns = new SchemaColumns(EntitySchema.of("person"));
+        columns.put("name", Column.of("name", "Ada"));
+        SchemaColumns copy = columns.copy();
+        assertThat(copy.slots()).isNotSameAs(columns.slots()).containsExactly(columns.slots());
+    }
+}
@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication.column;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
@@ -34,6 +35,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.column.ColumnCondition.eq;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -498,6 +501,111 @@ public class SelectQueryParserTest {
         assertEquals(12, column.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatementSeveralTimes(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.bind("age", 13);
+        prepare.result();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).condition().orElseThrow().column().get());
+        assertEquals(13, queries.get(1).condition().orElseThrow().column().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, sum(age), count(*) from God where age > 10 group by name " +
+            "skip 1 limit 2 order by sum(age) desc name"})
+    public void shouldAggregate(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        parser.query(query, manager, observer);
+        Mockito.verify(manager).aggregate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).select(Mockito.any());
+        ColumnQuery columnQuery = captor.getValue();
+
+        assertEquals("God", columnQuery.name());
+        assertThat(columnQuery.columns()).containsExactly("name");
+        assertThat(columnQuery.groupBy()).containsExactly("name");
+        assertThat(columnQuery.aggregations()).containsExactly(Aggregation.sum("age"), Aggregation.count());
+        assertThat(columnQuery.sorts()).containsExactly(Sort.desc("sum(age)"), Sort.asc("name"));
+        assertEquals(1, columnQuery.skip());
+        assertEquals(2, columnQuery.limit());
+        assertEquals(Condition.GREATER_THAN, columnQuery.condition().orElseThrow().condition());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, max(age) from God group by name order by max(age)"})
+    public void shouldFireFieldsAtAggregation(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        ColumnObserverParser observer = new ColumnObserverParser() {
+            @Override
+            public String fireField(String entity, String field) {
+                return "_" + field;
+            }
+        };
+        parser.query(query, manager, observer);
+        Mockito.verify(manager).aggregate(captor.capture());
+        ColumnQuery columnQuery = captor.getValue();
+        assertThat(columnQuery.columns()).containsExactly("_name");
+        assertThat(columnQuery.groupBy()).containsExactly("_name");
+        assertThat(columnQuery.aggregations()).containsExactly(Aggregation.max("_age"));
+        assertThat(columnQuery.sorts()).containsExactly(Sort.asc("max(_age)"));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, count(*) from God where age > @age group by name"})
+    public void shouldAggregatePrepareStatement(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        Mockito.verify(manager).aggregate(captor.capture());
+        ColumnQuery columnQuery = captor.getValue();
+        assertThat(columnQuery.aggregations()).containsExactly(Aggregation.count());
+        assertEquals(12, columnQuery.condition().orElseThrow().column().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldKeepQueryUntilBindAgain(String query) {
+        ArgumentCaptor<DefaultColumnQuery> captor = ArgumentCaptor.forClass(DefaultColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.result();
+        prepare.bind("age", 12);
+        prepare.result();
+        Mockito.verify(manager, Mockito.times(3)).select(captor.capture());
+        List<DefaultColumnQuery> queries = captor.getAllValues();
+        assertSame(queries.get(0), queries.get(1));
+        assertNotSame(queries.get(1), queries.get(2));
+        assertEquals(12, queries.get(2).condition().orElseThrow().column().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldCreateNewBinding(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        ColumnPreparedStatement binding = prepare.newBinding();
+        assertThrows(QueryException.class, binding::result);
+
+        binding.bind("age", 13);
+        prepare.result();
+        binding.result();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).condition().orElseThrow().column().get());
+        assertEquals(13, queries.get(1).condition().orElseThrow().column().get());
+    }
+
     private void checkBaseQuery(ColumnQuery columnQuery, long limit, long skip) {
         assertTrue(columnQuery.columns().isEmpty());
         assertTrue(columnQuery.sorts().isEmpty());
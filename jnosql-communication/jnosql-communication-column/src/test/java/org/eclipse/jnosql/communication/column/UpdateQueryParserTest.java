@@ -132,4 +132,19 @@ class UpdateQueryParserTest {
         assertEquals(Column.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"update God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        Mockito.when(manager.update(Mockito.<ColumnEntity>anyIterable())).thenAnswer(i -> i.getArgument(0));
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        List<ColumnEntity> entities = prepare.bind("name", "Diana").addBatch()
+                .bind("name", "Artemis").addBatch()
+                .executeBatch().toList();
+
+        Mockito.verify(manager).update(Mockito.<ColumnEntity>anyIterable());
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(ColumnEntity.class));
+        assertThat(entities).extracting(e -> e.find("name").orElseThrow().get())
+                .containsExactly("Diana", "Artemis");
+    }
+}
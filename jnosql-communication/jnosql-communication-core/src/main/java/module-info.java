@@ -17,6 +17,7 @@
 module org.eclipse.jnosql.communication.core {
     requires microprofile.config.api;
     requires jakarta.json;
+    requires jakarta.data.api;
     exports org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication.reader;
@@ -0,0 +1,389 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import jakarta.data.repository.Sort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The engine of the in-memory managers of the document and the column databases: it keeps an
+ * {@link InMemoryCollection} per collection and an {@link EntitySchema} per entity name, and runs the inserts, the
+ * updates, the deletes and the selects with the whole query semantics: the conditions, the sorts, skip, limit, the
+ * selected fields and the TTL. An equals, in or range condition on the id or on a field with an index reads only the
+ * candidates of the collection.
+ * The managers differ only at their entity and condition types, which a subclass reads and creates through the
+ * abstract methods, and at the {@link InMemoryCollection} of each collection, which the subclass chooses at the
+ * constructor, e.g.: {@link InMemoryCollection#of(String, Settings, BiFunction)}.
+ * An entity without the id field receives a random one at the insert, and an entity is replaced by another with the
+ * same id. The manager keeps copies, thus, changing an entity after the insert or the select does not change the
+ * database.
+ *
+ * @param <E> the entity type
+ * @param <C> the condition type
+ */
+public abstract class AbstractInMemoryManager<E, C> {
+
+    private final String name;
+
+    private final BiFunction<E, String, Object> reader;
+
+    private final Function<String, InMemoryCollection<E>> factory;
+
+    private final Map<String, InMemoryCollection<E>> collections = new ConcurrentHashMap<>();
+
+    private final Map<String, EntitySchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * @param name    the database name
+     * @param reader  reads the value of a field from the entity, returning null when there is no field
+     * @param factory creates the {@link InMemoryCollection} of a collection name
+     * @throws NullPointerException when there is null parameter
+     */
+    protected AbstractInMemoryManager(String name, BiFunction<E, String, Object> reader,
+                                      Function<String, InMemoryCollection<E>> factory) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.reader = Objects.requireNonNull(reader, "reader is required");
+        this.factory = Objects.requireNonNull(factory, "factory is required");
+    }
+
+    /**
+     * @return the database name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Inserts the entity, the entity without the id field receives a random one
+     *
+     * @param entity the entity
+     * @return the entity inserted
+     * @throws NullPointerException when entity is null
+     */
+    public E insert(E entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return insert(entity, null);
+    }
+
+    /**
+     * Inserts the entity with a time to live, the entity without the id field receives a random one
+     *
+     * @param entity the entity
+     * @param ttl    the time to live, null to keep it without expiration
+     * @return the entity inserted
+     * @throws NullPointerException when entity is null
+     */
+    public E insert(E entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        InMemoryCollection<E> collection = collection(entityName(entity));
+        if (collection.key(entity) == null) {
+            add(entity, collection.id(), UUID.randomUUID().toString());
+        }
+        collection.put(store(entity), ttl);
+        return entity;
+    }
+
+    /**
+     * Inserts the entities
+     *
+     * @param entities the entities
+     * @return the entities inserted
+     * @throws NullPointerException when entities is null
+     */
+    public Iterable<E> insert(Iterable<E> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<E> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    /**
+     * Inserts the entities with a time to live
+     *
+     * @param entities the entities
+     * @param ttl      the time to live
+     * @return the entities inserted
+     * @throws NullPointerException when there is null parameter
+     */
+    public Iterable<E> insert(Iterable<E> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<E> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity, ttl)));
+        return inserted;
+    }
+
+    /**
+     * Replaces the entity with the same id, keeping its TTL, or inserts it when there is no entity with the id
+     *
+     * @param entity entity to be updated
+     * @return the entity updated
+     * @throws NullPointerException     when entity is null
+     * @throws IllegalArgumentException when the entity does not have the id field
+     */
+    public E update(E entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        collection(entityName(entity)).update(store(entity));
+        return entity;
+    }
+
+    /**
+     * Replaces each entity with the same id, keeping its TTL, or inserts it when there is no entity with the id
+     *
+     * @param entities the entities
+     * @return the entities updated
+     * @throws NullPointerException when entities is null
+     */
+    public Iterable<E> update(Iterable<E> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<E> updated = new ArrayList<>();
+        entities.forEach(entity -> updated.add(update(entity)));
+        return updated;
+    }
+
+    /**
+     * Returns the number of entities of the collection without reading them
+     *
+     * @param collection the collection name
+     * @return the number of entities, zero when there is no collection
+     * @throws NullPointerException when collection is null
+     */
+    public long count(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        InMemoryCollection<E> entities = collections.get(collection);
+        return entities == null ? 0L : entities.size();
+    }
+
+    /**
+     * Removes the entities that match the condition, or only the fields of those entities when there are fields
+     *
+     * @param collection the collection name
+     * @param condition  the condition
+     * @param fields     the fields to remove, empty to remove the whole entity
+     */
+    protected void delete(String collection, Optional<C> condition, List<String> fields) {
+        InMemoryCollection<E> entities = collections.get(collection);
+        if (entities == null) {
+            return;
+        }
+        List<Object> keys = select(entities, condition).map(entities::key).toList();
+        if (fields.isEmpty()) {
+            keys.forEach(entities::remove);
+        } else {
+            keys.forEach(key -> entities.update(key, entity -> remove(entity, fields)));
+        }
+    }
+
+    /**
+     * Returns the copies of the entities that match the condition
+     *
+     * @param collection the collection name
+     * @param condition  the condition
+     * @param sorts      the sorts
+     * @param skip       the number of entities to skip
+     * @param limit      the maximum number of entities, zero to return every entity
+     * @param fields     the fields to select, empty to select every field
+     * @return the entities
+     */
+    protected Stream<E> select(String collection, Optional<C> condition, List<Sort> sorts, long skip, long limit,
+                               List<String> fields) {
+        InMemoryCollection<E> entities = collections.get(collection);
+        if (entities == null) {
+            return Stream.empty();
+        }
+        Stream<E> selected = select(entities, condition);
+        Comparator<E> comparator = sorts.stream()
+                .map(sort -> InMemoryCollection.comparing(reader, sort.property(), sort.isAscending()))
+                .reduce(Comparator::thenComparing)
+                .orElse(null);
+        if (comparator != null) {
+            selected = selected.sorted(comparator);
+        }
+        if (skip > 0) {
+            selected = selected.skip(skip);
+        }
+        if (limit > 0) {
+            selected = selected.limit(limit);
+        }
+        return selected.map(entity -> project(entity, fields));
+    }
+
+    /**
+     * Removes every collection
+     */
+    protected void clearCollections() {
+        collections.values().forEach(InMemoryCollection::clear);
+        collections.clear();
+    }
+
+    /**
+     * @param entity the entity
+     * @return the entity name, which is the collection name
+     */
+    protected abstract String entityName(E entity);
+
+    /**
+     * Adds the field to the entity
+     *
+     * @param entity the entity
+     * @param field  the field
+     * @param value  the value
+     */
+    protected abstract void add(E entity, String field, Object value);
+
+    /**
+     * Creates the entity kept at the database, whose fields are kept at the schema
+     *
+     * @param entity the entity
+     * @param schema the schema of the entity name
+     * @return a new entity with the fields of the entity
+     */
+    protected abstract E store(E entity, EntitySchema schema);
+
+    /**
+     * @param entity the entity
+     * @param fields the fields
+     * @return a copy of the entity without the fields
+     */
+    protected abstract E remove(E entity, List<String> fields);
+
+    /**
+     * @param entity the stored entity
+     * @param fields the fields to select, empty to select every field
+     * @return a copy of the entity with the fields, thus, the caller might change it
+     */
+    protected abstract E project(E entity, List<String> fields);
+
+    /**
+     * @param condition the condition
+     * @return the condition optimized or {@link Optional#empty()} when it cannot match any entity
+     */
+    protected abstract Optional<C> optimize(C condition);
+
+    /**
+     * @param condition the condition
+     * @return the predicate of the condition
+     */
+    protected abstract Predicate<E> compile(C condition);
+
+    /**
+     * @param condition the condition
+     * @return the type of the condition
+     */
+    protected abstract Condition type(C condition);
+
+    /**
+     * @param condition the condition
+     * @return the field of the condition
+     */
+    protected abstract String field(C condition);
+
+    /**
+     * @param condition the condition
+     * @return the value of the condition
+     */
+    protected abstract Object value(C condition);
+
+    /**
+     * @param condition an AND or an OR condition
+     * @return the conditions grouped by the condition
+     */
+    protected abstract List<C> conditions(C condition);
+
+    private InMemoryCollection<E> collection(String collection) {
+        return collections.computeIfAbsent(collection, factory);
+    }
+
+    private E store(E entity) {
+        return store(entity, schemas.computeIfAbsent(entityName(entity), EntitySchema::of));
+    }
+
+    private Stream<E> select(InMemoryCollection<E> collection, Optional<C> condition) {
+        if (condition.isEmpty()) {
+            return collection.values();
+        }
+        Optional<C> optimized = optimize(condition.get());
+        if (optimized.isEmpty()) {
+            return Stream.empty();
+        }
+        Set<Object> keys = keys(collection, optimized.get());
+        Stream<E> candidates = keys == null ? collection.values() : collection.values(keys);
+        return candidates.filter(compile(optimized.get()));
+    }
+
+    /**
+     * @return the ids of the candidates or null when every entity is a candidate
+     */
+    private Set<Object> keys(InMemoryCollection<E> collection, C condition) {
+        return switch (type(condition)) {
+            case EQUALS -> collection.keys(field(condition), List.of(value(condition)));
+            case IN -> collection.keys(field(condition), values(value(condition)));
+            case GREATER_THAN -> collection.keys(field(condition), value(condition), false, null, false);
+            case GREATER_EQUALS_THAN -> collection.keys(field(condition), value(condition), true, null, false);
+            case LESSER_THAN -> collection.keys(field(condition), null, false, value(condition), false);
+            case LESSER_EQUALS_THAN -> collection.keys(field(condition), null, false, value(condition), true);
+            case BETWEEN -> {
+                List<Object> values = values(value(condition));
+                yield values.size() == 2 ? collection.keys(field(condition), values.get(0), true, values.get(1), true)
+                        : null;
+            }
+            case AND -> {
+                Set<Object> keys = null;
+                for (C child : conditions(condition)) {
+                    Set<Object> candidates = keys(collection, child);
+                    if (candidates != null && (keys == null || candidates.size() < keys.size())) {
+                        keys = candidates;
+                    }
+                }
+                yield keys;
+            }
+            case OR -> {
+                Set<Object> keys = new HashSet<>();
+                for (C child : conditions(condition)) {
+                    Set<Object> candidates = keys(collection, child);
+                    if (candidates == null) {
+                        yield null;
+                    }
+                    keys.addAll(candidates);
+                }
+                yield keys;
+            }
+            default -> null;
+        };
+    }
+
+    private static List<Object> values(Object value) {
+        List<Object> values = new ArrayList<>();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(values::add);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An aggregate function over a field of the entities that match a query, e.g.: {@code sum(amount)}.
+ * The result of the aggregation is identified by the {@link Aggregation#alias()}.
+ *
+ * @see AggregationType
+ */
+public final class Aggregation {
+
+    private static final String ALL = "*";
+
+    private final AggregationType type;
+
+    private final String field;
+
+    private Aggregation(AggregationType type, String field) {
+        this.type = type;
+        this.field = field;
+    }
+
+    /**
+     * @return the aggregate function
+     */
+    public AggregationType type() {
+        return type;
+    }
+
+    /**
+     * The field that this aggregation reads, it is empty only at the {@link Aggregation#count()}
+     *
+     * @return the field name
+     */
+    public Optional<String> field() {
+        return Optional.ofNullable(field);
+    }
+
+    /**
+     * The name of the result of this aggregation, the function followed by the field between parentheses,
+     * e.g.: {@code sum(amount)} or {@code count(*)}
+     *
+     * @return the alias
+     */
+    public String alias() {
+        return type.function() + '(' + (field == null ? ALL : field) + ')';
+    }
+
+    /**
+     * Creates a new aggregation of the same type to another field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public Aggregation to(String field) {
+        return of(type, field);
+    }
+
+    /**
+     * Creates an aggregation
+     *
+     * @param type  the aggregate function
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Aggregation of(AggregationType type, String field) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(field, "field is required");
+        return new Aggregation(type, field);
+    }
+
+    /**
+     * Creates the aggregation that counts the entities, {@code count(*)}
+     *
+     * @return a new {@link Aggregation} instance
+     */
+    public static Aggregation count() {
+        return new Aggregation(AggregationType.COUNT, null);
+    }
+
+    /**
+     * Creates the aggregation that counts the non-null values of the field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public static Aggregation count(String field) {
+        return of(AggregationType.COUNT, field);
+    }
+
+    /**
+     * Creates the aggregation that sums the values of the field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public static Aggregation sum(String field) {
+        return of(AggregationType.SUM, field);
+    }
+
+    /**
+     * Creates the aggregation that finds the lowest value of the field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public static Aggregation min(String field) {
+        return of(AggregationType.MIN, field);
+    }
+
+    /**
+     * Creates the aggregation that finds the highest value of the field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public static Aggregation max(String field) {
+        return of(AggregationType.MAX, field);
+    }
+
+    /**
+     * Creates the aggregation that averages the values of the field
+     *
+     * @param field the field name
+     * @return a new {@link Aggregation} instance
+     * @throws NullPointerException when the field is null
+     */
+    public static Aggregation avg(String field) {
+        return of(AggregationType.AVG, field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Aggregation that)) {
+            return false;
+        }
+        return type == that.type && Objects.equals(field, that.field);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, field);
+    }
+
+    @Override
+    public String toString() {
+        return alias();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Locale;
+
+/**
+ * The functions of an {@link Aggregation}
+ */
+public enum AggregationType {
+    /**
+     * The number of entities, or of the non-null values of a field
+     */
+    COUNT,
+    /**
+     * The sum of the numeric values of a field
+     */
+    SUM,
+    /**
+     * The lowest value of a field
+     */
+    MIN,
+    /**
+     * The highest value of a field
+     */
+    MAX,
+    /**
+     * The average of the numeric values of a field
+     */
+    AVG;
+
+    /**
+     * Returns the function name as it is written at a query, e.g.: "sum" to {@link AggregationType#SUM}
+     *
+     * @return the function name
+     */
+    public String function() {
+        return name().toLowerCase(Locale.US);
+    }
+}
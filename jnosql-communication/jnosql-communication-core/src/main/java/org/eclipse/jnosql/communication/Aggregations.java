@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * The default fold of the {@link Aggregation}: it reads the entities as a stream, groups them by the values of the
+ * group by fields and keeps one accumulator per aggregation and group, thus, the entities are never collected.
+ * The drivers that can run the aggregation at the database should do it instead of using this class.
+ * Following the SQL behavior, the null values are ignored, the sum, the minimum, the maximum and the average of
+ * a group without values are null, and there is always one row when there is no group by field.
+ */
+public final class Aggregations {
+
+    private Aggregations() {
+    }
+
+    /**
+     * Folds the entities into one row per group. The row has the group by fields and the
+     * {@link Aggregation#alias()} of each aggregation as keys, in this order.
+     *
+     * @param entities     the entities
+     * @param reader       reads the value of a field from an entity, returning null when there is no field
+     * @param groupBy      the group by fields
+     * @param aggregations the aggregations
+     * @param <T>          the entity type
+     * @return the rows, in the order the groups first appear at the entities
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when both the aggregations and the group by fields are empty
+     */
+    public static <T> List<Map<String, Object>> fold(Stream<T> entities, BiFunction<T, String, Object> reader,
+                                                     List<String> groupBy, List<Aggregation> aggregations) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(reader, "reader is required");
+        Objects.requireNonNull(groupBy, "groupBy is required");
+        Objects.requireNonNull(aggregations, "aggregations is required");
+        if (groupBy.isEmpty() && aggregations.isEmpty()) {
+            throw new IllegalArgumentException("The aggregation requires either an aggregate function or a group by");
+        }
+        Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<>();
+        if (groupBy.isEmpty()) {
+            groups.put(Collections.emptyList(), accumulators(aggregations));
+        }
+        entities.forEach(entity -> {
+            Object[] key = new Object[groupBy.size()];
+            for (int index = 0; index < key.length; index++) {
+                key[index] = reader.apply(entity, groupBy.get(index));
+            }
+            Accumulator[] accumulators = groups.computeIfAbsent(Arrays.asList(key), k -> accumulators(aggregations));
+            for (Accumulator accumulator : accumulators) {
+                accumulator.accept(accumulator.field == null ? entity : reader.apply(entity, accumulator.field));
+            }
+        });
+        List<Map<String, Object>> rows = new ArrayList<>(groups.size());
+        groups.forEach((key, accumulators) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int index = 0; index < key.size(); index++) {
+                row.put(groupBy.get(index), key.get(index));
+            }
+            for (int index = 0; index < accumulators.length; index++) {
+                row.put(aggregations.get(index).alias(), accumulators[index].result());
+            }
+            rows.add(Collections.unmodifiableMap(row));
+        });
+        return rows;
+    }
+
+    /**
+     * Returns the fields that the fold reads, the group by fields followed by the fields of the aggregations,
+     * without duplicates. A driver may use it to read only those fields.
+     *
+     * @param groupBy      the group by fields
+     * @param aggregations the aggregations
+     * @return the fields
+     * @throws NullPointerException when there is null parameter
+     */
+    public static List<String> fields(List<String> groupBy, List<Aggregation> aggregations) {
+        Objects.requireNonNull(groupBy, "groupBy is required");
+        Objects.requireNonNull(aggregations, "aggregations is required");
+        Set<String> fields = new LinkedHashSet<>(groupBy);
+        aggregations.forEach(a -> a.field().ifPresent(fields::add));
+        return new ArrayList<>(fields);
+    }
+
+    /**
+     * Returns a comparator of the rows by the value of a key, the null values are the last ones.
+     * The numbers are compared by their value regardless of their type.
+     *
+     * @param key       the key at the row
+     * @param ascending the direction
+     * @return the comparator
+     * @throws NullPointerException when the key is null
+     */
+    public static Comparator<Map<String, Object>> comparing(String key, boolean ascending) {
+        Objects.requireNonNull(key, "key is required");
+        Comparator<Object> values = ascending ? Aggregations::compare : (a, b) -> compare(b, a);
+        return Comparator.comparing(row -> row.get(key), Comparator.nullsLast(values));
+    }
+
+    private static Accumulator[] accumulators(List<Aggregation> aggregations) {
+        Accumulator[] accumulators = new Accumulator[aggregations.size()];
+        for (int index = 0; index < accumulators.length; index++) {
+            Aggregation aggregation = aggregations.get(index);
+            accumulators[index] = new Accumulator(aggregation.type(), aggregation.field().orElse(null));
+        }
+        return accumulators;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object value, Object other) {
+        if (value instanceof Number number && other instanceof Number otherNumber) {
+            if (isIntegral(number) && isIntegral(otherNumber)) {
+                return Long.compare(number.longValue(), otherNumber.longValue());
+            }
+            return Double.compare(number.doubleValue(), otherNumber.doubleValue());
+        }
+        return ((Comparable) value).compareTo(other);
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short
+                || number instanceof Byte;
+    }
+
+    private static final class Accumulator {
+
+        private final AggregationType type;
+
+        private final String field;
+
+        private long count;
+
+        private long integralSum;
+
+        private double decimalSum;
+
+        private boolean decimal;
+
+        private BigDecimal exactSum;
+
+        private Object value;
+
+        private Accumulator(AggregationType type, String field) {
+            this.type = type;
+            this.field = field;
+        }
+
+        private void accept(Object current) {
+            if (current == null) {
+                return;
+            }
+            count++;
+            switch (type) {
+                case SUM, AVG -> add(number(current));
+                case MIN -> value = value == null || compare(current, value) < 0 ? current : value;
+                case MAX -> value = value == null || compare(current, value) > 0 ? current : value;
+                default -> {
+                }
+            }
+        }
+
+        private void add(Number number) {
+            if (number instanceof BigDecimal || number instanceof BigInteger) {
+                BigDecimal exact = number instanceof BigDecimal bigDecimal ? bigDecimal
+                        : new BigDecimal((BigInteger) number);
+                exactSum = exactSum == null ? exact : exactSum.add(exact);
+                return;
+            }
+            if (isIntegral(number)) {
+                try {
+                    integralSum = Math.addExact(integralSum, number.longValue());
+                    return;
+                } catch (ArithmeticException exception) {
+                    decimal = true;
+                }
+            } else {
+                decimal = true;
+            }
+            decimalSum += number.doubleValue();
+        }
+
+        private Number number(Object current) {
+            if (current instanceof Number number) {
+                return number;
+            }
+            return Value.of(current).get(Double.class);
+        }
+
+        private Object result() {
+            return switch (type) {
+                case COUNT -> count;
+                case SUM -> count == 0 ? null : sum();
+                case AVG -> count == 0 ? null : average();
+                case MIN, MAX -> value;
+            };
+        }
+
+        private Number sum() {
+            if (exactSum != null) {
+                return exactSum();
+            }
+            if (decimal) {
+                return integralSum + decimalSum;
+            }
+            return integralSum;
+        }
+
+        private Number average() {
+            if (exactSum != null) {
+                return exactSum().divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+            }
+            return (integralSum + decimalSum) / count;
+        }
+
+        private BigDecimal exactSum() {
+            BigDecimal sum = exactSum.add(BigDecimal.valueOf(integralSum));
+            return decimal ? sum.add(BigDecimal.valueOf(decimalSum)) : sum;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} of boolean, there are only two instances of it
+ */
+final class BooleanValue extends PrimitiveValue {
+
+    static final BooleanValue TRUE = new BooleanValue(true);
+
+    static final BooleanValue FALSE = new BooleanValue(false);
+
+    private final boolean value;
+
+    private BooleanValue(boolean value) {
+        super(Boolean.class);
+        this.value = value;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return value;
+    }
+
+    @Override
+    int hash() {
+        return Boolean.hashCode(value);
+    }
+}
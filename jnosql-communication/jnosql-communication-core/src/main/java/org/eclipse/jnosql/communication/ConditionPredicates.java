@@ -0,0 +1,525 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the conditions into {@link Predicate} instances that evaluate an entity in memory, e.g.: to filter at the
+ * client side the conditions that a driver does not support.
+ * The value of the condition is converted once, at the compilation: the numbers are compared by their numeric value,
+ * whatever their type, the enums by their name, an {@link Condition#IN} with many numbers or texts uses a sorted array
+ * or a hash set, and a {@link Condition#LIKE} becomes either a prefix, suffix or contains check, or a precompiled
+ * {@link Pattern}, where {@code %} matches any text and {@code _} any character.
+ * A field without value, or whose value cannot be compared with the value of the condition, does not match.
+ */
+public final class ConditionPredicates {
+
+    private static final int HASHED_IN_SIZE = 8;
+
+    private ConditionPredicates() {
+    }
+
+    /**
+     * Compiles a condition that checks a field: {@link Condition#EQUALS}, {@link Condition#GREATER_THAN},
+     * {@link Condition#GREATER_EQUALS_THAN}, {@link Condition#LESSER_THAN}, {@link Condition#LESSER_EQUALS_THAN},
+     * {@link Condition#IN}, {@link Condition#BETWEEN} and {@link Condition#LIKE}.
+     *
+     * @param condition the condition
+     * @param value     the value of the condition, an {@link Iterable} at both the in and the between
+     * @param field     reads the value of the field from the entity, returning null when there is no field
+     * @param <T>       the entity type
+     * @return the predicate
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the condition does not check a field or the value is not valid
+     */
+    public static <T> Predicate<T> of(Condition condition, Object value, Function<T, Object> field) {
+        Objects.requireNonNull(condition, "condition is required");
+        Objects.requireNonNull(value, "value is required");
+        Objects.requireNonNull(field, "field is required");
+        Object target = unwrap(value);
+        return switch (condition) {
+            case EQUALS -> new Equals<>(field, target);
+            case GREATER_THAN -> new Compare<>(field, target, 1, 1);
+            case GREATER_EQUALS_THAN -> new Compare<>(field, target, 0, 1);
+            case LESSER_THAN -> new Compare<>(field, target, -1, -1);
+            case LESSER_EQUALS_THAN -> new Compare<>(field, target, -1, 0);
+            case IN -> in(field, values(condition, target));
+            case BETWEEN -> between(field, values(condition, target));
+            case LIKE -> like(field, target);
+            default -> throw new IllegalArgumentException("The condition " + condition + " does not check a field");
+        };
+    }
+
+    /**
+     * Combines the predicates with a logical and
+     *
+     * @param predicates the predicates
+     * @param <T>        the entity type
+     * @return the predicate
+     * @throws NullPointerException when predicates is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Predicate<T> and(List<Predicate<T>> predicates) {
+        Objects.requireNonNull(predicates, "predicates is required");
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return new And<>(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Combines the predicates with a logical or
+     *
+     * @param predicates the predicates
+     * @param <T>        the entity type
+     * @return the predicate
+     * @throws NullPointerException when predicates is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Predicate<T> or(List<Predicate<T>> predicates) {
+        Objects.requireNonNull(predicates, "predicates is required");
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return new Or<>(predicates.toArray(new Predicate[0]));
+    }
+
+    private static <T> Predicate<T> in(Function<T, Object> field, List<Object> values) {
+        if (values.size() > HASHED_IN_SIZE) {
+            if (values.stream().allMatch(ConditionPredicates::isIntegral)) {
+                long[] numbers = values.stream().mapToLong(v -> ((Number) v).longValue()).sorted().toArray();
+                return new LongIn<>(field, numbers);
+            } else if (values.stream().allMatch(v -> v instanceof String || v instanceof Enum<?>)) {
+                Set<String> texts = new HashSet<>();
+                values.forEach(v -> texts.add(text(v)));
+                return new TextIn<>(field, texts);
+            }
+        }
+        List<Predicate<T>> predicates = new ArrayList<>(values.size());
+        values.forEach(v -> predicates.add(new Equals<>(field, v)));
+        if (predicates.isEmpty()) {
+            return entity -> false;
+        }
+        return or(predicates);
+    }
+
+    private static <T> Predicate<T> between(Function<T, Object> field, List<Object> values) {
+        if (values.size() != 2) {
+            throw new IllegalArgumentException("The between condition requires two values, but it has: " + values);
+        }
+        return new Between<>(new Compare<>(field, values.get(0), 0, 1), new Compare<>(field, values.get(1), -1, 0));
+    }
+
+    private static <T> Predicate<T> like(Function<T, Object> field, Object value) {
+        String pattern = text(value);
+        String middle = pattern.length() > 1 ? pattern.substring(1, pattern.length() - 1) : "";
+        if (pattern.indexOf('_') < 0) {
+            int wildcards = pattern.length() - pattern.replace("%", "").length();
+            if (wildcards == 0) {
+                return new Equals<>(field, pattern);
+            } else if (wildcards == 1 && pattern.endsWith("%")) {
+                return new Like<>(field, pattern.substring(0, pattern.length() - 1), Like.PREFIX);
+            } else if (wildcards == 1 && pattern.startsWith("%")) {
+                return new Like<>(field, pattern.substring(1), Like.SUFFIX);
+            } else if (wildcards == 2 && pattern.length() > 1 && pattern.startsWith("%") && pattern.endsWith("%")) {
+                return new Like<>(field, middle, Like.CONTAINS);
+            }
+        }
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return new Regex<>(field, Pattern.compile(regex.toString(), Pattern.DOTALL));
+    }
+
+    private static List<Object> values(Condition condition, Object value) {
+        if (!(value instanceof Iterable<?> iterable)) {
+            throw new IllegalArgumentException("The " + condition + " condition requires an iterable, but it has: "
+                    + value);
+        }
+        List<Object> values = new ArrayList<>();
+        iterable.forEach(v -> values.add(unwrap(v)));
+        return values;
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof Value wrapper ? wrapper.get() : value;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof AtomicInteger || value instanceof AtomicLong;
+    }
+
+    private static String text(Object value) {
+        return value instanceof Enum<?> element ? element.name() : value.toString();
+    }
+
+    /**
+     * A number of the condition, kept as long, double and {@link BigDecimal}, thus, it is compared with any number
+     * without converting the number of the entity, but from a {@link BigDecimal} or a {@link BigInteger}.
+     */
+    private static final class Target {
+
+        private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+        private final Object value;
+
+        private final boolean integral;
+
+        private final long longValue;
+
+        private final double doubleValue;
+
+        private final BigDecimal decimal;
+
+        /**
+         * The floor of the decimal, the integral values below or equal to it are less than the decimal
+         */
+        private final long floor;
+
+        /**
+         * True when the decimal has no fraction, thus, it is equal to the floor
+         */
+        private final boolean exact;
+
+        /**
+         * The comparison of every integral value with the decimal when it is beyond the long range, otherwise null
+         */
+        private final Integer beyond;
+
+        private Target(Object value) {
+            this.value = value instanceof Enum<?> element ? element.name() : value;
+            this.integral = isIntegral(value);
+            if (value instanceof Number number) {
+                this.longValue = number.longValue();
+                this.doubleValue = number.doubleValue();
+                this.decimal = decimal(number);
+            } else {
+                this.longValue = 0;
+                this.doubleValue = 0;
+                this.decimal = null;
+            }
+            if (decimal == null || integral) {
+                this.floor = longValue;
+                this.exact = true;
+                this.beyond = null;
+            } else {
+                BigDecimal lower = decimal.setScale(0, RoundingMode.FLOOR);
+                this.exact = lower.compareTo(decimal) == 0;
+                if (lower.compareTo(LONG_MAX) > 0) {
+                    this.floor = Long.MAX_VALUE;
+                    this.beyond = -1;
+                } else if (lower.compareTo(LONG_MIN) < 0) {
+                    this.floor = Long.MIN_VALUE;
+                    this.beyond = 1;
+                } else {
+                    this.floor = lower.longValue();
+                    this.beyond = null;
+                }
+            }
+        }
+
+        /**
+         * @return the comparison with the value of the entity, or null when they cannot be compared
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Integer compare(Object current) {
+            if (decimal != null) {
+                if (!(current instanceof Number number)) {
+                    return null;
+                }
+                if (isIntegral(number)) {
+                    return compare(number.longValue());
+                } else if (number instanceof Double || number instanceof Float) {
+                    return Double.compare(number.doubleValue(), doubleValue);
+                }
+                BigDecimal other = decimal(number);
+                return other == null ? null : other.compareTo(decimal);
+            }
+            Object other = current instanceof Enum<?> element ? element.name() : current;
+            if (other != null && value.getClass().isInstance(other) && other instanceof Comparable comparable) {
+                return comparable.compareTo(value);
+            }
+            return null;
+        }
+
+        private Integer compare(long current) {
+            if (beyond != null) {
+                return beyond;
+            } else if (exact) {
+                return Long.compare(current, floor);
+            }
+            return current <= floor ? -1 : 1;
+        }
+
+        boolean test(Object current) {
+            if (decimal != null) {
+                Integer compare = compare(current);
+                return compare != null && compare == 0;
+            }
+            if (current instanceof Enum<?> element) {
+                return value.equals(element.name());
+            }
+            return value.equals(current);
+        }
+
+        private static BigDecimal decimal(Number number) {
+            if (number instanceof BigDecimal decimal) {
+                return decimal;
+            } else if (number instanceof BigInteger integer) {
+                return new BigDecimal(integer);
+            } else if (isIntegral(number)) {
+                return BigDecimal.valueOf(number.longValue());
+            }
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return null;
+            }
+            return new BigDecimal(number.toString());
+        }
+    }
+
+    private static final class Equals<T> implements Predicate<T> {
+
+        private final Function<T, Object> field;
+
+        private final Target target;
+
+        private Equals(Function<T, Object> field, Object value) {
+            this.field = field;
+            this.target = new Target(value);
+        }
+
+        @Override
+        public boolean test(T entity) {
+            Object current = field.apply(entity);
+            return current != null && target.test(current);
+        }
+    }
+
+    private static final class Compare<T> implements Predicate<T> {
+
+        private final Function<T, Object> field;
+
+        private final Target target;
+
+        private final int min;
+
+        private final int max;
+
+        private Compare(Function<T, Object> field, Object value, int min, int max) {
+            this.field = field;
+            this.target = new Target(value);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            Object current = field.apply(entity);
+            if (current == null) {
+                return false;
+            }
+            Integer compare = target.compare(current);
+            if (compare == null) {
+                return false;
+            }
+            int signum = Integer.signum(compare);
+            return signum >= min && signum <= max;
+        }
+    }
+
+    private static final class Between<T> implements Predicate<T> {
+
+        private final Compare<T> lower;
+
+        private final Compare<T> upper;
+
+        private Between(Compare<T> lower, Compare<T> upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            return lower.test(entity) && upper.test(entity);
+        }
+    }
+
+    private static final class LongIn<T> implements Predicate<T> {
+
+        private final Function<T, Object> field;
+
+        private final long[] values;
+
+        private LongIn(Function<T, Object> field, long[] values) {
+            this.field = field;
+            this.values = values;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            Object current = field.apply(entity);
+            if (isIntegral(current)) {
+                return Arrays.binarySearch(values, ((Number) current).longValue()) >= 0;
+            } else if (current instanceof Number number) {
+                double value = number.doubleValue();
+                long integral = (long) value;
+                return integral == value && Arrays.binarySearch(values, integral) >= 0;
+            }
+            return false;
+        }
+    }
+
+    private static final class TextIn<T> implements Predicate<T> {
+
+        private final Function<T, Object> field;
+
+        private final Set<String> values;
+
+        private TextIn(Function<T, Object> field, Set<String> values) {
+            this.field = field;
+            this.values = values;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            Object current = field.apply(entity);
+            if (current instanceof String text) {
+                return values.contains(text);
+            } else if (current instanceof Enum<?> element) {
+                return values.contains(element.name());
+            }
+            return false;
+        }
+    }
+
+    private static final class Like<T> implements Predicate<T> {
+
+        private static final int PREFIX = 0;
+
+        private static final int SUFFIX = 1;
+
+        private static final int CONTAINS = 2;
+
+        private final Function<T, Object> field;
+
+        private final String text;
+
+        private final int type;
+
+        private Like(Function<T, Object> field, String text, int type) {
+            this.field = field;
+            this.text = text;
+            this.type = type;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            if (!(field.apply(entity) instanceof String current)) {
+                return false;
+            }
+            return switch (type) {
+                case PREFIX -> current.startsWith(text);
+                case SUFFIX -> current.endsWith(text);
+                default -> current.contains(text);
+            };
+        }
+    }
+
+    private static final class Regex<T> implements Predicate<T> {
+
+        private final Function<T, Object> field;
+
+        private final Pattern pattern;
+
+        private Regex(Function<T, Object> field, Pattern pattern) {
+            this.field = field;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            return field.apply(entity) instanceof String current && pattern.matcher(current).matches();
+        }
+    }
+
+    private static final class And<T> implements Predicate<T> {
+
+        private final Predicate<T>[] predicates;
+
+        private And(Predicate<T>[] predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            for (Predicate<T> predicate : predicates) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Or<T> implements Predicate<T> {
+
+        private final Predicate<T>[] predicates;
+
+        private Or(Predicate<T>[] predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
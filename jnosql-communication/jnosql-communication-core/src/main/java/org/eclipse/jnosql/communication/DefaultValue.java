@@ -26,8 +26,6 @@ final class DefaultValue  implements Value {
 
     private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
 
-    private static final  TypeReferenceReader REFERENCE_READER = TypeReferenceReaderDecorator.getInstance();
-
     private final Object value;
 
     DefaultValue(Object value) {
@@ -48,12 +46,46 @@ final class DefaultValue  implements Value {
 
     @Override
     public <T> T get(TypeSupplier<T> supplier) {
-        if (REFERENCE_READER.test(Objects.requireNonNull(supplier, "supplier is required"))) {
-            return REFERENCE_READER.convert(supplier, value);
+        TypeReferenceConverter<T> converter = TypeReferenceConverter.of(Objects.requireNonNull(supplier,
+                "supplier is required"));
+        if (converter.isSupported()) {
+            return converter.convert(value);
         }
         throw new UnsupportedOperationException("The type " + supplier + " is not supported");
     }
 
+    @Override
+    public int getAsInt() {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return get(int.class);
+    }
+
+    @Override
+    public long getAsLong() {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return get(long.class);
+    }
+
+    @Override
+    public double getAsDouble() {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        return get(double.class);
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return get(boolean.class);
+    }
+
     @Override
     public boolean isInstanceOf(Class<?> typeClass) {
         Objects.requireNonNull(typeClass, "typeClass is required");
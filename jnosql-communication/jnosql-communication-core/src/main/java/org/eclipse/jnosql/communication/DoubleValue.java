@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} of double
+ */
+final class DoubleValue extends PrimitiveValue {
+
+    private final double value;
+
+    DoubleValue(double value) {
+        super(Double.class);
+        this.value = value;
+    }
+
+    @Override
+    public Object get() {
+        return value;
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public long getAsLong() {
+        return (long) value;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    int hash() {
+        return Double.hashCode(value);
+    }
+}
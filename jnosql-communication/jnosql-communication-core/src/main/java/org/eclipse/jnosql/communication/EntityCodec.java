@@ -0,0 +1,688 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A codec that writes an entity, the name and its {@link Entry} instances, to a compact and schema-less binary format
+ * and reads it back, e.g.: to keep the entities at a cache or at a key-value bucket.
+ * The format starts with a version byte followed by the entity name, the number of entries and each entry.
+ * The lengths and the integers are varints, the field names are written once per encoded entity and then referenced
+ * by their index at the dictionary, and each value starts with a type tag, a list of {@link Entry} is written as
+ * nested entries, and they are read back with the entry factory.
+ * Only the types that the {@link ValueReader} implementations support, plus {@link Instant}, {@link UUID} and
+ * {@code byte[]}, can be written; the enums are written as their names, and the atomic numbers as their values.
+ * A {@link Calendar} is written as its time and time zone, and it is read back as a {@link GregorianCalendar}.
+ * The sizes are checked when an entity is read, thus, invalid bytes fail with a {@link CommunicationException}
+ * instead of allocating the size they declare.
+ *
+ * @param <T> the entity type
+ * @param <E> the entry type
+ */
+public final class EntityCodec<T, E extends Entry> {
+
+    /**
+     * The version of the binary format, the first byte of an encoded entity
+     */
+    public static final byte VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int DOUBLE = 5;
+    private static final int FLOAT = 6;
+    private static final int STRING = 7;
+    private static final int SHORT = 8;
+    private static final int BYTE = 9;
+    private static final int CHAR = 10;
+    private static final int BIG_INTEGER = 11;
+    private static final int BIG_DECIMAL = 12;
+    private static final int BYTES = 13;
+    private static final int LIST = 14;
+    private static final int MAP = 15;
+    private static final int ENTRY = 16;
+    private static final int ENTRIES = 17;
+    private static final int LOCAL_DATE = 18;
+    private static final int LOCAL_TIME = 19;
+    private static final int LOCAL_DATE_TIME = 20;
+    private static final int INSTANT = 21;
+    private static final int DATE = 22;
+    private static final int YEAR = 23;
+    private static final int YEAR_MONTH = 24;
+    private static final int OFFSET_DATE_TIME = 25;
+    private static final int OFFSET_TIME = 26;
+    private static final int ZONED_DATE_TIME = 27;
+    private static final int UUID_TAG = 28;
+    private static final int CALENDAR = 29;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Function<T, String> name;
+
+    private final Function<T, ? extends Iterable<? extends Entry>> entries;
+
+    private final BiFunction<String, List<E>, T> entity;
+
+    private final BiFunction<String, Value, E> entry;
+
+    private EntityCodec(Function<T, String> name, Function<T, ? extends Iterable<? extends Entry>> entries,
+                        BiFunction<String, List<E>, T> entity, BiFunction<String, Value, E> entry) {
+        this.name = name;
+        this.entries = entries;
+        this.entity = entity;
+        this.entry = entry;
+    }
+
+    /**
+     * Creates a codec to an entity type
+     *
+     * @param name    the function that returns the name of the entity
+     * @param entries the function that returns the entries of the entity
+     * @param entity  the function that creates the entity from its name and entries
+     * @param entry   the function that creates an entry from its name and value
+     * @param <T>     the entity type
+     * @param <E>     the entry type
+     * @return a new codec
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <T, E extends Entry> EntityCodec<T, E> of(Function<T, String> name,
+                                                            Function<T, ? extends Iterable<? extends Entry>> entries,
+                                                            BiFunction<String, List<E>, T> entity,
+                                                            BiFunction<String, Value, E> entry) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(entries, "entries is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(entry, "entry is required");
+        return new EntityCodec<>(name, entries, entity, entry);
+    }
+
+    /**
+     * Encodes the entity
+     *
+     * @param entity the entity
+     * @return the encoded entity
+     * @throws NullPointerException          when the entity is null
+     * @throws UnsupportedOperationException when a value has a type that is not supported
+     */
+    public byte[] encode(T entity) {
+        Output output = write(entity);
+        return Arrays.copyOf(output.bytes, output.size);
+    }
+
+    /**
+     * Encodes the entity into the buffer from its current position
+     *
+     * @param entity the entity
+     * @param buffer the buffer
+     * @throws NullPointerException             when either entity or buffer is null
+     * @throws UnsupportedOperationException    when a value has a type that is not supported
+     * @throws java.nio.BufferOverflowException when there is not enough space at the buffer
+     */
+    public void encode(T entity, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is required");
+        Output output = write(entity);
+        buffer.put(output.bytes, 0, output.size);
+    }
+
+    /**
+     * Encodes the entity into the stream
+     *
+     * @param entity the entity
+     * @param stream the stream
+     * @throws NullPointerException          when either entity or stream is null
+     * @throws UnsupportedOperationException when a value has a type that is not supported
+     * @throws CommunicationException        when the stream fails
+     */
+    public void encode(T entity, OutputStream stream) {
+        Objects.requireNonNull(stream, "stream is required");
+        Output output = write(entity);
+        try {
+            stream.write(output.bytes, 0, output.size);
+        } catch (IOException exception) {
+            throw new CommunicationException("There is an error when the entity is written", exception);
+        }
+    }
+
+    /**
+     * Decodes an entity
+     *
+     * @param bytes the encoded entity
+     * @return the entity
+     * @throws NullPointerException   when the bytes is null
+     * @throws CommunicationException when the bytes are not a valid encoded entity
+     */
+    public T decode(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes is required");
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an entity from the current position of the buffer, the position is moved to the end of the entity
+     *
+     * @param buffer the buffer
+     * @return the entity
+     * @throws NullPointerException   when the buffer is null
+     * @throws CommunicationException when the buffer does not have a valid encoded entity
+     */
+    public T decode(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is required");
+        return read(new BufferInput(buffer));
+    }
+
+    /**
+     * Decodes an entity from the stream, it reads exactly the bytes of the entity, thus, a stream might keep several
+     * entities. It reads a byte at a time, so a buffered stream is recommended.
+     *
+     * @param stream the stream
+     * @return the entity
+     * @throws NullPointerException   when the stream is null
+     * @throws CommunicationException when the stream fails or does not have a valid encoded entity
+     */
+    public T decode(InputStream stream) {
+        Objects.requireNonNull(stream, "stream is required");
+        return read(new StreamInput(stream));
+    }
+
+    private Output write(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Output output = new Output();
+        output.write(VERSION);
+        output.writeString(Objects.requireNonNull(name.apply(entity), "name is required"));
+        writeEntries(output, toList(entries.apply(entity)));
+        return output;
+    }
+
+    private void writeEntries(Output output, List<?> values) {
+        output.writeVarint(values.size());
+        for (Object value : values) {
+            Entry current = (Entry) value;
+            output.writeName(current.name());
+            writeValue(output, current.value());
+        }
+    }
+
+    private void writeValue(Output output, Object value) {
+        Object current = value instanceof Value wrapper ? wrapper.get() : value;
+        if (current == null) {
+            output.write(NULL);
+        } else if (current instanceof Boolean bool) {
+            output.write(bool ? TRUE : FALSE);
+        } else if (current instanceof Integer || current instanceof AtomicInteger) {
+            output.write(INT);
+            output.writeSignedVarint(((Number) current).intValue());
+        } else if (current instanceof Long || current instanceof AtomicLong) {
+            output.write(LONG);
+            output.writeSignedVarint(((Number) current).longValue());
+        } else if (current instanceof Double number) {
+            output.write(DOUBLE);
+            output.writeFixed(Double.doubleToRawLongBits(number), Long.BYTES);
+        } else if (current instanceof Float number) {
+            output.write(FLOAT);
+            output.writeFixed(Float.floatToRawIntBits(number), Integer.BYTES);
+        } else if (current instanceof String text) {
+            output.write(STRING);
+            output.writeString(text);
+        } else if (current instanceof Short number) {
+            output.write(SHORT);
+            output.writeSignedVarint(number);
+        } else if (current instanceof Byte number) {
+            output.write(BYTE);
+            output.write(number);
+        } else if (current instanceof Character character) {
+            output.write(CHAR);
+            output.writeVarint(character);
+        } else if (current instanceof BigInteger number) {
+            output.write(BIG_INTEGER);
+            output.writeBytes(number.toByteArray());
+        } else if (current instanceof BigDecimal number) {
+            output.write(BIG_DECIMAL);
+            output.writeSignedVarint(number.scale());
+            output.writeBytes(number.unscaledValue().toByteArray());
+        } else if (current instanceof byte[] bytes) {
+            output.write(BYTES);
+            output.writeBytes(bytes);
+        } else if (current instanceof Enum<?> element) {
+            output.write(STRING);
+            output.writeString(element.name());
+        } else if (current instanceof Entry element) {
+            output.write(ENTRY);
+            output.writeName(element.name());
+            writeValue(output, element.value());
+        } else if (current instanceof Map<?, ?> map) {
+            output.write(MAP);
+            output.writeVarint(map.size());
+            for (Map.Entry<?, ?> element : map.entrySet()) {
+                writeValue(output, element.getKey());
+                writeValue(output, element.getValue());
+            }
+        } else if (current instanceof Iterable<?> iterable) {
+            writeList(output, toList(iterable));
+        } else if (current instanceof Object[] array) {
+            writeList(output, Arrays.asList(array));
+        } else {
+            writeTemporal(output, current);
+        }
+    }
+
+    private void writeList(Output output, List<?> values) {
+        if (!values.isEmpty() && values.stream().allMatch(Entry.class::isInstance)) {
+            output.write(ENTRIES);
+            writeEntries(output, values);
+            return;
+        }
+        output.write(LIST);
+        output.writeVarint(values.size());
+        for (Object element : values) {
+            writeValue(output, element);
+        }
+    }
+
+    private static void writeTemporal(Output output, Object value) {
+        if (value instanceof LocalDate date) {
+            output.write(LOCAL_DATE);
+            output.writeSignedVarint(date.toEpochDay());
+        } else if (value instanceof LocalTime time) {
+            output.write(LOCAL_TIME);
+            output.writeVarint(time.toNanoOfDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            output.write(LOCAL_DATE_TIME);
+            output.writeSignedVarint(dateTime.toLocalDate().toEpochDay());
+            output.writeVarint(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant instant) {
+            output.write(INSTANT);
+            output.writeSignedVarint(instant.getEpochSecond());
+            output.writeVarint(instant.getNano());
+        } else if (value instanceof Date date) {
+            output.write(DATE);
+            output.writeSignedVarint(date.getTime());
+        } else if (value instanceof Calendar calendar) {
+            output.write(CALENDAR);
+            output.writeSignedVarint(calendar.getTimeInMillis());
+            output.writeString(calendar.getTimeZone().getID());
+        } else if (value instanceof Year year) {
+            output.write(YEAR);
+            output.writeSignedVarint(year.getValue());
+        } else if (value instanceof YearMonth yearMonth) {
+            output.write(YEAR_MONTH);
+            output.writeString(yearMonth.toString());
+        } else if (value instanceof OffsetDateTime dateTime) {
+            output.write(OFFSET_DATE_TIME);
+            output.writeString(dateTime.toString());
+        } else if (value instanceof OffsetTime time) {
+            output.write(OFFSET_TIME);
+            output.writeString(time.toString());
+        } else if (value instanceof ZonedDateTime dateTime) {
+            output.write(ZONED_DATE_TIME);
+            output.writeString(dateTime.toString());
+        } else if (value instanceof UUID uuid) {
+            output.write(UUID_TAG);
+            output.writeFixed(uuid.getMostSignificantBits(), Long.BYTES);
+            output.writeFixed(uuid.getLeastSignificantBits(), Long.BYTES);
+        } else {
+            throw new UnsupportedOperationException("The type " + value.getClass()
+                    + " is not supported by the entity codec");
+        }
+    }
+
+    private T read(Input input) {
+        int version = input.read();
+        if (version != VERSION) {
+            throw new CommunicationException("The version " + version + " of the entity codec is not supported");
+        }
+        String entityName = input.readString();
+        return entity.apply(entityName, readEntries(input));
+    }
+
+    private List<E> readEntries(Input input) {
+        int size = input.readSize();
+        List<E> values = new ArrayList<>(Math.min(size, INITIAL_CAPACITY));
+        for (int index = 0; index < size; index++) {
+            values.add(readEntry(input));
+        }
+        return values;
+    }
+
+    private E readEntry(Input input) {
+        String entryName = input.readName();
+        int tag = input.read();
+        Value value = switch (tag) {
+            case TRUE -> Value.ofBoolean(true);
+            case FALSE -> Value.ofBoolean(false);
+            case INT -> Value.ofInt((int) input.readSignedVarint());
+            case LONG -> Value.ofLong(input.readSignedVarint());
+            case DOUBLE -> Value.ofDouble(Double.longBitsToDouble(input.readFixed(Long.BYTES)));
+            default -> Value.of(readValue(input, tag));
+        };
+        return entry.apply(entryName, value);
+    }
+
+    private Object readValue(Input input, int tag) {
+        return switch (tag) {
+            case NULL -> null;
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case INT -> (int) input.readSignedVarint();
+            case LONG -> input.readSignedVarint();
+            case DOUBLE -> Double.longBitsToDouble(input.readFixed(Long.BYTES));
+            case FLOAT -> Float.intBitsToFloat((int) input.readFixed(Integer.BYTES));
+            case STRING -> input.readString();
+            case SHORT -> (short) input.readSignedVarint();
+            case BYTE -> (byte) input.read();
+            case CHAR -> (char) input.readVarint();
+            case BIG_INTEGER -> new BigInteger(input.readBytes());
+            case BIG_DECIMAL -> {
+                int scale = (int) input.readSignedVarint();
+                yield new BigDecimal(new BigInteger(input.readBytes()), scale);
+            }
+            case BYTES -> input.readBytes();
+            case LIST -> {
+                int size = input.readSize();
+                List<Object> values = new ArrayList<>(Math.min(size, INITIAL_CAPACITY));
+                for (int index = 0; index < size; index++) {
+                    values.add(readValue(input, input.read()));
+                }
+                yield values;
+            }
+            case MAP -> {
+                int size = input.readSize();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int index = 0; index < size; index++) {
+                    Object key = readValue(input, input.read());
+                    map.put(key, readValue(input, input.read()));
+                }
+                yield map;
+            }
+            case ENTRY -> readEntry(input);
+            case ENTRIES -> readEntries(input);
+            default -> readTemporal(input, tag);
+        };
+    }
+
+    private static Object readTemporal(Input input, int tag) {
+        return switch (tag) {
+            case LOCAL_DATE -> LocalDate.ofEpochDay(input.readSignedVarint());
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(input.readVarint());
+            case LOCAL_DATE_TIME -> {
+                LocalDate date = LocalDate.ofEpochDay(input.readSignedVarint());
+                yield LocalDateTime.of(date, LocalTime.ofNanoOfDay(input.readVarint()));
+            }
+            case INSTANT -> {
+                long seconds = input.readSignedVarint();
+                yield Instant.ofEpochSecond(seconds, input.readVarint());
+            }
+            case DATE -> new Date(input.readSignedVarint());
+            case CALENDAR -> {
+                long time = input.readSignedVarint();
+                Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(input.readString()));
+                calendar.setTimeInMillis(time);
+                yield calendar;
+            }
+            case YEAR -> Year.of((int) input.readSignedVarint());
+            case YEAR_MONTH -> YearMonth.parse(input.readString());
+            case OFFSET_DATE_TIME -> OffsetDateTime.parse(input.readString());
+            case OFFSET_TIME -> OffsetTime.parse(input.readString());
+            case ZONED_DATE_TIME -> ZonedDateTime.parse(input.readString());
+            case UUID_TAG -> {
+                long most = input.readFixed(Long.BYTES);
+                yield new UUID(most, input.readFixed(Long.BYTES));
+            }
+            default -> throw new CommunicationException("The type tag " + tag + " is not valid at the entity codec");
+        };
+    }
+
+    private static List<?> toList(Iterable<?> iterable) {
+        if (iterable instanceof List<?> list) {
+            return list;
+        }
+        List<Object> values = iterable instanceof Collection<?> collection ?
+                new ArrayList<>(collection.size()) : new ArrayList<>();
+        iterable.forEach(values::add);
+        return values;
+    }
+
+    private static final class Output {
+
+        private final Map<String, Integer> names = new HashMap<>();
+
+        private byte[] bytes = new byte[256];
+
+        private int size;
+
+        void write(int value) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length << 1);
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            long current = value;
+            while ((current & ~0x7FL) != 0) {
+                write((int) ((current & 0x7F) | 0x80));
+                current >>>= 7;
+            }
+            write((int) current);
+        }
+
+        void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixed(long value, int length) {
+            for (int index = length - 1; index >= 0; index--) {
+                write((int) (value >>> (index * Byte.SIZE)));
+            }
+        }
+
+        void writeBytes(byte[] values) {
+            writeVarint(values.length);
+            if (size + values.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + values.length));
+            }
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeName(String name) {
+            Integer index = names.get(name);
+            if (index == null) {
+                names.put(name, names.size());
+                writeVarint(0);
+                writeString(name);
+            } else {
+                writeVarint(index + 1L);
+            }
+        }
+    }
+
+    private abstract static class Input {
+
+        private final List<String> names = new ArrayList<>();
+
+        abstract int read();
+
+        abstract byte[] read(int length);
+
+        int remaining() {
+            return Integer.MAX_VALUE;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int current = read();
+                value |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new CommunicationException("The varint is malformed at the entity codec");
+        }
+
+        long readSignedVarint() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readFixed(int length) {
+            long value = 0;
+            for (int index = 0; index < length; index++) {
+                value = (value << Byte.SIZE) | read();
+            }
+            return value;
+        }
+
+        int readSize() {
+            long size = readVarint();
+            if (size < 0 || size > remaining()) {
+                throw new CommunicationException("The size " + size + " is not valid at the entity codec");
+            }
+            return (int) size;
+        }
+
+        byte[] readBytes() {
+            return read(readSize());
+        }
+
+        String readString() {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        String readName() {
+            long index = readVarint();
+            if (index == 0) {
+                String name = readString();
+                names.add(name);
+                return name;
+            }
+            if (index > names.size()) {
+                throw new CommunicationException("The name " + index + " is not at the dictionary of the entity codec");
+            }
+            return names.get((int) index - 1);
+        }
+    }
+
+    private static final class BufferInput extends Input {
+
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        int read() {
+            try {
+                return buffer.get() & 0xFF;
+            } catch (BufferUnderflowException exception) {
+                throw new CommunicationException("The entity is incomplete at the buffer", exception);
+            }
+        }
+
+        @Override
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        @Override
+        byte[] read(int length) {
+            byte[] values = new byte[length];
+            try {
+                buffer.get(values);
+            } catch (BufferUnderflowException exception) {
+                throw new CommunicationException("The entity is incomplete at the buffer", exception);
+            }
+            return values;
+        }
+    }
+
+    private static final class StreamInput extends Input {
+
+        private final InputStream stream;
+
+        StreamInput(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        int read() {
+            try {
+                int value = stream.read();
+                if (value < 0) {
+                    throw new CommunicationException("The entity is incomplete at the stream");
+                }
+                return value;
+            } catch (IOException exception) {
+                throw new CommunicationException("There is an error when the entity is read", exception);
+            }
+        }
+
+        /**
+         * The stream does not tell its size, thus, the bytes are read in chunks instead of allocating the length.
+         */
+        @Override
+        byte[] read(int length) {
+            try {
+                byte[] values = stream.readNBytes(length);
+                if (values.length < length) {
+                    throw new CommunicationException("The entity is incomplete at the stream");
+                }
+                return values;
+            } catch (IOException exception) {
+                throw new CommunicationException("There is an error when the entity is read", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The field names of the entities of a collection, each name is kept once and has a slot, thus, the entities created
+ * from the same schema keep only their values, in an array indexed by the slot, instead of a map per entity.
+ * The slots are never removed and a new field name receives the next slot, so a schema might be shared between
+ * threads and entities.
+ *
+ * @see EntitySchema#of(String)
+ */
+public final class EntitySchema {
+
+    private final String name;
+
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    private volatile String[] fields = new String[0];
+
+    private EntitySchema(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the name of the collection
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the number of field names
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * @return the field names ordered by slot
+     */
+    public List<String> fields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * Returns the slot of the field, the field is included when it is not at the schema yet
+     *
+     * @param field the field name
+     * @return the slot of the field
+     * @throws NullPointerException when the field is null
+     */
+    public int slot(String field) {
+        Objects.requireNonNull(field, "field is required");
+        Integer slot = slots.get(field);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (this) {
+            slot = slots.get(field);
+            if (slot == null) {
+                String[] current = fields;
+                String[] next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = field;
+                fields = next;
+                slot = current.length;
+                slots.put(field, slot);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Returns the slot of the field without including it
+     *
+     * @param field the field name
+     * @return the slot of the field or -1 when the field is not at the schema
+     * @throws NullPointerException when the field is null
+     */
+    public int indexOf(String field) {
+        Objects.requireNonNull(field, "field is required");
+        Integer slot = slots.get(field);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the field name of the slot
+     *
+     * @param slot the slot
+     * @return the field name
+     * @throws IndexOutOfBoundsException when the slot is not at the schema
+     */
+    public String field(int slot) {
+        return fields[slot];
+    }
+
+    @Override
+    public String toString() {
+        return "EntitySchema{" +
+                "name='" + name + '\'' +
+                ", fields=" + Arrays.toString(fields) +
+                '}';
+    }
+
+    /**
+     * Creates a schema to a collection
+     *
+     * @param name the name of the collection
+     * @return a new schema without fields
+     * @throws NullPointerException when the name is null
+     */
+    public static EntitySchema of(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return new EntitySchema(name);
+    }
+}
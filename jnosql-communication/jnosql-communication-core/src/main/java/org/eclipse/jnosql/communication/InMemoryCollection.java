@@ -0,0 +1,687 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * The storage of a collection of entities in memory, the base of the in-memory managers: it keeps the entities by
+ * their id, with an optional time to live, and keeps hash and sorted indexes of the fields, thus, the equals, in and
+ * range conditions read only the candidates instead of every entity.
+ * The values are indexed with the same rules as {@link ConditionPredicates}: the numbers by their numeric value, e.g.:
+ * {@code 10} and {@code 10L} are the same key, and the enums by their name.
+ * The readers never lock: the indexes are updated before an entity is stored and cleaned after it is replaced, thus,
+ * the candidates of a lookup might have more entities than the ones that match, which the caller filters, but never
+ * fewer. The writers lock only the stripe of the id that they change.
+ * A sorted index on the id keeps the entities sorted by id, thus, the range conditions on the id read only the
+ * entities at the range, and the ids must be comparable.
+ * The expirations are kept at a {@link TimingWheel}, and the size is a counter, thus, it is O(1). The wheel is
+ * advanced only when it has keys, and once per tick of the clock by the thread that claims the tick, thus, the writes
+ * of the entities without a time to live never lock it; the reads skip the expired entities that are not removed yet.
+ * The entities returned are the stored ones, the caller must not change them.
+ *
+ * @param <T> the entity type
+ */
+public final class InMemoryCollection<T> {
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private static final int STRIPES = 64;
+
+    /**
+     * The order of the keys: the numbers, then the texts, then the booleans and then the other comparable types,
+     * grouped by type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> ORDER = (value, other) -> {
+        int rank = Integer.compare(rank(value), rank(other));
+        if (rank != 0) {
+            return rank;
+        } else if (value instanceof Number number && other instanceof Number otherNumber) {
+            return compare(number, otherNumber);
+        } else if (!value.getClass().equals(other.getClass())) {
+            return value.getClass().getName().compareTo(other.getClass().getName());
+        } else if (value instanceof Comparable comparable) {
+            return comparable.compareTo(other);
+        }
+        return 0;
+    };
+
+    private final String id;
+
+    private final BiFunction<T, String, Object> reader;
+
+    private final LongSupplier clock;
+
+    private final Map<Object, Item<T>> items;
+
+    private final boolean sortedKeys;
+
+    private final Map<String, HashIndex> hashIndexes = new HashMap<>();
+
+    private final Map<String, SortedIndex> sortedIndexes = new HashMap<>();
+
+    private final Object[] locks = new Object[STRIPES];
+
+    private final TimingWheel<Object> wheel;
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final AtomicLong advanced;
+
+    private InMemoryCollection(String id, Collection<String> hash, Collection<String> sorted,
+                               BiFunction<T, String, Object> reader, LongSupplier clock) {
+        this.id = id;
+        this.reader = reader;
+        this.clock = clock;
+        this.sortedKeys = sorted.contains(id);
+        this.items = sortedKeys ? new ConcurrentSkipListMap<>(ORDER) : new ConcurrentHashMap<>();
+        this.wheel = TimingWheel.of(1, clock.getAsLong());
+        this.advanced = new AtomicLong(clock.getAsLong());
+        hash.forEach(field -> hashIndexes.put(field, new HashIndex()));
+        sorted.stream().filter(field -> !id.equals(field))
+                .forEach(field -> sortedIndexes.put(field, new SortedIndex()));
+        for (int index = 0; index < STRIPES; index++) {
+            locks[index] = new Object();
+        }
+    }
+
+    /**
+     * Creates a collection
+     *
+     * @param id     the field that identifies the entity
+     * @param hash   the fields with a hash index
+     * @param sorted the fields with a sorted index
+     * @param reader reads the value of a field from the entity, returning null when there is no field
+     * @param <T>    the entity type
+     * @return a new collection
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> InMemoryCollection<T> of(String id, Collection<String> hash, Collection<String> sorted,
+                                               BiFunction<T, String, Object> reader) {
+        return of(id, hash, sorted, reader, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a collection from the {@link InMemoryConfigurations} of the settings
+     *
+     * @param name     the name of the collection, the suffix of the index configurations
+     * @param settings the settings
+     * @param reader   reads the value of a field from the entity, returning null when there is no field
+     * @param <T>      the entity type
+     * @return a new collection
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> InMemoryCollection<T> of(String name, Settings settings, BiFunction<T, String, Object> reader) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(settings, "settings is required");
+        String id = settings.get(InMemoryConfigurations.ID, String.class).orElse(InMemoryConfigurations.DEFAULT_ID);
+        return of(id, fields(settings, InMemoryConfigurations.HASH_INDEX, name),
+                fields(settings, InMemoryConfigurations.SORTED_INDEX, name), reader);
+    }
+
+    /**
+     * Creates a collection from the {@link InMemoryConfigurations} of the settings, whose entities are sorted by id,
+     * e.g.: the column families; it is only an order by id, there is no partitioning.
+     *
+     * @param name     the name of the collection, the suffix of the index configurations
+     * @param settings the settings
+     * @param reader   reads the value of a field from the entity, returning null when there is no field
+     * @param <T>      the entity type
+     * @return a new collection
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> InMemoryCollection<T> sorted(String name, Settings settings,
+                                                   BiFunction<T, String, Object> reader) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(settings, "settings is required");
+        String id = settings.get(InMemoryConfigurations.ID, String.class).orElse(InMemoryConfigurations.DEFAULT_ID);
+        List<String> sorted = fields(settings, InMemoryConfigurations.SORTED_INDEX, name);
+        sorted.add(id);
+        return of(id, fields(settings, InMemoryConfigurations.HASH_INDEX, name), sorted, reader);
+    }
+
+    static <T> InMemoryCollection<T> of(String id, Collection<String> hash, Collection<String> sorted,
+                                        BiFunction<T, String, Object> reader, LongSupplier clock) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(hash, "hash is required");
+        Objects.requireNonNull(sorted, "sorted is required");
+        Objects.requireNonNull(reader, "reader is required");
+        return new InMemoryCollection<>(id, hash, sorted, reader, clock);
+    }
+
+    /**
+     * @return the field that identifies the entity
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the id of the entity
+     *
+     * @param entity the entity
+     * @return the id or null when the entity does not have one
+     * @throws NullPointerException when entity is null
+     */
+    public Object key(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return normalize(reader.apply(entity, id));
+    }
+
+    /**
+     * Stores the entity, replacing the one with the same id
+     *
+     * @param entity the entity
+     * @param ttl    the time to live, or null when the entity does not expire
+     * @throws NullPointerException     when entity is null
+     * @throws IllegalArgumentException when the entity does not have id or the ttl is negative
+     */
+    public void put(T entity, Duration ttl) {
+        Object key = requireKey(entity);
+        if (ttl != null && ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        expire();
+        long expiration = ttl == null ? NO_EXPIRATION : expiration(ttl);
+        synchronized (lock(key)) {
+            store(key, entity, expiration);
+        }
+    }
+
+    /**
+     * Stores the entity, replacing the one with the same id and keeping its expiration
+     *
+     * @param entity the entity
+     * @throws NullPointerException     when entity is null
+     * @throws IllegalArgumentException when the entity does not have id
+     */
+    public void update(T entity) {
+        Object key = requireKey(entity);
+        expire();
+        synchronized (lock(key)) {
+            Item<T> current = alive(items.get(key));
+            store(key, entity, current == null ? NO_EXPIRATION : current.expiration);
+        }
+    }
+
+    /**
+     * Replaces the entity of the id with the result of the change, keeping its expiration
+     *
+     * @param key    the id
+     * @param change the change, it receives the stored entity and returns the new one with the same id
+     * @return true when there is an entity with the id
+     * @throws NullPointerException when there is null parameter
+     */
+    public boolean update(Object key, UnaryOperator<T> change) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(change, "change is required");
+        Object normalized = normalize(key);
+        synchronized (lock(normalized)) {
+            Item<T> current = alive(items.get(normalized));
+            if (current == null) {
+                return false;
+            }
+            store(normalized, Objects.requireNonNull(change.apply(current.entity), "entity is required"),
+                    current.expiration);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the entity
+     *
+     * @param key the id
+     * @return true when there was an entity with the id
+     * @throws NullPointerException when key is null
+     */
+    public boolean remove(Object key) {
+        Objects.requireNonNull(key, "key is required");
+        Object normalized = normalize(key);
+        synchronized (lock(normalized)) {
+            Item<T> current = items.remove(normalized);
+            if (current != null) {
+                size.decrementAndGet();
+                if (current.expiration != NO_EXPIRATION) {
+                    wheel.cancel(normalized);
+                }
+                unindex(normalized, current.entity, null);
+            }
+            return alive(current) != null;
+        }
+    }
+
+    /**
+     * Removes every entity
+     */
+    public void clear() {
+        new ArrayList<>(items.keySet()).forEach(this::remove);
+    }
+
+    /**
+     * @return the number of entities that did not expire
+     */
+    public long size() {
+        expire();
+        return size.get();
+    }
+
+    /**
+     * @return the entities that did not expire
+     */
+    public Stream<T> values() {
+        long now = clock.getAsLong();
+        return items.values().stream().filter(item -> item.expiration > now).map(item -> item.entity);
+    }
+
+    /**
+     * Returns the entities of the ids
+     *
+     * @param keys the ids
+     * @return the entities that did not expire
+     * @throws NullPointerException when keys is null
+     */
+    public Stream<T> values(Collection<?> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        long now = clock.getAsLong();
+        return keys.stream().map(InMemoryCollection::normalize).distinct().map(items::get)
+                .filter(item -> item != null && item.expiration > now).map(item -> item.entity);
+    }
+
+    /**
+     * Finds the ids of the entities whose field might be equal to one of the values, from the id or from an index.
+     *
+     * @param field  the field
+     * @param values the values
+     * @return the candidates or null when the field has no index
+     * @throws NullPointerException when there is null parameter
+     */
+    public Set<Object> keys(String field, Collection<?> values) {
+        Objects.requireNonNull(field, "field is required");
+        Objects.requireNonNull(values, "values is required");
+        if (id.equals(field)) {
+            Set<Object> keys = new LinkedHashSet<>();
+            values.forEach(value -> keys.add(normalize(value)));
+            return keys;
+        }
+        HashIndex hash = hashIndexes.get(field);
+        if (hash != null) {
+            return hash.keys(values);
+        }
+        SortedIndex sorted = sortedIndexes.get(field);
+        return sorted == null ? null : sorted.keys(values);
+    }
+
+    /**
+     * Finds the ids of the entities whose field might be at the range, from a sorted index.
+     *
+     * @param field          the field
+     * @param lower          the lower bound or null when there is no lower bound
+     * @param lowerInclusive true when the lower bound is at the range
+     * @param upper          the upper bound or null when there is no upper bound
+     * @param upperInclusive true when the upper bound is at the range
+     * @return the candidates or null when the field has no sorted index, or the bounds have different types
+     * @throws NullPointerException when field is null
+     */
+    public Set<Object> keys(String field, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        Objects.requireNonNull(field, "field is required");
+        if (lower == null && upper == null) {
+            return null;
+        } else if (sortedKeys && id.equals(field)) {
+            return range((NavigableMap<Object, Item<T>>) items, normalize(lower), lowerInclusive, normalize(upper),
+                    upperInclusive);
+        }
+        SortedIndex sorted = sortedIndexes.get(field);
+        return sorted == null ? null : sorted.keys(normalize(lower), lowerInclusive, normalize(upper),
+                upperInclusive);
+    }
+
+    /**
+     * Returns a comparator of the entities by the value of a field, the null values are the last ones.
+     * The numbers are compared by their value regardless of their type, and the values of different types by the
+     * type, thus, any two values can be compared.
+     *
+     * @param reader    reads the value of a field from the entity
+     * @param field     the field
+     * @param ascending the direction
+     * @param <T>       the entity type
+     * @return the comparator
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> Comparator<T> comparing(BiFunction<T, String, Object> reader, String field, boolean ascending) {
+        Objects.requireNonNull(reader, "reader is required");
+        Objects.requireNonNull(field, "field is required");
+        Comparator<Object> order = ascending ? ORDER : ORDER.reversed();
+        return Comparator.comparing(entity -> normalize(reader.apply(entity, field)), Comparator.nullsLast(order));
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryCollection{" +
+                "id='" + id + '\'' +
+                ", hashIndexes=" + hashIndexes.keySet() +
+                ", sortedIndexes=" + sortedIndexes.keySet() +
+                ", size=" + items.size() +
+                '}';
+    }
+
+    private Object requireKey(T entity) {
+        Object key = key(entity);
+        if (key == null) {
+            throw new IllegalArgumentException("The entity requires the field " + id + ": " + entity);
+        } else if (sortedKeys && rank(key) == 4) {
+            throw new IllegalArgumentException("The field " + id + " must be comparable: " + key);
+        }
+        return key;
+    }
+
+    private void store(Object key, T entity, long expiration) {
+        for (Map.Entry<String, HashIndex> index : hashIndexes.entrySet()) {
+            index.getValue().add(normalize(reader.apply(entity, index.getKey())), key);
+        }
+        for (Map.Entry<String, SortedIndex> index : sortedIndexes.entrySet()) {
+            index.getValue().add(normalize(reader.apply(entity, index.getKey())), key);
+        }
+        Item<T> previous = items.put(key, new Item<>(entity, expiration));
+        if (previous == null) {
+            size.incrementAndGet();
+        } else {
+            unindex(key, previous.entity, entity);
+        }
+        if (expiration != NO_EXPIRATION) {
+            if (previous == null || previous.expiration != expiration) {
+                wheel.schedule(key, expiration);
+            }
+        } else if (previous != null && previous.expiration != NO_EXPIRATION) {
+            wheel.cancel(key);
+        }
+    }
+
+    private void unindex(Object key, T entity, T current) {
+        for (Map.Entry<String, HashIndex> index : hashIndexes.entrySet()) {
+            Object value = normalize(reader.apply(entity, index.getKey()));
+            if (current == null || !Objects.equals(value, normalize(reader.apply(current, index.getKey())))) {
+                index.getValue().remove(value, key);
+            }
+        }
+        for (Map.Entry<String, SortedIndex> index : sortedIndexes.entrySet()) {
+            Object value = normalize(reader.apply(entity, index.getKey()));
+            if (current == null || !Objects.equals(value, normalize(reader.apply(current, index.getKey())))) {
+                index.getValue().remove(value, key);
+            }
+        }
+    }
+
+    private void expire() {
+        if (wheel.size() == 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long last = advanced.get();
+        if (now <= last || !advanced.compareAndSet(last, now)) {
+            return;
+        }
+        for (Object key : wheel.advance(now)) {
+            synchronized (lock(key)) {
+                Item<T> item = items.get(key);
+                if (item != null && item.expiration <= now) {
+                    items.remove(key);
+                    size.decrementAndGet();
+                    unindex(key, item.entity, null);
+                }
+            }
+        }
+    }
+
+    private Item<T> alive(Item<T> item) {
+        return item == null || item.expiration <= clock.getAsLong() ? null : item;
+    }
+
+    private long expiration(Duration ttl) {
+        long now = clock.getAsLong();
+        long millis = ttl.getSeconds() > Long.MAX_VALUE / 2_000 ? Long.MAX_VALUE / 2 : ttl.toMillis();
+        return now + millis >= NO_EXPIRATION || now + millis < now ? NO_EXPIRATION - 1 : now + millis;
+    }
+
+    private Object lock(Object key) {
+        return locks[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    private static List<String> fields(Settings settings, InMemoryConfigurations configuration, String name) {
+        Object value = settings.get(configuration.get() + "." + name).orElse(null);
+        List<String> fields = new ArrayList<>();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(field -> fields.add(field.toString().trim()));
+        } else if (value != null) {
+            for (String field : value.toString().split(",")) {
+                fields.add(field.trim());
+            }
+        }
+        fields.removeIf(String::isEmpty);
+        return fields;
+    }
+
+    /**
+     * Normalizes a value to its index key: the numbers to a Long, when it has no fraction, or to a Double, and the
+     * enums to their name.
+     */
+    static Object normalize(Object value) {
+        Object current = value instanceof Value wrapper ? wrapper.get() : value;
+        if (current instanceof Enum<?> element) {
+            return element.name();
+        } else if (current instanceof Long || current instanceof String) {
+            return current;
+        } else if (current instanceof Integer || current instanceof Short || current instanceof Byte
+                || current instanceof AtomicInteger || current instanceof AtomicLong) {
+            return ((Number) current).longValue();
+        } else if (current instanceof BigDecimal decimal) {
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException exception) {
+                return decimal.doubleValue();
+            }
+        } else if (current instanceof BigInteger integer) {
+            return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : (Object) integer.doubleValue();
+        } else if (current instanceof Number number) {
+            double decimal = number.doubleValue();
+            long integral = (long) decimal;
+            return integral == decimal && integral != Long.MAX_VALUE && integral != Long.MIN_VALUE
+                    ? (Object) integral : (Object) decimal;
+        }
+        return current;
+    }
+
+    private static int rank(Object value) {
+        if (value instanceof Number) {
+            return 0;
+        } else if (value instanceof String) {
+            return 1;
+        } else if (value instanceof Boolean) {
+            return 2;
+        }
+        return value instanceof Comparable<?> ? 3 : 4;
+    }
+
+    private static int compare(Number number, Number other) {
+        if (number instanceof Long value && other instanceof Long otherValue) {
+            return Long.compare(value, otherValue);
+        }
+        double decimal = number.doubleValue();
+        double otherDecimal = other.doubleValue();
+        int compare = Double.compare(decimal, otherDecimal);
+        if (compare != 0 || Double.isNaN(decimal) || Double.isInfinite(decimal)) {
+            return compare;
+        }
+        return decimal(number).compareTo(decimal(other));
+    }
+
+    private static BigDecimal decimal(Number number) {
+        return number instanceof Long value ? BigDecimal.valueOf(value) : new BigDecimal(number.doubleValue());
+    }
+
+    private static boolean isSameType(Object value, Object other) {
+        int rank = rank(value);
+        return rank == rank(other) && (rank < 3 || value.getClass().equals(other.getClass()));
+    }
+
+    /**
+     * @return the keys at the range with the same type of the bounds, or null when the bounds have different types
+     */
+    private static Set<Object> range(NavigableMap<Object, ?> map, Object lower, boolean lowerInclusive, Object upper,
+                                     boolean upperInclusive) {
+        Object bound = lower == null ? upper : lower;
+        if (rank(bound) == 4 || (lower != null && upper != null && !isSameType(lower, upper))) {
+            return null;
+        }
+        NavigableMap<Object, ?> range;
+        if (lower != null && upper != null) {
+            if (ORDER.compare(lower, upper) > 0) {
+                return Collections.emptySet();
+            }
+            range = map.subMap(lower, lowerInclusive, upper, upperInclusive);
+        } else if (lower != null) {
+            range = map.tailMap(lower, lowerInclusive);
+        } else {
+            range = map.headMap(upper, upperInclusive);
+        }
+        Set<Object> result = new LinkedHashSet<>();
+        for (Object key : range.keySet()) {
+            if (isSameType(key, bound)) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    private static final class Item<T> {
+
+        private final T entity;
+
+        private final long expiration;
+
+        private Item(T entity, long expiration) {
+            this.entity = entity;
+            this.expiration = expiration;
+        }
+    }
+
+    private static final class HashIndex {
+
+        private final Map<Object, Set<Object>> keys = new ConcurrentHashMap<>();
+
+        void add(Object value, Object key) {
+            if (value != null) {
+                keys.compute(value, (k, ids) -> {
+                    Set<Object> current = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    current.add(key);
+                    return current;
+                });
+            }
+        }
+
+        void remove(Object value, Object key) {
+            if (value != null) {
+                keys.computeIfPresent(value, (k, ids) -> {
+                    ids.remove(key);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        Set<Object> keys(Collection<?> values) {
+            Set<Object> result = new HashSet<>();
+            for (Object value : values) {
+                Set<Object> ids = keys.get(normalize(value));
+                if (ids != null) {
+                    result.addAll(ids);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class SortedIndex {
+
+        private final ConcurrentSkipListMap<Object, Set<Object>> keys = new ConcurrentSkipListMap<>(ORDER);
+
+        void add(Object value, Object key) {
+            if (value != null && rank(value) < 4) {
+                synchronized (this) {
+                    keys.computeIfAbsent(value, k -> ConcurrentHashMap.newKeySet()).add(key);
+                }
+            }
+        }
+
+        void remove(Object value, Object key) {
+            if (value != null && rank(value) < 4) {
+                synchronized (this) {
+                    Set<Object> ids = keys.get(value);
+                    if (ids != null && ids.remove(key) && ids.isEmpty()) {
+                        keys.remove(value);
+                    }
+                }
+            }
+        }
+
+        Set<Object> keys(Collection<?> values) {
+            Set<Object> result = new HashSet<>();
+            for (Object value : values) {
+                Object key = normalize(value);
+                Set<Object> ids = key == null || rank(key) == 4 ? null : keys.get(key);
+                if (ids != null) {
+                    result.addAll(ids);
+                }
+            }
+            return result;
+        }
+
+        Set<Object> keys(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+            Set<Object> values = range(keys, lower, lowerInclusive, upper, upperInclusive);
+            if (values == null) {
+                return null;
+            }
+            Set<Object> result = new HashSet<>();
+            for (Object value : values) {
+                Set<Object> ids = keys.get(value);
+                if (ids != null) {
+                    result.addAll(ids);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.function.Supplier;
+
+/**
+ * The configurations of the in-memory databases, the index configurations have the collection name as suffix, e.g.:
+ * {@code jnosql.memory.index.hash.Person=name,city}.
+ *
+ * @see InMemoryCollection#of(String, Settings, java.util.function.BiFunction)
+ */
+public enum InMemoryConfigurations implements Supplier<String> {
+    /**
+     * The field that identifies the entity, the default value is {@code _id}
+     */
+    ID("jnosql.memory.id"),
+    /**
+     * The fields with a hash index, separated by comma, it speeds up the equals and in conditions
+     */
+    HASH_INDEX("jnosql.memory.index.hash"),
+    /**
+     * The fields with a sorted index, separated by comma, it speeds up the equals, in and range conditions
+     */
+    SORTED_INDEX("jnosql.memory.index.sorted"),
+    /**
+     * The maximum number of entries of a bucket, when it is reached the least recently used entries are evicted,
+     * the default value is {@link InMemoryConfigurations#DEFAULT_MAX_SIZE}
+     */
+    MAX_SIZE("jnosql.memory.max.size"),
+    /**
+     * The interval, in milliseconds, of the thread that removes the expired entries of the buckets, the default value
+     * is {@link InMemoryConfigurations#DEFAULT_TICK}
+     */
+    TICK("jnosql.memory.tick");
+
+    /**
+     * The default value of {@link InMemoryConfigurations#ID}
+     */
+    public static final String DEFAULT_ID = "_id";
+
+    /**
+     * The default value of {@link InMemoryConfigurations#MAX_SIZE}
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000_000;
+
+    /**
+     * The default value of {@link InMemoryConfigurations#TICK}
+     */
+    public static final long DEFAULT_TICK = 100L;
+
+    private final String configuration;
+
+    InMemoryConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
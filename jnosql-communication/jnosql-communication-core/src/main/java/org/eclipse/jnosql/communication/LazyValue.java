@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Value} whose information is decoded by a {@link Supplier} when it is read the first time, e.g.: the
+ * payload of a driver that is converted only when the field is mapped. The decoded value is memoised without locking,
+ * thus, when two threads read it at the same time the supplier might be called twice, so it must be idempotent.
+ */
+final class LazyValue implements Value {
+
+    private final Supplier<?> supplier;
+
+    private volatile Value value;
+
+    LazyValue(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Object get() {
+        return value().get();
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        return value().get(type);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> supplier) {
+        return value().get(supplier);
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> type) {
+        return value().isInstanceOf(type);
+    }
+
+    @Override
+    public int getAsInt() {
+        return value().getAsInt();
+    }
+
+    @Override
+    public long getAsLong() {
+        return value().getAsLong();
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value().getAsDouble();
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return value().getAsBoolean();
+    }
+
+    /**
+     * @return true when the supplier was already called
+     */
+    boolean isDecoded() {
+        return value != null;
+    }
+
+    private Value value() {
+        Value decoded = value;
+        if (decoded == null) {
+            Object result = Objects.requireNonNull(supplier.get(), "value is required");
+            decoded = result instanceof Value current ? current : Value.of(result);
+            value = decoded;
+        }
+        return decoded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Value that)) {
+            return false;
+        }
+        return Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        Value decoded = value;
+        return "LazyValue{" + "value=" + (decoded == null ? "<not decoded>" : decoded.get()) +
+                '}';
+    }
+}
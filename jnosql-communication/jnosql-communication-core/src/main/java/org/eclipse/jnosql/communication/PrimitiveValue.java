@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+
+/**
+ * The base of the {@link Value} that keeps a primitive, the conversions to the primitive and its wrapper do not box
+ * the value, the other conversions use the {@link ValueReader} with {@link Value#get()}.
+ */
+abstract class PrimitiveValue implements Value {
+
+    private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+
+    private final Class<?> wrapper;
+
+    PrimitiveValue(Class<?> wrapper) {
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return SERVICE_PROVIDER.read(type, get());
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> supplier) {
+        return Value.of(get()).get(supplier);
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isAssignableFrom(wrapper);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Value that)) {
+            return false;
+        }
+        return Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash();
+    }
+
+    /**
+     * @return the hash code of the wrapper of the primitive, without boxing it
+     */
+    abstract int hash();
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + "value=" + get() +
+                '}';
+    }
+}
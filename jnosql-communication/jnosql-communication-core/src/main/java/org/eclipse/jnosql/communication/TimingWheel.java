@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A hierarchical timing wheel of expirations: each level has 64 slots, the first level a slot per tick and each
+ * next level a slot per the whole span of the level below, thus, scheduling and cancelling are O(1) and advancing
+ * the time costs a step per tick plus the expirations that are due, instead of a scheduled task per key. The ticks
+ * while the lower levels are empty are skipped up to the next slot of the first level with keys.
+ * An expiration beyond the last level waits at its last slot and is placed again when it is reached.
+ * The keys are unique: scheduling a key again replaces its expiration.
+ * The {@link TimingWheel#size()} does not lock, thus, a caller might check it to skip an empty wheel.
+ *
+ * @param <K> the key type
+ */
+public final class TimingWheel<K> {
+
+    private static final int BITS = 6;
+
+    private static final int SLOTS = 1 << BITS;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final int LEVELS = 6;
+
+    private static final long MAX_DELTA = 1L << (BITS * LEVELS);
+
+    private final long tick;
+
+    private final List<Set<K>> slots = new ArrayList<>(SLOTS * LEVELS);
+
+    private final Map<K, Timer> timers = new HashMap<>();
+
+    private final int[] counts = new int[LEVELS];
+
+    private long current;
+
+    private volatile int size;
+
+    private TimingWheel(long tick, long now) {
+        this.tick = tick;
+        this.current = now / tick;
+        for (int index = 0; index < SLOTS * LEVELS; index++) {
+            slots.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Creates a timing wheel
+     *
+     * @param tick the duration of the tick, at the same unit of the times, e.g.: 1 millisecond
+     * @param now  the current time
+     * @param <K>  the key type
+     * @return a new timing wheel
+     * @throws IllegalArgumentException when the tick is not positive
+     */
+    public static <K> TimingWheel<K> of(long tick, long now) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("The tick must be positive: " + tick);
+        }
+        return new TimingWheel<>(tick, now);
+    }
+
+    /**
+     * Schedules the expiration of a key, replacing the previous one
+     *
+     * @param key  the key
+     * @param time the time when the key expires
+     * @throws NullPointerException when key is null
+     */
+    public synchronized void schedule(K key, long time) {
+        Objects.requireNonNull(key, "key is required");
+        cancel(key);
+        Timer timer = new Timer(key, Math.max(ceil(time), current + 1));
+        timers.put(key, timer);
+        place(timer);
+        size = timers.size();
+    }
+
+    /**
+     * Cancels the expiration of a key
+     *
+     * @param key the key
+     * @return true when the key had an expiration
+     * @throws NullPointerException when key is null
+     */
+    public synchronized boolean cancel(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        slots.get(timer.slot).remove(key);
+        counts[timer.slot / SLOTS]--;
+        size = timers.size();
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the time
+     *
+     * @param now the current time
+     * @return the keys that expired, in the order of their expiration
+     */
+    public synchronized List<K> advance(long now) {
+        long target = now / tick;
+        List<K> expired = new ArrayList<>();
+        if (timers.isEmpty()) {
+            current = Math.max(current, target);
+            return expired;
+        }
+        while (current < target && !timers.isEmpty()) {
+            int level = 0;
+            while (level < LEVELS - 1 && counts[level] == 0) {
+                level++;
+            }
+            current = Math.min(target - 1, current | ((1L << (BITS * level)) - 1)) + 1;
+            cascade(1);
+            Set<K> slot = slots.get((int) (current & MASK));
+            for (K key : slot) {
+                timers.remove(key);
+                expired.add(key);
+            }
+            counts[0] -= slot.size();
+            slot.clear();
+        }
+        current = Math.max(current, target);
+        size = timers.size();
+        return expired;
+    }
+
+    /**
+     * @return the number of keys with an expiration
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TimingWheel{" +
+                "tick=" + tick +
+                ", current=" + current +
+                ", size=" + timers.size() +
+                '}';
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS || (current & ((1L << (BITS * level)) - 1)) != 0) {
+            return;
+        }
+        cascade(level + 1);
+        Set<K> slot = slots.get(level * SLOTS + (int) ((current >>> (BITS * level)) & MASK));
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(slot);
+        counts[level] -= keys.size();
+        slot.clear();
+        keys.forEach(key -> place(timers.get(key)));
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.time - current;
+        long time = delta >= MAX_DELTA ? current + MAX_DELTA - 1 : timer.time;
+        int level = 0;
+        while (level < LEVELS - 1 && Math.max(delta, 0) >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        timer.slot = level * SLOTS + (int) ((time >>> (BITS * level)) & MASK);
+        slots.get(timer.slot).add(timer.key);
+        counts[level]++;
+    }
+
+    private long ceil(long time) {
+        long ticks = time / tick;
+        return ticks * tick == time ? ticks : ticks + 1;
+    }
+
+    private final class Timer {
+
+        private final K key;
+
+        private final long time;
+
+        private int slot;
+
+        private Timer(K key, long time) {
+            this.key = key;
+            this.time = time;
+        }
+    }
+}
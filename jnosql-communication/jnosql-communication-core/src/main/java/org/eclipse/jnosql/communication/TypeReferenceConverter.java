@@ -0,0 +1,294 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.eclipse.jnosql.communication.reader.ListTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.MapTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.NavigableSetTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.OptionalTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.QueueTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.SetTypeReferenceReader;
+import org.eclipse.jnosql.communication.reader.StreamTypeReferenceReader;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link TypeSupplier} compiled into a tree of conversions, e.g.: {@code new TypeReference<List<Map<String,
+ * Integer>>>(){}} becomes a list conversion whose element is a map conversion, with the {@link ValueReader} of the
+ * key and of the value already resolved. Thus, the type is inspected once instead of at each conversion, and the
+ * element of a collection, or the value of a map, might be a parameterized type as well.
+ * The {@link TypeReferenceReader} providers keep their precedence: when the first provider that supports a type is
+ * not one of the readers of this module, the conversion of that type is delegated to it.
+ *
+ * @param <T> the type
+ * @see TypeReferenceConverter#of(TypeSupplier)
+ */
+public final class TypeReferenceConverter<T> {
+
+    private static final int MAX_CONVERTERS = 1_000;
+
+    private static final Map<Type, TypeReferenceConverter<?>> CONVERTERS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Type, TypeReferenceConverter<?>> eldest) {
+                    return size() > MAX_CONVERTERS;
+                }
+            });
+
+    private static final ValueReaderDecorator VALUE_READER = ValueReaderDecorator.getInstance();
+
+    private static final Set<Class<?>> READERS = Set.of(ListTypeReferenceReader.class, SetTypeReferenceReader.class,
+            MapTypeReferenceReader.class, StreamTypeReferenceReader.class, OptionalTypeReferenceReader.class,
+            QueueTypeReferenceReader.class, NavigableSetTypeReferenceReader.class);
+
+    private final Type type;
+
+    private final Function<Object, Object> conversion;
+
+    private TypeReferenceConverter(Type type, Function<Object, Object> conversion) {
+        this.type = type;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Returns the compiled conversion of the type. The conversions are cached by type and the cache keeps the
+     * {@value #MAX_CONVERTERS} most recently used ones, thus, an application that creates types at runtime
+     * evicts the least used conversions instead of compiling every type once the cache is full.
+     *
+     * @param supplier the type supplier
+     * @param <T>      the type
+     * @return the {@link TypeReferenceConverter} of the type
+     * @throws NullPointerException when the supplier or its type is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeReferenceConverter<T> of(TypeSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        Type type = Objects.requireNonNull(supplier.get(), "type is required");
+        TypeReferenceConverter<?> converter = CONVERTERS.get(type);
+        if (converter == null) {
+            converter = new TypeReferenceConverter<>(type, compile(type));
+            CONVERTERS.putIfAbsent(type, converter);
+        }
+        return (TypeReferenceConverter<T>) converter;
+    }
+
+    /**
+     * @return the type
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * @return true when the type has a conversion
+     */
+    public boolean isSupported() {
+        return conversion != null;
+    }
+
+    /**
+     * Converts the value to the type
+     *
+     * @param value the value
+     * @return the value converted
+     * @throws UnsupportedOperationException when the type is not supported or the value cannot be converted to it
+     */
+    @SuppressWarnings("unchecked")
+    public T convert(Object value) {
+        if (conversion == null) {
+            throw new UnsupportedOperationException("The type " + type + " is not supported yet");
+        }
+        return (T) conversion.apply(value);
+    }
+
+    /**
+     * Converts the {@link Value} to the type. The built-in values, the ones created by {@link Value#of(Object)},
+     * are converted by this instance; any other {@link Value} implementation keeps its own conversion, thus, it
+     * is asked through {@link Value#get(TypeSupplier)}.
+     *
+     * @param value the value
+     * @return the value converted
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the type is not supported or the value cannot be converted to it
+     */
+    public T convert(Value value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value instanceof DefaultValue || value instanceof PrimitiveValue || value instanceof LazyValue) {
+            return convert(value.get());
+        }
+        TypeSupplier<T> supplier = () -> type;
+        return value.get(supplier);
+    }
+
+    @Override
+    public String toString() {
+        return "TypeReferenceConverter{" +
+                "type=" + type +
+                ", supported=" + isSupported() +
+                '}';
+    }
+
+    private static Function<Object, Object> compile(Type type) {
+        TypeSupplier<?> supplier = () -> type;
+        TypeReferenceReader reader = TypeReferenceReaderDecorator.getInstance().reader(supplier);
+        if (reader != null && !READERS.contains(reader.getClass())) {
+            return value -> reader.convert(supplier, value);
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType) {
+            return compile(rawType, parameterizedType.getActualTypeArguments());
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> compile(Class<?> rawType, Type[] arguments) {
+        if (Map.class.equals(rawType)) {
+            return map(mapElement(arguments[0]), mapElement(arguments[1]));
+        } else if (List.class.equals(rawType) || Iterable.class.equals(rawType)
+                || Collection.class.equals(rawType)) {
+            return collection(element(arguments[0]), ArrayList::new);
+        } else if (Set.class.equals(rawType)) {
+            return collection(element(arguments[0]), HashSet::new);
+        } else if (NavigableSet.class.equals(rawType) || SortedSet.class.equals(rawType)) {
+            if (arguments[0] instanceof Class<?> elementType && Comparable.class.isAssignableFrom(elementType)) {
+                return collection(element(elementType), TreeSet::new);
+            }
+            return null;
+        } else if (Queue.class.equals(rawType) || Deque.class.equals(rawType)) {
+            return collection(element(arguments[0]), LinkedList::new);
+        } else if (Stream.class.equals(rawType)) {
+            return stream(element(arguments[0]));
+        } else if (Optional.class.equals(rawType)) {
+            Function<Object, Object> element = element(arguments[0]);
+            return element == null ? null : value -> Optional.ofNullable(element.apply(value));
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> element(Type type) {
+        if (type instanceof Class<?> elementType) {
+            ValueReader reader = VALUE_READER.reader(elementType);
+            if (reader == null) {
+                return value -> VALUE_READER.read(elementType, value);
+            }
+            return value -> elementType.isInstance(value) ? value : reader.read(elementType, value);
+        }
+        return compile(type);
+    }
+
+    private static Function<Object, Object> mapElement(Type type) {
+        if (type instanceof Class<?> elementType && !VALUE_READER.test(elementType)) {
+            return Function.identity();
+        }
+        return element(type);
+    }
+
+    private static Function<Object, Object> collection(Function<Object, Object> element,
+                                                       Supplier<Collection<Object>> collectionSupplier) {
+        if (element == null) {
+            return null;
+        }
+        return value -> {
+            Collection<Object> collection = collectionSupplier.get();
+            if (value instanceof Iterable<?> iterable) {
+                for (Object item : iterable) {
+                    collection.add(element.apply(item));
+                }
+            } else {
+                collection.add(element.apply(value));
+            }
+            return collection;
+        };
+    }
+
+    private static Function<Object, Object> stream(Function<Object, Object> element) {
+        if (element == null) {
+            return null;
+        }
+        return value -> {
+            if (value instanceof Iterable<?> iterable) {
+                return StreamSupport.stream(iterable.spliterator(), false).map(element);
+            }
+            return Stream.of(element.apply(value));
+        };
+    }
+
+    private static Function<Object, Object> map(Function<Object, Object> key, Function<Object, Object> element) {
+        if (key == null || element == null) {
+            return null;
+        }
+        return value -> {
+            if (value instanceof Map<?, ?> map) {
+                return convert(map, key, element);
+            }
+            if (value instanceof Iterable<?> iterable) {
+                List<Object> items = new ArrayList<>();
+                iterable.forEach(items::add);
+                if (items.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                if (items.size() == 1 && items.get(0) instanceof Map<?, ?> map) {
+                    return convert(map, key, element);
+                }
+                if (items.stream().allMatch(Entry.class::isInstance)) {
+                    Map<String, Object> map = new HashMap<>();
+                    items.forEach(item -> entry((Entry) item, map));
+                    return convert(map, key, element);
+                }
+            }
+            throw new UnsupportedOperationException("There is not supported convert" + value + " a not Map type.");
+        };
+    }
+
+    private static Map<Object, Object> convert(Map<?, ?> map, Function<Object, Object> key,
+                                               Function<Object, Object> element) {
+        Map<Object, Object> converted = new HashMap<>();
+        map.forEach((k, v) -> converted.put(key.apply(k), element.apply(v)));
+        return converted;
+    }
+
+    private static void entry(Entry entry, Map<String, Object> map) {
+        Object value = entry.value().get();
+        if (value instanceof Entry subEntry) {
+            Map<String, Object> subMap = new HashMap<>();
+            entry(subEntry, subMap);
+            map.put(entry.name(), subMap);
+        } else {
+            map.put(entry.name(), value);
+        }
+    }
+}
@@ -22,7 +22,8 @@ import java.util.List;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link TypeReferenceReader}
+ * Decorators of all {@link TypeReferenceReader}. The conversions use the {@link TypeReferenceConverter} of the type,
+ * which is compiled once.
  *
  * @see ValueReader
  */
@@ -44,15 +45,27 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return TypeReferenceConverter.of(type).isSupported();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
+        return TypeReferenceConverter.of(typeReference).convert(value);
+    }
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
-                orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
-        return valueReader.convert(typeReference, value);
+    /**
+     * Returns the first reader that supports the type
+     *
+     * @param type the type
+     * @return the reader or null when there is no reader to the type
+     */
+    TypeReferenceReader reader(TypeSupplier<?> type) {
+        for (TypeReferenceReader reader : readers) {
+            if (reader.test(type)) {
+                return reader;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication;
 
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * It represents an information unit that is to/from a database.
@@ -69,6 +70,46 @@ public interface Value {
      */
     boolean isInstanceOf(Class<?> type);
 
+    /**
+     * Converts {@link Value#get()} to int, the values created by {@link Value#ofInt(int)} do not box it.
+     *
+     * @return the value as int
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default int getAsInt() {
+        return get(int.class);
+    }
+
+    /**
+     * Converts {@link Value#get()} to long, the values created by {@link Value#ofLong(long)} do not box it.
+     *
+     * @return the value as long
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default long getAsLong() {
+        return get(long.class);
+    }
+
+    /**
+     * Converts {@link Value#get()} to double, the values created by {@link Value#ofDouble(double)} do not box it.
+     *
+     * @return the value as double
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default double getAsDouble() {
+        return get(double.class);
+    }
+
+    /**
+     * Converts {@link Value#get()} to boolean, the values created by {@link Value#ofBoolean(boolean)} do not box it.
+     *
+     * @return the value as boolean
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default boolean getAsBoolean() {
+        return get(boolean.class);
+    }
+
 
     /**
      * Creates a new {@link Value} instance
@@ -81,4 +122,62 @@ public interface Value {
         Objects.requireNonNull(value, "value is required");
         return new DefaultValue(value);
     }
+
+    /**
+     * Creates a new {@link Value} instance that keeps the int without boxing it,
+     * {@link Value#get()} returns it as {@link Integer}
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within a value informed
+     */
+    static Value ofInt(int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance that keeps the long without boxing it,
+     * {@link Value#get()} returns it as {@link Long}
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within a value informed
+     */
+    static Value ofLong(long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance that keeps the double without boxing it,
+     * {@link Value#get()} returns it as {@link Double}
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within a value informed
+     */
+    static Value ofDouble(double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} instance of a boolean, {@link Value#get()} returns it as {@link Boolean}
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within a value informed
+     */
+    static Value ofBoolean(boolean value) {
+        return value ? BooleanValue.TRUE : BooleanValue.FALSE;
+    }
+
+    /**
+     * Creates a new {@link Value} instance that calls the supplier only when the value is read the first time, e.g.:
+     * {@link Value#get()} or {@link Value#get(Class)}, and keeps its result for the next reads.
+     * It allows a driver to defer the decoding of the fields that are never read.
+     * The supplier might be called more than once when the value is read concurrently, so it must be idempotent.
+     *
+     * @param supplier the supplier of the information to {@link Value}, it must not return null
+     * @return a {@link Value} instance that decodes the value lazily
+     * @throws NullPointerException when the supplier is null
+     */
+    static Value lazy(Supplier<?> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return new LazyValue(supplier);
+    }
 }
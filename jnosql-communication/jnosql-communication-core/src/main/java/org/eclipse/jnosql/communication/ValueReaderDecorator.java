@@ -19,10 +19,13 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
+ * Decorators of all {@link ValueReader} supported by Jakarta NoSQL.
+ * The first reader that supports a type is resolved once and kept at a {@link ClassValue}, thus, the next reads of
+ * that type do not check the readers again, and the resolution does not prevent the class from being unloaded.
  *
  * @see ValueReader
  */
@@ -30,6 +33,10 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(int.class, Integer.class, long.class, Long.class,
+            double.class, Double.class, float.class, Float.class, boolean.class, Boolean.class, short.class,
+            Short.class, byte.class, Byte.class, char.class, Character.class);
+
     private final List<ValueReader> readers = new ArrayList<>();
 
     {
@@ -38,13 +45,25 @@ public final class ValueReaderDecorator implements ValueReader {
                 .forEach(readers::add);
     }
 
+    private final ClassValue<ValueReader> readersByType = new ClassValue<>() {
+        @Override
+        protected ValueReader computeValue(Class<?> type) {
+            for (ValueReader reader : readers) {
+                if (reader.test(type)) {
+                    return reader;
+                }
+            }
+            return null;
+        }
+    };
+
     public static ValueReaderDecorator getInstance() {
         return INSTANCE;
     }
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return readersByType.get(type) != null;
     }
 
     @Override
@@ -52,11 +71,26 @@ public final class ValueReaderDecorator implements ValueReader {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
-                () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
+        if (type.isPrimitive() && value != null && WRAPPERS.get(type) == value.getClass()) {
+            return (T) value;
+        }
+        ValueReader valueReader = readersByType.get(type);
+        if (valueReader == null) {
+            throw new UnsupportedOperationException("The type " + type + " is not supported yet");
+        }
         return valueReader.read(type, value);
     }
 
+    /**
+     * Returns the first reader that supports the type
+     *
+     * @param type the type
+     * @return the reader or null when there is no reader to the type
+     */
+    ValueReader reader(Class<?> type) {
+        return readersByType.get(type);
+    }
+
     @Override
     public String toString() {
         return "ValueReaderDecorator{" + "readers=" + readers +
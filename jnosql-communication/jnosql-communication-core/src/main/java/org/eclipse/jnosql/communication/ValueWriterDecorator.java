@@ -22,7 +22,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Decorators of all {@link ValueWriter} supported by Diana
+ * Decorators of all {@link ValueWriter} supported by Diana.
+ * The first writer that supports a type is resolved once and kept at a {@link ClassValue}.
  *
  * @param <T> current type
  * @param <S> the converted type
@@ -38,6 +39,18 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
         ValueWriter.getWriters().forEach(writers::add);
     }
 
+    private final ClassValue<ValueWriter> writersByType = new ClassValue<>() {
+        @Override
+        protected ValueWriter computeValue(Class<?> type) {
+            for (ValueWriter writer : writers) {
+                if (writer.test(type)) {
+                    return writer;
+                }
+            }
+            return null;
+        }
+    };
+
     private ValueWriterDecorator() {
     }
 
@@ -47,14 +60,16 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     @Override
     public boolean test(Class<?> type) {
-        return writers.stream().anyMatch(writerField -> writerField.test(type));
+        return writersByType.get(type) != null;
     }
 
     @Override
     public Object write(Object object) {
         Class<?> type = object.getClass();
-        ValueWriter valueWriter = writers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
-                () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
+        ValueWriter valueWriter = writersByType.get(type);
+        if (valueWriter == null) {
+            throw new UnsupportedOperationException("The type " + type + " is not supported yet");
+        }
         return valueWriter.write(object);
     }
 
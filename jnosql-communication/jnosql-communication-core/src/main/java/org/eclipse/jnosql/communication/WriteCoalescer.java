@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Groups the single writes of concurrent callers into bulk writes: each caller waits on its own write while a
+ * flusher thread takes the queued writes and applies them when either the batch size is reached or the window since
+ * the first write of the batch has passed. The writes of every operation, e.g.: insert and update, share a single
+ * queue, and a batch is split into the runs of consecutive writes of the same operation, which are applied in the
+ * order the writes were queued; thus, a write never reaches the database before a write queued earlier.
+ * The results of the bulk write are mapped to the callers by position. When a bulk write fails, it is split in two
+ * halves that are written again, down to a single write, thus, each caller receives either its own result or the
+ * failure of its own entity. Since the database might have applied part of the failed bulk write, the bulk
+ * operations must be safe to be written again, e.g.: an insert that fails at a duplicated key is reported to the
+ * caller of that entity only.
+ * The queue is bounded, when it is full the callers block until the flusher takes the writes, and closing the
+ * coalescer applies the writes already queued.
+ *
+ * @param <T> the entity type
+ */
+public final class WriteCoalescer<T> implements AutoCloseable {
+
+    private final int batchSize;
+
+    private final long window;
+
+    private final BlockingQueue<Write<T>> queue;
+
+    private final Write<T> wakeUp = new Write<>(null, null);
+
+    private final Thread flusher;
+
+    private volatile boolean closed;
+
+    private WriteCoalescer(String name, int batchSize, long window, int capacity) {
+        this.batchSize = batchSize;
+        this.window = window;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flusher = new Thread(this::run, "jnosql-coalescer-" + name);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Creates a coalescer and starts its flusher thread
+     *
+     * @param name      the name of the flusher thread
+     * @param batchSize the maximum number of writes of a bulk write
+     * @param window    the maximum time that a write waits for others before the bulk write
+     * @param capacity  the maximum number of writes waiting at the queue
+     * @param <T>       the entity type
+     * @return a new coalescer
+     * @throws NullPointerException     when either name or window is null
+     * @throws IllegalArgumentException when either the batch size or the capacity is not positive or the window is
+     *                                  negative
+     */
+    public static <T> WriteCoalescer<T> of(String name, int batchSize, Duration window, int capacity) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(window, "window is required");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("The window must not be negative: " + window);
+        }
+        return new WriteCoalescer<>(name, batchSize, window.toNanos(), capacity);
+    }
+
+    /**
+     * Queues the write and waits until it is applied. The consecutive writes with the same bulk operation, the same
+     * instance, are applied at once; the bulk operation returns the results at the same order of the entities.
+     *
+     * @param bulk   the bulk operation
+     * @param entity the entity
+     * @return the result of the write
+     * @throws NullPointerException   when either the bulk operation or the entity is null
+     * @throws IllegalStateException  when the coalescer is closed
+     * @throws CommunicationException when the thread is interrupted while the queue is full
+     */
+    public T write(Function<List<T>, Iterable<T>> bulk, T entity) {
+        Objects.requireNonNull(bulk, "bulk is required");
+        Objects.requireNonNull(entity, "entity is required");
+        if (closed) {
+            throw new IllegalStateException("The coalescer is closed");
+        }
+        Write<T> write = new Write<>(bulk, entity);
+        try {
+            queue.put(write);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for room at the queue", exception);
+        }
+        if (closed && queue.remove(write)) {
+            throw new IllegalStateException("The coalescer is closed");
+        }
+        return write.join();
+    }
+
+    /**
+     * Applies the writes already queued, stops the flusher thread and rejects the next writes
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.offer(wakeUp);
+        if (Thread.currentThread() == flusher) {
+            return;
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Write<T>> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + window;
+                while (batch.size() < batchSize && !closed) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Write<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                batch.remove(wakeUp);
+                flush(batch);
+            } catch (Throwable exception) {
+                batch.forEach(write -> write.fail(exception));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Write<T>> batch) {
+        int start = 0;
+        while (start < batch.size()) {
+            Function<List<T>, Iterable<T>> bulk = batch.get(start).bulk;
+            int end = start + 1;
+            while (end < batch.size() && batch.get(end).bulk == bulk) {
+                end++;
+            }
+            flush(bulk, batch.subList(start, end));
+            start = end;
+        }
+    }
+
+    private void flush(Function<List<T>, Iterable<T>> bulk, List<Write<T>> run) {
+        List<T> entities = new ArrayList<>(run.size());
+        run.forEach(write -> entities.add(write.entity));
+        Iterator<T> results;
+        try {
+            results = bulk.apply(entities).iterator();
+        } catch (RuntimeException exception) {
+            if (run.size() == 1) {
+                run.get(0).fail(exception);
+                return;
+            }
+            int middle = run.size() / 2;
+            flush(bulk, run.subList(0, middle));
+            flush(bulk, run.subList(middle, run.size()));
+            return;
+        }
+        for (Write<T> write : run) {
+            write.complete(results.hasNext() ? results.next() : write.entity);
+        }
+    }
+
+    private static final class Write<T> {
+
+        private final Function<List<T>, Iterable<T>> bulk;
+
+        private final T entity;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Write(Function<List<T>, Iterable<T>> bulk, T entity) {
+            this.bulk = bulk;
+            this.entity = entity;
+        }
+
+        private void complete(T result) {
+            future.complete(result);
+        }
+
+        private void fail(Throwable exception) {
+            future.completeExceptionally(exception);
+        }
+
+        private T join() {
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new CommunicationException("The write has failed", cause);
+            }
+        }
+    }
+}
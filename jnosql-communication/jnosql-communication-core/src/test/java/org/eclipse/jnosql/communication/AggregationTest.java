@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class AggregationTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregation.of(null, "amount"));
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregation.of(AggregationType.SUM, null));
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregation.sum(null));
+    }
+
+    @Test
+    public void shouldCreateAggregation() {
+        Aggregation aggregation = Aggregation.sum("amount");
+        Assertions.assertEquals(AggregationType.SUM, aggregation.type());
+        Assertions.assertEquals(Optional.of("amount"), aggregation.field());
+        Assertions.assertEquals("sum(amount)", aggregation.alias());
+        Assertions.assertEquals(Aggregation.of(AggregationType.SUM, "amount"), aggregation);
+        Assertions.assertEquals(Aggregation.sum("amount").hashCode(), aggregation.hashCode());
+    }
+
+    @Test
+    public void shouldCreateCountAll() {
+        Aggregation aggregation = Aggregation.count();
+        Assertions.assertEquals(AggregationType.COUNT, aggregation.type());
+        Assertions.assertEquals(Optional.empty(), aggregation.field());
+        Assertions.assertEquals("count(*)", aggregation.alias());
+        Assertions.assertNotEquals(Aggregation.count("amount"), aggregation);
+    }
+
+    @Test
+    public void shouldCreateAliases() {
+        Assertions.assertEquals("count(name)", Aggregation.count("name").alias());
+        Assertions.assertEquals("min(age)", Aggregation.min("age").alias());
+        Assertions.assertEquals("max(age)", Aggregation.max("age").alias());
+        Assertions.assertEquals("avg(age)", Aggregation.avg("age").alias());
+        Assertions.assertEquals("avg(age)", Aggregation.avg("age").toString());
+    }
+
+    @Test
+    public void shouldChangeField() {
+        Aggregation aggregation = Aggregation.max("age").to("_age");
+        Assertions.assertEquals(Aggregation.max("_age"), aggregation);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregationsTest {
+
+    private static final BiFunction<Map<String, Object>, String, Object> READER = Map::get;
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregations.fold(null, READER, List.of(),
+                List.of(Aggregation.count())));
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregations.fold(Stream.empty(), null, List.of(),
+                List.of(Aggregation.count())));
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregations.fold(Stream.empty(), READER, null,
+                List.of(Aggregation.count())));
+        Assertions.assertThrows(NullPointerException.class, () -> Aggregations.fold(Stream.empty(), READER,
+                List.of(), null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNothingToAggregate() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Aggregations.fold(Stream.empty(), READER,
+                List.of(), List.of()));
+    }
+
+    @Test
+    public void shouldFoldWithoutGroup() {
+        List<Map<String, Object>> rows = Aggregations.fold(orders(), READER, List.of(),
+                List.of(Aggregation.count(), Aggregation.sum("amount"), Aggregation.min("amount"),
+                        Aggregation.max("amount"), Aggregation.avg("amount")));
+        assertThat(rows).containsExactly(Map.of("count(*)", 4L, "sum(amount)", 60L, "min(amount)", 10,
+                "max(amount)", 30, "avg(amount)", 20D));
+        assertThat(rows.get(0).keySet()).containsExactly("count(*)", "sum(amount)", "min(amount)", "max(amount)",
+                "avg(amount)");
+    }
+
+    @Test
+    public void shouldFoldByGroup() {
+        List<Map<String, Object>> rows = Aggregations.fold(orders(), READER, List.of("customer"),
+                List.of(Aggregation.sum("amount"), Aggregation.count("amount")));
+        assertThat(rows).containsExactly(Map.of("customer", "Ada", "sum(amount)", 40L, "count(amount)", 2L),
+                Map.of("customer", "Diana", "sum(amount)", 20L, "count(amount)", 1L));
+    }
+
+    @Test
+    public void shouldFoldEmptyGroup() {
+        Map<String, Object> row = Aggregations.fold(Stream.<Map<String, Object>>empty(), READER, List.of(),
+                List.of(Aggregation.count(), Aggregation.sum("amount"), Aggregation.max("amount"))).get(0);
+        Assertions.assertEquals(0L, row.get("count(*)"));
+        Assertions.assertNull(row.get("sum(amount)"));
+        Assertions.assertNull(row.get("max(amount)"));
+        Assertions.assertTrue(Aggregations.fold(Stream.<Map<String, Object>>empty(), READER, List.of("customer"),
+                List.of(Aggregation.count())).isEmpty());
+    }
+
+    @Test
+    public void shouldGroupNullValues() {
+        List<Map<String, Object>> rows = Aggregations.fold(orders(), READER, List.of("status"),
+                List.of(Aggregation.count()));
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals("paid", rows.get(0).get("status"));
+        Assertions.assertEquals(3L, rows.get(0).get("count(*)"));
+        Assertions.assertNull(rows.get(1).get("status"));
+        Assertions.assertEquals(1L, rows.get(1).get("count(*)"));
+    }
+
+    @Test
+    public void shouldSumDecimals() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("amount", 1), Map.of("amount", 2.5D),
+                Map.of("amount", BigDecimal.ONE), Map.of("amount", "0.5"));
+        Map<String, Object> row = Aggregations.fold(entities, READER, List.of(),
+                List.of(Aggregation.sum("amount"), Aggregation.avg("amount"))).get(0);
+        Assertions.assertEquals(0, new BigDecimal("5").compareTo((BigDecimal) row.get("sum(amount)")));
+        Assertions.assertEquals(0, new BigDecimal("1.25").compareTo((BigDecimal) row.get("avg(amount)")));
+    }
+
+    @Test
+    public void shouldSumDoubles() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("amount", 1), Map.of("amount", 2.5D),
+                Map.of("amount", "0.5"));
+        Map<String, Object> row = Aggregations.fold(entities, READER, List.of(),
+                List.of(Aggregation.sum("amount"), Aggregation.avg("amount"))).get(0);
+        Assertions.assertEquals(4D, row.get("sum(amount)"));
+        Assertions.assertEquals(4D / 3, row.get("avg(amount)"));
+    }
+
+    @Test
+    public void shouldKeepThePrecisionOfBigNumbers() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("amount", new BigDecimal("12345678901234567.89")),
+                Map.of("amount", new BigDecimal("0.01")), Map.of("amount", BigInteger.TEN));
+        Map<String, Object> row = Aggregations.fold(entities, READER, List.of(),
+                List.of(Aggregation.sum("amount"), Aggregation.avg("amount"))).get(0);
+        Assertions.assertEquals(new BigDecimal("12345678901234577.90"), row.get("sum(amount)"));
+        Assertions.assertEquals(new BigDecimal("4115226300411525.966666666666666667"), row.get("avg(amount)"));
+    }
+
+    @Test
+    public void shouldSumOverflowAsDecimal() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("amount", Long.MAX_VALUE), Map.of("amount", 1L));
+        Object sum = Aggregations.fold(entities, READER, List.of(), List.of(Aggregation.sum("amount")))
+                .get(0).get("sum(amount)");
+        Assertions.assertEquals(Long.MAX_VALUE + 1D, sum);
+    }
+
+    @Test
+    public void shouldFindMinAndMaxOfComparable() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("name", "Diana"), Map.of("name", "Ada"),
+                Map.of("name", "Poliana"));
+        Map<String, Object> row = Aggregations.fold(entities, READER, List.of(),
+                List.of(Aggregation.min("name"), Aggregation.max("name"))).get(0);
+        Assertions.assertEquals("Ada", row.get("min(name)"));
+        Assertions.assertEquals("Poliana", row.get("max(name)"));
+    }
+
+    @Test
+    public void shouldCompareNumbersOfDifferentTypes() {
+        Stream<Map<String, Object>> entities = Stream.of(Map.of("age", 10), Map.of("age", 9L), Map.of("age", 9.5D));
+        Map<String, Object> row = Aggregations.fold(entities, READER, List.of(),
+                List.of(Aggregation.min("age"), Aggregation.max("age"))).get(0);
+        Assertions.assertEquals(9L, row.get("min(age)"));
+        Assertions.assertEquals(10, row.get("max(age)"));
+    }
+
+    @Test
+    public void shouldReturnFields() {
+        assertThat(Aggregations.fields(List.of("customer"), List.of(Aggregation.count(), Aggregation.sum("amount"),
+                Aggregation.max("amount"), Aggregation.min("customer")))).containsExactly("customer", "amount");
+    }
+
+    @Test
+    public void shouldCompareRows() {
+        Map<String, Object> first = Map.of("sum", 10L);
+        Map<String, Object> second = Map.of("sum", 20.5D);
+        Map<String, Object> empty = new HashMap<>();
+        Comparator<Map<String, Object>> ascending = Aggregations.comparing("sum", true);
+        Comparator<Map<String, Object>> descending = Aggregations.comparing("sum", false);
+        assertThat(Stream.of(second, empty, first).sorted(ascending).toList()).containsExactly(first, second, empty);
+        assertThat(Stream.of(first, empty, second).sorted(descending).toList()).containsExactly(second, first, empty);
+    }
+
+    private Stream<Map<String, Object>> orders() {
+        Map<String, Object> noStatus = new HashMap<>();
+        noStatus.put("customer", "Ada");
+        noStatus.put("amount", 30);
+        return Stream.of(Map.of("customer", "Ada", "amount", 10, "status", "paid"),
+                Map.of("customer", "Diana", "amount", 20, "status", "paid"),
+                Map.of("customer", "Ada", "status", "paid"),
+                noStatus);
+    }
+}
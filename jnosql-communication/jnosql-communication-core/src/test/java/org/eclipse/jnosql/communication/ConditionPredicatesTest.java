@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConditionPredicatesTest {
+
+    private static final Function<Map<String, Object>, Object> FIELD = map -> map.get("field");
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> ConditionPredicates.of(null, 1, FIELD)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ConditionPredicates.of(Condition.EQUALS, null, FIELD))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ConditionPredicates.of(Condition.EQUALS, 1, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ConditionPredicates.and(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ConditionPredicates.or(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNotField() {
+        assertThatThrownBy(() -> ConditionPredicates.of(Condition.AND, 1, FIELD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ConditionPredicates.of(Condition.IN, 1, FIELD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ConditionPredicates.of(Condition.BETWEEN, List.of(1), FIELD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldEqualsNumbersOfAnyType() {
+        Predicate<Map<String, Object>> predicate = ConditionPredicates.of(Condition.EQUALS, 10, FIELD);
+        assertThat(predicate).accepts(field(10), field(10L), field((short) 10), field(10D), field(10F),
+                field(BigDecimal.valueOf(10.0)), field(BigInteger.TEN));
+        assertThat(predicate).rejects(field(11), field(10.5), field("10"), Map.of());
+        assertThat(ConditionPredicates.of(Condition.EQUALS, Value.of(10.5), FIELD)).accepts(field(10.5F),
+                field(new BigDecimal("10.50")));
+    }
+
+    @Test
+    public void shouldEqualsTextAndEnum() {
+        assertThat(ConditionPredicates.of(Condition.EQUALS, "Ada", FIELD)).accepts(field("Ada"))
+                .rejects(field("ada"), field(1));
+        assertThat(ConditionPredicates.of(Condition.EQUALS, Month.MAY, FIELD)).accepts(field("MAY"),
+                field(Month.MAY)).rejects(field(Month.JUNE));
+    }
+
+    @Test
+    public void shouldCompare() {
+        assertThat(ConditionPredicates.of(Condition.GREATER_THAN, 10, FIELD)).accepts(field(11), field(10.1))
+                .rejects(field(10), field(9L), field("11"));
+        assertThat(ConditionPredicates.of(Condition.GREATER_EQUALS_THAN, 10, FIELD)).accepts(field(10), field(11))
+                .rejects(field(9));
+        assertThat(ConditionPredicates.of(Condition.LESSER_THAN, 10.5, FIELD)).accepts(field(10), field(10.4F))
+                .rejects(field(10.5), field(11));
+        assertThat(ConditionPredicates.of(Condition.LESSER_EQUALS_THAN, BigDecimal.ONE, FIELD))
+                .accepts(field(1), field(0.5)).rejects(field(2L));
+        LocalDate date = LocalDate.of(2023, 1, 1);
+        assertThat(ConditionPredicates.of(Condition.GREATER_THAN, date, FIELD)).accepts(field(date.plusDays(1)))
+                .rejects(field(date), field("2024-01-01"));
+        assertThat(ConditionPredicates.of(Condition.LESSER_THAN, "b", FIELD)).accepts(field("a"))
+                .rejects(field("c"));
+    }
+
+    @Test
+    public void shouldCompareIntegralFieldsWithFractions() {
+        assertThat(ConditionPredicates.of(Condition.GREATER_THAN, -10.5, FIELD)).accepts(field(-10), field(0L))
+                .rejects(field(-11), field((short) -20));
+        assertThat(ConditionPredicates.of(Condition.LESSER_EQUALS_THAN, new BigDecimal("10.00"), FIELD))
+                .accepts(field(10), field(9L)).rejects(field(11));
+        assertThat(ConditionPredicates.of(Condition.EQUALS, 10.5, FIELD)).rejects(field(10), field(11L));
+        assertThat(ConditionPredicates.of(Condition.LESSER_THAN, new BigDecimal("1e30"), FIELD))
+                .accepts(field(Long.MAX_VALUE)).rejects(field(1e31));
+        assertThat(ConditionPredicates.of(Condition.GREATER_THAN, new BigInteger("-100000000000000000000"), FIELD))
+                .accepts(field(Long.MIN_VALUE));
+        assertThat(ConditionPredicates.of(Condition.GREATER_THAN, new BigDecimal("9223372036854775806.5"), FIELD))
+                .accepts(field(Long.MAX_VALUE)).rejects(field(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void shouldBetween() {
+        Predicate<Map<String, Object>> predicate = ConditionPredicates.of(Condition.BETWEEN, List.of(10, 20), FIELD);
+        assertThat(predicate).accepts(field(10), field(15.5), field(20L)).rejects(field(9), field(21), Map.of());
+    }
+
+    @Test
+    public void shouldIn() {
+        Predicate<Map<String, Object>> predicate = ConditionPredicates.of(Condition.IN, List.of(1, "two"), FIELD);
+        assertThat(predicate).accepts(field(1L), field("two")).rejects(field(2), field("one"));
+        assertThat(ConditionPredicates.of(Condition.IN, List.of(), FIELD)).rejects(field(1));
+    }
+
+    @Test
+    public void shouldInNumbersWithManyValues() {
+        List<Integer> values = IntStream.range(0, 100).map(i -> i * 2).boxed().toList();
+        Predicate<Map<String, Object>> predicate = ConditionPredicates.of(Condition.IN, values, FIELD);
+        assertThat(predicate).accepts(field(0), field(198L), field(4D)).rejects(field(1), field(4.5), field("4"));
+    }
+
+    @Test
+    public void shouldInTextWithManyValues() {
+        List<String> values = IntStream.range(0, 100).mapToObj(i -> "value" + i).toList();
+        Predicate<Map<String, Object>> predicate = ConditionPredicates.of(Condition.IN, values, FIELD);
+        assertThat(predicate).accepts(field("value0"), field("value99")).rejects(field("value100"), field(1));
+    }
+
+    @Test
+    public void shouldLike() {
+        assertThat(ConditionPredicates.of(Condition.LIKE, "Ada", FIELD)).accepts(field("Ada")).rejects(field("Adam"));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "Ad%", FIELD)).accepts(field("Ada"), field("Ad"))
+                .rejects(field("ada"), field(1));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "%da", FIELD)).accepts(field("Ada")).rejects(field("Adam"));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "%d%", FIELD)).accepts(field("Ada")).rejects(field("Ana"));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "A_a%", FIELD)).accepts(field("Ada"), field("Anabel"))
+                .rejects(field("Aa"));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "a.c%", FIELD)).accepts(field("a.cd"))
+                .rejects(field("abcd"));
+        assertThat(ConditionPredicates.of(Condition.LIKE, "%", FIELD)).accepts(field(""), field("Ada"));
+    }
+
+    @Test
+    public void shouldCombine() {
+        Predicate<Map<String, Object>> greater = ConditionPredicates.of(Condition.GREATER_THAN, 10, FIELD);
+        Predicate<Map<String, Object>> lesser = ConditionPredicates.of(Condition.LESSER_THAN, 20, FIELD);
+        Predicate<Map<String, Object>> equals = ConditionPredicates.of(Condition.EQUALS, 30, FIELD);
+        assertThat(ConditionPredicates.and(List.of(greater, lesser))).accepts(field(15)).rejects(field(25));
+        assertThat(ConditionPredicates.or(List.of(ConditionPredicates.and(List.of(greater, lesser)), equals)))
+                .accepts(field(15), field(30)).rejects(field(25));
+        assertThat(ConditionPredicates.and(List.of(greater))).isSameAs(greater);
+        assertThat(ConditionPredicates.and(List.of())).accepts(field(1));
+        assertThat(ConditionPredicates.or(List.of())).rejects(field(1));
+    }
+
+    private static Map<String, Object> field(Object value) {
+        return Map.of("field", value);
+    }
+}
@@ -152,16 +152,13 @@ class DefaultValueTest {
     }
 
     @Test
-    @DisplayName("Should throw UnsupportedOperationException when key has a different object type")
-    @SuppressWarnings("unused")
-    void shouldConvertMapIgnoringKeyValue() {
-        assertThatThrownBy(() -> {
-            Map<Integer, List<String>> map = singletonMap(10, asList("1", "2", "3"));
-            Value value = Value.of(map);
-
-            Map<String, List<String>> result = value.get(new TypeReference<>() {
-            });
-        }).isInstanceOf(UnsupportedOperationException.class)
-                .hasMessage("The type TypeReference{type=java.util.Map<java.lang.String, java.util.List<java.lang.String>>} is not supported");
+    @DisplayName("Should convert the map with a collection as value")
+    void shouldConvertMapWithListValue() {
+        Map<Integer, List<String>> map = singletonMap(10, asList("1", "2", "3"));
+        Value value = Value.of(map);
+
+        Map<String, List<Integer>> result = value.get(new TypeReference<>() {
+        });
+        assertThat(result).isEqualTo(singletonMap("10", asList(1, 2, 3)));
     }
 }
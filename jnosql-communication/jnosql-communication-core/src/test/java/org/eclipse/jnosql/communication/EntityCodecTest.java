@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntityCodecTest {
+
+    private final EntityCodec<Entity, Field> codec = EntityCodec.of(Entity::name, Entity::fields, Entity::new,
+            Field::new);
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> EntityCodec.of(null, Entity::fields, Entity::new, Field::new));
+        assertThrows(NullPointerException.class, () -> EntityCodec.of(Entity::name, null, Entity::new, Field::new));
+        assertThrows(NullPointerException.class, () -> EntityCodec.of(Entity::name, Entity::fields, null, Field::new));
+        assertThrows(NullPointerException.class, () -> EntityCodec.of(Entity::name, Entity::fields, Entity::new,
+                null));
+        assertThrows(NullPointerException.class, () -> codec.encode(null));
+        assertThrows(NullPointerException.class, () -> codec.decode((byte[]) null));
+    }
+
+    @Test
+    public void shouldEncodeSupportedTypes() {
+        UUID uuid = UUID.randomUUID();
+        List<Object> values = List.of("Ada", 10, 20L, 1.5D, 2.5F, (short) 3, (byte) -4, 'c', true, false,
+                BigInteger.valueOf(Long.MAX_VALUE).pow(2), new BigDecimal("-123.456"), LocalDate.of(2023, 1, 2),
+                LocalTime.of(10, 20, 30, 40), LocalDateTime.of(2023, 1, 2, 10, 20), Instant.ofEpochSecond(-10, 5),
+                new Date(1_000L), Year.of(2023), YearMonth.of(2023, 5),
+                OffsetDateTime.of(2023, 1, 2, 10, 20, 0, 0, ZoneOffset.ofHours(2)),
+                OffsetTime.of(10, 20, 0, 0, ZoneOffset.UTC), ZonedDateTime.of(2023, 1, 2, 10, 20, 0, 0, ZoneOffset.UTC),
+                uuid, Integer.MIN_VALUE, Long.MIN_VALUE, "ação");
+        List<Field> fields = new ArrayList<>();
+        for (int index = 0; index < values.size(); index++) {
+            fields.add(new Field("field" + index, Value.of(values.get(index))));
+        }
+        Entity entity = codec.decode(codec.encode(new Entity("entity", fields)));
+        assertThat(entity.name()).isEqualTo("entity");
+        assertThat(entity.fields()).extracting(f -> f.value().get()).containsExactlyElementsOf(values);
+    }
+
+    @Test
+    public void shouldKeepPrimitiveValues() {
+        Entity entity = codec.decode(codec.encode(new Entity("entity", List.of(new Field("age", Value.of(10)),
+                new Field("active", Value.of(true))))));
+        assertThat(entity.fields().get(0).value()).isInstanceOf(IntValue.class);
+        assertThat(entity.fields().get(1).value()).isSameAs(Value.ofBoolean(true));
+    }
+
+    @Test
+    public void shouldEncodeEnumAndAtomicAsValues() {
+        Entity entity = codec.decode(codec.encode(new Entity("entity", List.of(
+                new Field("type", Value.of(Type.BOOK)), new Field("count",
+                        Value.of(new AtomicLong(3)))))));
+        assertThat(entity.fields().get(0).value().get(Type.class)).isEqualTo(Type.BOOK);
+        assertThat(entity.fields().get(1).value().get()).isEqualTo(3L);
+    }
+
+    @Test
+    public void shouldEncodeCollections() {
+        byte[] bytes = new byte[]{1, 2, 3};
+        Entity entity = codec.decode(codec.encode(new Entity("entity", List.of(
+                new Field("list", Value.of(List.of("a", 1, List.of(2L)))),
+                new Field("set", Value.of(Set.of("b"))),
+                new Field("array", Value.of(new Object[]{"c", 4})),
+                new Field("map", Value.of(Map.of("key", Map.of("sub", 5)))),
+                new Field("bytes", Value.of(bytes))))));
+        assertThat(entity.fields().get(0).value().get()).isEqualTo(List.of("a", 1, List.of(2L)));
+        assertThat(entity.fields().get(1).value().get()).isEqualTo(List.of("b"));
+        assertThat(entity.fields().get(2).value().get()).isEqualTo(List.of("c", 4));
+        assertThat(entity.fields().get(3).value().get()).isEqualTo(Map.of("key", Map.of("sub", 5)));
+        assertThat((byte[]) entity.fields().get(4).value().get()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void shouldEncodeNestedEntries() {
+        Field street = new Field("street", Value.of("Main"));
+        Field city = new Field("city", Value.of("Salvador"));
+        Entity entity = codec.decode(codec.encode(new Entity("entity", List.of(
+                new Field("address", Value.of(List.of(street, city))),
+                new Field("main", Value.of(street)),
+                new Field("phones", Value.of(List.of(List.of(new Field("number", Value.of("1"))),
+                        List.of(new Field("number", Value.of("2"))))))))));
+        assertThat(entity.fields().get(0).value().get()).isEqualTo(List.of(street, city));
+        assertThat(entity.fields().get(1).value().get()).isEqualTo(street);
+        assertThat(entity.fields().get(2).value().get()).isEqualTo(List.of(
+                List.of(new Field("number", Value.of("1"))), List.of(new Field("number", Value.of("2")))));
+    }
+
+    @Test
+    public void shouldWriteFieldNamesOnce() {
+        List<Object> phones = List.of(List.of(new Field("phoneNumber", Value.of("1"))),
+                List.of(new Field("phoneNumber", Value.of("2"))));
+        byte[] one = codec.encode(new Entity("entity", List.of(new Field("phones", Value.of(phones.subList(0, 1))))));
+        byte[] two = codec.encode(new Entity("entity", List.of(new Field("phones", Value.of(phones)))));
+        assertThat(two.length - one.length).isLessThan("phoneNumber".length());
+    }
+
+    @Test
+    public void shouldEncodeToBufferAndStream() {
+        Entity first = new Entity("first", List.of(new Field("name", Value.of("Ada"))));
+        Entity second = new Entity("second", List.of(new Field("name", Value.of("Diana"))));
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(first, buffer);
+        codec.encode(second, buffer);
+        buffer.flip();
+        assertThat(codec.decode(buffer)).isEqualTo(first);
+        assertThat(codec.decode(buffer)).isEqualTo(second);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        codec.encode(first, output);
+        codec.encode(second, output);
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+        assertThat(codec.decode(input)).isEqualTo(first);
+        assertThat(codec.decode(input)).isEqualTo(second);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupported() {
+        Entity entity = new Entity("entity", List.of(new Field("value", Value.of(new Object()))));
+        assertThrows(UnsupportedOperationException.class, () -> codec.encode(entity));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBytesAreInvalid() {
+        byte[] bytes = codec.encode(new Entity("entity", List.of(new Field("name", Value.of("Ada")))));
+        assertThrows(CommunicationException.class, () -> codec.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(CommunicationException.class, () -> codec.decode(new ByteArrayInputStream(
+                Arrays.copyOf(bytes, bytes.length - 1))));
+        assertThrows(CommunicationException.class, () -> codec.decode(new byte[]{2}));
+        assertThrows(CommunicationException.class, () -> codec.decode(new byte[]{1, 0, 127}));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsNotValid() {
+        byte[] negative = {1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+        assertThrows(CommunicationException.class, () -> codec.decode(negative));
+        assertThrows(CommunicationException.class, () -> codec.decode(new ByteArrayInputStream(negative)));
+
+        byte[] bigger = {1, 100, 'a'};
+        assertThrows(CommunicationException.class, () -> codec.decode(bigger));
+        assertThrows(CommunicationException.class, () -> codec.decode(new ByteArrayInputStream(bigger)));
+
+        byte[] huge = {1, -1, -1, -1, -1, 7, 'a'};
+        assertThrows(CommunicationException.class, () -> codec.decode(new ByteArrayInputStream(huge)));
+    }
+
+    @Test
+    public void shouldEncodeCalendarWithTimeZone() {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("America/Sao_Paulo"));
+        calendar.setTimeInMillis(1_000L);
+        Entity entity = new Entity("entity", List.of(new Field("calendar", Value.of(calendar))));
+
+        Entity decoded = codec.decode(codec.encode(entity));
+        Object value = decoded.fields().get(0).value().get();
+        assertThat(value).isInstanceOf(GregorianCalendar.class).isEqualTo(calendar);
+        assertThat(((Calendar) value).getTimeZone().getID()).isEqualTo("America/Sao_Paulo");
+    }
+
+    enum Type {
+        BOOK
+    }
+
+    record Entity(String name, List<Field> fields) {
+    }
+
+    record Field(String name, Value value) implements Entry {
+    }
+}
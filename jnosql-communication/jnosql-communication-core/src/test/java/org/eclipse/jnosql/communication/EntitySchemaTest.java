@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntitySchemaTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> EntitySchema.of(null));
+        EntitySchema schema = EntitySchema.of("Person");
+        assertThrows(NullPointerException.class, () -> schema.slot(null));
+        assertThrows(NullPointerException.class, () -> schema.indexOf(null));
+    }
+
+    @Test
+    public void shouldAssignSlots() {
+        EntitySchema schema = EntitySchema.of("Person");
+        assertThat(schema.name()).isEqualTo("Person");
+        assertThat(schema.indexOf("name")).isEqualTo(-1);
+        assertThat(schema.slot("name")).isZero();
+        assertThat(schema.slot("age")).isEqualTo(1);
+        assertThat(schema.slot("name")).isZero();
+        assertThat(schema.indexOf("age")).isEqualTo(1);
+        assertThat(schema.size()).isEqualTo(2);
+        assertThat(schema.field(1)).isEqualTo("age");
+        assertThat(schema.fields()).containsExactly("name", "age");
+        assertThrows(UnsupportedOperationException.class, () -> schema.fields().add("other"));
+    }
+
+    @Test
+    public void shouldAssignSlotsConcurrently() {
+        EntitySchema schema = EntitySchema.of("Person");
+        List<Integer> slots = IntStream.range(0, 1_000).parallel()
+                .map(index -> schema.slot("field" + (index % 100))).boxed().toList();
+        assertThat(schema.size()).isEqualTo(100);
+        assertThat(slots).allMatch(slot -> slot >= 0 && slot < 100);
+        IntStream.range(0, 100).forEach(slot -> assertThat(schema.indexOf(schema.field(slot))).isEqualTo(slot));
+    }
+}
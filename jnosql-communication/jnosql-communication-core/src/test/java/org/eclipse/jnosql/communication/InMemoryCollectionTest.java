@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCollectionTest {
+
+    private static final BiFunction<Map<String, Object>, String, Object> READER = Map::get;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private InMemoryCollection<Map<String, Object>> collection;
+
+    @BeforeEach
+    public void setUp() {
+        collection = InMemoryCollection.of("_id", List.of("name"), List.of("age"), READER, clock::get);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> InMemoryCollection.of(null, List.of(), List.of(), READER))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> InMemoryCollection.of("_id", List.of(), List.of(), null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> collection.put(null, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> collection.put(Map.of("name", "Ada"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> collection.put(entity(1, "Ada", 10), Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldCreateFromSettings() {
+        Settings settings = Settings.builder().put(InMemoryConfigurations.ID.get(), "id")
+                .put(InMemoryConfigurations.HASH_INDEX.get() + ".Person", "name, city")
+                .put(InMemoryConfigurations.SORTED_INDEX.get() + ".Person", List.of("age")).build();
+        InMemoryCollection<Map<String, Object>> person = InMemoryCollection.of("Person", settings, READER);
+        assertThat(person.id()).isEqualTo("id");
+        assertThat(person.toString()).contains("name", "city", "age");
+        assertThat(InMemoryCollection.of("God", settings, READER).toString()).contains("hashIndexes=[]");
+        assertThat(InMemoryCollection.of("God", Settings.builder().build(), READER).id())
+                .isEqualTo(InMemoryConfigurations.DEFAULT_ID);
+    }
+
+    @Test
+    public void shouldPutAndReplace() {
+        collection.put(entity(1, "Ada", 10), null);
+        collection.put(entity(1L, "Poliana", 20), null);
+        assertThat(collection.size()).isEqualTo(1L);
+        assertThat(collection.values(List.of(1))).containsExactly(entity(1L, "Poliana", 20));
+        assertThat(collection.keys("name", List.of("Ada"))).isEmpty();
+        assertThat(collection.keys("name", List.of("Poliana"))).containsExactly(1L);
+        assertThat(collection.keys("age", 10, true, 10, true)).isEmpty();
+    }
+
+    @Test
+    public void shouldFindByHashIndex() {
+        collection.put(entity(1, "Ada", 10), null);
+        collection.put(entity(2, "Ada", 20), null);
+        collection.put(entity(3, "Poliana", 30), null);
+        assertThat(collection.keys("name", List.of("Ada"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(collection.keys("name", List.of("Ada", "Poliana"))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(collection.keys("_id", List.of(2, BigDecimal.ONE))).containsExactly(2L, 1L);
+        assertThat(collection.keys("city", List.of("Salvador"))).isNull();
+    }
+
+    @Test
+    public void shouldFindBySortedIndex() {
+        collection.put(entity(1, "Ada", 10), null);
+        collection.put(entity(2, "Ada", 20.5), null);
+        collection.put(entity(3, "Poliana", 30L), null);
+        collection.put(entity(4, "Diana", "forty"), null);
+        collection.put(entity(5, "Maria", LocalDate.of(2023, 1, 1)), null);
+        assertThat(collection.keys("age", 10, false, null, false)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(collection.keys("age", null, false, 20.5F, true)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(collection.keys("age", 10L, true, 30, false)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(collection.keys("age", "a", true, null, false)).containsExactly(4L);
+        assertThat(collection.keys("age", LocalDate.of(2022, 1, 1), true, null, false)).containsExactly(5L);
+        assertThat(collection.keys("age", List.of(30, "forty"))).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(collection.keys("age", 30, true, 10, true)).isEmpty();
+        assertThat(collection.keys("age", 10, true, "z", true)).isNull();
+        assertThat(collection.keys("name", 10, true, null, true)).isNull();
+    }
+
+    @Test
+    public void shouldFindBySortedId() {
+        InMemoryCollection<Map<String, Object>> sorted = InMemoryCollection.of("_id", List.of(), List.of("_id"),
+                READER, clock::get);
+        sorted.put(entity(3, "Poliana", 30), null);
+        sorted.put(entity(1, "Ada", 10), null);
+        sorted.put(entity(2.5, "Diana", 20), null);
+        sorted.put(entity("four", "Maria", 40), null);
+        assertThat(sorted.values()).extracting(e -> e.get("name")).containsExactly("Ada", "Diana", "Poliana", "Maria");
+        assertThat(sorted.keys("_id", 1, false, 3L, true)).containsExactly(2.5D, 3L);
+        assertThat(sorted.keys("_id", null, false, 3, false)).containsExactly(1L, 2.5D);
+        assertThat(sorted.keys("_id", "a", true, null, false)).containsExactly("four");
+        assertThat(sorted.keys("_id", 1, true, "z", true)).isNull();
+        assertThat(sorted.keys("_id", List.of(3))).containsExactly(3L);
+        assertThat(collection.keys("_id", 1, true, 3, true)).isNull();
+        assertThatThrownBy(() -> sorted.put(entity(new Object(), "Ada", 10), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldCreateSortedFromSettings() {
+        Settings settings = Settings.builder().put(InMemoryConfigurations.SORTED_INDEX.get() + ".Person", "age")
+                .build();
+        InMemoryCollection<Map<String, Object>> person = InMemoryCollection.sorted("Person", settings, READER);
+        person.put(entity(2, "Poliana", 20), null);
+        person.put(entity(1, "Ada", 10), null);
+        assertThat(person.toString()).contains("sortedIndexes=[age]");
+        assertThat(person.keys("_id", 2, true, null, false)).containsExactly(2L);
+        assertThat(person.values()).extracting(e -> e.get("_id")).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldExpire() {
+        collection.put(entity(1, "Ada", 10), Duration.ofSeconds(10));
+        collection.put(entity(2, "Poliana", 20), null);
+        assertThat(collection.size()).isEqualTo(2L);
+        clock.set(10_000);
+        assertThat(collection.values()).containsExactly(entity(2, "Poliana", 20));
+        assertThat(collection.values(List.of(1))).isEmpty();
+        assertThat(collection.size()).isEqualTo(1L);
+        assertThat(collection.keys("name", List.of("Ada"))).isEmpty();
+    }
+
+    @Test
+    public void shouldCountWithoutReadingTheItems() {
+        IntStream.range(0, 100).forEach(index -> collection.put(entity(index, "Ada", index),
+                index % 2 == 0 ? Duration.ofMillis(index + 1) : null));
+        assertThat(collection.size()).isEqualTo(100L);
+        clock.set(50);
+        assertThat(collection.size()).isEqualTo(75L);
+        collection.put(entity(99, "Ada", 99), Duration.ofMillis(1));
+        collection.remove(1L);
+        assertThat(collection.size()).isEqualTo(74L);
+        clock.set(Long.MAX_VALUE / 2);
+        assertThat(collection.size()).isEqualTo(48L);
+    }
+
+    @Test
+    public void shouldKeepExpirationAtUpdate() {
+        collection.put(entity(1, "Ada", 10), Duration.ofSeconds(10));
+        collection.update(entity(1, "Ada", 11));
+        assertThat(collection.update(1, e -> entity(1, "Ada", 12))).isTrue();
+        assertThat(collection.update(2, e -> entity(2, "Poliana", 12))).isFalse();
+        assertThat(collection.values()).containsExactly(entity(1, "Ada", 12));
+        assertThat(collection.keys("age", List.of(12))).containsExactly(1L);
+        clock.set(10_000);
+        assertThat(collection.size()).isZero();
+        collection.update(entity(1, "Ada", 13));
+        clock.set(Long.MAX_VALUE / 2);
+        assertThat(collection.size()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldRemove() {
+        collection.put(entity(1, "Ada", 10), null);
+        assertThat(collection.remove(1L)).isTrue();
+        assertThat(collection.remove(1L)).isFalse();
+        assertThat(collection.keys("name", List.of("Ada"))).isEmpty();
+        assertThat(collection.keys("age", 0, true, null, false)).isEmpty();
+        collection.put(entity(2, "Ada", 10), null);
+        collection.clear();
+        assertThat(collection.size()).isZero();
+    }
+
+    @Test
+    public void shouldCompare() {
+        List<Map<String, Object>> entities = new ArrayList<>(List.of(entity(1, "Ada", 20.5), entity(2, "Ada", "a"),
+                entity(3, "Ada", 10L), new HashMap<>(Map.of("_id", 4)), entity(5, "Ada", BigDecimal.ONE)));
+        entities.sort(InMemoryCollection.comparing(READER, "age", true));
+        assertThat(entities).extracting(e -> e.get("_id")).containsExactly(5, 3, 1, 2, 4);
+        Comparator<Map<String, Object>> descending = InMemoryCollection.comparing(READER, "age", false);
+        entities.sort(descending);
+        assertThat(entities).extracting(e -> e.get("_id")).containsExactly(2, 1, 3, 5, 4);
+    }
+
+    @Test
+    public void shouldWriteConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        IntStream.range(0, 1_000).forEach(index -> executor.execute(() -> {
+            collection.put(entity(index % 100, "name" + index % 10, index % 50), null);
+            collection.values().forEach(e -> assertThat(e).containsKey("_id"));
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(collection.size()).isEqualTo(100L);
+        long indexed = IntStream.range(0, 10).mapToLong(i -> collection.keys("name", List.of("name" + i)).size())
+                .sum();
+        assertThat(indexed).isEqualTo(100L);
+    }
+
+    private static Map<String, Object> entity(Object id, String name, Object age) {
+        Map<String, Object> entity = new HashMap<>();
+        entity.put("_id", id);
+        entity.put("name", name);
+        entity.put("age", age);
+        return entity;
+    }
+}
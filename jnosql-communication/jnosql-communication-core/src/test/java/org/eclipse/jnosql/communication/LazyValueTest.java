@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyValueTest {
+
+    @Test
+    public void shouldReturnErrorWhenSupplierIsNull() {
+        assertThrows(NullPointerException.class, () -> Value.lazy(null));
+    }
+
+    @Test
+    public void shouldNotDecodeUntilRead() {
+        AtomicInteger calls = new AtomicInteger();
+        Value value = Value.lazy(() -> {
+            calls.incrementAndGet();
+            return "10";
+        });
+        assertThat(calls).hasValue(0);
+        assertThat(value.toString()).contains("not decoded");
+        assertThat(((LazyValue) value).isDecoded()).isFalse();
+        assertThat(value.get(Integer.class)).isEqualTo(10);
+        assertThat(value.get()).isEqualTo("10");
+        assertThat(value.getAsLong()).isEqualTo(10L);
+        assertThat(value.isInstanceOf(String.class)).isTrue();
+        assertThat(calls).hasValue(1);
+        assertThat(((LazyValue) value).isDecoded()).isTrue();
+        assertThat(value.toString()).contains("10");
+    }
+
+    @Test
+    public void shouldConvertTypeSupplier() {
+        Value value = Value.lazy(() -> List.of("1", "2"));
+        List<Integer> numbers = value.get(new TypeReference<>() {
+        });
+        assertThat(numbers).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldKeepDecodedValue() {
+        Value value = Value.lazy(() -> Value.ofInt(12));
+        assertThat(value.getAsInt()).isEqualTo(12);
+        assertThat(value.get()).isEqualTo(12);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenDecodedValueIsNull() {
+        Value value = Value.lazy(() -> null);
+        assertThrows(NullPointerException.class, value::get);
+    }
+
+    @Test
+    public void shouldBeEqualsToDecodedValue() {
+        Value value = Value.lazy(() -> "Ada");
+        assertThat(value).isEqualTo(Value.of("Ada")).hasSameHashCodeAs(Value.of("Ada"));
+        assertThat(Value.of("Ada")).isEqualTo(value);
+        assertThat(value).isNotEqualTo(Value.of("Diana"));
+    }
+}
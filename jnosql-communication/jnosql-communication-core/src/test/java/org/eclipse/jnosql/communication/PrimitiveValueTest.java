@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveValueTest {
+
+    @Test
+    public void shouldCreateInt() {
+        Value value = Value.ofInt(10);
+        assertEquals(10, value.getAsInt());
+        assertEquals(10L, value.getAsLong());
+        assertEquals(10D, value.getAsDouble());
+        assertEquals(10, value.get());
+        assertEquals("10", value.get(String.class));
+        assertThat(value.get(BigDecimal.class)).isEqualByComparingTo(BigDecimal.TEN);
+        assertEquals(10, value.get(int.class));
+    }
+
+    @Test
+    public void shouldCreateLong() {
+        Value value = Value.ofLong(20L);
+        assertEquals(20, value.getAsInt());
+        assertEquals(20L, value.getAsLong());
+        assertEquals(20D, value.getAsDouble());
+        assertEquals(20L, value.get());
+        assertEquals(20, value.get(Integer.class));
+    }
+
+    @Test
+    public void shouldCreateDouble() {
+        Value value = Value.ofDouble(12.5D);
+        assertEquals(12, value.getAsInt());
+        assertEquals(12L, value.getAsLong());
+        assertEquals(12.5D, value.getAsDouble());
+        assertEquals(12.5D, value.get());
+        assertEquals("12.5", value.get(String.class));
+    }
+
+    @Test
+    public void shouldCreateBoolean() {
+        Value value = Value.ofBoolean(true);
+        assertThat(value.getAsBoolean()).isTrue();
+        assertEquals(true, value.get());
+        assertThat(value.get(AtomicBoolean.class).get()).isTrue();
+        assertThat(Value.ofBoolean(false).getAsBoolean()).isFalse();
+        assertThat(Value.ofBoolean(true)).isSameAs(value);
+    }
+
+    @Test
+    public void shouldBeEqualsToDefaultValue() {
+        assertEquals(Value.of(10), Value.ofInt(10));
+        assertEquals(Value.ofInt(10), Value.of(10));
+        assertEquals(Value.of(10).hashCode(), Value.ofInt(10).hashCode());
+        assertEquals(Value.of(20L), Value.ofLong(20L));
+        assertEquals(Value.of(20L).hashCode(), Value.ofLong(20L).hashCode());
+        assertEquals(Value.of(1.5D), Value.ofDouble(1.5D));
+        assertEquals(Value.of(1.5D).hashCode(), Value.ofDouble(1.5D).hashCode());
+        assertEquals(Value.of(true), Value.ofBoolean(true));
+        assertEquals(Value.of(true).hashCode(), Value.ofBoolean(true).hashCode());
+        assertThat(Value.ofInt(10)).isNotEqualTo(Value.ofLong(10L));
+    }
+
+    @Test
+    public void shouldCheckInstance() {
+        Value value = Value.ofInt(10);
+        assertThat(value.isInstanceOf(Integer.class)).isTrue();
+        assertThat(value.isInstanceOf(Number.class)).isTrue();
+        assertThat(value.isInstanceOf(Long.class)).isFalse();
+        assertThrows(NullPointerException.class, () -> value.isInstanceOf(null));
+    }
+
+    @Test
+    public void shouldConvertTypeSupplier() {
+        List<String> values = Value.ofLong(10L).get(new TypeReference<>() {
+        });
+        assertThat(values).containsExactly("10");
+    }
+
+    @Test
+    public void shouldReadPrimitiveFromDefaultValue() {
+        assertEquals(10, Value.of(BigDecimal.TEN).getAsInt());
+        assertEquals(10L, Value.of("10").getAsLong());
+        assertEquals(1.5D, Value.of("1.5").getAsDouble());
+        assertThat(Value.of("true").getAsBoolean()).isTrue();
+        assertThat(Value.of(1).getAsBoolean()).isTrue();
+    }
+
+    @Test
+    public void shouldReadPrimitiveType() {
+        Integer value = 10;
+        assertThat(ValueReaderDecorator.getInstance().read(int.class, value)).isSameAs(value);
+        assertEquals(10L, ValueReaderDecorator.getInstance().read(long.class, value));
+    }
+}
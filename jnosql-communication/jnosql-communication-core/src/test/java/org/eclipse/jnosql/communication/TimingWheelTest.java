@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatThrownBy(() -> TimingWheel.of(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        TimingWheel<String> wheel = TimingWheel.of(1, 0);
+        assertThatThrownBy(() -> wheel.schedule(null, 10)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> wheel.cancel(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldExpireInOrder() {
+        TimingWheel<String> wheel = TimingWheel.of(1, 0);
+        wheel.schedule("Poliana", 20);
+        wheel.schedule("Ada", 10);
+        wheel.schedule("Diana", 30);
+        assertThat(wheel.size()).isEqualTo(3);
+        assertThat(wheel.advance(9)).isEmpty();
+        assertThat(wheel.advance(20)).containsExactly("Ada", "Poliana");
+        assertThat(wheel.advance(100)).containsExactly("Diana");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    public void shouldExpireAtTheNextTickWhenTimeHasPassed() {
+        TimingWheel<String> wheel = TimingWheel.of(10, 100);
+        wheel.schedule("Ada", 50);
+        wheel.schedule("Poliana", 111);
+        assertThat(wheel.advance(109)).isEmpty();
+        assertThat(wheel.advance(110)).containsExactly("Ada");
+        assertThat(wheel.advance(119)).isEmpty();
+        assertThat(wheel.advance(120)).containsExactly("Poliana");
+    }
+
+    @Test
+    public void shouldCancelAndReschedule() {
+        TimingWheel<String> wheel = TimingWheel.of(1, 0);
+        wheel.schedule("Ada", 10);
+        wheel.schedule("Poliana", 10);
+        assertThat(wheel.cancel("Poliana")).isTrue();
+        assertThat(wheel.cancel("Poliana")).isFalse();
+        wheel.schedule("Ada", 5_000);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly("Ada");
+    }
+
+    @Test
+    public void shouldCascadeLongExpirations() {
+        TimingWheel<Long> wheel = TimingWheel.of(1, 0);
+        Random random = new Random(42);
+        List<Long> times = new ArrayList<>();
+        IntStream.range(0, 1_000).forEach(index -> {
+            long time = 1 + (long) (random.nextDouble() * 100_000_000L);
+            times.add(time);
+            wheel.schedule(time, time);
+        });
+        times.sort(Long::compare);
+        List<Long> expired = new ArrayList<>();
+        for (long now = 0; expired.size() < times.size(); now += 7_919) {
+            for (Long key : wheel.advance(now)) {
+                assertThat(key).isLessThanOrEqualTo(now).isGreaterThan(now - 7_919);
+                expired.add(key);
+            }
+        }
+        assertThat(expired).isEqualTo(times.stream().distinct().toList());
+    }
+
+    @Test
+    public void shouldKeepExpirationBeyondTheLastLevel() {
+        TimingWheel<String> wheel = TimingWheel.of(1, 0);
+        long time = 1L << 40;
+        wheel.schedule("Ada", time);
+        assertThat(wheel.advance(time - 1)).isEmpty();
+        assertThat(wheel.advance(time)).containsExactly("Ada");
+    }
+}
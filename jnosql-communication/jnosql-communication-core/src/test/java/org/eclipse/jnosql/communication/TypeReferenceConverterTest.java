@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TypeReferenceConverterTest {
+
+    @Test
+    public void shouldReturnErrorWhenSupplierIsNull() {
+        assertThrows(NullPointerException.class, () -> TypeReferenceConverter.of(null));
+    }
+
+    @Test
+    public void shouldReuseConverter() {
+        TypeReferenceConverter<List<Integer>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        TypeReferenceConverter<List<Integer>> other = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter).isSameAs(other);
+        assertThat(converter.isSupported()).isTrue();
+    }
+
+    @Test
+    public void shouldConvertList() {
+        TypeReferenceConverter<List<Integer>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter.convert(List.of("1", 2L, BigDecimal.TEN))).containsExactly(1, 2, 10);
+        assertThat(converter.convert("3")).containsExactly(3);
+    }
+
+    @Test
+    public void shouldConvertListOfMaps() {
+        TypeReferenceConverter<List<Map<String, Integer>>> converter = TypeReferenceConverter.of(
+                new TypeReference<>() {
+                });
+        List<Map<String, Integer>> maps = converter.convert(List.of(Map.of("age", "10"), Map.of("age", 20L)));
+        assertThat(maps).containsExactly(Map.of("age", 10), Map.of("age", 20));
+    }
+
+    @Test
+    public void shouldConvertListOfEntries() {
+        TypeReferenceConverter<List<Map<String, Integer>>> converter = TypeReferenceConverter.of(
+                new TypeReference<>() {
+                });
+        List<Entry> first = List.of(new EntryTest("age", Value.of("10")), new EntryTest("salary", Value.of(20L)));
+        List<Entry> second = List.of(new EntryTest("age", Value.of(30)));
+        assertThat(converter.convert(List.of(first, second)))
+                .containsExactly(Map.of("age", 10, "salary", 20), Map.of("age", 30));
+    }
+
+    @Test
+    public void shouldConvertMapOfCollections() {
+        TypeReferenceConverter<Map<String, Set<Long>>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        Map<String, Set<Long>> map = converter.convert(Map.of("ids", List.of("1", 2, "1")));
+        assertThat(map).isEqualTo(Map.of("ids", Set.of(1L, 2L)));
+    }
+
+    @Test
+    public void shouldKeepMapValueWithoutReader() {
+        TypeReferenceConverter<Map<String, Object>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        Object value = new Object();
+        assertThat(converter.convert(Map.of("value", value))).containsEntry("value", value);
+        assertThat(converter.convert(List.of())).isEmpty();
+        assertThatThrownBy(() -> converter.convert("value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldConvertNestedTypes() {
+        TypeReferenceConverter<Optional<Queue<SortedSet<String>>>> converter = TypeReferenceConverter.of(
+                new TypeReference<>() {
+                });
+        Optional<Queue<SortedSet<String>>> optional = converter.convert(List.of(List.of("b", "a"), "c"));
+        assertThat(optional).isPresent();
+        assertThat(optional.get()).containsExactly(new TreeSet<>(List.of("a", "b")), new TreeSet<>(List.of("c")));
+    }
+
+    @Test
+    public void shouldConvertStream() {
+        TypeReferenceConverter<Stream<List<Integer>>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter.convert(List.of(List.of("1"), "2"))).containsExactly(List.of(1), List.of(2));
+    }
+
+    @Test
+    public void shouldNotSupport() {
+        TypeReferenceConverter<Integer> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter.isSupported()).isFalse();
+        assertThatThrownBy(() -> converter.convert("1")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(TypeReferenceConverter.of(new TypeReference<SortedSet<Map<String, String>>>() {
+        }).isSupported()).isFalse();
+        assertThat(TypeReferenceConverter.of(new TypeReference<List<?>>() {
+        }).isSupported()).isFalse();
+    }
+
+    @Test
+    public void shouldConvertFromValue() {
+        Value value = Value.of(List.of(Map.of("age", "10")));
+        List<Map<String, Integer>> maps = value.get(new TypeReference<>() {
+        });
+        assertThat(maps).containsExactly(Map.of("age", 10));
+        assertThat(TypeReferenceReaderDecorator.getInstance().test(new TypeReference<List<Map<String, Integer>>>() {
+        })).isTrue();
+    }
+
+    @Test
+    public void shouldConvertBuiltInValue() {
+        TypeReferenceConverter<List<Integer>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter.convert(Value.of(List.of("1", 2L)))).containsExactly(1, 2);
+        assertThat(converter.convert(Value.lazy(() -> List.of("3")))).containsExactly(3);
+        assertThrows(NullPointerException.class, () -> converter.convert((Value) null));
+    }
+
+    @Test
+    public void shouldKeepConversionOfCustomValue() {
+        TypeReferenceConverter<List<Integer>> converter = TypeReferenceConverter.of(new TypeReference<>() {
+        });
+        assertThat(converter.convert(new CustomValue(List.of(42)))).containsExactly(42);
+    }
+
+    record EntryTest(String name, Value value) implements Entry {
+    }
+
+    record CustomValue(Object value) implements Value {
+
+        @Override
+        public Object get() {
+            throw new UnsupportedOperationException("The raw value is not exposed");
+        }
+
+        @Override
+        public <T> T get(Class<T> type) {
+            throw new UnsupportedOperationException("The raw value is not exposed");
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T get(TypeSupplier<T> supplier) {
+            return (T) value;
+        }
+
+        @Override
+        public boolean isInstanceOf(Class<?> type) {
+            return type.isInstance(value);
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.eclipse.jnosql.communication;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -63,6 +65,26 @@ class ValueReaderDecoratorTest {
         assertFalse(serviceLoader.test(Bean.class));
     }
 
+    @Test
+    @DisplayName("Should reuse the reader of a type to different values")
+    void shouldConvertSameTypeFromDifferentValues() {
+        assertThat(serviceLoader.read(Integer.class, "10")).isEqualTo(10);
+        assertThat(serviceLoader.read(Integer.class, 20L)).isEqualTo(20);
+        assertThat(serviceLoader.read(Integer.class, BigDecimal.valueOf(30))).isEqualTo(30);
+        assertThat(serviceLoader.read(Integer.class, 40)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should keep the error to a type that is not supported")
+    void shouldReturnErrorWhenTypeIsNotSupportedAgain() {
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+        assertThatThrownBy(() -> serviceLoader.read(Bean.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> serviceLoader.read(Bean.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(serviceLoader.read(Bean.class, new Bean())).isInstanceOf(Bean.class);
+    }
+
     static class Bean {
         Bean() {
         }
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteCoalescerTest {
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private final Function<List<String>, Iterable<String>> bulk = entities -> {
+        calls.add("bulk");
+        batches.add(entities);
+        return entities.stream().map(String::toUpperCase).toList();
+    };
+
+    private final Function<List<String>, Iterable<String>> other = entities -> {
+        calls.add("other");
+        batches.add(entities);
+        return entities;
+    };
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Duration window = Duration.ofMillis(1);
+        assertThrows(NullPointerException.class, () -> WriteCoalescer.of(null, 1, window, 1));
+        assertThrows(NullPointerException.class, () -> WriteCoalescer.of("test", 1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> WriteCoalescer.of("test", 0, window, 1));
+        assertThrows(IllegalArgumentException.class, () -> WriteCoalescer.of("test", 1, window, 0));
+        assertThrows(IllegalArgumentException.class, () -> WriteCoalescer.of("test", 1, Duration.ofMillis(-1), 1));
+    }
+
+    @Test
+    public void shouldWriteAfterWindow() {
+        try (WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 100, Duration.ofMillis(1), 100)) {
+            assertThat(coalescer.write(bulk, "ada")).isEqualTo("ADA");
+            assertThat(batches).containsExactly(List.of("ada"));
+            assertThrows(NullPointerException.class, () -> coalescer.write(bulk, null));
+            assertThrows(NullPointerException.class, () -> coalescer.write(null, "ada"));
+        }
+    }
+
+    @Test
+    public void shouldGroupConcurrentWrites() throws Exception {
+        int size = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(size);
+        try (WriteCoalescer<String> coalescer = WriteCoalescer.of("test", size, Duration.ofSeconds(10), 100)) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int index = 0; index < size; index++) {
+                String entity = "entity-" + index;
+                results.add(executor.submit(() -> coalescer.write(bulk, entity)));
+            }
+            for (int index = 0; index < size; index++) {
+                assertThat(results.get(index).get(5, TimeUnit.SECONDS)).isEqualTo("ENTITY-" + index);
+            }
+            assertThat(batches).hasSize(1);
+            assertThat(batches.get(0)).hasSize(size);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldKeepTheOrderOfTheOperations() throws Exception {
+        WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 10, Duration.ofSeconds(30), 10);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        awaitWaiting(write(coalescer, bulk, "first", first));
+        CompletableFuture<String> second = new CompletableFuture<>();
+        awaitWaiting(write(coalescer, other, "second", second));
+        CompletableFuture<String> third = new CompletableFuture<>();
+        awaitWaiting(write(coalescer, bulk, "third", third));
+        coalescer.close();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("FIRST");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("THIRD");
+        assertThat(calls).containsExactly("bulk", "other", "bulk");
+        assertThat(batches).containsExactly(List.of("first"), List.of("second"), List.of("third"));
+    }
+
+    @Test
+    public void shouldReturnTheFailureToTheWriteThatFailed() throws Exception {
+        Function<List<String>, Iterable<String>> failure = entities -> {
+            batches.add(entities);
+            if (entities.contains("diana")) {
+                throw new CommunicationException("diana has failed");
+            }
+            return entities.stream().map(String::toUpperCase).toList();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 2, Duration.ofSeconds(10), 100)) {
+            Future<String> ada = executor.submit(() -> coalescer.write(failure, "ada"));
+            Future<String> diana = executor.submit(() -> coalescer.write(failure, "diana"));
+            assertThat(ada.get(5, TimeUnit.SECONDS)).isEqualTo("ADA");
+            assertThatThrownBy(() -> diana.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CommunicationException.class)
+                    .hasRootCauseMessage("diana has failed");
+            assertThat(batches).hasSize(3);
+            assertThat(batches.get(0)).containsExactlyInAnyOrder("ada", "diana");
+            assertThat(batches.subList(1, 3)).containsExactlyInAnyOrder(List.of("ada"), List.of("diana"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldBlockWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<String>, Iterable<String>> slow = entities -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return bulk.apply(entities);
+        };
+        try (WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 1, Duration.ZERO, 1)) {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> coalescer.write(slow, "first"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> second = new CompletableFuture<>();
+            awaitWaiting(write(coalescer, slow, "second", second));
+            CompletableFuture<String> third = new CompletableFuture<>();
+            Thread blocked = write(coalescer, slow, "third", third);
+            awaitWaiting(blocked);
+            blocked.interrupt();
+            assertThatThrownBy(() -> third.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CommunicationException.class);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("FIRST");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("SECOND");
+            assertThat(batches).containsExactly(List.of("first"), List.of("second"));
+        }
+    }
+
+    @Test
+    public void shouldRejectWritesWhenClosed() {
+        WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 10, Duration.ofMillis(1), 10);
+        coalescer.close();
+        assertThrows(IllegalStateException.class, () -> coalescer.write(bulk, "ada"));
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    public void shouldFlushPendingWritesWhenClosed() throws Exception {
+        WriteCoalescer<String> coalescer = WriteCoalescer.of("test", 10, Duration.ofSeconds(30), 10);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        awaitWaiting(write(coalescer, bulk, "ada", result));
+        coalescer.close();
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ADA");
+        assertThat(batches).containsExactly(List.of("ada"));
+    }
+
+    private Thread write(WriteCoalescer<String> coalescer, Function<List<String>, Iterable<String>> operation,
+                         String entity, CompletableFuture<String> result) {
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(coalescer.write(operation, entity));
+            } catch (RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
@@ -70,4 +70,16 @@ class ValueWriterDecoratorTest {
         assertThatThrownBy(() -> valueWriter.write(Collections.EMPTY_LIST)).isInstanceOf(UnsupportedOperationException.class)
                 .hasMessage("The type class java.util.Collections$EmptyList is not supported yet");
     }
+
+    @Test
+    @DisplayName("Should reuse the writer of a type")
+    @SuppressWarnings("unchecked")
+    void shouldConvertSameTypeAgain() {
+        assertThat(valueWriter.write(Optional.of("diana"))).isEqualTo("diana");
+        assertThat(valueWriter.write(Optional.of("artemis"))).isEqualTo("artemis");
+        assertThatThrownBy(() -> valueWriter.write(Collections.EMPTY_LIST))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> valueWriter.write(Collections.EMPTY_LIST))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
 }
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Aggregations;
 
 import java.util.Collections;
 import java.util.List;
@@ -41,8 +43,18 @@ class DefaultDocumentQuery implements DocumentQuery {
 
     private final List<String> documents;
 
+    private final List<Aggregation> aggregations;
+
+    private final List<String> groupBy;
+
     DefaultDocumentQuery(long limit, long skip, String documentCollection,
                          List<String> documents, List<Sort> sorts, DocumentCondition condition) {
+        this(limit, skip, documentCollection, documents, sorts, condition, Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    DefaultDocumentQuery(long limit, long skip, String documentCollection, List<String> documents, List<Sort> sorts,
+                         DocumentCondition condition, List<Aggregation> aggregations, List<String> groupBy) {
 
         this.limit = limit;
         this.skip = skip;
@@ -50,6 +62,8 @@ class DefaultDocumentQuery implements DocumentQuery {
         this.condition = ofNullable(condition).map(DocumentCondition::readOnly).orElse(null);
         this.sorts = sorts;
         this.documents = documents;
+        this.aggregations = aggregations;
+        this.groupBy = groupBy;
     }
 
     @Override
@@ -82,6 +96,16 @@ class DefaultDocumentQuery implements DocumentQuery {
         return unmodifiableList(documents);
     }
 
+    @Override
+    public List<Aggregation> aggregations() {
+        return unmodifiableList(aggregations);
+    }
+
+    @Override
+    public List<String> groupBy() {
+        return unmodifiableList(groupBy);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -96,12 +120,14 @@ class DefaultDocumentQuery implements DocumentQuery {
                 Objects.equals(documentCollection, that.name()) &&
                 Objects.equals(condition, that.condition().orElse(null)) &&
                 Objects.equals(sorts, that.sorts()) &&
-                Objects.equals(documents, that.documents());
+                Objects.equals(documents, that.documents()) &&
+                Objects.equals(aggregations, that.aggregations()) &&
+                Objects.equals(groupBy, that.groupBy());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents);
+        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents, aggregations, groupBy);
     }
 
     @Override
@@ -112,15 +138,22 @@ class DefaultDocumentQuery implements DocumentQuery {
                 ", condition=" + condition +
                 ", sorts=" + sorts +
                 ", documents=" + documents +
+                ", aggregations=" + aggregations +
+                ", groupBy=" + groupBy +
                 '}';
     }
 
     static DocumentQuery countBy(DocumentQuery query) {
-        return new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+        return new DefaultDocumentQuery(0, 0, query.name(), Collections.emptyList(), Collections.emptyList(),
+                query.condition().orElse(null), List.of(Aggregation.count()), Collections.emptyList());
     }
     static DocumentQuery existsBy(DocumentQuery query) {
         return new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
                 Collections.emptyList(), query.condition().orElse(null));
     }
+
+    static DocumentQuery aggregateBy(DocumentQuery query) {
+        return new DefaultDocumentQuery(0, 0, query.name(), Aggregations.fields(query.groupBy(),
+                query.aggregations()), Collections.emptyList(), query.condition().orElse(null));
+    }
 }
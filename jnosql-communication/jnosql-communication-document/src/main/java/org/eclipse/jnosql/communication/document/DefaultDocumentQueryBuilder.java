@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,10 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final List<Aggregation> aggregations = new ArrayList<>();
+
+    private final List<String> groupBy = new ArrayList<>();
+
     private String documentCollection;
 
     private DocumentCondition condition;
@@ -105,13 +110,37 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         return this;
     }
 
+    @Override
+    public DocumentQuery.DocumentQueryBuilder aggregate(Aggregation... aggregations) {
+        Consumer<Aggregation> validNull = a -> requireNonNull(a, "there is null aggregation in the query");
+        Consumer<Aggregation> consume = this.aggregations::add;
+        Stream.of(aggregations).forEach(validNull.andThen(consume));
+        return this;
+    }
+
+    @Override
+    public DocumentQuery.DocumentQueryBuilder groupBy(String... documents) {
+        Consumer<String> validNull = d -> requireNonNull(d, "there is null document in the group by");
+        Consumer<String> consume = this.groupBy::add;
+        Stream.of(documents).forEach(validNull.andThen(consume));
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
+        if (aggregations.isEmpty() && groupBy.isEmpty()) {
+            return new DefaultDocumentQuery(limit, skip, documentCollection,
+                    documents, sorts, condition);
+        }
+        documents.stream().filter(d -> !groupBy.contains(d)).findFirst().ifPresent(d -> {
+            throw new IllegalArgumentException("The document " + d + " must be at the group by to be selected " +
+                    "with an aggregation");
+        });
         return new DefaultDocumentQuery(limit, skip, documentCollection,
-                documents, sorts, condition);
+                documents, sorts, condition, aggregations, groupBy);
     }
 
     @Override
@@ -140,12 +169,14 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 && Objects.equals(documents, that.documents)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
-                && Objects.equals(condition, that.condition);
+                && Objects.equals(condition, that.condition)
+                && Objects.equals(aggregations, that.aggregations)
+                && Objects.equals(groupBy, that.groupBy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit, aggregations, groupBy);
     }
 
     @Override
@@ -157,6 +188,8 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", aggregations=" + aggregations +
+                ", groupBy=" + groupBy +
                 '}';
     }
 }
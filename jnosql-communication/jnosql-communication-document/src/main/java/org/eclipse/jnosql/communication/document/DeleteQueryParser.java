@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.document;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.DeleteQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Objects;
@@ -40,9 +40,8 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, Document
 
     DocumentPreparedStatement prepare(String query, DocumentManager collectionManager,
                                       DocumentObserverParser observer) {
-        Params params = Params.newParams();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DocumentPreparedStatement.delete(documentQuery, params, query, collectionManager);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
+        return DocumentPreparedStatement.delete(p -> getQuery(p, observer, deleteQuery), query, collectionManager);
     }
 
 
@@ -56,13 +55,6 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, Document
         return new DocumentDeleteQueryParams(query, params);
     }
 
-    private DocumentDeleteQuery getQuery(String query, Params params, DocumentObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
     private DocumentDeleteQuery getQuery(Params params, DocumentObserverParser observer,
                                          DeleteQuery deleteQuery) {
         String collection = observer.fireEntity(deleteQuery.entity());
@@ -76,8 +68,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, Document
     }
 
     private DocumentDeleteQuery getQuery(String query, DocumentObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         String collection = observer.fireEntity(deleteQuery.entity());
         List<String> documents = deleteQuery.fields().stream()
@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregations;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of {@link DocumentManager#aggregate(DocumentQuery)}: it reads only the fields of the
+ * aggregation from the entities that match the condition and folds them with {@link Aggregations}.
+ * It also routes the queries from the text to either the select or the aggregate.
+ */
+final class DocumentAggregations {
+
+    private DocumentAggregations() {
+    }
+
+    static Stream<DocumentEntity> select(DocumentManager manager, DocumentQuery query) {
+        if (query.aggregations().isEmpty() && query.groupBy().isEmpty()) {
+            return manager.select(query);
+        }
+        return manager.aggregate(query);
+    }
+
+    static Stream<DocumentEntity> aggregate(DocumentManager manager, DocumentQuery query) {
+        List<Map<String, Object>> rows;
+        try (Stream<DocumentEntity> entities = manager.select(DefaultDocumentQuery.aggregateBy(query))) {
+            rows = Aggregations.fold(entities, DocumentAggregations::value, query.groupBy(), query.aggregations());
+        }
+        Stream<Map<String, Object>> result = rows.stream();
+        Comparator<Map<String, Object>> comparator = query.sorts().stream()
+                .map(DocumentAggregations::comparing)
+                .reduce(Comparator::thenComparing)
+                .orElse(null);
+        if (Objects.nonNull(comparator)) {
+            result = result.sorted(comparator);
+        }
+        if (query.skip() > 0) {
+            result = result.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            result = result.limit(query.limit());
+        }
+        return result.map(row -> entity(query.name(), row));
+    }
+
+    private static Comparator<Map<String, Object>> comparing(Sort sort) {
+        return Aggregations.comparing(sort.property(), sort.isAscending());
+    }
+
+    private static Object value(DocumentEntity entity, String name) {
+        return entity.find(name).map(Document::get).orElse(null);
+    }
+
+    private static DocumentEntity entity(String name, Map<String, Object> row) {
+        DocumentEntity entity = DocumentEntity.of(name);
+        row.forEach((key, value) -> {
+            if (Objects.nonNull(value)) {
+                entity.add(key, value);
+            }
+        });
+        return entity;
+    }
+}
@@ -0,0 +1,502 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Rewrites a {@link DocumentCondition} into a simpler one before it reaches the {@link DocumentManager}:
+ * <ul>
+ *     <li>the nested AND and OR conditions are flattened, and a single condition is not wrapped;</li>
+ *     <li>the duplicated conditions are removed and a double NOT is dropped;</li>
+ *     <li>the equals and in conditions of the same field at an OR become a single in;</li>
+ *     <li>an empty in cannot match, thus, the query does not need to reach the database.</li>
+ * </ul>
+ * The fields that the caller tells as single-valued have two more rewrites:
+ * <ul>
+ *     <li>the equals and range conditions of the same field at an AND are merged into the narrowest range, where the
+ *     inclusive bounds become a between;</li>
+ *     <li>a condition that cannot match, e.g.: {@code age = 10 and age = 20} or {@code age > 20 and age < 10}, is
+ *     detected.</li>
+ * </ul>
+ * Those are not right for a field that has many values, e.g.: {@code tags = 'a' and tags = 'b'} matches a document
+ * whose tags has both, thus, by default no field is taken as single-valued. Only the values that are numbers, or that
+ * have the same {@link Comparable} type, are merged; the others are kept as they are.
+ */
+public final class DocumentConditionOptimizer {
+
+    private static final TypeReference<List<DocumentCondition>> CONDITIONS = new TypeReference<>() {
+    };
+
+    private static final Predicate<String> NONE = name -> false;
+
+    private DocumentConditionOptimizer() {
+    }
+
+    /**
+     * Optimizes the condition
+     *
+     * @param condition the condition
+     * @return the optimized condition, or {@link Optional#empty()} when the condition cannot match any entity
+     * @throws NullPointerException when condition is null
+     */
+    public static Optional<DocumentCondition> optimize(DocumentCondition condition) {
+        return optimize(condition, NONE);
+    }
+
+    /**
+     * Optimizes the condition, the ranges are merged only at the single-valued fields
+     *
+     * @param condition    the condition
+     * @param singleValued checks whether the document name is a single-valued field
+     * @return the optimized condition, or {@link Optional#empty()} when the condition cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<DocumentCondition> optimize(DocumentCondition condition, Predicate<String> singleValued) {
+        Objects.requireNonNull(condition, "condition is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        return Optional.ofNullable(rewrite(condition, singleValued));
+    }
+
+    /**
+     * Optimizes the condition of the query, the query is returned as it is when there is nothing to change.
+     *
+     * @param query the query
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<DocumentQuery> optimize(DocumentQuery query) {
+        return optimize(query, NONE);
+    }
+
+    /**
+     * Optimizes the condition of the query, the ranges are merged only at the single-valued fields. The query is
+     * returned as it is when there is nothing to change.
+     *
+     * @param query        the query
+     * @param singleValued checks whether the document name is a single-valued field
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<DocumentQuery> optimize(DocumentQuery query, Predicate<String> singleValued) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        Optional<DocumentCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return Optional.of(query);
+        }
+        DocumentCondition optimized = rewrite(condition.get(), singleValued);
+        if (optimized == null) {
+            return Optional.empty();
+        } else if (optimized.equals(condition.get())) {
+            return Optional.of(query);
+        }
+        return Optional.of(new DefaultDocumentQuery(query.limit(), query.skip(), query.name(), query.documents(),
+                query.sorts(), optimized, query.aggregations(), query.groupBy()));
+    }
+
+    /**
+     * Optimizes the condition of the query, the query is returned as it is when there is nothing to change.
+     *
+     * @param query the query
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when query is null
+     */
+    public static Optional<DocumentDeleteQuery> optimize(DocumentDeleteQuery query) {
+        return optimize(query, NONE);
+    }
+
+    /**
+     * Optimizes the condition of the query, the ranges are merged only at the single-valued fields. The query is
+     * returned as it is when there is nothing to change.
+     *
+     * @param query        the query
+     * @param singleValued checks whether the document name is a single-valued field
+     * @return the query with the optimized condition, or {@link Optional#empty()} when it cannot match any entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<DocumentDeleteQuery> optimize(DocumentDeleteQuery query, Predicate<String> singleValued) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(singleValued, "singleValued is required");
+        Optional<DocumentCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return Optional.of(query);
+        }
+        DocumentCondition optimized = rewrite(condition.get(), singleValued);
+        if (optimized == null) {
+            return Optional.empty();
+        } else if (optimized.equals(condition.get())) {
+            return Optional.of(query);
+        }
+        return Optional.of(new DefaultDocumentDeleteQuery(query.name(), optimized, query.documents()));
+    }
+
+    /**
+     * @return the rewritten condition or null when it cannot match
+     */
+    private static DocumentCondition rewrite(DocumentCondition condition, Predicate<String> singleValued) {
+        Document document = condition.document();
+        return switch (condition.condition()) {
+            case AND -> and(document.get(CONDITIONS), singleValued);
+            case OR -> or(document.get(CONDITIONS), singleValued);
+            case NOT -> not(document.get(DocumentCondition.class), singleValued);
+            case IN -> in(condition);
+            case BETWEEN -> singleValued.test(document.name()) ? between(condition) : condition;
+            default -> condition;
+        };
+    }
+
+    private static DocumentCondition not(DocumentCondition condition, Predicate<String> singleValued) {
+        if (Condition.NOT.equals(condition.condition())) {
+            DocumentCondition negated = condition.document().get(DocumentCondition.class);
+            return rewrite(negated, singleValued);
+        }
+        DocumentCondition optimized = rewrite(condition, singleValued);
+        if (optimized == null) {
+            return DocumentCondition.of(Document.of(Condition.NOT.getNameField(), condition), Condition.NOT);
+        }
+        return DocumentCondition.of(Document.of(Condition.NOT.getNameField(), optimized), Condition.NOT);
+    }
+
+    private static DocumentCondition in(DocumentCondition condition) {
+        if (!(condition.document().get() instanceof Iterable<?>)) {
+            return condition;
+        }
+        List<Object> values = values(condition.document());
+        if (values.isEmpty()) {
+            return null;
+        } else if (values.size() == 1) {
+            return DocumentCondition.eq(condition.document().name(), values.get(0));
+        }
+        return condition;
+    }
+
+    private static DocumentCondition between(DocumentCondition condition) {
+        List<Object> values = values(condition.document());
+        if (values.size() != 2) {
+            return condition;
+        }
+        Integer compare = compare(values.get(0), values.get(1));
+        if (compare != null && compare > 0) {
+            return null;
+        } else if (compare != null && compare == 0) {
+            return DocumentCondition.eq(condition.document().name(), values.get(0));
+        }
+        return condition;
+    }
+
+    private static DocumentCondition and(List<DocumentCondition> conditions, Predicate<String> singleValued) {
+        Set<DocumentCondition> flatten = new LinkedHashSet<>();
+        for (DocumentCondition condition : conditions) {
+            DocumentCondition optimized = rewrite(condition, singleValued);
+            if (optimized == null) {
+                return null;
+            } else if (Condition.AND.equals(optimized.condition())) {
+                flatten.addAll(optimized.document().get(CONDITIONS));
+            } else {
+                flatten.add(optimized);
+            }
+        }
+        List<DocumentCondition> merged = ranges(new ArrayList<>(flatten), singleValued);
+        if (merged == null) {
+            return null;
+        }
+        return merged.size() == 1 ? merged.get(0) : DocumentCondition.and(merged.toArray(new DocumentCondition[0]));
+    }
+
+    private static DocumentCondition or(List<DocumentCondition> conditions, Predicate<String> singleValued) {
+        Set<DocumentCondition> flatten = new LinkedHashSet<>();
+        for (DocumentCondition condition : conditions) {
+            DocumentCondition optimized = rewrite(condition, singleValued);
+            if (optimized != null && Condition.OR.equals(optimized.condition())) {
+                flatten.addAll(optimized.document().get(CONDITIONS));
+            } else if (optimized != null) {
+                flatten.add(optimized);
+            }
+        }
+        if (flatten.isEmpty()) {
+            return null;
+        }
+        List<DocumentCondition> merged = equalities(new ArrayList<>(flatten));
+        return merged.size() == 1 ? merged.get(0) : DocumentCondition.or(merged.toArray(new DocumentCondition[0]));
+    }
+
+    private static List<DocumentCondition> equalities(List<DocumentCondition> conditions) {
+        Map<String, Set<Object>> fields = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (DocumentCondition condition : conditions) {
+            if (isEquality(condition)) {
+                String name = condition.document().name();
+                counts.merge(name, 1, Integer::sum);
+                Set<Object> values = fields.computeIfAbsent(name, k -> new LinkedHashSet<>());
+                if (Condition.IN.equals(condition.condition())) {
+                    values.addAll(values(condition.document()));
+                } else {
+                    values.add(condition.document().get());
+                }
+            }
+        }
+        List<DocumentCondition> merged = new ArrayList<>(conditions.size());
+        for (DocumentCondition condition : conditions) {
+            if (!isEquality(condition) || counts.get(condition.document().name()) == 1) {
+                merged.add(condition);
+                continue;
+            }
+            Set<Object> values = fields.remove(condition.document().name());
+            if (values != null) {
+                merged.add(DocumentCondition.in(condition.document().name(), new ArrayList<>(values)));
+            }
+        }
+        return merged;
+    }
+
+    private static List<DocumentCondition> ranges(List<DocumentCondition> conditions, Predicate<String> singleValued) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        for (DocumentCondition condition : conditions) {
+            if (isRange(condition) && singleValued.test(condition.document().name())) {
+                ranges.computeIfAbsent(condition.document().name(), Range::new).add(condition);
+            }
+        }
+        List<DocumentCondition> merged = new ArrayList<>(conditions.size());
+        for (DocumentCondition condition : conditions) {
+            Range range = isRange(condition) ? ranges.get(condition.document().name()) : null;
+            if (range == null || range.conditions.size() == 1 || !range.isComparable()) {
+                merged.add(condition);
+            } else if (range.conditions.get(0) == condition) {
+                if (range.isEmpty()) {
+                    return null;
+                }
+                merged.addAll(range.conditions());
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isEquality(DocumentCondition condition) {
+        return Condition.EQUALS.equals(condition.condition()) || Condition.IN.equals(condition.condition());
+    }
+
+    private static boolean isRange(DocumentCondition condition) {
+        return switch (condition.condition()) {
+            case EQUALS, GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN, BETWEEN -> true;
+            default -> false;
+        };
+    }
+
+    private static List<Object> values(Document document) {
+        List<Object> values = new ArrayList<>();
+        Object value = document.get();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(v -> values.add(v instanceof Value wrapper ? wrapper.get() : v));
+        }
+        return values;
+    }
+
+    /**
+     * @return the comparison or null when the values cannot be compared
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Integer compare(Object value, Object other) {
+        if (value == null || other == null) {
+            return null;
+        } else if (value instanceof Number number && other instanceof Number otherNumber) {
+            BigDecimal decimal = decimal(number);
+            BigDecimal otherDecimal = decimal(otherNumber);
+            return decimal == null || otherDecimal == null ? null : decimal.compareTo(otherDecimal);
+        } else if (value instanceof Comparable comparable && value.getClass().equals(other.getClass())) {
+            return comparable.compareTo(other);
+        }
+        return null;
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * The bounds of a field at an AND, from its equals and range conditions
+     */
+    private static final class Range {
+
+        private final String name;
+
+        private final List<DocumentCondition> conditions = new ArrayList<>();
+
+        private Object equal;
+
+        private Object lower;
+
+        private boolean lowerInclusive;
+
+        private Object upper;
+
+        private boolean upperInclusive;
+
+        private boolean comparable = true;
+
+        private boolean empty;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        void add(DocumentCondition condition) {
+            conditions.add(condition);
+            if (!comparable) {
+                return;
+            }
+            Object value = condition.document().get();
+            if (value == null) {
+                comparable = false;
+                return;
+            }
+            switch (condition.condition()) {
+                case EQUALS -> equalTo(value);
+                case GREATER_THAN -> lower(value, false);
+                case GREATER_EQUALS_THAN -> lower(value, true);
+                case LESSER_THAN -> upper(value, false);
+                case LESSER_EQUALS_THAN -> upper(value, true);
+                default -> {
+                    List<Object> values = values(condition.document());
+                    if (values.size() == 2) {
+                        lower(values.get(0), true);
+                        upper(values.get(1), true);
+                    } else {
+                        comparable = false;
+                    }
+                }
+            }
+        }
+
+        boolean isComparable() {
+            if (comparable && !empty) {
+                check(equal, lower, lowerInclusive, 1);
+                check(equal, upper, upperInclusive, -1);
+                if (lower != null && upper != null) {
+                    Integer compare = compare(lower, upper);
+                    if (compare == null) {
+                        comparable = false;
+                    } else if (compare > 0 || (compare == 0 && !(lowerInclusive && upperInclusive))) {
+                        empty = true;
+                    }
+                }
+            }
+            return comparable;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        List<DocumentCondition> conditions() {
+            if (equal != null) {
+                return List.of(DocumentCondition.eq(name, equal));
+            } else if (lower != null && upper != null && lowerInclusive && upperInclusive) {
+                if (Objects.equals(compare(lower, upper), 0)) {
+                    return List.of(DocumentCondition.eq(name, lower));
+                }
+                return List.of(DocumentCondition.between(name, List.of(lower, upper)));
+            }
+            List<DocumentCondition> bounds = new ArrayList<>(2);
+            if (lower != null) {
+                bounds.add(lowerInclusive ? DocumentCondition.gte(name, lower) : DocumentCondition.gt(name, lower));
+            }
+            if (upper != null) {
+                bounds.add(upperInclusive ? DocumentCondition.lte(name, upper) : DocumentCondition.lt(name, upper));
+            }
+            return bounds;
+        }
+
+        private void check(Object value, Object bound, boolean inclusive, int signum) {
+            if (value == null || bound == null || empty) {
+                return;
+            }
+            Integer compare = compare(value, bound);
+            if (compare == null) {
+                comparable = false;
+            } else if (Integer.signum(compare) == -signum || (compare == 0 && !inclusive)) {
+                empty = true;
+            }
+        }
+
+        private void equalTo(Object value) {
+            if (equal == null) {
+                equal = value;
+                return;
+            }
+            Integer compare = compare(equal, value);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare != 0) {
+                empty = true;
+            }
+        }
+
+        private void lower(Object value, boolean inclusive) {
+            if (lower == null) {
+                lower = value;
+                lowerInclusive = inclusive;
+                return;
+            }
+            Integer compare = compare(value, lower);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare > 0 || (compare == 0 && !inclusive)) {
+                lower = value;
+                lowerInclusive = inclusive;
+            }
+        }
+
+        private void upper(Object value, boolean inclusive) {
+            if (upper == null) {
+                upper = value;
+                upperInclusive = inclusive;
+                return;
+            }
+            Integer compare = compare(value, upper);
+            if (compare == null) {
+                comparable = false;
+            } else if (compare < 0 || (compare == 0 && !inclusive)) {
+                upper = value;
+                upperInclusive = inclusive;
+            }
+        }
+    }
+}
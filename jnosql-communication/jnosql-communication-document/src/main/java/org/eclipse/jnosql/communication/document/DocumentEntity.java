@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 
+import org.eclipse.jnosql.communication.EntitySchema;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
@@ -30,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Collections.singletonMap;
 import static java.util.Collections.unmodifiableSet;
@@ -50,12 +52,17 @@ import static java.util.stream.Collectors.toList;
  */
 public class DocumentEntity {
 
-    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Document> documents;
 
     private final String name;
 
     DocumentEntity(String name) {
+        this(name, new HashMap<>());
+    }
+
+    private DocumentEntity(String name, Map<String, Document> documents) {
         this.name = name;
+        this.documents = documents;
     }
 
     /**
@@ -85,6 +92,9 @@ public class DocumentEntity {
      * @return all documents
      */
     public List<Document> documents() {
+        if (documents instanceof SchemaDocuments schemaDocuments) {
+            return schemaDocuments.documents();
+        }
         return documents.values()
                 .stream()
                 .collect(collectingAndThen(toList(),
@@ -131,6 +141,21 @@ public class DocumentEntity {
         this.documents.put(documentName, Document.of(documentName, value));
     }
 
+    /**
+     * add a document within {@link DocumentEntity} whose value is decoded by the supplier only when it is read,
+     * see {@link Value#lazy(Supplier)}
+     *
+     * @param documentName the name of the document
+     * @param supplier the supplier of the information of the document
+     * @throws UnsupportedOperationException when this method is not supported
+     * @throws NullPointerException          when either name or supplier are null
+     */
+    public void addLazy(String documentName, Supplier<?> supplier) {
+        requireNonNull(documentName, "documentName is required");
+        requireNonNull(supplier, "supplier is required");
+        this.documents.put(documentName, Document.of(documentName, Value.lazy(supplier)));
+    }
+
     /**
      * add all documents within {@link DocumentEntity}
      *
@@ -156,6 +181,20 @@ public class DocumentEntity {
         return ofNullable(document);
     }
 
+    /**
+     * Reads the value of a field without creating the Document view at the schema entities.
+     *
+     * @param name the name of the field
+     * @return the value or null when there is no field
+     */
+    Value value(String name) {
+        if (documents instanceof SchemaDocuments schemaDocuments) {
+            return schemaDocuments.value(name);
+        }
+        Document document = documents.get(name);
+        return document == null ? null : document.value();
+    }
+
     /**
      * Find a document and converts to specific type from {@link Class}.
      * It is an alias to {@link Value#get(Class)}
@@ -211,6 +250,9 @@ public class DocumentEntity {
      * @return an instance copy
      */
     public DocumentEntity copy() {
+        if (documents instanceof SchemaDocuments schemaDocuments) {
+            return new DocumentEntity(name, schemaDocuments.copy());
+        }
         DocumentEntity entity = new DocumentEntity(this.name);
         entity.documents.putAll(new HashMap<>(this.documents));
         return entity;
@@ -238,6 +280,9 @@ public class DocumentEntity {
      * @return the collection of values
      */
     public Collection<Value> getValues() {
+        if (documents instanceof SchemaDocuments schemaDocuments) {
+            return schemaDocuments.valueList();
+        }
         return documents
                 .values()
                 .stream()
@@ -335,4 +380,19 @@ public class DocumentEntity {
         entity.addAll(documents);
         return entity;
     }
+
+    /**
+     * Creates a {@link DocumentEntity} instance whose document names are kept at the schema, which is shared by the
+     * entities of a collection, and whose values are kept at an array indexed by the slot of the name.
+     * The {@link DocumentEntity#documents()} and the {@link DocumentEntity#getValues()} return views that do not copy
+     * the documents.
+     *
+     * @param schema the schema of the collection, its name is the entity name
+     * @return a {@link DocumentEntity} instance
+     * @throws NullPointerException when schema is null
+     */
+    public static DocumentEntity of(EntitySchema schema) {
+        requireNonNull(schema, "schema is required");
+        return new DocumentEntity(schema.name(), new SchemaDocuments(schema));
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.ConditionPredicates;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link DocumentCondition} into a {@link Predicate} that checks a {@link DocumentEntity} in memory, thus,
+ * the condition tree is read once instead of at each entity. See {@link ConditionPredicates} for the comparison
+ * rules. A field name with dots, e.g.: {@code address.city}, reads the sub-document when the entity does not have a
+ * field with that name.
+ */
+public final class DocumentPredicates {
+
+    private DocumentPredicates() {
+    }
+
+    /**
+     * Compiles the condition
+     *
+     * @param condition the condition
+     * @return the predicate
+     * @throws NullPointerException     when condition is null
+     * @throws IllegalArgumentException when the condition has an invalid value
+     */
+    public static Predicate<DocumentEntity> compile(DocumentCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        Document document = condition.document();
+        return switch (condition.condition()) {
+            case AND -> ConditionPredicates.and(compile(document));
+            case OR -> ConditionPredicates.or(compile(document));
+            case NOT -> compile(document.get(DocumentCondition.class)).negate();
+            default -> ConditionPredicates.of(condition.condition(), document.value(), field(document.name()));
+        };
+    }
+
+    private static List<Predicate<DocumentEntity>> compile(Document document) {
+        List<DocumentCondition> conditions = document.get(new TypeReference<>() {
+        });
+        List<Predicate<DocumentEntity>> predicates = new ArrayList<>(conditions.size());
+        conditions.forEach(c -> predicates.add(compile(c)));
+        return predicates;
+    }
+
+    private static Function<DocumentEntity, Object> field(String name) {
+        String[] path = name.split("\\.");
+        if (path.length == 1) {
+            return entity -> get(entity.value(name));
+        }
+        return entity -> {
+            Value value = entity.value(name);
+            if (value == null) {
+                value = entity.value(path[0]);
+                for (int index = 1; index < path.length && value != null; index++) {
+                    value = find(value.get(), path[index]);
+                }
+            }
+            return get(value);
+        };
+    }
+
+    private static Value find(Object value, String name) {
+        if (value instanceof Document document) {
+            return name.equals(document.name()) ? document.value() : null;
+        } else if (value instanceof Iterable<?> documents) {
+            for (Object element : documents) {
+                if (element instanceof Document document && name.equals(document.name())) {
+                    return document.value();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object get(Value value) {
+        return value == null ? null : value.get();
+    }
+}
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -84,6 +85,25 @@ public interface DocumentQuery {
      */
     List<String> documents();
 
+    /**
+     * The aggregate functions of this query, e.g.: {@code sum(amount)}. A query with either aggregations or
+     * {@link DocumentQuery#groupBy()} runs at {@link DocumentManager#aggregate(DocumentQuery)}.
+     *
+     * @return the aggregations
+     */
+    default List<Aggregation> aggregations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The document fields used to group the entities of the {@link DocumentQuery#aggregations()}
+     *
+     * @return the group by fields
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
+
     /**
      * It starts the first step of {@link DocumentQuery} creation using a fluent-API way.
      * This first step will inform the fields to return to the query, such as a "select field, fieldB from database"
@@ -580,6 +600,24 @@ public interface DocumentQuery {
          */
         DocumentQueryBuilder limit(long limit);
 
+        /**
+         * Append aggregate functions in the query, see {@link DocumentManager#aggregate(DocumentQuery)}
+         *
+         * @param aggregations the aggregations
+         * @return the {@link DocumentQueryBuilder}
+         * @throws NullPointerException when there is a null aggregation
+         */
+        DocumentQueryBuilder aggregate(Aggregation... aggregations);
+
+        /**
+         * Append fields to group the entities of the aggregations. The selected documents must be at the group by.
+         *
+         * @param documents the group by fields
+         * @return the {@link DocumentQueryBuilder}
+         * @throws NullPointerException when there is a null document
+         */
+        DocumentQueryBuilder groupBy(String... documents);
+
         /**
          * It will validate and then create a {@link DocumentQuery} instance.
          *
@@ -18,8 +18,11 @@ package org.eclipse.jnosql.communication.document;
 
 
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.NormalizedQuery;
+import org.eclipse.jnosql.communication.query.QueryNormalizer;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 
@@ -33,6 +36,27 @@ public final class DocumentQueryParser {
     private final InsertQueryParser insert = new InsertQueryParser();
     private final UpdateQueryParser update = new UpdateQueryParser();
 
+    private final boolean normalize;
+
+    /**
+     * Creates a parser that lifts the literals of the queries into parameters when the
+     * {@link QueryNormalizer#ENABLED_PROPERTY} system property is true.
+     */
+    public DocumentQueryParser() {
+        this(QueryNormalizer.isEnabled());
+    }
+
+    /**
+     * Creates a parser
+     *
+     * @param normalize when true, the {@link DocumentQueryParser#query} lifts the literals of the queries into parameters,
+     *                  thus, the queries that differ only by the literals share the same parsed query.
+     * @see QueryNormalizer
+     */
+    public DocumentQueryParser(boolean normalize) {
+        this.normalize = normalize;
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -48,6 +72,12 @@ public final class DocumentQueryParser {
     public Stream<DocumentEntity> query(String query, DocumentManager collectionManager,
                                         DocumentObserverParser observer) {
         validation(query, collectionManager, observer);
+        if (normalize) {
+            Optional<DocumentPreparedStatement> statement = normalized(query, collectionManager, observer);
+            if (statement.isPresent()) {
+                return statement.get().result();
+            }
+        }
         String command = query.substring(0, 6);
         return switch (command) {
             case "select" -> select.query(query, collectionManager, observer);
@@ -88,6 +118,22 @@ public final class DocumentQueryParser {
     }
 
 
+    private Optional<DocumentPreparedStatement> normalized(String query, DocumentManager collectionManager,
+                                                           DocumentObserverParser observer) {
+        Optional<NormalizedQuery> normalized = QueryNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        DocumentPreparedStatement statement;
+        try {
+            statement = prepare(normalized.get().query(), collectionManager, observer);
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
+        normalized.get().params().forEach(statement::bind);
+        return Optional.of(statement);
+    }
+
     private void validation(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(collectionManager, "collectionManager is required");
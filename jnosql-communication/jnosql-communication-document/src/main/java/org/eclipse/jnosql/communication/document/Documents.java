@@ -18,12 +18,16 @@
 package org.eclipse.jnosql.communication.document;
 
 
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.EntityCodec;
 import org.eclipse.jnosql.communication.Value;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
@@ -35,9 +39,22 @@ public final class Documents {
 
     private static final Predicate<Map.Entry<String, ?>> IS_VALUE_NULL = e -> Objects.nonNull(e.getValue());
 
+    private static final EntityCodec<DocumentEntity, Document> CODEC = EntityCodec.of(DocumentEntity::name,
+            DocumentEntity::documents, DocumentEntity::of, Document::of);
+
     private Documents() {
     }
 
+    /**
+     * Returns the {@link EntityCodec} that writes a {@link DocumentEntity} to a compact binary format and reads it
+     * back, the sub-documents are kept as nested entries.
+     *
+     * @return the {@link EntityCodec} of {@link DocumentEntity}
+     */
+    public static EntityCodec<DocumentEntity, Document> codec() {
+        return CODEC;
+    }
+
     /**
      * An alias to {@link Document#of(String, Object)}
      *
@@ -66,6 +83,20 @@ public final class Documents {
                 .collect(toList());
     }
 
+    /**
+     * Reads a JSON array of objects incrementally, each object is converted to a list of {@link Document} only when the
+     * stream reaches it, thus, a large array is never loaded at once.
+     *
+     * @param parser the JSON parser, positioned before the array
+     * @return the stream of the documents of each object
+     * @throws NullPointerException   when the parser is null
+     * @throws CommunicationException when the JSON is not an array of objects
+     */
+    public static Stream<List<Document>> of(JsonParser parser) {
+        Objects.requireNonNull(parser, "parser is required");
+        return JsonObjects.getDocuments(parser);
+    }
+
     private static Object getValue(Object value) {
 
         if (value instanceof Map) {
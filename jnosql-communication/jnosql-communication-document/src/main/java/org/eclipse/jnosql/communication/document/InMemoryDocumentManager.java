@@ -0,0 +1,197 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.AbstractInMemoryManager;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.eclipse.jnosql.communication.InMemoryCollection;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentManager} that keeps the documents in memory, with the whole {@link DocumentQuery} semantics: the
+ * conditions through {@link DocumentPredicates}, the sorts, skip, limit, the selected documents and the TTL.
+ * Each collection is an {@link InMemoryCollection}, thus, an equals, in or range condition on the id or on a field
+ * with an index reads only the candidates; the documents are kept with an {@link EntitySchema} per collection.
+ * An entity without the id field receives a random one at the insert, and an entity is replaced by another with the
+ * same id. The manager keeps copies, thus, changing an entity after the insert or the select does not change the
+ * database; the copies are deep: the sub-entities, the sub-documents, and the lists, sets and maps that hold them are
+ * copied as well, the other values, e.g.: texts, numbers and dates, are shared.
+ *
+ * @see InMemoryDocumentConfiguration
+ * @see AbstractInMemoryManager
+ */
+public class InMemoryDocumentManager extends AbstractInMemoryManager<DocumentEntity, DocumentCondition>
+        implements DocumentManager {
+
+    private static final BiFunction<DocumentEntity, String, Object> READER = (entity, name) -> {
+        Value value = entity.value(name);
+        return value == null ? null : value.get();
+    };
+
+    private static final TypeReference<List<DocumentCondition>> CONDITIONS = new TypeReference<>() {
+    };
+
+    InMemoryDocumentManager(String name, Settings settings) {
+        super(name, READER, collection -> InMemoryCollection.of(collection, settings, READER));
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        delete(query.name(), query.condition(), query.documents());
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query.name(), query.condition(), query.sorts(), query.skip(), query.limit(), query.documents());
+    }
+
+    /**
+     * The collections live while the {@link InMemoryDocumentManagerFactory} is open, thus, it does nothing.
+     */
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        clearCollections();
+    }
+
+    @Override
+    protected String entityName(DocumentEntity entity) {
+        return entity.name();
+    }
+
+    @Override
+    protected void add(DocumentEntity entity, String field, Object value) {
+        entity.add(field, value);
+    }
+
+    @Override
+    protected DocumentEntity store(DocumentEntity entity, EntitySchema schema) {
+        DocumentEntity stored = DocumentEntity.of(schema);
+        entity.documents().forEach(document -> stored.add(copy(document)));
+        return stored;
+    }
+
+    @Override
+    protected DocumentEntity remove(DocumentEntity entity, List<String> fields) {
+        DocumentEntity changed = entity.copy();
+        fields.forEach(changed::remove);
+        return changed;
+    }
+
+    @Override
+    protected DocumentEntity project(DocumentEntity entity, List<String> fields) {
+        if (fields.isEmpty()) {
+            DocumentEntity copy = entity.copy();
+            entity.documents().stream().filter(InMemoryDocumentManager::isNested)
+                    .forEach(document -> copy.add(copy(document)));
+            return copy;
+        }
+        DocumentEntity projection = DocumentEntity.of(entity.name());
+        fields.forEach(field -> entity.find(field).map(InMemoryDocumentManager::copy).ifPresent(projection::add));
+        return projection;
+    }
+
+    @Override
+    protected Optional<DocumentCondition> optimize(DocumentCondition condition) {
+        return DocumentConditionOptimizer.optimize(condition);
+    }
+
+    @Override
+    protected Predicate<DocumentEntity> compile(DocumentCondition condition) {
+        return DocumentPredicates.compile(condition);
+    }
+
+    @Override
+    protected Condition type(DocumentCondition condition) {
+        return condition.condition();
+    }
+
+    @Override
+    protected String field(DocumentCondition condition) {
+        return condition.document().name();
+    }
+
+    @Override
+    protected Object value(DocumentCondition condition) {
+        return condition.document().get();
+    }
+
+    @Override
+    protected List<DocumentCondition> conditions(DocumentCondition condition) {
+        return condition.document().get(CONDITIONS);
+    }
+
+    /**
+     * @return the same document when its value is neither a sub-entity, a sub-document nor a collection, otherwise a
+     * deep copy
+     */
+    private static Document copy(Document document) {
+        return isNested(document) ? Document.of(document.name(), copy(document.get())) : document;
+    }
+
+    private static boolean isNested(Document document) {
+        Object value = document.get();
+        return value instanceof DocumentEntity || value instanceof Document || value instanceof Iterable<?>
+                || value instanceof Map<?, ?>;
+    }
+
+    /**
+     * Copies the values that might be changed by the caller: the sub-entities, the documents and the collections and
+     * maps that hold them, at any depth; the other values are returned as they are.
+     */
+    private static Object copy(Object value) {
+        if (value instanceof DocumentEntity entity) {
+            DocumentEntity copy = DocumentEntity.of(entity.name());
+            entity.documents().forEach(document -> copy.add(copy(document)));
+            return copy;
+        } else if (value instanceof Document document) {
+            return Document.of(document.name(), copy(document.get()));
+        } else if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            set.forEach(element -> copy.add(copy(element)));
+            return copy;
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> copy = new ArrayList<>();
+            iterable.forEach(element -> copy.add(copy(element)));
+            return copy;
+        } else if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, element) -> copy.put(key, copy(element)));
+            return copy;
+        }
+        return value;
+    }
+}
@@ -17,23 +17,71 @@
 package org.eclipse.jnosql.communication.document;
 
 
-
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
-import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+/**
+ * Converts the JSON values to {@link Document} walking the {@link JsonValue} tree once, the numbers become
+ * {@link java.math.BigDecimal}, the null fields are ignored, and an object becomes a document when it has a single
+ * field, otherwise, a list of documents.
+ */
 final class JsonObjects {
 
-    private static final Jsonb JSON = JsonbBuilder.create();
-
     private JsonObjects() {
     }
 
     static List<Document> getDocuments(JsonObject jsonObject) {
-        Map<String, Object> map = JSON.fromJson(jsonObject.toString(), Map.class);
-        return Documents.of(map);
+        List<Document> documents = new ArrayList<>(jsonObject.size());
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            Object value = getValue(entry.getValue());
+            if (value != null) {
+                documents.add(Document.of(entry.getKey(), value));
+            }
+        }
+        return documents;
     }
 
+    static Stream<List<Document>> getDocuments(JsonParser parser) {
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+            throw new CommunicationException("The JSON must be an array of objects");
+        }
+        return parser.getArrayStream().map(value -> {
+            if (value.getValueType() != JsonValue.ValueType.OBJECT) {
+                throw new CommunicationException("The JSON must be an array of objects, but it has: " + value);
+            }
+            return getDocuments(value.asJsonObject());
+        });
+    }
+
+    private static Object getValue(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> {
+                List<Document> documents = getDocuments(value.asJsonObject());
+                yield documents.size() == 1 ? documents.get(0) : documents;
+            }
+            case ARRAY -> {
+                JsonArray array = value.asJsonArray();
+                List<Object> values = new ArrayList<>(array.size());
+                for (JsonValue element : array) {
+                    values.add(getValue(element));
+                }
+                yield values;
+            }
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).bigDecimalValue();
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * The {@link Document} instances of a {@link DocumentEntity} created from an {@link EntitySchema}: the names are kept
+ * at the schema and the values at an array indexed by the slot of the name, a {@link Document} is created only when
+ * it is read.
+ */
+final class SchemaDocuments extends AbstractMap<String, Document> {
+
+    private final EntitySchema schema;
+
+    private Value[] values;
+
+    private int size;
+
+    private int[] positions;
+
+    private final List<Document> documents = new View<>((name, value) -> Document.of(name, value));
+
+    private final List<Value> valueList = new View<>((name, value) -> value);
+
+    SchemaDocuments(EntitySchema schema) {
+        this(schema, new Value[schema.size()], 0);
+    }
+
+    private SchemaDocuments(EntitySchema schema, Value[] values, int size) {
+        this.schema = schema;
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return value(key) != null;
+    }
+
+    @Override
+    public Document get(Object key) {
+        Value value = value(key);
+        return value == null ? null : Document.of((String) key, value);
+    }
+
+    @Override
+    public Document put(String key, Document document) {
+        int slot = schema.slot(key);
+        if (slot >= values.length) {
+            values = Arrays.copyOf(values, Math.max(schema.size(), slot + 1));
+        }
+        Value previous = values[slot];
+        values[slot] = document.value();
+        if (previous == null) {
+            size++;
+            positions = null;
+            return null;
+        }
+        return Document.of(key, previous);
+    }
+
+    @Override
+    public Document remove(Object key) {
+        int slot = slot(key);
+        if (slot < 0 || values[slot] == null) {
+            return null;
+        }
+        Document document = Document.of((String) key, values[slot]);
+        values[slot] = null;
+        size--;
+        positions = null;
+        return document;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        positions = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Document>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Document>> iterator() {
+                return new SlotIterator<>((name, value) -> new SimpleImmutableEntry<>(name, Document.of(name, value)));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * @return a list view of the documents, it does not copy them
+     */
+    List<Document> documents() {
+        return documents;
+    }
+
+    /**
+     * @return a list view of the values, it does not copy them
+     */
+    List<Value> valueList() {
+        return valueList;
+    }
+
+    /**
+     * @return the schema shared by the entities
+     */
+    EntitySchema schema() {
+        return schema;
+    }
+
+    /**
+     * @return the values indexed by their slot at the schema, it does not copy them
+     */
+    Value[] slots() {
+        return values;
+    }
+
+    /**
+     * @return a copy that shares the schema
+     */
+    SchemaDocuments copy() {
+        return new SchemaDocuments(schema, values.clone(), size);
+    }
+
+    /**
+     * @param key the name
+     * @return the value of the field or null when there is no value
+     */
+    Value value(Object key) {
+        int slot = slot(key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /**
+     * @param index the index at the views
+     * @return the slot of the index-th value, when there is no empty slot, it is the index itself
+     */
+    private int position(int index) {
+        if (size == values.length) {
+            return index;
+        }
+        int[] current = positions;
+        if (current == null) {
+            current = new int[size];
+            int position = 0;
+            for (int slot = 0; slot < values.length; slot++) {
+                if (values[slot] != null) {
+                    current[position++] = slot;
+                }
+            }
+            positions = current;
+        }
+        return current[index];
+    }
+
+    private int slot(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        int slot = schema.indexOf(name);
+        return slot < values.length ? slot : -1;
+    }
+
+    private final class View<T> extends AbstractList<T> {
+
+        private final BiFunction<String, Value, T> mapper;
+
+        private View(BiFunction<String, Value, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int slot = position(index);
+            return mapper.apply(schema.field(slot), values[slot]);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new SlotIterator<>(mapper);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class SlotIterator<T> implements Iterator<T> {
+
+        private final BiFunction<String, Value, T> mapper;
+
+        private int next = advance(0);
+
+        private SlotIterator(BiFunction<String, Value, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int current = next;
+            next = advance(next + 1);
+            return mapper.apply(schema.field(current), values[current]);
+        }
+
+        private int advance(int slot) {
+            int current = slot;
+            while (current < values.length && values[current] == null) {
+                current++;
+            }
+            return current;
+        }
+    }
+}
@@ -18,13 +18,16 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.repository.Direction;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -36,19 +39,16 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
 
     Stream<DocumentEntity> query(String query, DocumentManager manager, DocumentObserverParser observer) {
         DocumentQuery documentQuery = getDocumentQuery(query, observer);
-        return manager.select(documentQuery);
+        return DocumentAggregations.select(manager, documentQuery);
     }
 
 
     DocumentPreparedStatement prepare(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
 
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
+        return DocumentPreparedStatement.select(p -> getDocumentQuery(p, selectQuery, observer), query,
+                collectionManager);
     }
 
 
@@ -63,8 +63,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
 
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
         String collection = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -81,7 +80,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return documentQuery(selectQuery, observer, limit, skip, collection, documents, sorts, condition);
     }
 
     private DocumentQuery getDocumentQuery(Params params, SelectQuery selectQuery, DocumentObserverParser observer) {
@@ -97,7 +96,27 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         DocumentCondition condition = selectQuery.where()
                 .map(c -> Conditions.getCondition(c, params, observer, collection)).orElse(null);
 
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return documentQuery(selectQuery, observer, limit, skip, collection, documents, sorts, condition);
+    }
+
+    private DocumentQuery documentQuery(SelectQuery selectQuery, DocumentObserverParser observer, long limit,
+                                        long skip, String collection, List<String> documents, List<Sort> sorts,
+                                        DocumentCondition condition) {
+        if (selectQuery.aggregations().isEmpty() && selectQuery.groupBy().isEmpty()) {
+            return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        }
+        Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+        selectQuery.aggregations().forEach(a -> aggregations.put(a.alias(),
+                a.field().map(f -> a.to(observer.fireField(collection, f))).orElse(a)));
+        List<String> groupBy = selectQuery.groupBy().stream()
+                .map(f -> observer.fireField(collection, f))
+                .toList();
+        List<Sort> aggregationSorts = selectQuery.orderBy().stream()
+                .map(s -> aggregations.containsKey(s.property()) ? Sort.of(aggregations.get(s.property()).alias(),
+                        s.isAscending() ? Direction.ASC : Direction.DESC, false) : toSort(s, observer, collection))
+                .toList();
+        return new DefaultDocumentQuery(limit, skip, collection, documents, aggregationSorts, condition,
+                List.copyOf(aggregations.values()), groupBy);
     }
 
     private Sort toSort(Sort sort, DocumentObserverParser observer, String entity) {
@@ -17,9 +17,11 @@
 package org.eclipse.jnosql.communication.document;
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -167,6 +169,28 @@ class DefaultDocumentQueryBuilderTest {
         assertNotNull(documentQuery);
     }
 
+    @Test
+    void shouldReturnErrorWhenAggregateIsCalledWithNullElement() {
+        assertThrows(NullPointerException.class, () -> builder.aggregate(Aggregation.count(), null));
+        assertThrows(NullPointerException.class, () -> builder.groupBy("name", null));
+    }
+
+    @Test
+    void shouldBuildAggregation() {
+        DocumentQuery documentQuery = builder.select("customer").from("Order")
+                .aggregate(Aggregation.sum("amount"), Aggregation.count())
+                .groupBy("customer").build();
+        assertEquals(List.of(Aggregation.sum("amount"), Aggregation.count()), documentQuery.aggregations());
+        assertEquals(List.of("customer"), documentQuery.groupBy());
+        assertEquals(List.of("customer"), documentQuery.documents());
+    }
+
+    @Test
+    void shouldReturnErrorWhenSelectedDocumentIsNotAtGroupBy() {
+        builder.select("customer", "status").from("Order").aggregate(Aggregation.count()).groupBy("customer");
+        assertThrows(IllegalArgumentException.class, () -> builder.build());
+    }
+
     @Test
     void shouldReturnErrorWhenGetResultIsCalledWithNullDocumentManagerReference() {
         assertThrows(NullPointerException.class, () -> builder.from(newRandomDocumentCollection()).getResult(null));
@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication.document;
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,6 +73,7 @@ public class DefaultDocumentQueryTest {
         assertEquals(0, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
+        assertEquals(List.of(Aggregation.count()), countQuery.aggregations());
         DocumentCondition condition = countQuery.condition().orElseThrow();
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
@@ -91,4 +93,31 @@ public class DefaultDocumentQueryTest {
         DocumentCondition condition = countQuery.condition().orElseThrow();
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
+
+    @Test
+    public void shouldConvertAggregateBy() {
+        DocumentQuery query = DocumentQuery.builder("customer").from("Order")
+                .where(DocumentCondition.eq("status", "paid"))
+                .aggregate(Aggregation.sum("amount"), Aggregation.count(), Aggregation.max("customer"))
+                .groupBy("customer")
+                .sort(Sort.desc("sum(amount)"))
+                .skip(1).limit(2).build();
+
+        DocumentQuery aggregateQuery = DefaultDocumentQuery.aggregateBy(query);
+        assertEquals("Order", aggregateQuery.name());
+        assertEquals(List.of("customer", "amount"), aggregateQuery.documents());
+        assertEquals(0, aggregateQuery.limit());
+        assertEquals(0, aggregateQuery.skip());
+        assertTrue(aggregateQuery.sorts().isEmpty());
+        assertTrue(aggregateQuery.aggregations().isEmpty());
+        assertTrue(aggregateQuery.groupBy().isEmpty());
+        assertEquals(query.condition(), aggregateQuery.condition());
+    }
+
+    @Test
+    public void shouldNotRemoveAggregations() {
+        DocumentQuery query = DocumentQuery.builder().from("Order").aggregate(Aggregation.count()).build();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.aggregations().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.groupBy().clear());
+    }
 }
\ No newline at end of file
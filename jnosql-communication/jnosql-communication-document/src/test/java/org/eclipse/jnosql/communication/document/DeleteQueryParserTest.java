@@ -395,4 +395,12 @@ class DeleteQueryParserTest {
         assertTrue(documentQuery.documents().isEmpty());
         assertEquals("God", documentQuery.name());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"delete from God where age = @age"})
+    public void shouldReturnErrorWhenAddBatch(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        assertThrows(QueryException.class, prepare::addBatch);
+    }
+}
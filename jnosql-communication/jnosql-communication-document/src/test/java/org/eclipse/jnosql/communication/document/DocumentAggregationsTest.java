@@ -0,0 +1,156 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DocumentAggregationsTest {
+
+    private DocumentManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = Mockito.mock(DocumentManager.class, Mockito.CALLS_REAL_METHODS);
+        doReturn(Stream.of(order("Ada", 10), order("Diana", 20), order("Ada", 30), order("Poliana", 5)))
+                .when(manager).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> manager.aggregate(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNothingToAggregate() {
+        DocumentQuery query = DocumentQuery.select().from("Order").build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> manager.aggregate(query));
+    }
+
+    @Test
+    public void shouldSelectOnlyTheAggregationFields() {
+        DocumentQuery query = DocumentQuery.builder("customer").from("Order")
+                .where(DocumentCondition.gt("amount", 1))
+                .aggregate(Aggregation.sum("amount")).groupBy("customer")
+                .sort(Sort.asc("customer")).limit(1).build();
+        manager.aggregate(query).toList();
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(manager).select(captor.capture());
+        DocumentQuery select = captor.getValue();
+        assertThat(select.documents()).containsExactly("customer", "amount");
+        Assertions.assertEquals(query.condition(), select.condition());
+        Assertions.assertEquals(0, select.limit());
+        Assertions.assertTrue(select.sorts().isEmpty());
+    }
+
+    @Test
+    public void shouldAggregateWithoutGroup() {
+        DocumentQuery query = DocumentQuery.builder().from("Order")
+                .aggregate(Aggregation.count(), Aggregation.sum("amount"), Aggregation.avg("amount")).build();
+        List<DocumentEntity> entities = manager.aggregate(query).toList();
+        Assertions.assertEquals(1, entities.size());
+        DocumentEntity entity = entities.get(0);
+        Assertions.assertEquals("Order", entity.name());
+        Assertions.assertEquals(4L, entity.find("count(*)").orElseThrow().get());
+        Assertions.assertEquals(65L, entity.find("sum(amount)").orElseThrow().get());
+        Assertions.assertEquals(16.25D, entity.find("avg(amount)").orElseThrow().get());
+    }
+
+    @Test
+    public void shouldAggregateByGroup() {
+        DocumentQuery query = DocumentQuery.builder("customer").from("Order")
+                .aggregate(Aggregation.sum("amount")).groupBy("customer").build();
+        assertThat(manager.aggregate(query).map(this::toMap).toList())
+                .containsExactly(Map.of("customer", "Ada", "sum(amount)", 40L),
+                        Map.of("customer", "Diana", "sum(amount)", 20L),
+                        Map.of("customer", "Poliana", "sum(amount)", 5L));
+    }
+
+    @Test
+    public void shouldSortSkipAndLimitTheGroups() {
+        DocumentQuery query = DocumentQuery.builder("customer").from("Order")
+                .aggregate(Aggregation.sum("amount")).groupBy("customer")
+                .sort(Sort.desc("sum(amount)")).skip(1).limit(1).build();
+        assertThat(manager.aggregate(query).map(this::toMap).toList())
+                .containsExactly(Map.of("customer", "Diana", "sum(amount)", 20L));
+    }
+
+    @Test
+    public void shouldNotAddNullResult() {
+        doReturn(Stream.empty()).when(manager).select(any(DocumentQuery.class));
+        DocumentQuery query = DocumentQuery.builder().from("Order")
+                .aggregate(Aggregation.count(), Aggregation.max("amount")).build();
+        DocumentEntity entity = manager.aggregate(query).findFirst().orElseThrow();
+        Assertions.assertEquals(0L, entity.find("count(*)").orElseThrow().get());
+        Assertions.assertTrue(entity.find("max(amount)").isEmpty());
+    }
+
+    @Test
+    public void shouldCountByAggregation() {
+        DocumentQuery query = DocumentQuery.select().from("Order").where("customer").eq("Ada").build();
+        Assertions.assertEquals(4L, manager.count(query));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(manager).aggregate(captor.capture());
+        assertThat(captor.getValue().aggregations()).containsExactly(Aggregation.count());
+        Assertions.assertEquals(query.condition(), captor.getValue().condition());
+    }
+
+    @Test
+    public void shouldCountFromTheDriverAggregation() {
+        doReturn(Stream.of(DocumentEntity.of("Order", List.of(Document.of("count(*)", 42)))))
+                .when(manager).aggregate(any(DocumentQuery.class));
+        Assertions.assertEquals(42L, manager.count(DocumentQuery.select().from("Order").build()));
+        verify(manager, never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldRouteQuery() {
+        DocumentQuery query = DocumentQuery.select().from("Order").build();
+        DocumentAggregations.select(manager, query);
+        verify(manager).select(query);
+        verify(manager, never()).aggregate(any(DocumentQuery.class));
+
+        DocumentQuery aggregation = DocumentQuery.builder().from("Order").aggregate(Aggregation.count()).build();
+        DocumentAggregations.select(manager, aggregation);
+        verify(manager).aggregate(aggregation);
+    }
+
+    private Map<String, Object> toMap(DocumentEntity entity) {
+        return entity.toMap();
+    }
+
+    private DocumentEntity order(String customer, int amount) {
+        return DocumentEntity.of("Order", List.of(Document.of("customer", customer), Document.of("amount", amount),
+                Document.of("status", "paid")));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.and;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.between;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.eq;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.gt;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.gte;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.in;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.like;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.lt;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.lte;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.not;
+import static org.eclipse.jnosql.communication.document.DocumentCondition.or;
+
+class DocumentConditionOptimizerTest {
+
+    private static final Predicate<String> AGE = "age"::equals;
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> DocumentConditionOptimizer.optimize((DocumentCondition) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentConditionOptimizer.optimize((DocumentQuery) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentConditionOptimizer.optimize((DocumentDeleteQuery) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> DocumentConditionOptimizer.optimize(eq("age", 10), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldKeepCondition() {
+        DocumentCondition condition = and(eq("name", "Ada"), gt("age", 10));
+        assertThat(DocumentConditionOptimizer.optimize(condition)).contains(condition);
+        assertThat(DocumentConditionOptimizer.optimize(like("name", "A%"))).contains(like("name", "A%"));
+    }
+
+    @Test
+    public void shouldFlatten() {
+        DocumentCondition condition = and(and(eq("name", "Ada")), and(like("city", "S%"), and(gt("age", 10))));
+        assertThat(DocumentConditionOptimizer.optimize(condition))
+                .contains(and(eq("name", "Ada"), like("city", "S%"), gt("age", 10)));
+        assertThat(DocumentConditionOptimizer.optimize(or(or(like("name", "A%")), like("name", "B%"))))
+                .contains(or(like("name", "A%"), like("name", "B%")));
+    }
+
+    @Test
+    public void shouldRemoveDuplicated() {
+        assertThat(DocumentConditionOptimizer.optimize(and(eq("name", "Ada"), eq("name", "Ada"))))
+                .contains(eq("name", "Ada"));
+        assertThat(DocumentConditionOptimizer.optimize(not(not(eq("name", "Ada"))))).contains(eq("name", "Ada"));
+    }
+
+    @Test
+    public void shouldConvertOrToIn() {
+        DocumentCondition condition = or(eq("age", 1), eq("age", 2), like("name", "A%"), in("age", List.of(2, 3)));
+        assertThat(DocumentConditionOptimizer.optimize(condition))
+                .contains(or(in("age", List.of(1, 2, 3)), like("name", "A%")));
+        assertThat(DocumentConditionOptimizer.optimize(or(eq("age", 1), eq("age", 2))))
+                .contains(in("age", List.of(1, 2)));
+        assertThat(DocumentConditionOptimizer.optimize(in("age", List.of(1)))).contains(eq("age", 1));
+    }
+
+    @Test
+    public void shouldMergeRanges() {
+        assertThat(DocumentConditionOptimizer.optimize(and(gte("age", 10), lte("age", 20L), eq("name", "Ada")),
+                AGE))
+                .contains(and(between("age", List.of(10, 20L)), eq("name", "Ada")));
+        assertThat(DocumentConditionOptimizer.optimize(and(gt("age", 10), gt("age", 15), lt("age", 20)), AGE))
+                .contains(and(gt("age", 15), lt("age", 20)));
+        assertThat(DocumentConditionOptimizer.optimize(and(gte("age", 10), lte("age", 10)), AGE))
+                .contains(eq("age", 10));
+        assertThat(DocumentConditionOptimizer.optimize(and(eq("age", 15), between("age", List.of(10, 20))), AGE))
+                .contains(eq("age", 15));
+    }
+
+    @Test
+    public void shouldKeepRangesThatCannotBeCompared() {
+        DocumentCondition condition = and(gt("age", 10), lt("age", "20"));
+        assertThat(DocumentConditionOptimizer.optimize(condition, AGE)).contains(condition);
+    }
+
+    @Test
+    public void shouldDetectContradiction() {
+        assertThat(DocumentConditionOptimizer.optimize(and(eq("age", 10), eq("age", 20)), AGE)).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(and(gt("age", 20), lt("age", 10)), AGE)).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(and(gt("age", 10), lt("age", 10)), AGE)).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(and(eq("age", 5), gte("age", 10)), AGE)).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(in("age", List.of()))).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(between("age", List.of(20, 10)), AGE)).isEmpty();
+        assertThat(DocumentConditionOptimizer.optimize(or(and(eq("age", 10), eq("age", 20)), eq("name", "Ada")),
+                AGE))
+                .contains(eq("name", "Ada"));
+    }
+
+    @Test
+    public void shouldNotMergeFieldsThatAreNotSingleValued() {
+        DocumentCondition tags = and(eq("tags", "a"), eq("tags", "b"));
+        assertThat(DocumentConditionOptimizer.optimize(tags)).contains(tags);
+        assertThat(DocumentConditionOptimizer.optimize(tags, AGE)).contains(tags);
+        DocumentCondition ages = and(gt("age", 20), lt("age", 10));
+        assertThat(DocumentConditionOptimizer.optimize(ages)).contains(ages);
+        assertThat(DocumentConditionOptimizer.optimize(between("age", List.of(20, 10))))
+                .contains(between("age", List.of(20, 10)));
+        assertThat(DocumentConditionOptimizer.optimize(and(and(eq("tags", "a")), eq("tags", "b"))))
+                .contains(tags);
+    }
+
+    @Test
+    public void shouldOptimizeQuery() {
+        DocumentQuery query = DocumentQuery.select().from("Person").where("age").gt(10).and("age").gt(15).build();
+        Optional<DocumentQuery> optimized = DocumentConditionOptimizer.optimize(query, AGE);
+        assertThat(optimized).isPresent();
+        assertThat(optimized.get().name()).isEqualTo("Person");
+        assertThat(optimized.get().condition()).contains(gt("age", 15));
+        DocumentQuery same = DocumentQuery.select().from("Person").where("age").gt(10).build();
+        assertThat(DocumentConditionOptimizer.optimize(same, AGE)).containsSame(same);
+        DocumentQuery empty = DocumentQuery.select().from("Person").where("age").eq(10).and("age").eq(11).build();
+        assertThat(DocumentConditionOptimizer.optimize(empty, AGE)).isEmpty();
+    }
+
+    @Test
+    public void shouldOptimizeDeleteQuery() {
+        DocumentDeleteQuery query = DocumentDeleteQuery.delete().from("Person").where("age").eq(10)
+                .or("age").eq(11).build();
+        Optional<DocumentDeleteQuery> optimized = DocumentConditionOptimizer.optimize(query);
+        assertThat(optimized.flatMap(DocumentDeleteQuery::condition).map(DocumentCondition::condition))
+                .contains(Condition.IN);
+        DocumentDeleteQuery all = DocumentDeleteQuery.delete().from("Person").build();
+        assertThat(DocumentConditionOptimizer.optimize(all)).containsSame(all);
+    }
+}
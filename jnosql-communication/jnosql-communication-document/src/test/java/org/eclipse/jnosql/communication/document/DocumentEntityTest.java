@@ -17,6 +17,7 @@
 
 package org.eclipse.jnosql.communication.document;
 
+import org.eclipse.jnosql.communication.EntitySchema;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.junit.jupiter.api.Assertions;
@@ -27,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -42,7 +44,7 @@ public class DocumentEntityTest {
 
     @Test
     public void shouldReturnErrorWhenNameIsNull() {
-        Assertions.assertThrows(NullPointerException.class, () -> DocumentEntity.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> DocumentEntity.of((String) null));
     }
 
     @Test
@@ -407,4 +409,100 @@ public class DocumentEntityTest {
         assertTrue(collection.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAddLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        DocumentEntity entity = DocumentEntity.of("entity");
+        entity.addLazy("age", () -> {
+            calls.incrementAndGet();
+            return "10";
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> entity.addLazy(null, () -> "10"));
+        Assertions.assertThrows(NullPointerException.class, () -> entity.addLazy("age", null));
+        assertEquals(1, entity.size());
+        assertEquals(0, calls.get());
+        assertEquals(10, entity.find("age", Integer.class).orElseThrow());
+        assertEquals(10, entity.find("age", Integer.class).orElseThrow());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldCreateFromSchema() {
+        EntitySchema schema = EntitySchema.of("person");
+        DocumentEntity entity = DocumentEntity.of(schema);
+        entity.add("name", "Ada");
+        entity.add(Document.of("age", 10));
+        entity.add("name", "Diana");
+        assertEquals("person", entity.name());
+        assertEquals(2, entity.size());
+        assertEquals("Diana", entity.find("name", String.class).orElseThrow());
+        assertEquals(Document.of("age", 10), entity.find("age").orElseThrow());
+        assertFalse(entity.find("salary").isPresent());
+        assertThat(entity.getDocumentNames()).containsExactly("name", "age");
+        assertThat(entity.getValues()).containsExactly(Value.of("Diana"), Value.of(10));
+        assertThat(entity.toMap()).isEqualTo(Map.of("name", "Diana", "age", 10));
+
+        DocumentEntity expected = DocumentEntity.of("person", List.of(Document.of("name", "Diana"), Document.of("age", 10)));
+        assertEquals(expected, entity);
+        assertEquals(entity, expected);
+        assertEquals(expected.hashCode(), entity.hashCode());
+    }
+
+    @Test
+    public void shouldReturnSchemaViews() {
+        DocumentEntity entity = DocumentEntity.of(EntitySchema.of("person"));
+        List<Document> documents = entity.documents();
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        assertThat(documents).containsExactly(Document.of("name", "Ada"), Document.of("age", 10));
+        assertEquals(Document.of("age", 10), documents.get(1));
+        assertTrue(entity.remove("name"));
+        assertFalse(entity.remove("name"));
+        assertThat(documents).containsExactly(Document.of("age", 10));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> documents.add(Document.of("name", "Ada")));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> documents.get(1));
+        entity.clear();
+        assertTrue(entity.isEmpty());
+        assertThat(documents).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnSchemaViewsByIndex() {
+        EntitySchema schema = EntitySchema.of("person");
+        DocumentEntity ada = DocumentEntity.of(schema);
+        ada.add("name", "Ada");
+        ada.add("age", 10);
+        ada.add("city", "London");
+        DocumentEntity diana = DocumentEntity.of(schema);
+        diana.add("city", "Themyscira");
+        diana.add("name", "Diana");
+        List<Document> documents = diana.documents();
+        assertEquals(Document.of("name", "Diana"), documents.get(0));
+        assertEquals(Document.of("city", "Themyscira"), documents.get(1));
+        diana.remove("name");
+        diana.add("age", 30);
+        assertEquals(Document.of("age", 30), documents.get(0));
+        assertEquals(Document.of("city", "Themyscira"), documents.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> documents.get(2));
+    }
+
+    @Test
+    public void shouldShareSchema() {
+        EntitySchema schema = EntitySchema.of("person");
+        DocumentEntity ada = DocumentEntity.of(schema);
+        ada.add("name", "Ada");
+        DocumentEntity diana = DocumentEntity.of(schema);
+        diana.add("age", 10);
+        diana.add("name", "Diana");
+        assertThat(schema.fields()).containsExactly("name", "age");
+        assertThat(ada.documents()).containsExactly(Document.of("name", "Ada"));
+        assertFalse(ada.contains("age"));
+        assertThat(diana.getDocumentNames()).containsExactly("name", "age");
+
+        DocumentEntity copy = diana.copy();
+        copy.add("name", "Other");
+        assertEquals("Diana", diana.find("name", String.class).orElseThrow());
+        assertEquals("Other", copy.find("name", String.class).orElseThrow());
+        Assertions.assertThrows(NullPointerException.class, () -> DocumentEntity.of((EntitySchema) null));
+    }
+}
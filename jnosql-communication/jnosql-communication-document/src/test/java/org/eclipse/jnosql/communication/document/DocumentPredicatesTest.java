@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentPredicatesTest {
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> DocumentPredicates.compile(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldCompileField() {
+        Predicate<DocumentEntity> predicate = DocumentPredicates.compile(DocumentCondition.gte("age", 18));
+        assertThat(predicate).accepts(person("Ada", 36)).rejects(person("Poliana", 10), DocumentEntity.of("Person"));
+    }
+
+    @Test
+    public void shouldCompileTree() {
+        DocumentCondition condition = DocumentCondition.or(
+                DocumentCondition.and(DocumentCondition.like("name", "A%"),
+                        DocumentCondition.between("age", List.of(30, 40))),
+                DocumentCondition.in("name", List.of("Poliana", "Otavio")));
+        Predicate<DocumentEntity> predicate = DocumentPredicates.compile(condition);
+        assertThat(predicate).accepts(person("Ada", 36), person("Poliana", 10))
+                .rejects(person("Ada", 20), person("Diana", 36));
+    }
+
+    @Test
+    public void shouldCompileNot() {
+        Predicate<DocumentEntity> predicate = DocumentPredicates.compile(DocumentCondition.eq("name", "Ada").negate());
+        assertThat(predicate).accepts(person("Poliana", 10)).rejects(person("Ada", 36));
+    }
+
+    @Test
+    public void shouldCompileSubDocument() {
+        DocumentEntity entity = person("Ada", 36);
+        entity.add(Document.of("address", List.of(Document.of("city", "Salvador"), Document.of("zip", "40000"))));
+        Predicate<DocumentEntity> predicate = DocumentPredicates.compile(DocumentCondition.eq("address.city",
+                "Salvador"));
+        assertThat(predicate).accepts(entity).rejects(person("Poliana", 10));
+        DocumentEntity flat = person("Ada", 36);
+        flat.add("address.city", "Salvador");
+        assertThat(predicate).accepts(flat);
+    }
+
+    @Test
+    public void shouldCompileSchemaEntity() {
+        EntitySchema schema = EntitySchema.of("Person");
+        DocumentEntity entity = DocumentEntity.of(schema);
+        entity.add("name", "Ada");
+        entity.add("age", 36);
+        assertThat(DocumentPredicates.compile(DocumentCondition.gt("age", 30L))).accepts(entity);
+        assertThat(DocumentPredicates.compile(DocumentCondition.eq("salary", 10))).rejects(entity);
+    }
+
+    private static DocumentEntity person(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", name);
+        entity.add("age", age);
+        return entity;
+    }
+}
@@ -229,4 +229,47 @@ class DocumentQueryParserTest {
         assertThrows(NonUniqueResultException.class, prepare::singleResult);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNormalizeLiterals() {
+        DocumentQueryParser normalized = new DocumentQueryParser(true);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        normalized.query("select * from God where name = 'Diana' and age > 10", manager,
+                DocumentObserverParser.EMPTY);
+        normalized.query("select * from God where name = 'Ada' and age > 20", manager,
+                DocumentObserverParser.EMPTY);
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+
+        DocumentQuery diana = captor.getAllValues().get(0);
+        DocumentQuery ada = captor.getAllValues().get(1);
+        assertEquals(DocumentCondition.and(DocumentCondition.eq("name", "Diana"), DocumentCondition.gt("age", 10L)),
+                diana.condition().orElseThrow());
+        assertEquals(DocumentCondition.and(DocumentCondition.eq("name", "Ada"), DocumentCondition.gt("age", 20L)),
+                ada.condition().orElseThrow());
+    }
+
+    @Test
+    public void shouldNormalizeInsert() {
+        DocumentQueryParser normalized = new DocumentQueryParser(true);
+        ArgumentCaptor<DocumentEntity> captor = ArgumentCaptor.forClass(DocumentEntity.class);
+        normalized.query("insert God (name = 'Diana', age = 10)", manager, DocumentObserverParser.EMPTY);
+        Mockito.verify(manager).insert(captor.capture());
+        DocumentEntity entity = captor.getValue();
+        assertEquals("God", entity.name());
+        assertEquals("Diana", entity.find("name").orElseThrow().get());
+        assertEquals(10L, entity.find("age").orElseThrow().get());
+    }
+
+    @Test
+    public void shouldKeepErrorsWhenNormalize() {
+        DocumentQueryParser normalized = new DocumentQueryParser(true);
+        QueryException expected = assertThrows(QueryException.class,
+                () -> parser.query("select * from God where   age = 10 limit", manager, DocumentObserverParser.EMPTY));
+        QueryException exception = assertThrows(QueryException.class,
+                () -> normalized.query("select * from God where   age = 10 limit", manager,
+                        DocumentObserverParser.EMPTY));
+        assertEquals(expected.getMessage(), exception.getMessage());
+        assertThrows(QueryException.class, () -> normalized.query("select * from God where age = @age", manager,
+                DocumentObserverParser.EMPTY));
+    }
+
+}
@@ -16,9 +16,15 @@
  */
 package org.eclipse.jnosql.communication.document;
 
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +33,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 public class DocumentsTest {
@@ -59,4 +66,38 @@ public class DocumentsTest {
         assertEquals(Document.of("mobile", "55 1234-4567"), result.get(0).get(0));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEncodeEntity() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add(Document.of("address", List.of(Document.of("city", "Salvador"), Document.of("zip", 123L))));
+        DocumentEntity decoded = Documents.codec().decode(Documents.codec().encode(entity));
+        assertEquals(entity, decoded);
+        assertEquals(10, decoded.find("age", int.class).orElseThrow());
+    }
+
+    @Test
+    public void shouldStreamJsonArray() {
+        String json = "[{\"name\": \"Ada\", \"age\": 10, \"address\": {\"city\": \"Salvador\"}, " +
+                "\"phones\": [\"1\", null], \"nick\": null}, {\"name\": \"Diana\", \"active\": true}]";
+        List<List<Document>> values = Documents.of(Json.createParser(new StringReader(json))).toList();
+        assertThat(values).hasSize(2);
+        assertThat(values.get(0)).containsExactly(Document.of("name", "Ada"), Document.of("age", BigDecimal.TEN),
+                Document.of("address", Document.of("city", "Salvador")),
+                Document.of("phones", Arrays.asList("1", null)));
+        assertThat(values.get(1)).containsExactly(Document.of("name", "Diana"), Document.of("active", true));
+    }
+
+    @Test
+    public void shouldStreamJsonArrayIncrementally() {
+        String json = "[{\"name\": \"Ada\"}, {\"name\": ";
+        List<Document> first = Documents.of(Json.createParser(new StringReader(json))).findFirst().orElseThrow();
+        assertThat(first).containsExactly(Document.of("name", "Ada"));
+        assertThrows(NullPointerException.class, () -> Documents.of((JsonParser) null));
+        assertThrows(CommunicationException.class, () -> Documents.of(Json.createParser(new StringReader("{}"))));
+        assertThrows(CommunicationException.class, () -> Documents.of(Json.createParser(new StringReader("[1]")))
+                .toList());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+
+class InMemoryDocumentManagerTest {
+
+    private InMemoryDocumentManagerFactory factory;
+
+    private DocumentManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        Settings settings = Settings.builder()
+                .put(InMemoryConfigurations.HASH_INDEX.get() + ".Person", "name")
+                .put(InMemoryConfigurations.SORTED_INDEX.get() + ".Person", "age").build();
+        factory = new InMemoryDocumentConfiguration().apply(settings);
+        manager = factory.apply("database");
+        manager.insert(List.of(person(1, "Ada", 36, "Salvador"), person(2, "Poliana", 10, "Salvador"),
+                person(3, "Otavio", 30, "Lisbon"), person(4, "Maria", 50, "Lisbon")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> manager.insert((DocumentEntity) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.select(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.delete(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new InMemoryDocumentConfiguration().apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldShareDatabase() {
+        assertThat(factory.apply("database")).isSameAs(manager);
+        assertThat(manager.name()).isEqualTo("database");
+        assertThat(factory.apply("other").count("Person")).isZero();
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldInsertWithId() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Diana");
+        manager.insert(entity);
+        assertThat(entity.find("_id")).isPresent();
+        Object id = entity.find("_id").orElseThrow().get();
+        assertThat(manager.select(select().from("Person").where("_id").eq(id).build()))
+                .singleElement().isEqualTo(entity);
+    }
+
+    @Test
+    public void shouldKeepCopies() {
+        DocumentEntity entity = person(5, "Diana", 20, "Paris");
+        manager.insert(entity);
+        entity.add("name", "Changed");
+        DocumentEntity selected = manager.singleResult(select().from("Person").where("_id").eq(5).build())
+                .orElseThrow();
+        assertThat(selected.find("name", String.class)).contains("Diana");
+        selected.add("name", "Changed");
+        assertThat(manager.select(select().from("Person").where("name").eq("Diana").build())).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldKeepDeepCopies() {
+        List<Document> address = new ArrayList<>(List.of(Document.of("city", "Paris")));
+        DocumentEntity phone = DocumentEntity.of("Phone");
+        phone.add("number", "1234");
+        DocumentEntity entity = person(5, "Diana", 20, "Paris");
+        entity.add("address", address);
+        entity.add("phone", phone);
+        manager.insert(entity);
+        address.add(Document.of("zip", "75001"));
+        phone.add("number", "Changed");
+
+        DocumentEntity selected = manager.singleResult(select().from("Person").where("_id").eq(5).build())
+                .orElseThrow();
+        List<Document> selectedAddress = (List<Document>) selected.find("address").orElseThrow().get();
+        DocumentEntity selectedPhone = (DocumentEntity) selected.find("phone").orElseThrow().get();
+        assertThat(selectedAddress).containsExactly(Document.of("city", "Paris"));
+        assertThat(selectedPhone.find("number", String.class)).contains("1234");
+
+        selectedAddress.add(Document.of("zip", "75001"));
+        selectedPhone.add("number", "Changed");
+        DocumentEntity other = manager.singleResult(select("address", "phone").from("Person").where("_id").eq(5)
+                .build()).orElseThrow();
+        assertThat((List<Document>) other.find("address").orElseThrow().get())
+                .containsExactly(Document.of("city", "Paris"));
+        assertThat(((DocumentEntity) other.find("phone").orElseThrow().get()).find("number", String.class))
+                .contains("1234");
+    }
+
+    @Test
+    public void shouldSelect() {
+        assertThat(names(select().from("Person").where("name").eq("Ada").build())).containsExactly("Ada");
+        assertThat(names(select().from("Person").where("age").gt(30).orderBy("age").asc().build()))
+                .containsExactly("Ada", "Maria");
+        assertThat(names(select().from("Person").where("age").between(10, 30).orderBy("name").desc().build()))
+                .containsExactly("Poliana", "Otavio");
+        assertThat(names(select().from("Person").where("city").eq("Lisbon").or("name").in(List.of("Ada"))
+                .orderBy("_id").asc().build())).containsExactly("Ada", "Otavio", "Maria");
+        assertThat(names(select().from("Person").where("name").like("%a").and("age").lt(40L)
+                .orderBy("age").asc().build())).containsExactly("Poliana", "Ada");
+        assertThat(names(select().from("Person").where("name").not().eq("Ada").orderBy("age").desc().skip(1)
+                .limit(1).build())).containsExactly("Otavio");
+        assertThat(names(select().from("Person").where("age").eq(10).and("age").eq(20).build())).isEmpty();
+        assertThat(names(select().from("God").build())).isEmpty();
+    }
+
+    @Test
+    public void shouldSelectDocuments() {
+        DocumentEntity entity = manager.singleResult(select("name").from("Person").where("_id").eq(1).build())
+                .orElseThrow();
+        assertThat(entity.toMap()).isEqualTo(Map.of("name", "Ada"));
+    }
+
+    @Test
+    public void shouldCountAndExists() {
+        assertThat(manager.count(select().from("Person").where("city").eq("Salvador").build())).isEqualTo(2L);
+        assertThat(manager.exists(select().from("Person").where("age").gte(50).build())).isTrue();
+        assertThat(manager.exists(select().from("Person").where("age").gt(50).build())).isFalse();
+    }
+
+    @Test
+    public void shouldUpdate() {
+        manager.update(person(1, "Ada", 37, "Paris"));
+        assertThat(names(select().from("Person").where("age").eq(37).build())).containsExactly("Ada");
+        assertThat(names(select().from("Person").where("age").eq(36).build())).isEmpty();
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Diana");
+        assertThatThrownBy(() -> manager.update(entity)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldDelete() {
+        manager.delete(delete().from("Person").where("city").eq("Lisbon").build());
+        assertThat(manager.count("Person")).isEqualTo(2L);
+        manager.delete(delete("city").from("Person").where("name").eq("Ada").build());
+        DocumentEntity ada = manager.singleResult(select().from("Person").where("_id").eq(1).build()).orElseThrow();
+        assertThat(ada.find("city")).isEmpty();
+        assertThat(ada.find("name")).isPresent();
+        manager.delete(delete().from("Person").build());
+        assertThat(manager.count("Person")).isZero();
+        manager.delete(delete().from("God").build());
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        manager.insert(person(5, "Diana", 20, "Paris"), Duration.ofMillis(1));
+        Thread.sleep(20L);
+        assertThat(names(select().from("Person").where("name").eq("Diana").build())).isEmpty();
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldQuery() {
+        assertThat(manager.query("select * from Person where age > 30 order by age desc"))
+                .extracting(e -> e.find("name", String.class).orElseThrow()).containsExactly("Maria", "Ada");
+    }
+
+    private List<String> names(DocumentQuery query) {
+        return manager.select(query).map(e -> e.find("name", String.class).orElseThrow()).toList();
+    }
+
+    private static DocumentEntity person(int id, String name, int age, String city) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", name);
+        entity.add("age", age);
+        entity.add("city", city);
+        return entity;
+    }
+}
@@ -256,4 +256,55 @@ class InsertQueryParserTest {
         assertEquals(Document.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name, age = @age)"})
+    public void shouldExecuteBatch(String query) {
+        Mockito.when(manager.insert(Mockito.<DocumentEntity>anyIterable())).thenAnswer(i -> i.getArgument(0));
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer).batchSize(2);
+        prepare.bind("age", 10);
+        List<DocumentEntity> entities = prepare.bind("name", "Diana").addBatch()
+                .bind("name", "Artemis").addBatch()
+                .bind("name", "Apollo").addBatch()
+                .executeBatch().toList();
+
+        ArgumentCaptor<Iterable<DocumentEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(manager, Mockito.times(2)).insert(captor.capture());
+        Mockito.verify(manager, Mockito.never()).insert(Mockito.any(DocumentEntity.class));
+        assertThat(captor.getAllValues()).extracting(i -> ((List<?>) i).size()).containsExactly(2, 1);
+        assertThat(entities).hasSize(3).extracting(e -> e.find("name").orElseThrow().get())
+                .containsExactly("Diana", "Artemis", "Apollo");
+        assertThat(entities).extracting(e -> e.find("age").orElseThrow().get()).containsOnly(10);
+        assertThat(prepare.executeBatch()).isEmpty();
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name) 1 day"})
+    public void shouldExecuteBatchWithTTL(String query) {
+        Mockito.when(manager.insert(Mockito.<DocumentEntity>anyIterable(), Mockito.any(Duration.class)))
+                .thenAnswer(i -> i.getArgument(0));
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("name", "Diana").addBatch().bind("name", "Artemis").addBatch();
+        assertThat(prepare.executeBatch()).hasSize(2);
+        Mockito.verify(manager).insert(Mockito.<DocumentEntity>anyIterable(), Mockito.eq(Duration.ofDays(1L)));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenAddBatchWithoutBind(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, prepare::addBatch);
+        assertThrows(IllegalArgumentException.class, () -> prepare.batchSize(0));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldKeepBatchSizeAtNewBinding(String query) {
+        Mockito.when(manager.insert(Mockito.<DocumentEntity>anyIterable())).thenAnswer(i -> i.getArgument(0));
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer).batchSize(1)
+                .bind("name", "Diana").addBatch().newBinding();
+        assertThat(prepare.executeBatch()).isEmpty();
+        prepare.bind("name", "Diana").addBatch().bind("name", "Artemis").addBatch().executeBatch();
+        Mockito.verify(manager, Mockito.times(2)).insert(Mockito.<DocumentEntity>anyIterable());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.EntitySchema;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaDocumentsTest {
+
+    @Test
+    public void shouldShareOneSchemaInstance() {
+        EntitySchema schema = EntitySchema.of("person");
+        SchemaDocuments ada = new SchemaDocuments(schema);
+        ada.put("name", Document.of("name", "Ada"));
+        SchemaDocuments diana = new SchemaDocuments(schema);
+        diana.put("age", Document.of("age", 10));
+        assertThat(ada.schema()).isSameAs(schema);
+        assertThat(diana.schema()).isSameAs(schema);
+        assertThat(diana.copy().schema()).isSameAs(schema);
+    }
+
+    @Test
+    public void shouldKeepTheValuesAtTheSlots() {
+        EntitySchema schema = EntitySchema.of("person");
+        SchemaDocuments documents = new SchemaDocuments(schema);
+        documents.put("name", Document.of("name", "Ada"));
+        documents.put("age", Document.of("age", 10));
+        Value[] slots = documents.slots();
+        assertThat(slots).hasSize(schema.size());
+        assertThat(slots[schema.slot("name")]).isEqualTo(Value.of("Ada"));
+        assertThat(slots[schema.slot("age")]).isEqualTo(Value.of(10));
+    }
+
+    @Test
+    public void shouldCopyTheSlotsOnly() {
+        SchemaDocuments documents = new SchemaDocuments(EntitySchema.of("person"));
+        documents.put("name", Document.of("name", "Ada"));
+        SchemaDocuments copy = documents.copy();
+        assertThat(copy.slots()).isNotSameAs(documents.slots()).containsExactly(documents.slots());
+    }
+}
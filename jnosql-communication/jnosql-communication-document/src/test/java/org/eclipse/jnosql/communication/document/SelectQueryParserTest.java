@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication.document;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
@@ -34,6 +35,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.document.DocumentCondition.eq;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -503,6 +506,111 @@ public class SelectQueryParserTest {
         assertEquals(12, document.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatementSeveralTimes(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.bind("age", 13);
+        prepare.result();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DefaultDocumentQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).condition().orElseThrow().document().get());
+        assertEquals(13, queries.get(1).condition().orElseThrow().document().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, sum(age), count(*) from God where age > 10 group by name " +
+            "skip 1 limit 2 order by sum(age) desc name"})
+    public void shouldAggregate(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+        parser.query(query, documentCollection, observer);
+        Mockito.verify(documentCollection).aggregate(captor.capture());
+        Mockito.verify(documentCollection, Mockito.never()).select(Mockito.any());
+        DefaultDocumentQuery documentQuery = captor.getValue();
+
+        assertEquals("God", documentQuery.name());
+        assertThat(documentQuery.documents()).containsExactly("name");
+        assertThat(documentQuery.groupBy()).containsExactly("name");
+        assertThat(documentQuery.aggregations()).containsExactly(Aggregation.sum("age"), Aggregation.count());
+        assertThat(documentQuery.sorts()).containsExactly(Sort.desc("sum(age)"), Sort.asc("name"));
+        assertEquals(1, documentQuery.skip());
+        assertEquals(2, documentQuery.limit());
+        assertEquals(Condition.GREATER_THAN, documentQuery.condition().orElseThrow().condition());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, max(age) from God group by name order by max(age)"})
+    public void shouldFireFieldsAtAggregation(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+        DocumentObserverParser observer = new DocumentObserverParser() {
+            @Override
+            public String fireField(String entity, String field) {
+                return "_" + field;
+            }
+        };
+        parser.query(query, documentCollection, observer);
+        Mockito.verify(documentCollection).aggregate(captor.capture());
+        DefaultDocumentQuery documentQuery = captor.getValue();
+        assertThat(documentQuery.documents()).containsExactly("_name");
+        assertThat(documentQuery.groupBy()).containsExactly("_name");
+        assertThat(documentQuery.aggregations()).containsExactly(Aggregation.max("_age"));
+        assertThat(documentQuery.sorts()).containsExactly(Sort.asc("max(_age)"));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name, count(*) from God where age > @age group by name"})
+    public void shouldAggregatePrepareStatement(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        Mockito.verify(documentCollection).aggregate(captor.capture());
+        DefaultDocumentQuery documentQuery = captor.getValue();
+        assertThat(documentQuery.aggregations()).containsExactly(Aggregation.count());
+        assertEquals(12, documentQuery.condition().orElseThrow().document().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldKeepQueryUntilBindAgain(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.result();
+        prepare.bind("age", 12);
+        prepare.result();
+        Mockito.verify(documentCollection, Mockito.times(3)).select(captor.capture());
+        List<DefaultDocumentQuery> queries = captor.getAllValues();
+        assertSame(queries.get(0), queries.get(1));
+        assertNotSame(queries.get(1), queries.get(2));
+        assertEquals(12, queries.get(2).condition().orElseThrow().document().get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldCreateNewBinding(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        DocumentPreparedStatement binding = prepare.newBinding();
+        assertThrows(QueryException.class, binding::result);
+
+        binding.bind("age", 13);
+        prepare.result();
+        binding.result();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DefaultDocumentQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).condition().orElseThrow().document().get());
+        assertEquals(13, queries.get(1).condition().orElseThrow().document().get());
+    }
+
     private void checkBaseQuery(DefaultDocumentQuery documentQuery, long limit, long skip) {
         assertTrue(documentQuery.documents().isEmpty());
         assertTrue(documentQuery.sorts().isEmpty());
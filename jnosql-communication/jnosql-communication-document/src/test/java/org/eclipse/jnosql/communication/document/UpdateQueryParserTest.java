@@ -135,4 +135,19 @@ class UpdateQueryParserTest {
         assertEquals(Document.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"update God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        Mockito.when(manager.update(Mockito.<DocumentEntity>anyIterable())).thenAnswer(i -> i.getArgument(0));
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        List<DocumentEntity> entities = prepare.bind("name", "Diana").addBatch()
+                .bind("name", "Artemis").addBatch()
+                .executeBatch().toList();
+
+        Mockito.verify(manager).update(Mockito.<DocumentEntity>anyIterable());
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(DocumentEntity.class));
+        assertThat(entities).extracting(e -> e.find("name").orElseThrow().get())
+                .containsExactly("Diana", "Artemis");
+    }
+}
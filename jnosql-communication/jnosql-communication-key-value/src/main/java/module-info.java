@@ -11,6 +11,7 @@
  */
 module org.eclipse.jnosql.communication.key.value {
     requires jakarta.json;
+    requires jakarta.json.bind;
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
     requires jakarta.data.api;
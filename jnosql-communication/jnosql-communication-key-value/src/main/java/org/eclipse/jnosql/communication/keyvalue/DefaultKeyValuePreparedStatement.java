@@ -25,36 +25,42 @@ import org.eclipse.jnosql.communication.Value;
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatement {
-    private final List<Value> keys;
+    private final Function<Params, List<Value>> keys;
     private final PreparedStatementType type;
 
     private final BucketManager manager;
 
-    private final List<String> paramsLeft;
-
-    private final Params params;
+    private final List<String> paramsNames;
 
     private final Duration ttl;
 
     private final String query;
-    private final Value key;
-    private final Value value;
+    private final Function<Params, Value> key;
+    private final Function<Params, Value> value;
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
 
-    DefaultKeyValuePreparedStatement(Value key, Value value, List<Value> keys, PreparedStatementType type,
-                                     BucketManager manager, Params params, Duration ttl, String query) {
+    private volatile Bound bound;
+
+    private DefaultKeyValuePreparedStatement(Function<Params, Value> key, Function<Params, Value> value,
+                                             Function<Params, List<Value>> keys, PreparedStatementType type,
+                                             BucketManager manager, List<String> paramsNames, Duration ttl,
+                                             String query) {
         this.key = key;
         this.value = value;
         this.keys = keys;
         this.type = type;
         this.manager = manager;
-        this.params = params;
-        this.paramsLeft = params.getParametersNames();
+        this.paramsNames = paramsNames;
         this.ttl = ttl;
         this.query = query;
     }
@@ -64,27 +70,35 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
+        bound = null;
         return this;
     }
 
+    @Override
+    public KeyValuePreparedStatement newBinding() {
+        return new DefaultKeyValuePreparedStatement(key, value, keys, type, manager, paramsNames, ttl, query);
+    }
+
     @Override
     public Stream<Value> result() {
+        Map<String, Object> bindings = Map.copyOf(values);
+        List<String> paramsLeft = paramsNames.stream().filter(n -> !bindings.containsKey(n)).toList();
         if (!paramsLeft.isEmpty()) {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
 
         switch (type) {
             case GET -> {
-                return keys.stream().map(Value::get).map(manager::get).filter(Optional::isPresent).map(Optional::get);
+                return keys(bindings).stream().map(Value::get).map(manager::get).filter(Optional::isPresent)
+                        .map(Optional::get);
             }
             case DEL -> {
-                manager.delete(keys.stream().map(Value::get).collect(Collectors.toList()));
+                manager.delete(keys(bindings).stream().map(Value::get).collect(Collectors.toList()));
                 return Stream.empty();
             }
             case PUT -> {
-                KeyValueEntity entity = KeyValueEntity.of(key.get(), value.get());
+                KeyValueEntity entity = KeyValueEntity.of(bind(key, bindings).get(), bind(value, bindings).get());
                 if (Objects.isNull(ttl)) {
                     manager.put(entity);
                 } else {
@@ -113,19 +127,49 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private List<Value> keys(Map<String, Object> bindings) {
+        Bound last = bound;
+        if (last != null && last.bindings().equals(bindings)) {
+            return last.keys();
+        }
+        List<Value> result = bind(keys, bindings);
+        bound = new Bound(bindings, result);
+        return result;
+    }
+
+    private static <T> T bind(Function<Params, T> prepared, Map<String, Object> bindings) {
+        Params params = Params.newParams();
+        T result = prepared.apply(params);
+        bindings.forEach(params::bind);
+        return result;
+    }
+
+    private record Bound(Map<String, Object> bindings, List<Value> keys) {
+    }
+
     enum PreparedStatementType {
         GET, PUT, DEL
     }
 
-    static KeyValuePreparedStatement get(List<Value> keys, BucketManager manager, Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.GET, manager, params, null, query);
+    static KeyValuePreparedStatement get(Function<Params, List<Value>> keys, BucketManager manager, String query) {
+        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.GET, manager,
+                paramsNames(keys), null, query);
+    }
+
+    static KeyValuePreparedStatement put(Function<Params, Value> key, Function<Params, Value> value,
+                                         BucketManager manager, Duration ttl, String query) {
+        return new DefaultKeyValuePreparedStatement(key, value, null, PreparedStatementType.PUT, manager,
+                paramsNames(p -> List.of(key.apply(p), value.apply(p))), ttl, query);
     }
 
-    static KeyValuePreparedStatement put(Value key, Value value, BucketManager manager, Params params, Duration ttl, String query) {
-        return new DefaultKeyValuePreparedStatement(key, value, null, PreparedStatementType.PUT, manager, params, ttl, query);
+    static KeyValuePreparedStatement del(Function<Params, List<Value>> keys, BucketManager manager, String query) {
+        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.DEL, manager,
+                paramsNames(keys), null, query);
     }
 
-    static KeyValuePreparedStatement del(List<Value> keys, BucketManager manager, Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.DEL, manager, params, null, query);
+    private static List<String> paramsNames(Function<Params, ?> prepared) {
+        Params params = Params.newParams();
+        prepared.apply(params);
+        return List.copyOf(params.getParametersNames());
     }
 }
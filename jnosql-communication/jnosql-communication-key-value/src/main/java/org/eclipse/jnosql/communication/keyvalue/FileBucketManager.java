@@ -0,0 +1,485 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.EntityCodec;
+import org.eclipse.jnosql.communication.Entry;
+import org.eclipse.jnosql.communication.Value;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.keyvalue.FileSegment.DELETE;
+import static org.eclipse.jnosql.communication.keyvalue.FileSegment.NO_EXPIRATION;
+import static org.eclipse.jnosql.communication.keyvalue.FileSegment.PUT;
+
+/**
+ * A {@link BucketManager} that keeps the entries at an append-only log of {@link FileSegment} files, with an index
+ * in memory from each key to the offset of its latest record. The writes are serialized and append a record to the
+ * active segment, a delete appends a tombstone; the reads are lock-free and decode the value straight from a view of
+ * the memory-mapped file. When the bucket is opened, the log is replayed from the oldest segment, thus, it recovers
+ * the writes up to the last complete record.
+ * The compaction copies the latest records of a segment with many dead bytes to the active one and deletes it, the
+ * expired records are dropped; a tombstone, or the tombstone of an expired record, is kept while there are older
+ * segments, otherwise an older record of the key would be back at the next replay.
+ * The keys and the values whose types the {@link EntityCodec} supports are written in its binary format, the other
+ * values are written as JSON with their class name, thus, a JSON-B implementation, e.g.: Yasson, is required at the
+ * runtime to them, otherwise, they fail with a {@link CommunicationException}.
+ * A key must read back equal to itself after the replay: an enum key is kept as its name and an atomic number as its
+ * value, at the put and at the get, and the key types whose decoded instance is not equal to the original one, such as
+ * a collection or an array, are rejected.
+ *
+ * @see FileKeyValueConfiguration
+ */
+public class FileBucketManager implements BucketManager {
+
+    private static final String KEY = "key";
+
+    private static final String VALUE = "value";
+
+    private static final String JSON = "json";
+
+    private static final String TYPE = "type";
+
+    private static final Set<Class<?>> KEY_TYPES = Set.of(String.class, Boolean.class, Integer.class, Long.class,
+            Short.class, Byte.class, Character.class, Double.class, Float.class, BigInteger.class, BigDecimal.class,
+            UUID.class, LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class, Year.class,
+            YearMonth.class, OffsetDateTime.class, OffsetTime.class, ZonedDateTime.class);
+
+    private static final EntityCodec<List<Element>, Element> CODEC = EntityCodec.of(elements -> "",
+            elements -> elements, (name, elements) -> elements, Element::new);
+
+    private final String name;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final boolean sync;
+
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final NavigableMap<Long, FileSegment> segments = new ConcurrentSkipListMap<>();
+
+    private final Map<Object, Location> index = new ConcurrentHashMap<>();
+
+    private volatile FileSegment active;
+
+    FileBucketManager(String name, Path directory, int segmentSize, boolean sync, LongSupplier clock) {
+        this.name = name;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.clock = clock;
+        recover();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        put(KeyValueEntity.of(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(List.of(entity), NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(List.of(entity), expiration(ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        put(entities, NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        put(entities, expiration(ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Object current = key(key);
+        while (true) {
+            Location location = index.get(current);
+            if (location == null || location.expiration <= clock.getAsLong()) {
+                return Optional.empty();
+            }
+            List<Element> elements = location.segment.read(location.offset, CODEC::decode);
+            if (elements != null) {
+                return Optional.of(value(elements));
+            }
+            // the compaction has moved the record and deleted the segment, the index has the new location
+        }
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            get(key).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        delete(List.of(key(key)));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Object> values = new ArrayList<>();
+        keys.forEach(key -> values.add(key(key)));
+        lock.lock();
+        try {
+            for (Object key : values) {
+                Location previous = index.remove(key);
+                if (previous != null) {
+                    previous.segment.addLive(-previous.size);
+                    append(DELETE, NO_EXPIRATION, encode(List.of(new Element(KEY, Value.of(key)))));
+                }
+            }
+            if (sync) {
+                active.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the writes to the storage device, the segments keep open while the
+     * {@link FileBucketManagerFactory} is open.
+     */
+    @Override
+    public void close() {
+        active.force();
+    }
+
+    @Override
+    public String toString() {
+        return "FileBucketManager{" +
+                "name='" + name + '\'' +
+                ", directory=" + directory +
+                ", segments=" + segments.size() +
+                ", keys=" + index.size() +
+                '}';
+    }
+
+    /**
+     * @return the number of segment files
+     */
+    int segments() {
+        return segments.size();
+    }
+
+    /**
+     * Compacts the segments, but the active one, whose dead bytes reach the ratio or whose records with TTL have
+     * expired, from the oldest one, it is called by the compaction thread
+     */
+    void compact(double ratio) {
+        long now = clock.getAsLong();
+        for (FileSegment segment : new ArrayList<>(segments.values())) {
+            if (segment != active && segment.isCompactable(ratio, now)) {
+                compact(segment, now);
+            }
+        }
+    }
+
+    void shutdown() {
+        lock.lock();
+        try {
+            segments.values().forEach(FileSegment::close);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(path -> path.getFileName().toString())
+                        .filter(file -> file.matches("\\d+\\.log"))
+                        .mapToLong(file -> Long.parseLong(file.substring(0, file.length() - ".log".length())))
+                        .sorted()
+                        .forEach(id -> segments.put(id, FileSegment.open(directory, id, segmentSize)));
+            }
+        } catch (IOException exception) {
+            throw new CommunicationException("There is an error when the bucket " + directory + " is opened",
+                    exception);
+        }
+        for (FileSegment segment : segments.values()) {
+            segment.recover(offset -> replay(segment, offset));
+        }
+        active = segments.isEmpty() ? roll(1L, segmentSize) : segments.lastEntry().getValue();
+    }
+
+    private void replay(FileSegment segment, int offset) {
+        Object key = key(CODEC.decode(segment.payload(offset)));
+        if (segment.type(offset) == PUT) {
+            index(key, new Location(segment, offset, segment.size(offset), segment.expiration(offset)));
+        } else {
+            Location previous = index.remove(key);
+            if (previous != null) {
+                previous.segment.addLive(-previous.size);
+            }
+        }
+    }
+
+    private void compact(FileSegment segment, long now) {
+        boolean oldest = segments.firstKey() == segment.id();
+        List<Integer> offsets = new ArrayList<>();
+        segment.records(offsets::add);
+        for (int offset : offsets) {
+            lock.lock();
+            try {
+                compact(segment, offset, oldest, now);
+            } finally {
+                lock.unlock();
+            }
+        }
+        lock.lock();
+        try {
+            if (sync) {
+                active.force();
+            }
+            segments.remove(segment.id());
+            segment.delete();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void compact(FileSegment segment, int offset, boolean oldest, long now) {
+        ByteBuffer payload = segment.payload(offset);
+        Object key = key(CODEC.decode(payload.duplicate()));
+        Location location = index.get(key);
+        if (segment.type(offset) == PUT) {
+            if (location == null || location.segment != segment || location.offset != offset) {
+                return;
+            } else if (location.expiration <= now) {
+                index.remove(key);
+                if (!oldest) {
+                    append(DELETE, NO_EXPIRATION, encode(List.of(new Element(KEY, Value.of(key)))));
+                }
+                return;
+            }
+            index(key, append(PUT, location.expiration, bytes(payload)));
+        } else if (!oldest && location == null) {
+            append(DELETE, NO_EXPIRATION, bytes(payload));
+        }
+    }
+
+    private void put(Iterable<KeyValueEntity> entities, long expiration) {
+        List<Object> keys = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        for (KeyValueEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            Object key = key(entity.key());
+            keys.add(key);
+            payloads.add(encode(key, entity.value()));
+        }
+        lock.lock();
+        try {
+            for (int index = 0; index < keys.size(); index++) {
+                index(keys.get(index), append(PUT, expiration, payloads.get(index)));
+            }
+            if (sync) {
+                active.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void index(Object key, Location location) {
+        location.segment.addLive(location.size);
+        Location previous = index.put(key, location);
+        if (previous != null) {
+            previous.segment.addLive(-previous.size);
+        }
+    }
+
+    private Location append(byte type, long expiration, byte[] payload) {
+        FileSegment segment = active;
+        int offset = segment.append(type, expiration, payload);
+        if (offset < 0) {
+            segment.force();
+            segment = roll(segment.id() + 1, Math.max(segmentSize, FileSegment.recordSize(payload.length)));
+            offset = segment.append(type, expiration, payload);
+        }
+        return new Location(segment, offset, FileSegment.recordSize(payload.length), expiration);
+    }
+
+    private FileSegment roll(long id, int capacity) {
+        FileSegment segment = FileSegment.open(directory, id, capacity);
+        segments.put(id, segment);
+        active = segment;
+        return segment;
+    }
+
+    private long expiration(Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        return clock.getAsLong() + ttl.toMillis();
+    }
+
+    private static Object key(Object key) {
+        Objects.requireNonNull(key, "key is required");
+        Object current = key instanceof Value value ? value.get() : key;
+        if (current instanceof Enum<?> element) {
+            return element.name();
+        } else if (current instanceof AtomicInteger number) {
+            return number.get();
+        } else if (current instanceof AtomicLong number) {
+            return number.get();
+        } else if (!KEY_TYPES.contains(current.getClass())) {
+            throw new UnsupportedOperationException("The key type " + current.getClass()
+                    + " is not supported by the file bucket, it does not read back equal to itself");
+        }
+        return current;
+    }
+
+    private static Object key(List<Element> elements) {
+        return elements.get(0).value().get();
+    }
+
+    private static Value value(List<Element> elements) {
+        Element element = elements.get(1);
+        if (VALUE.equals(element.name())) {
+            return element.value();
+        }
+        String json = element.value().get(String.class);
+        String type = elements.get(2).value().get(String.class);
+        try {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            return Value.of(Json.jsonb(type).fromJson(json, Class.forName(type, true, loader)));
+        } catch (ClassNotFoundException exception) {
+            throw new CommunicationException("The class " + type + " of the value is not found", exception);
+        }
+    }
+
+    private static byte[] encode(Object key, Object value) {
+        Element element = new Element(KEY, Value.of(key));
+        try {
+            return encode(List.of(element, new Element(VALUE, Value.of(value))));
+        } catch (UnsupportedOperationException exception) {
+            return encode(List.of(element, new Element(JSON, Value.of(Json.jsonb(value.getClass().getName())
+                            .toJson(value))),
+                    new Element(TYPE, Value.of(value.getClass().getName()))));
+        }
+    }
+
+    private static byte[] encode(List<Element> elements) {
+        return CODEC.encode(elements);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private record Element(String name, Value value) implements Entry {
+    }
+
+    private record Location(FileSegment segment, int offset, int size, long expiration) {
+    }
+
+    /**
+     * The JSON-B implementation is only looked up at the first value that the codec does not support.
+     */
+    private static final class Json {
+
+        private static final Jsonb JSONB;
+
+        private static final JsonbException ERROR;
+
+        static {
+            Jsonb jsonb = null;
+            JsonbException error = null;
+            try {
+                jsonb = JsonbBuilder.create();
+            } catch (JsonbException exception) {
+                error = exception;
+            }
+            JSONB = jsonb;
+            ERROR = error;
+        }
+
+        private static Jsonb jsonb(String type) {
+            if (JSONB == null) {
+                throw new CommunicationException("The values of the type " + type + " are written as JSON, thus, the "
+                        + "file bucket requires a JSON-B implementation, e.g.: org.eclipse:yasson, at the runtime",
+                        ERROR);
+            }
+            return JSONB;
+        }
+    }
+}
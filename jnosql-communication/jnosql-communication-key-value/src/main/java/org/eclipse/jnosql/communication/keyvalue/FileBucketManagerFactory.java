@@ -0,0 +1,130 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link BucketManagerFactory} of the {@link FileKeyValueConfiguration}, each bucket is a subdirectory of the
+ * {@link FileConfigurations#DIRECTORY} and it is opened, and recovered, once per factory. A single daemon thread
+ * compacts the segments of every bucket at each {@link FileConfigurations#COMPACTION_INTERVAL}.
+ * The data structures are not supported.
+ */
+public class FileBucketManagerFactory implements BucketManagerFactory {
+
+    private static final System.Logger LOGGER = System.getLogger(FileBucketManagerFactory.class.getName());
+
+    private final Map<String, FileBucketManager> managers = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final double ratio;
+
+    private final boolean sync;
+
+    private final ScheduledExecutorService compaction;
+
+    FileBucketManagerFactory(Settings settings) {
+        this.directory = Path.of(settings.get(FileConfigurations.DIRECTORY, String.class)
+                .orElseThrow(() -> new CommunicationException("The configuration " + FileConfigurations.DIRECTORY.get()
+                        + " is required")));
+        this.segmentSize = settings.get(FileConfigurations.SEGMENT_SIZE, Integer.class)
+                .orElse(FileConfigurations.DEFAULT_SEGMENT_SIZE);
+        this.ratio = settings.get(FileConfigurations.COMPACTION_RATIO, Double.class)
+                .orElse(FileConfigurations.DEFAULT_COMPACTION_RATIO);
+        this.sync = settings.get(FileConfigurations.SYNC, Boolean.class).orElse(false);
+        long interval = settings.get(FileConfigurations.COMPACTION_INTERVAL, Long.class)
+                .orElse(FileConfigurations.DEFAULT_COMPACTION_INTERVAL);
+        if (segmentSize <= 0 || interval <= 0 || ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("The segment size and the compaction interval must be positive, and "
+                    + "the compaction ratio must be from 0 to 1: " + segmentSize + ", " + interval + ", " + ratio);
+        }
+        this.compaction = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-file-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compaction.scheduleWithFixedDelay(this::compact, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public FileBucketManager apply(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return managers.computeIfAbsent(bucketName, name -> new FileBucketManager(name, directory.resolve(name),
+                segmentSize, sync, System::currentTimeMillis));
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> type) {
+        throw new UnsupportedOperationException("The file database does not support List");
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> type) {
+        throw new UnsupportedOperationException("The file database does not support Set");
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> type) {
+        throw new UnsupportedOperationException("The file database does not support Queue");
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        throw new UnsupportedOperationException("The file database does not support Map");
+    }
+
+    /**
+     * Stops the compaction thread and closes the segment files of the buckets
+     */
+    @Override
+    public void close() {
+        compaction.shutdown();
+        try {
+            compaction.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        managers.values().forEach(FileBucketManager::shutdown);
+        managers.clear();
+    }
+
+    private void compact() {
+        for (FileBucketManager manager : managers.values()) {
+            try {
+                manager.compact(ratio);
+            } catch (RuntimeException exception) {
+                LOGGER.log(System.Logger.Level.WARNING, "The compaction of the bucket " + manager.name()
+                        + " failed, it is tried again at the next interval", exception);
+            }
+        }
+    }
+}
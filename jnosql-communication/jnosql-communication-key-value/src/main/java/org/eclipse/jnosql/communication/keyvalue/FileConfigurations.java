@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.util.function.Supplier;
+
+/**
+ * The configurations of the file database of the {@link FileKeyValueConfiguration}, e.g.:
+ * {@code jnosql.file.directory=/var/lib/jnosql}.
+ */
+public enum FileConfigurations implements Supplier<String> {
+    /**
+     * The directory of the buckets, each bucket is a subdirectory with its segment files, it is required
+     */
+    DIRECTORY("jnosql.file.directory"),
+    /**
+     * The size, in bytes, of each segment file, the default value is {@link FileConfigurations#DEFAULT_SEGMENT_SIZE}
+     */
+    SEGMENT_SIZE("jnosql.file.segment.size"),
+    /**
+     * The interval, in milliseconds, of the thread that compacts the segments, the default value is
+     * {@link FileConfigurations#DEFAULT_COMPACTION_INTERVAL}
+     */
+    COMPACTION_INTERVAL("jnosql.file.compaction.interval"),
+    /**
+     * The ratio of dead bytes, from 0 to 1, that makes a segment eligible to the compaction, the default value is
+     * {@link FileConfigurations#DEFAULT_COMPACTION_RATIO}
+     */
+    COMPACTION_RATIO("jnosql.file.compaction.ratio"),
+    /**
+     * When true, each write is forced to the storage device before it returns, the default value is false, thus,
+     * the writes survive a crash of the process, but not a crash of the operating system
+     */
+    SYNC("jnosql.file.sync");
+
+    /**
+     * The default value of {@link FileConfigurations#SEGMENT_SIZE}, 16 MB
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The default value of {@link FileConfigurations#COMPACTION_INTERVAL}, a minute
+     */
+    public static final long DEFAULT_COMPACTION_INTERVAL = 60_000L;
+
+    /**
+     * The default value of {@link FileConfigurations#COMPACTION_RATIO}
+     */
+    public static final double DEFAULT_COMPACTION_RATIO = 0.5D;
+
+    private final String configuration;
+
+    FileConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
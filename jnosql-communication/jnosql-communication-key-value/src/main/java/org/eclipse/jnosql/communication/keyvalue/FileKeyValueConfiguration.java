@@ -0,0 +1,37 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+
+/**
+ * The {@link KeyValueConfiguration} of an embedded and durable database that keeps each bucket at an append-only
+ * log of memory-mapped files, e.g.: to the edge deployments without a network store. The directory, the size of the
+ * segments and the compaction come from the {@link FileConfigurations}.
+ *
+ * @see FileBucketManager
+ */
+public class FileKeyValueConfiguration implements KeyValueConfiguration {
+
+    @Override
+    public FileBucketManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new FileBucketManagerFactory(settings);
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * A memory-mapped file of the log of a {@link FileBucketManager}, the records are appended one after another:
+ * the length of the body and its CRC-32, then the body, the type of the record, the expiration and the payload.
+ * The file has a fixed size and the bytes after the last record are zeros, thus, a record with length zero, or whose
+ * checksum does not match, is the end of the log, e.g.: a record that was being written when the process crashed.
+ * It also keeps the number of bytes of the records that are still the latest ones of their keys, thus, the remaining
+ * bytes are dead and might be dropped by the compaction.
+ * The reads of a payload are counted, thus, a deleted segment is unmapped and its file is removed once the last read
+ * ends, because some operating systems, such as Windows, do not delete a file while it is mapped.
+ */
+final class FileSegment {
+
+    static final byte PUT = 1;
+
+    static final byte DELETE = 2;
+
+    static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private static final int HEADER = Integer.BYTES * 2;
+
+    private static final int BODY = Byte.BYTES + Long.BYTES;
+
+    private static final int DELETED = 1 << 30;
+
+    private static final System.Logger LOGGER = System.getLogger(FileSegment.class.getName());
+
+    private static final Consumer<MappedByteBuffer> UNMAP = unmap();
+
+    private final long id;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final AtomicLong live = new AtomicLong();
+
+    private final AtomicInteger readers = new AtomicInteger();
+
+    private final AtomicBoolean removed = new AtomicBoolean();
+
+    private volatile int position;
+
+    private volatile long expiration = Long.MIN_VALUE;
+
+    private FileSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Opens, or creates, the segment file, a new file is filled with zeros up to the capacity
+     */
+    static FileSegment open(Path directory, long id, int capacity) {
+        Path path = directory.resolve(name(id));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), capacity);
+            return new FileSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException exception) {
+            throw new CommunicationException("There is an error when the segment " + path + " is opened", exception);
+        }
+    }
+
+    /**
+     * @return the file name of the segment
+     */
+    static String name(long id) {
+        return String.format("%019d.log", id);
+    }
+
+    /**
+     * @return the size of a record with the payload
+     */
+    static int recordSize(int payload) {
+        return HEADER + BODY + payload;
+    }
+
+    long id() {
+        return id;
+    }
+
+    /**
+     * Appends a record
+     *
+     * @return the offset of the record or -1 when there is not enough space
+     */
+    int append(byte type, long expiration, byte[] payload) {
+        int offset = position;
+        int size = recordSize(payload.length);
+        if (buffer.capacity() - offset < size) {
+            return -1;
+        }
+        int body = offset + HEADER;
+        buffer.put(body, type);
+        buffer.putLong(body + Byte.BYTES, expiration);
+        buffer.put(body + BODY, payload);
+        buffer.putInt(offset + Integer.BYTES, checksum(body, size - HEADER));
+        buffer.putInt(offset, size - HEADER);
+        position = offset + size;
+        if (expiration != NO_EXPIRATION) {
+            this.expiration = Math.max(this.expiration, expiration);
+        }
+        return offset;
+    }
+
+    byte type(int offset) {
+        return buffer.get(offset + HEADER);
+    }
+
+    long expiration(int offset) {
+        return buffer.getLong(offset + HEADER + Byte.BYTES);
+    }
+
+    int size(int offset) {
+        return HEADER + buffer.getInt(offset);
+    }
+
+    /**
+     * @return a view of the payload at the mapped file, without copying it, the caller either holds the write lock of
+     * the bucket or is inside {@link FileSegment#read(int, Function)}
+     */
+    ByteBuffer payload(int offset) {
+        return buffer.slice(offset + HEADER + BODY, buffer.getInt(offset) - BODY);
+    }
+
+    /**
+     * Reads the payload while the segment cannot be unmapped, the reader must not keep the view
+     *
+     * @return the result of the reader, or null when the segment is deleted
+     */
+    <T> T read(int offset, Function<ByteBuffer, T> reader) {
+        int current;
+        do {
+            current = readers.get();
+            if ((current & DELETED) != 0) {
+                return null;
+            }
+        } while (!readers.compareAndSet(current, current + 1));
+        try {
+            return reader.apply(payload(offset));
+        } finally {
+            if (readers.decrementAndGet() == DELETED) {
+                remove();
+            }
+        }
+    }
+
+    /**
+     * Reads the records from the beginning up to the first one that is not valid, which becomes the end of the
+     * segment, and the bytes after it are cleaned
+     *
+     * @param record receives the offset of each valid record
+     */
+    void recover(IntConsumer record) {
+        int offset = 0;
+        while (buffer.capacity() - offset >= HEADER + BODY) {
+            int length = buffer.getInt(offset);
+            if (length < BODY || buffer.capacity() - offset - HEADER < length
+                    || buffer.getInt(offset + Integer.BYTES) != checksum(offset + HEADER, length)) {
+                break;
+            }
+            long recordExpiration = expiration(offset);
+            if (recordExpiration != NO_EXPIRATION) {
+                expiration = Math.max(expiration, recordExpiration);
+            }
+            record.accept(offset);
+            offset += HEADER + length;
+        }
+        for (int index = offset; index < buffer.capacity(); index++) {
+            if (buffer.get(index) != 0) {
+                buffer.put(index, new byte[buffer.capacity() - index]);
+                break;
+            }
+        }
+        position = offset;
+    }
+
+    /**
+     * Reads the records up to the end of the segment
+     *
+     * @param record receives the offset of each record
+     */
+    void records(IntConsumer record) {
+        int end = position;
+        for (int offset = 0; offset < end; offset += size(offset)) {
+            record.accept(offset);
+        }
+    }
+
+    void addLive(int size) {
+        live.addAndGet(size);
+    }
+
+    /**
+     * @return true when the dead bytes reach the ratio, when every record with TTL has expired, or when it is empty
+     */
+    boolean isCompactable(double ratio, long now) {
+        int written = position;
+        return written == 0 || written - live.get() >= ratio * written
+                || (expiration != Long.MIN_VALUE && expiration <= now);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException exception) {
+            throw new CommunicationException("There is an error when the segment " + path + " is closed", exception);
+        }
+    }
+
+    /**
+     * Closes and deletes the file, it is unmapped and removed now or when the last read ends
+     */
+    void delete() {
+        close();
+        if (readers.getAndAdd(DELETED) == 0) {
+            remove();
+        }
+    }
+
+    private void remove() {
+        if (!removed.compareAndSet(false, true)) {
+            return;
+        }
+        UNMAP.accept(buffer);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new CommunicationException("There is an error when the segment " + path + " is deleted", exception);
+        }
+    }
+
+    /**
+     * Java does not unmap a buffer but when it is collected, thus, it uses the cleaner of sun.misc.Unsafe when it is
+     * available; otherwise, the file is removed while it is mapped, which works at Linux and macOS.
+     */
+    private static Consumer<MappedByteBuffer> unmap() {
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            Method cleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    cleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException exception) {
+                    LOGGER.log(System.Logger.Level.DEBUG, "The segment buffer is not unmapped", exception);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOGGER.log(System.Logger.Level.DEBUG, "The segment buffers are unmapped when they are collected",
+                    exception);
+            return buffer -> {
+            };
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileSegment{" +
+                "path=" + path +
+                ", position=" + position +
+                ", live=" + live +
+                '}';
+    }
+
+    private int checksum(int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -22,7 +22,7 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.query.GetQuery;
-import org.eclipse.jnosql.communication.query.GetQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,8 +34,7 @@ final class GetQueryParser {
 
     Stream<Value> query(String query, BucketManager manager) {
 
-        GetQueryConverter converter  = new GetQueryConverter();
-        GetQuery getQuery = converter.apply(query);
+        GetQuery getQuery = QueryCache.GET.apply(query);
         Params params = Params.newParams();
         List<Value> values = getQuery.keys().stream().map(k -> Values.getValue(k, params)).toList();
         if (params.isNotEmpty()) {
@@ -48,10 +47,8 @@ final class GetQueryParser {
     }
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
-        GetQueryConverter converter  = new GetQueryConverter();
-        GetQuery getQuery = converter.apply(query);
-        Params params = Params.newParams();
-        List<Value> values = getQuery.keys().stream().map(k -> Values.getValue(k, params)).collect(toList());
-        return DefaultKeyValuePreparedStatement.get(values, manager, params, query);
+        GetQuery getQuery = QueryCache.GET.apply(query);
+        return DefaultKeyValuePreparedStatement.get(p -> getQuery.keys().stream()
+                .map(k -> Values.getValue(k, p)).collect(toList()), manager, query);
     }
 }
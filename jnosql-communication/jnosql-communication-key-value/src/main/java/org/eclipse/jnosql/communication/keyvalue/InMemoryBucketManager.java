@@ -0,0 +1,353 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.TimingWheel;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link BucketManager} that keeps the entries in memory, split in segments by the hash of the key, each one with
+ * its own lock, thus, the threads that write different keys rarely wait for each other. The operations with an
+ * {@link Iterable} group the keys by segment and take each lock once per call instead of once per key.
+ * The bucket is bounded by the {@link InMemoryConfigurations#MAX_SIZE}, split among the segments, and a full segment
+ * evicts its least recently used entry. The TTL of each segment is a {@link TimingWheel}, advanced by the expiration
+ * thread of the {@link InMemoryBucketManagerFactory}; an expired entry is absent to the reads even before that.
+ *
+ * @see InMemoryKeyValueConfiguration
+ */
+public class InMemoryBucketManager implements BucketManager {
+
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final String name;
+
+    private final long tick;
+
+    private final LongSupplier clock;
+
+    private final Segment[] segments;
+
+    InMemoryBucketManager(String name, int maxSize, long tick, LongSupplier clock) {
+        this.name = name;
+        this.tick = tick;
+        this.clock = clock;
+        int processors = Runtime.getRuntime().availableProcessors() * 4;
+        int count = Math.min(Integer.highestOneBit(processors - 1) << 1, Integer.highestOneBit(maxSize));
+        this.segments = new Segment[count];
+        for (int index = 0; index < count; index++) {
+            segments[index] = new Segment(maxSize / count + (index < maxSize % count ? 1 : 0));
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        put(KeyValueEntity.of(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity, NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity, expiration(ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        put(entities, NO_EXPIRATION);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        put(entities, expiration(ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Object value = key(key);
+        Segment segment = segment(value);
+        long now = clock.getAsLong();
+        segment.lock.lock();
+        try {
+            return Optional.ofNullable(segment.get(value, now));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the values of the keys, in the order of the keys, the keys without value are skipped
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the values
+     * @throws NullPointerException when either the keys or a key is null
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Object> values = new ArrayList<>();
+        keys.forEach(key -> values.add(key(key)));
+        Value[] found = new Value[values.size()];
+        long now = clock.getAsLong();
+        batches(values).forEach((segment, indexes) -> {
+            segment.lock.lock();
+            try {
+                indexes.forEach(index -> found[index] = segment.get(values.get(index), now));
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+        List<Value> result = new ArrayList<>(found.length);
+        for (Value value : found) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Object value = key(key);
+        Segment segment = segment(value);
+        segment.lock.lock();
+        try {
+            segment.remove(value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Object> values = new ArrayList<>();
+        keys.forEach(key -> values.add(key(key)));
+        batches(values).forEach((segment, indexes) -> {
+            segment.lock.lock();
+            try {
+                indexes.forEach(index -> segment.remove(values.get(index)));
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * The entries live while the {@link InMemoryBucketManagerFactory} is open, thus, it does nothing.
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBucketManager{" +
+                "name='" + name + '\'' +
+                ", segments=" + segments.length +
+                ", size=" + size() +
+                '}';
+    }
+
+    /**
+     * @return the number of entries, including the expired ones the expiration thread has not removed yet
+     */
+    long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes the expired entries, it is called by the expiration thread
+     */
+    void expire() {
+        long now = clock.getAsLong();
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.expire(now);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+                segment.wheel = null;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private void put(KeyValueEntity entity, long expiration) {
+        Segment segment = segment(entity.key());
+        Value value = Value.of(entity.value());
+        segment.lock.lock();
+        try {
+            segment.put(entity.key(), value, expiration);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private void put(Iterable<KeyValueEntity> entities, long expiration) {
+        List<KeyValueEntity> values = new ArrayList<>();
+        List<Object> keys = new ArrayList<>();
+        entities.forEach(entity -> {
+            values.add(Objects.requireNonNull(entity, "entity is required"));
+            keys.add(entity.key());
+        });
+        batches(keys).forEach((segment, indexes) -> {
+            segment.lock.lock();
+            try {
+                indexes.forEach(index -> segment.put(keys.get(index), Value.of(values.get(index).value()),
+                        expiration));
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+    }
+
+    private long expiration(Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        try {
+            return Math.addExact(clock.getAsLong(), ttl.toMillis());
+        } catch (ArithmeticException exception) {
+            return NO_EXPIRATION;
+        }
+    }
+
+    private Map<Segment, List<Integer>> batches(List<Object> keys) {
+        Map<Segment, List<Integer>> batches = new LinkedHashMap<>();
+        for (int index = 0; index < keys.size(); index++) {
+            batches.computeIfAbsent(segment(keys.get(index)), segment -> new ArrayList<>()).add(index);
+        }
+        return batches;
+    }
+
+    private Segment segment(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static Object key(Object key) {
+        Objects.requireNonNull(key, "key is required");
+        return key instanceof Value value ? value.get() : key;
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Map<Object, Entry> entries;
+
+        private TimingWheel<Object> wheel;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    if (eldest.getValue().expiration != NO_EXPIRATION) {
+                        wheel.cancel(eldest.getKey());
+                    }
+                    return true;
+                }
+            };
+        }
+
+        private void put(Object key, Value value, long expiration) {
+            Entry previous = entries.put(key, new Entry(value, expiration));
+            if (expiration != NO_EXPIRATION) {
+                if (wheel == null) {
+                    wheel = TimingWheel.of(tick, clock.getAsLong());
+                }
+                wheel.schedule(key, expiration);
+            } else if (previous != null && previous.expiration != NO_EXPIRATION) {
+                wheel.cancel(key);
+            }
+        }
+
+        private Value get(Object key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            } else if (entry.expiration <= now) {
+                remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        private void remove(Object key) {
+            Entry entry = entries.remove(key);
+            if (entry != null && entry.expiration != NO_EXPIRATION) {
+                wheel.cancel(key);
+            }
+        }
+
+        private void expire(long now) {
+            if (wheel != null) {
+                wheel.advance(now).forEach(entries::remove);
+            }
+        }
+    }
+
+    private record Entry(Value value, long expiration) {
+    }
+}
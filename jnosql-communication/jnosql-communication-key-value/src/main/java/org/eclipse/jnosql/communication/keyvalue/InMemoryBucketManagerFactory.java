@@ -0,0 +1,128 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link BucketManagerFactory} of the {@link InMemoryKeyValueConfiguration}, the buckets live while the factory
+ * is open, thus, the managers of the same bucket share the entries. A single daemon thread removes the expired
+ * entries of every bucket at each {@link InMemoryConfigurations#TICK}, the entries that expire between two ticks are
+ * already absent to the reads.
+ */
+public class InMemoryBucketManagerFactory implements BucketManagerFactory {
+
+    private final Map<String, InMemoryBucketManager> managers = new ConcurrentHashMap<>();
+
+    private final Map<String, List<?>> lists = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<?>> sets = new ConcurrentHashMap<>();
+
+    private final Map<String, Queue<?>> queues = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<?, ?>> maps = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final long tick;
+
+    private final ScheduledExecutorService expiration;
+
+    InMemoryBucketManagerFactory(Settings settings) {
+        this.maxSize = settings.get(InMemoryConfigurations.MAX_SIZE, Integer.class)
+                .orElse(InMemoryConfigurations.DEFAULT_MAX_SIZE);
+        this.tick = settings.get(InMemoryConfigurations.TICK, Long.class).orElse(InMemoryConfigurations.DEFAULT_TICK);
+        if (maxSize <= 0 || tick <= 0) {
+            throw new IllegalArgumentException("The max size and the tick must be positive: " + maxSize + ", " + tick);
+        }
+        this.expiration = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-memory-expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.expiration.scheduleWithFixedDelay(() -> managers.values().forEach(InMemoryBucketManager::expire),
+                tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public InMemoryBucketManager apply(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return managers.computeIfAbsent(bucketName,
+                name -> new InMemoryBucketManager(name, maxSize, tick, System::currentTimeMillis));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (List<T>) lists.computeIfAbsent(bucketName, name -> Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (Set<T>) sets.computeIfAbsent(bucketName, name -> ConcurrentHashMap.newKeySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (Queue<T>) queues.computeIfAbsent(bucketName, name -> new ConcurrentLinkedQueue<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(keyValue, "keyValue is required");
+        Objects.requireNonNull(valueValue, "valueValue is required");
+        return (Map<K, V>) maps.computeIfAbsent(bucketName, name -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Stops the expiration thread and drops the buckets
+     */
+    @Override
+    public void close() {
+        expiration.shutdownNow();
+        managers.values().forEach(InMemoryBucketManager::clear);
+        managers.clear();
+        lists.clear();
+        sets.clear();
+        queues.clear();
+        maps.clear();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+
+/**
+ * The {@link KeyValueConfiguration} of an embedded database that keeps the buckets in memory, e.g.: to a session
+ * store or to the tests. The size of the buckets and the interval of the expiration thread come from the
+ * {@link InMemoryConfigurations}.
+ *
+ * @see InMemoryBucketManager
+ */
+public class InMemoryKeyValueConfiguration implements KeyValueConfiguration {
+
+    @Override
+    public InMemoryBucketManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new InMemoryBucketManagerFactory(settings);
+    }
+}
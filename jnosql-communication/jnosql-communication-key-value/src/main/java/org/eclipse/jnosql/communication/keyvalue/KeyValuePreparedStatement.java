@@ -34,6 +34,17 @@ public interface KeyValuePreparedStatement {
      */
     KeyValuePreparedStatement bind(String name, Object value);
 
+    /**
+     * Returns a new statement that shares the prepared query of this instance without any value bound.
+     * The prepared query is immutable, thus, each thread might execute it from its own statement.
+     * By default, it returns this instance, which means the statement cannot be shared.
+     *
+     * @return a new {@link KeyValuePreparedStatement} instance, or this instance when it cannot be shared
+     */
+    default KeyValuePreparedStatement newBinding() {
+        return this;
+    }
+
     /**
      * Executes a query and return the result as {@link Stream}
      *
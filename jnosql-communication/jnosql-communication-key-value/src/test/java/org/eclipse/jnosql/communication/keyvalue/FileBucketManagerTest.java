@@ -0,0 +1,291 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileBucketManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private FileBucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = open(1_024);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatThrownBy(() -> manager.put((KeyValueEntity) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.put(KeyValueEntity.of("Ada", 10), Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> manager.get((Object) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new FileKeyValueConfiguration().apply(Settings.builder().build()))
+                .isInstanceOf(CommunicationException.class);
+        assertThatThrownBy(() -> manager.put(new Object(), 10)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> manager.put(List.of("Ada"), 10)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> manager.get(new byte[]{1})).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldNormalizeKeysThatAreNotKeptByTheCodec() {
+        manager.put(Status.ACTIVE, "active");
+        manager.put(new AtomicLong(7), "seven");
+        assertThat(manager.get(Status.ACTIVE).map(Value::get)).contains("active");
+        assertThat(manager.get(7L).map(Value::get)).contains("seven");
+
+        FileBucketManager recovered = open(1_024);
+        assertThat(recovered.get(Status.ACTIVE).map(Value::get)).contains("active");
+        assertThat(recovered.get(new AtomicLong(7)).map(Value::get)).contains("seven");
+        recovered.delete(Status.ACTIVE);
+        assertThat(open(1_024).get(Status.ACTIVE)).isEmpty();
+    }
+
+    @Test
+    void shouldPutGetAndDelete() {
+        manager.put("Ada", 10);
+        manager.put(List.of(KeyValueEntity.of(1, List.of("a", "b")), KeyValueEntity.of(1L, Map.of("age", 20L))));
+        assertThat(manager.get("Ada")).contains(Value.of(10));
+        assertThat(manager.get(1).map(Value::get)).contains(List.of("a", "b"));
+        assertThat(manager.get(Value.of(1L)).map(Value::get)).contains(Map.of("age", 20L));
+        manager.put("Ada", 11);
+        assertThat(manager.get(List.of("Ada", "none", 1))).extracting(Value::get)
+                .containsExactly(11, List.of("a", "b"));
+        manager.delete(List.of("Ada", 1, "none"));
+        assertThat(manager.get("Ada")).isEmpty();
+        assertThat(manager.get(1)).isEmpty();
+    }
+
+    @Test
+    void shouldWriteObjectsAsJSON() {
+        manager.put("ada", new Person("Ada", 36));
+        assertThat(manager.get("ada").map(value -> value.get(Person.class))).contains(new Person("Ada", 36));
+        assertThat(open(1_024).get("ada").map(Value::get)).contains(new Person("Ada", 36));
+    }
+
+    @Test
+    void shouldExpire() {
+        manager.put(KeyValueEntity.of("Ada", 10), Duration.ofMillis(100));
+        manager.put(List.of(KeyValueEntity.of("Poliana", 20)), Duration.ofMillis(200));
+        clock.set(100);
+        assertThat(manager.get("Ada")).isEmpty();
+        assertThat(manager.get("Poliana")).isPresent();
+        clock.set(200);
+        assertThat(open(1_024).get("Poliana")).isEmpty();
+    }
+
+    @Test
+    void shouldRecoverByReplayingTheLog() {
+        IntStream.range(0, 100).forEach(index -> manager.put("key" + index, "value" + index));
+        manager.delete("key3");
+        manager.put("key4", "changed");
+        assertThat(manager.segments()).isGreaterThan(1);
+        FileBucketManager recovered = open(1_024);
+        assertThat(recovered.get("key3")).isEmpty();
+        assertThat(recovered.get("key4").map(Value::get)).contains("changed");
+        assertThat(recovered.get("key99").map(Value::get)).contains("value99");
+        assertThat(recovered.segments()).isEqualTo(manager.segments());
+    }
+
+    @Test
+    void shouldStopAtTornRecord() throws IOException {
+        manager.put("Ada", 10);
+        manager.put("Poliana", 20);
+        manager.close();
+        Path file = segments().get(0);
+        try (RandomAccessFile access = new RandomAccessFile(file.toFile(), "rw")) {
+            long end = IntStream.range(0, 1_024).filter(index -> read(access, index) != 0).max().orElseThrow();
+            int value = read(access, end);
+            access.seek(end);
+            access.write(value + 1);
+        }
+        FileBucketManager recovered = open(1_024);
+        assertThat(recovered.get("Ada")).isPresent();
+        assertThat(recovered.get("Poliana")).isEmpty();
+        recovered.put("Diana", 30);
+        FileBucketManager again = open(1_024);
+        assertThat(again.get(List.of("Ada", "Poliana", "Diana"))).extracting(Value::get).containsExactly(10, 30);
+    }
+
+    @Test
+    void shouldWriteLargerRecordsThanTheSegment() {
+        String large = "a".repeat(5_000);
+        manager.put("large", large);
+        manager.put("Ada", 10);
+        assertThat(manager.get("large").map(Value::get)).contains(large);
+        assertThat(open(1_024).get("large").map(Value::get)).contains(large);
+    }
+
+    @Test
+    void shouldCompact() throws IOException {
+        manager.put(KeyValueEntity.of("deleted", "value"));
+        manager.put(KeyValueEntity.of("expired", "value"), Duration.ofMillis(10));
+        IntStream.range(0, 200).forEach(index -> manager.put("key" + index % 10, "value" + index));
+        manager.delete("deleted");
+        IntStream.range(0, 100).forEach(index -> manager.put("key" + index % 10, "last" + index % 10));
+        int before = manager.segments();
+        clock.set(10);
+        manager.compact(0.5);
+        assertThat(manager.segments()).isLessThan(before);
+        assertThat(segments()).hasSize(manager.segments());
+        for (FileBucketManager bucket : List.of(manager, open(1_024))) {
+            assertThat(bucket.get("deleted")).isEmpty();
+            assertThat(bucket.get("expired")).isEmpty();
+            assertThat(bucket.get(IntStream.range(0, 10).mapToObj(index -> "key" + index).toList()))
+                    .extracting(Value::get).containsExactlyElementsOf(IntStream.range(0, 10)
+                            .mapToObj(index -> "last" + index).toList());
+        }
+    }
+
+    @Test
+    void shouldKeepTombstoneWhileThereAreOlderSegments() throws IOException {
+        manager.put("Ada", "a".repeat(400));
+        manager.put("Maria", "m".repeat(500));
+        manager.put("Poliana", "b".repeat(400));
+        manager.put("Poliana", "p".repeat(400));
+        manager.delete("Ada");
+        manager.put("Diana", "d".repeat(900));
+        assertThat(manager.segments()).isEqualTo(3);
+        Path oldest = segments().get(0);
+        manager.compact(0.5);
+        assertThat(segments()).contains(oldest).doesNotContain(oldest.resolveSibling(FileSegment.name(2)));
+        FileBucketManager recovered = open(1_024);
+        assertThat(recovered.get("Ada")).isEmpty();
+        assertThat(recovered.get(List.of("Maria", "Poliana", "Diana"))).extracting(Value::get)
+                .containsExactly("m".repeat(500), "p".repeat(400), "d".repeat(900));
+    }
+
+    @Test
+    void shouldDeleteSegmentWhenTheLastReadEnds() {
+        FileSegment segment = FileSegment.open(directory, 1, 1_024);
+        int offset = segment.append(FileSegment.PUT, FileSegment.NO_EXPIRATION, new byte[]{1, 2, 3});
+        Path file = directory.resolve(FileSegment.name(1));
+        int size = segment.read(offset, payload -> {
+            segment.delete();
+            assertThat(Files.exists(file)).isTrue();
+            return payload.remaining();
+        });
+        assertThat(size).isEqualTo(3);
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(segment.read(offset, ByteBuffer::remaining)).isNull();
+    }
+
+    @Test
+    void shouldOpenBucketsAtTheFactory() {
+        Settings settings = Settings.builder().put(FileConfigurations.DIRECTORY.get(), directory.toString()).build();
+        try (FileBucketManagerFactory factory = new FileKeyValueConfiguration().apply(settings)) {
+            FileBucketManager bucket = factory.apply("bucket");
+            assertThat(factory.apply("bucket")).isSameAs(bucket);
+            bucket.put("Ada", 10);
+            assertThat(Files.exists(directory.resolve("bucket"))).isTrue();
+            assertThatThrownBy(() -> factory.getMap("bucket", String.class, Integer.class))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+        try (FileBucketManagerFactory factory = new FileKeyValueConfiguration().apply(settings)) {
+            assertThat(factory.apply("bucket").get("Ada").map(Value::get)).contains(10);
+        }
+    }
+
+    private FileBucketManager open(int segmentSize) {
+        return new FileBucketManager("bucket", directory.resolve("bucket"), segmentSize, false, clock::get);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("bucket"))) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static int read(RandomAccessFile access, long index) {
+        try {
+            access.seek(index);
+            return access.read();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    enum Status {
+        ACTIVE
+    }
+
+    public static class Person {
+
+        private String name;
+
+        private int age;
+
+        public Person() {
+        }
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Person person && age == person.age && Objects.equals(name, person.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, age);
+        }
+    }
+}
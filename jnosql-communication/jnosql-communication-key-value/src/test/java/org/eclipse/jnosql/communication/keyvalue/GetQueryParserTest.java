@@ -95,6 +95,38 @@ class GetQueryParserTest {
         assertThat(value).hasSize(1).contains(10);
     }
 
+    @Test
+    @DisplayName("Should be able to execute the PreparedStatement several times")
+    void shouldExecutePrepareStatementSeveralTimes() {
+        KeyValuePreparedStatement prepare = parser.prepare("get @id", manager);
+        prepare.bind("id", 10);
+        prepare.result().toList();
+        prepare.bind("id", 11);
+        prepare.result().toList();
+
+        verify(manager, times(2)).get(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(10, 11);
+    }
+
+    @Test
+    @DisplayName("Should create a new binding that shares the prepared query")
+    void shouldCreateNewBinding() {
+        KeyValuePreparedStatement prepare = parser.prepare("get @id", manager);
+        prepare.bind("id", 10);
+        KeyValuePreparedStatement binding = prepare.newBinding();
+
+        assertThatThrownBy(binding::result)
+                .isInstanceOf(QueryException.class)
+                .hasMessage("Check all the parameters before execute the query, params left: [id]");
+
+        binding.bind("id", 11);
+        binding.result().toList();
+        prepare.result().toList();
+
+        verify(manager, times(2)).get(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(11, 10);
+    }
+
     @Test
     @DisplayName("Should be able to execute the PreparedStatement using two parameter")
     void shouldExecutePrepareStatement2() {
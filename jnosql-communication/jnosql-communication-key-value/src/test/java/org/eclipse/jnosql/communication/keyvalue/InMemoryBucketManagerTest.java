@@ -0,0 +1,178 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.InMemoryConfigurations;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryBucketManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private InMemoryBucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new InMemoryBucketManager("bucket", 1_000, 10, clock::get);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThatThrownBy(() -> manager.put((KeyValueEntity) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.put(KeyValueEntity.of("Ada", 10), null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.put(KeyValueEntity.of("Ada", 10), Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> manager.get((Object) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> manager.delete((Object) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new InMemoryKeyValueConfiguration().apply(null))
+                .isInstanceOf(NullPointerException.class);
+        Settings settings = Settings.builder().put(InMemoryConfigurations.MAX_SIZE.get(), 0).build();
+        assertThatThrownBy(() -> new InMemoryKeyValueConfiguration().apply(settings))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPutAndGet() {
+        manager.put("Ada", 10);
+        manager.put(KeyValueEntity.of(Value.of("Poliana"), 20));
+        assertThat(manager.get("Ada")).contains(Value.of(10));
+        assertThat(manager.get(Value.of("Poliana")).map(Value::get)).contains(20);
+        assertThat(manager.get("Diana")).isEmpty();
+        manager.put("Ada", 11);
+        assertThat(manager.get("Ada").map(Value::get)).contains(11);
+    }
+
+    @Test
+    void shouldPutGetAndDeleteInBatches() {
+        manager.put(IntStream.range(0, 100).mapToObj(index -> KeyValueEntity.of("key" + index, index)).toList());
+        assertThat(manager.get(List.of("key3", "none", "key1", "key99"))).extracting(Value::get)
+                .containsExactly(3, 1, 99);
+        manager.delete(List.of("key3", "key1", "none"));
+        assertThat(manager.get(List.of("key3", "key1", "key2"))).extracting(Value::get).containsExactly(2);
+        manager.delete("key2");
+        assertThat(manager.size()).isEqualTo(97L);
+    }
+
+    @Test
+    void shouldExpire() {
+        manager.put(KeyValueEntity.of("Ada", 10), Duration.ofMillis(100));
+        manager.put(List.of(KeyValueEntity.of("Poliana", 20), KeyValueEntity.of("Diana", 30)),
+                Duration.ofMillis(200));
+        manager.put("Maria", 40);
+        clock.set(100);
+        assertThat(manager.get("Ada")).isEmpty();
+        assertThat(manager.get(List.of("Ada", "Poliana", "Maria"))).extracting(Value::get).containsExactly(20, 40);
+        manager.put("Poliana", 21);
+        clock.set(1_000);
+        manager.expire();
+        assertThat(manager.size()).isEqualTo(2L);
+        assertThat(manager.get(List.of("Poliana", "Diana", "Maria"))).extracting(Value::get).containsExactly(21, 40);
+    }
+
+    @Test
+    void shouldNotExpireWhenTtlOverflows() {
+        clock.set(Long.MAX_VALUE - 10);
+        manager.put(KeyValueEntity.of("Ada", 10), Duration.ofMillis(100));
+        manager.put(KeyValueEntity.of("Diana", 30), Duration.ofSeconds(Long.MAX_VALUE));
+        manager.expire();
+        assertThat(manager.get(List.of("Ada", "Diana"))).extracting(Value::get).containsExactly(10, 30);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        InMemoryBucketManager bounded = new InMemoryBucketManager("bucket", 1, 10, clock::get);
+        bounded.put(KeyValueEntity.of("Ada", 10), Duration.ofMillis(100));
+        bounded.put("Poliana", 20);
+        assertThat(bounded.get("Ada")).isEmpty();
+        assertThat(bounded.size()).isEqualTo(1L);
+        clock.set(1_000);
+        bounded.expire();
+        assertThat(bounded.get("Poliana")).isPresent();
+
+        InMemoryBucketManager small = new InMemoryBucketManager("bucket", 100, 10, clock::get);
+        IntStream.range(0, 1_000).forEach(index -> small.put(index, index));
+        assertThat(small.size()).isLessThanOrEqualTo(100L);
+        assertThat(small.get(999)).isPresent();
+    }
+
+    @Test
+    void shouldWriteConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        IntStream.range(0, 1_000).forEach(index -> executor.execute(() -> {
+            manager.put(List.of(KeyValueEntity.of(index % 100, index),
+                    KeyValueEntity.of("key" + index % 50, index)));
+            manager.get(List.of(index % 100, "key" + index % 50));
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(manager.size()).isEqualTo(150L);
+    }
+
+    @Test
+    void shouldExpireAtTheFactoryThread() throws InterruptedException {
+        Settings settings = Settings.builder().put(InMemoryConfigurations.TICK.get(), 5).build();
+        try (InMemoryBucketManagerFactory factory = new InMemoryKeyValueConfiguration().apply(settings)) {
+            InMemoryBucketManager bucket = factory.apply("bucket");
+            assertThat(factory.apply("bucket")).isSameAs(bucket);
+            bucket.put(KeyValueEntity.of("Ada", 10), Duration.ofMillis(1));
+            bucket.put("Poliana", 20);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (bucket.size() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5L);
+            }
+            assertThat(bucket.size()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void shouldShareStructures() {
+        Settings settings = Settings.builder().build();
+        try (InMemoryBucketManagerFactory factory = new InMemoryKeyValueConfiguration().apply(settings)) {
+            factory.getList("list", String.class).add("Ada");
+            factory.getSet("set", String.class).add("Ada");
+            factory.getQueue("queue", String.class).add("Ada");
+            factory.getMap("map", String.class, Integer.class).put("Ada", 10);
+            assertThat(factory.getList("list", String.class)).containsExactly("Ada");
+            assertThat(factory.getSet("set", String.class)).containsExactly("Ada");
+            assertThat(factory.getQueue("queue", String.class)).containsExactly("Ada");
+            assertThat(factory.getMap("map", String.class, Integer.class)).containsEntry("Ada", 10);
+        }
+    }
+
+    @Test
+    void shouldQuery() {
+        manager.query("put {\"Ada\", \"Lovelace\"}");
+        assertThat(manager.query("get \"Ada\"")).extracting(Value::get).containsExactly("Lovelace");
+        manager.query("del \"Ada\"");
+        assertThat(manager.get("Ada")).isEmpty();
+    }
+}
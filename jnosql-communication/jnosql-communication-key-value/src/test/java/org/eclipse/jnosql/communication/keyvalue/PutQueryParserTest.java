@@ -114,4 +114,26 @@ class PutQueryParserTest {
                     softly.assertThat(entity.value()).as("value is expected").isEqualTo("Hunt");
                 })));
     }
+
+    @Test
+    @DisplayName("Should be able to execute the PreparedStatement with both key and value parameters")
+    void shouldExecutePrepareStatementWithKeyAndValue() {
+        String query = """
+                put { @key, @value }
+                """;
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+        prepare.bind("key", "Diana");
+        assertThatThrownBy(prepare::result)
+                .isInstanceOf(QueryException.class)
+                .hasMessage("Check all the parameters before execute the query, params left: [value]");
+
+        prepare.bind("value", "Hunt");
+        prepare.result();
+
+        verify(manager).put(assertArg((KeyValueEntity entity) ->
+                assertSoftly(softly -> {
+                    softly.assertThat(entity.key()).as("key is expected").isEqualTo("Diana");
+                    softly.assertThat(entity.value()).as("value is expected").isEqualTo("Hunt");
+                })));
+    }
 }
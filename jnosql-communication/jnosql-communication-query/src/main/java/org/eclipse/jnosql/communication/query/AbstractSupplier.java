@@ -35,11 +35,9 @@ abstract class AbstractSupplier extends QueryBaseListener {
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         QueryParser parser = new QueryParser(tokens);
         lexer.removeErrorListeners();
-        parser.removeErrorListeners();
         lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
 
-        ParseTree tree = getParserTree().apply(parser);
+        ParseTree tree = TwoStageParser.parse(parser, getParserTree());
         ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(this, tree);
     }
@@ -128,31 +128,49 @@ abstract class AbstractWhereSupplier extends AbstractSupplier {
     }
 
     private void checkCondition(QueryCondition condition, boolean hasNot) {
-        QueryCondition newCondition = checkNotCondition(condition, hasNot);
-        if (Objects.isNull(this.condition)) {
-            this.condition = newCondition;
-            return;
+        this.condition = append(this.condition, checkNotCondition(condition, hasNot), and);
+    }
+
+    /**
+     * Appends a new condition to the current one, following the order that the conditions appear at the query.
+     *
+     * @param current      the current condition, it might be null when it is the first one
+     * @param newCondition the condition to append
+     * @param and          true when the new condition uses the and operator, false to the or operator
+     * @return the condition result
+     */
+    static QueryCondition append(QueryCondition current, QueryCondition newCondition, boolean and) {
+        if (Objects.isNull(current)) {
+            return newCondition;
         }
         if (and) {
-            appendCondition(AND, newCondition);
-        } else {
-            appendCondition(OR, newCondition);
+            return appendCondition(current, AND, newCondition);
         }
+        return appendCondition(current, OR, newCondition);
+    }
 
+    static QueryCondition checkNotCondition(QueryCondition condition, boolean hasNot) {
+        if (hasNot) {
+            ConditionQueryValue conditions = ConditionQueryValue.of(Collections.singletonList(condition));
+            return new DefaultQueryCondition("_NOT", NOT, conditions);
+        } else {
+            return condition;
+        }
     }
 
-    private void appendCondition(Condition operator, QueryCondition newCondition) {
+    private static QueryCondition appendCondition(QueryCondition current, Condition operator,
+                                                  QueryCondition newCondition) {
 
-        if (operator.equals(this.condition.condition())) {
-            ConditionQueryValue conditionValue = ConditionQueryValue.class.cast(this.condition.value());
+        if (operator.equals(current.condition())) {
+            ConditionQueryValue conditionValue = ConditionQueryValue.class.cast(current.value());
             List<QueryCondition> conditions = new ArrayList<>(conditionValue.get());
             conditions.add(newCondition);
-            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
-        } else if (isNotAppendable()) {
-            List<QueryCondition> conditions = Arrays.asList(this.condition, newCondition);
-            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
+            return new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
+        } else if (!isAppendable(current)) {
+            List<QueryCondition> conditions = Arrays.asList(current, newCondition);
+            return new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
         } else {
-            List<QueryCondition> conditions = ConditionQueryValue.class.cast(this.condition.value()).get();
+            List<QueryCondition> conditions = ConditionQueryValue.class.cast(current.value()).get();
             QueryCondition lastCondition = conditions.get(conditions.size() - 1);
 
             if (isAppendable(lastCondition) && operator.equals(lastCondition.condition())) {
@@ -165,7 +183,7 @@ abstract class AbstractWhereSupplier extends AbstractSupplier {
 
                 List<QueryCondition> newConditions = new ArrayList<>(conditions.subList(0, conditions.size() - 1));
                 newConditions.add(newAppendable);
-                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
+                return new DefaultQueryCondition(current.name(), current.condition(),
                         ConditionQueryValue.of(newConditions));
             } else {
                 QueryCondition newAppendable = new DefaultQueryCondition("_" + operator.name(),
@@ -173,27 +191,14 @@ abstract class AbstractWhereSupplier extends AbstractSupplier {
 
                 List<QueryCondition> newConditions = new ArrayList<>(conditions);
                 newConditions.add(newAppendable);
-                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
+                return new DefaultQueryCondition(current.name(), current.condition(),
                         ConditionQueryValue.of(newConditions));
             }
 
         }
     }
 
-    private boolean isAppendable(QueryCondition condition) {
+    private static boolean isAppendable(QueryCondition condition) {
         return (AND.equals(condition.condition()) || OR.equals(condition.condition()));
     }
-
-    private boolean isNotAppendable() {
-        return !isAppendable(this.condition);
-    }
-
-    private QueryCondition checkNotCondition(QueryCondition condition, boolean hasNot) {
-        if (hasNot) {
-            ConditionQueryValue conditions = ConditionQueryValue.of(Collections.singletonList(condition));
-            return new DefaultQueryCondition("_NOT", NOT, conditions);
-        } else {
-            return condition;
-        }
-    }
 }
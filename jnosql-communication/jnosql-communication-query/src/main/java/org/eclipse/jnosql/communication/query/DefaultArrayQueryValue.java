@@ -27,7 +27,7 @@ final class DefaultArrayQueryValue implements ArrayQueryValue {
 
     @Override
     public QueryValue<?>[] get() {
-        return values;
+        return values.clone();
     }
 
     @Override
@@ -14,6 +14,7 @@ package org.eclipse.jnosql.communication.query;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
 import java.util.List;
 import java.util.Objects;
@@ -37,13 +38,24 @@ final class DefaultSelectQuery implements SelectQuery {
 
     private final Where where;
 
+    private final List<Aggregation> aggregations;
+
+    private final List<String> groupBy;
+
     DefaultSelectQuery(String entity, List<String> fields, List<Sort> sorts, long skip, long limit, Where where) {
+        this(entity, fields, sorts, skip, limit, where, List.of(), List.of());
+    }
+
+    DefaultSelectQuery(String entity, List<String> fields, List<Sort> sorts, long skip, long limit, Where where,
+                       List<Aggregation> aggregations, List<String> groupBy) {
         this.entity = entity;
         this.fields = fields;
         this.sorts = sorts;
         this.skip = skip;
         this.limit = limit;
         this.where = where;
+        this.aggregations = aggregations;
+        this.groupBy = groupBy;
     }
 
     @Override
@@ -76,6 +88,16 @@ final class DefaultSelectQuery implements SelectQuery {
         return sorts;
     }
 
+    @Override
+    public List<Aggregation> aggregations() {
+        return aggregations;
+    }
+
+    @Override
+    public List<String> groupBy() {
+        return groupBy;
+    }
+
 
     /**
      * Obtains an instance of {@link DefaultSelectQuery} from a text string.
@@ -104,11 +126,13 @@ final class DefaultSelectQuery implements SelectQuery {
                 Objects.equals(entity, that.entity) &&
                 Objects.equals(fields, that.fields) &&
                 Objects.equals(sorts, that.sorts) &&
-                Objects.equals(where, that.where);
+                Objects.equals(where, that.where) &&
+                Objects.equals(aggregations, that.aggregations) &&
+                Objects.equals(groupBy, that.groupBy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entity, fields, sorts, skip, limit, where);
+        return Objects.hash(entity, fields, sorts, skip, limit, where, aggregations, groupBy);
     }
 }
@@ -19,8 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * A provider to {@link DelQuery}, this provider converts text into {@link DeleteQuery}
  */
@@ -30,7 +28,7 @@ public final class DelQueryConverter extends AbstractSupplier implements Functio
 
     @Override
     public void exitKeys(QueryParser.KeysContext ctx) {
-        this.keys =  ctx.value().stream().map(ValueConverter::get).collect(toList());
+        this.keys = ctx.value().stream().map(ValueConverter::get).toList();
     }
 
     @Override
@@ -16,10 +16,10 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 /**
  * A provider of {@link DeleteQuery} from a {@link String}
@@ -33,7 +33,7 @@ public final class DeleteQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public void exitDeleteFields(QueryParser.DeleteFieldsContext ctx) {
-        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
+        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).toList();
     }
 
 
@@ -44,6 +44,20 @@ public final class DeleteQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public DeleteQuery apply(String query) {
+        DeleteQuery deleteQuery = FastQueryParser.delete(query);
+        if (Objects.nonNull(deleteQuery)) {
+            return deleteQuery;
+        }
+        return parse(query);
+    }
+
+    /**
+     * Converts the query using the ANTLR parser, skipping the fast path.
+     *
+     * @param query the query
+     * @return the query result
+     */
+    DeleteQuery parse(String query) {
         runQuery(query);
         return DeleteQuery.of(entity, fields, where);
     }
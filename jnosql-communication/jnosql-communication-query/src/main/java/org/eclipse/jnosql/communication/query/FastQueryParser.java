@@ -0,0 +1,474 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import jakarta.data.repository.Direction;
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Condition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.eclipse.jnosql.communication.Condition.BETWEEN;
+import static org.eclipse.jnosql.communication.Condition.EQUALS;
+import static org.eclipse.jnosql.communication.Condition.GREATER_EQUALS_THAN;
+import static org.eclipse.jnosql.communication.Condition.GREATER_THAN;
+import static org.eclipse.jnosql.communication.Condition.IN;
+import static org.eclipse.jnosql.communication.Condition.LESSER_EQUALS_THAN;
+import static org.eclipse.jnosql.communication.Condition.LESSER_THAN;
+import static org.eclipse.jnosql.communication.Condition.LIKE;
+
+/**
+ * A hand-written recursive-descent parser to the common shapes of the <b>select</b> and <b>delete</b> statements
+ * at the Query grammar: fields, a single entity, and/or chains of the =, &gt;, &gt;=, &lt;, &lt;=, in, like
+ * and between operators with either number, string, array or parameter values, skip, limit and order by.
+ * It reads the text straight into the {@link DefaultSelectQuery} and {@link DeleteQuery} structures without
+ * creating neither tokens nor a parse tree.
+ * It returns null whenever the query has a shape that it does not recognize, e.g., JSON values, functions or
+ * comments, thus the caller falls back to the ANTLR parser, which is also responsible for the syntax errors.
+ */
+final class FastQueryParser {
+
+    private static final Set<String> KEYWORDS = Set.of("select", "delete", "insert", "update", "get", "del",
+            "put", "from", "where", "skip", "limit", "order", "by", "asc", "desc", "not", "and", "or", "between",
+            "in", "like", "group", "day", "hour", "minute", "second", "millisecond", "nanosecond", "true", "false", "null");
+
+    private static final Set<String> FUNCTIONS = Set.of("convert", "count", "sum", "min", "max", "avg");
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final String query;
+
+    private int position;
+
+    private FastQueryParser(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Parses a select query
+     *
+     * @param query the query
+     * @return the {@link DefaultSelectQuery} or null when the shape is not supported
+     */
+    static DefaultSelectQuery select(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return new FastQueryParser(query).select();
+    }
+
+    /**
+     * Parses a delete query
+     *
+     * @param query the query
+     * @return the {@link DeleteQuery} or null when the shape is not supported
+     */
+    static DeleteQuery delete(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return new FastQueryParser(query).delete();
+    }
+
+    private DefaultSelectQuery select() {
+        if (!keyword("select")) {
+            return null;
+        }
+        List<String> fields;
+        skipWhitespace();
+        if (match('*')) {
+            fields = List.of();
+        } else {
+            fields = names();
+        }
+        if (fields == null || !keyword("from")) {
+            return null;
+        }
+        String entity = name();
+        if (entity == null) {
+            return null;
+        }
+        Where where = null;
+        if (keyword("where")) {
+            where = where();
+            if (where == null) {
+                return null;
+            }
+        }
+        long skip = 0;
+        if (keyword("skip")) {
+            skip = integer();
+        }
+        long limit = 0;
+        if (skip >= 0 && keyword("limit")) {
+            limit = integer();
+        }
+        if (skip < 0 || limit < 0) {
+            return null;
+        }
+        List<Sort> sorts = List.of();
+        if (keyword("order")) {
+            sorts = keyword("by") ? sorts() : null;
+        }
+        if (sorts == null || !end()) {
+            return null;
+        }
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
+    }
+
+    private DeleteQuery delete() {
+        if (!keyword("delete")) {
+            return null;
+        }
+        List<String> fields = List.of();
+        if (!keyword("from")) {
+            fields = names();
+            if (fields == null || !keyword("from")) {
+                return null;
+            }
+        }
+        String entity = name();
+        if (entity == null) {
+            return null;
+        }
+        Where where = null;
+        if (keyword("where")) {
+            where = where();
+            if (where == null) {
+                return null;
+            }
+        }
+        if (!end()) {
+            return null;
+        }
+        return DeleteQuery.of(entity, fields, where);
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        do {
+            String name = name();
+            if (name == null) {
+                return null;
+            }
+            names.add(name);
+            skipWhitespace();
+        } while (match(','));
+        return List.copyOf(names);
+    }
+
+    private List<Sort> sorts() {
+        List<Sort> sorts = new ArrayList<>();
+        do {
+            String name = name();
+            if (name == null) {
+                return null;
+            }
+            Direction direction = Direction.ASC;
+            if (keyword("desc")) {
+                direction = Direction.DESC;
+            } else {
+                keyword("asc");
+            }
+            sorts.add(Sort.of(name, direction, false));
+        } while (!end());
+        return List.copyOf(sorts);
+    }
+
+    private Where where() {
+        QueryCondition condition = null;
+        boolean and = true;
+        do {
+            QueryCondition next = condition();
+            if (next == null) {
+                return null;
+            }
+            condition = AbstractWhereSupplier.append(condition, next, and);
+            if (keyword("and")) {
+                and = true;
+            } else if (keyword("or")) {
+                and = false;
+            } else {
+                return new Where(condition);
+            }
+        } while (true);
+    }
+
+    private QueryCondition condition() {
+        boolean not = keyword("not");
+        String name = name();
+        if (name == null) {
+            return null;
+        }
+        skipWhitespace();
+        Condition operator;
+        QueryValue<?> value;
+        if (match('=')) {
+            operator = EQUALS;
+            value = value();
+        } else if (match('>')) {
+            operator = match('=') ? GREATER_EQUALS_THAN : GREATER_THAN;
+            value = value();
+        } else if (match('<')) {
+            operator = match('=') ? LESSER_EQUALS_THAN : LESSER_THAN;
+            value = value();
+        } else if (keyword("between")) {
+            operator = BETWEEN;
+            value = between();
+        } else {
+            if (not) {
+                return null;
+            }
+            not = keyword("not");
+            if (keyword("in")) {
+                operator = IN;
+                value = in();
+            } else if (keyword("like")) {
+                operator = LIKE;
+                skipWhitespace();
+                value = peek() == '\'' || peek() == '"' ? string() : null;
+            } else {
+                return null;
+            }
+        }
+        if (value == null) {
+            return null;
+        }
+        return AbstractWhereSupplier.checkNotCondition(new DefaultQueryCondition(name, operator, value), not);
+    }
+
+    private QueryValue<?> between() {
+        QueryValue<?> first = value();
+        if (first == null || !keyword("and")) {
+            return null;
+        }
+        QueryValue<?> second = value();
+        if (second == null) {
+            return null;
+        }
+        return DefaultArrayQueryValue.of(new QueryValue<?>[]{first, second});
+    }
+
+    private QueryValue<?> in() {
+        skipWhitespace();
+        if (!match('(')) {
+            return null;
+        }
+        List<QueryValue<?>> values = new ArrayList<>();
+        do {
+            QueryValue<?> value = value();
+            if (value == null) {
+                return null;
+            }
+            values.add(value);
+            skipWhitespace();
+        } while (match(','));
+        if (!match(')')) {
+            return null;
+        }
+        return DefaultArrayQueryValue.of(values.toArray(QueryValue[]::new));
+    }
+
+    private QueryValue<?> value() {
+        skipWhitespace();
+        char current = peek();
+        if (current == '\'' || current == '"') {
+            return string();
+        } else if (current == '-' || isDigit(current)) {
+            return number();
+        } else if (current == '@') {
+            return parameter();
+        } else if (current == '{') {
+            return array();
+        }
+        return null;
+    }
+
+    private QueryValue<?> array() {
+        position++;
+        List<QueryValue<?>> elements = new ArrayList<>();
+        do {
+            skipWhitespace();
+            char current = peek();
+            QueryValue<?> element;
+            if (current == '\'' || current == '"') {
+                element = string();
+                skipWhitespace();
+                if (peek() == ':') {
+                    return null;
+                }
+            } else {
+                element = number();
+            }
+            if (element == null) {
+                return null;
+            }
+            elements.add(element);
+            skipWhitespace();
+        } while (match(','));
+        if (!match('}')) {
+            return null;
+        }
+        return DefaultArrayQueryValue.of(elements.toArray(QueryValue[]::new));
+    }
+
+    private StringQueryValue string() {
+        char quote = query.charAt(position);
+        int start = position + 1;
+        int index = start;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (current == quote) {
+                position = index + 1;
+                return new StringQueryValue(query.substring(start, index));
+            } else if (current == '\\') {
+                int escape = escape(index + 1);
+                if (escape < 0) {
+                    return null;
+                }
+                index = escape;
+            } else {
+                index++;
+            }
+        }
+        return null;
+    }
+
+    private int escape(int index) {
+        if (index >= query.length()) {
+            return -1;
+        }
+        char current = query.charAt(index);
+        if ("\"\\/bfnrt".indexOf(current) >= 0) {
+            return index + 1;
+        }
+        if (current == 'u' && index + 4 < query.length()) {
+            for (int hex = index + 1; hex <= index + 4; hex++) {
+                if (Character.digit(query.charAt(hex), 16) < 0) {
+                    return -1;
+                }
+            }
+            return index + 5;
+        }
+        return -1;
+    }
+
+    private NumberQueryValue number() {
+        int start = position;
+        match('-');
+        int digits = position;
+        while (isDigit(peek())) {
+            position++;
+        }
+        if (position == digits) {
+            return null;
+        }
+        boolean decimal = match('.');
+        while (isDigit(peek())) {
+            position++;
+        }
+        if (isNamePart(peek()) || (!decimal && position - digits > MAX_LONG_DIGITS)) {
+            return null;
+        }
+        String text = query.substring(start, position);
+        if (decimal) {
+            return new NumberQueryValue(Double.valueOf(text));
+        }
+        return new NumberQueryValue(Long.valueOf(text));
+    }
+
+    private ParamQueryValue parameter() {
+        int start = ++position;
+        while (isNamePart(peek())) {
+            position++;
+        }
+        return new DefaultQueryValue(query.substring(start, position));
+    }
+
+    private long integer() {
+        skipWhitespace();
+        int start = position;
+        while (isDigit(peek())) {
+            position++;
+        }
+        int digits = position - start;
+        if (digits == 0 || digits > MAX_LONG_DIGITS || isNamePart(peek())) {
+            return -1;
+        }
+        return Long.parseLong(query, start, position, 10);
+    }
+
+    private String name() {
+        skipWhitespace();
+        int start = position;
+        if (!isNameStart(peek())) {
+            return null;
+        }
+        while (isNamePart(peek())) {
+            position++;
+        }
+        String name = query.substring(start, position);
+        if (KEYWORDS.contains(name) || (FUNCTIONS.contains(name) && peek() == '(')) {
+            return null;
+        }
+        return name;
+    }
+
+    private boolean keyword(String keyword) {
+        skipWhitespace();
+        int end = position + keyword.length();
+        if (query.startsWith(keyword, position) && (end == query.length() || !isNamePart(query.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean match(char expected) {
+        if (peek() == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean end() {
+        skipWhitespace();
+        return position == query.length();
+    }
+
+    private char peek() {
+        return position < query.length() ? query.charAt(position) : 0;
+    }
+
+    private void skipWhitespace() {
+        while (position < query.length()) {
+            char current = query.charAt(position);
+            if (current != ' ' && current != '\t' && current != '\r' && current != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private static boolean isDigit(char current) {
+        return current >= '0' && current <= '9';
+    }
+
+    private static boolean isNameStart(char current) {
+        return (current >= 'a' && current <= 'z') || (current >= 'A' && current <= 'Z')
+                || current == '_' || current == '.';
+    }
+
+    private static boolean isNamePart(char current) {
+        return isNameStart(current) || isDigit(current);
+    }
+}
@@ -19,8 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * A provider to {@link GetQuery}, this provider converts text into {@link GetQuery}
  */
@@ -30,7 +28,7 @@ public final class GetQueryConverter extends AbstractSupplier implements Functio
 
     @Override
     public void exitKeys(QueryParser.KeysContext ctx) {
-        this.keys =  ctx.value().stream().map(ValueConverter::get).collect(toList());
+        this.keys = ctx.value().stream().map(ValueConverter::get).toList();
     }
 
     @Override
@@ -20,8 +20,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
-
 
 /**
  * A provider to {@link InsertQuery}, this provider converts text into {@link InsertQuery}
@@ -48,7 +46,7 @@ public final class InsertQueryConverter extends AbstractSupplier implements Func
 
     @Override
     public void exitChanges(QueryParser.ChangesContext ctx) {
-        this.conditions = ctx.change().stream().map(this::getCondition).collect(toList());
+        this.conditions = ctx.change().stream().map(this::getCondition).toList();
     }
 
     @Override
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Map;
+
+/**
+ * The result of the {@link QueryNormalizer}: the query with the literals replaced by parameters and the literals
+ * to bind to those parameters, in the order they appear at the query.
+ * The {@link NormalizedQuery#toString()} does not include the literals.
+ *
+ * @param query  the query with parameters instead of literals
+ * @param params the parameters names and the literals
+ */
+public record NormalizedQuery(String query, Map<String, Object> params) {
+
+    @Override
+    public String toString() {
+        return "NormalizedQuery{" +
+                "query='" + query + '\'' +
+                ", params=" + params.keySet() +
+                '}';
+    }
+}
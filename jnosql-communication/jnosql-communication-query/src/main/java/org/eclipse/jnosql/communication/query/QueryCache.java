@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed queries keyed by the query text, e.g.: the {@link Query} instances or the prepared
+ * statements of a template.
+ * A hit returns the immutable query tree without running the lexer or the parser; a miss parses the text and
+ * stores the result. When the cache is full, it evicts entries following the second-chance policy: an entry
+ * that was read since it was queued goes back to the tail once before being removed.
+ * The shared instances, e.g. {@link QueryCache#SELECT}, are used by the communication parsers, and their size
+ * might be defined by the {@link QueryCache#MAX_SIZE_PROPERTY} system property.
+ *
+ * @param <T> the query type
+ */
+public final class QueryCache<T> implements Function<String, T> {
+
+    /**
+     * The system property to define the maximum size of the shared caches.
+     */
+    public static final String MAX_SIZE_PROPERTY = "jnosql.query.cache.size";
+
+    /**
+     * The default maximum size of the shared caches.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final int SHARED_MAX_SIZE = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>select</b> statement.
+     */
+    public static final QueryCache<SelectQuery> SELECT = of(q -> new SelectQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>delete</b> statement.
+     */
+    public static final QueryCache<DeleteQuery> DELETE = of(q -> new DeleteQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>insert</b> statement.
+     */
+    public static final QueryCache<InsertQuery> INSERT = of(q -> new InsertQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>update</b> statement.
+     */
+    public static final QueryCache<UpdateQuery> UPDATE = of(q -> new UpdateQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>get</b> statement.
+     */
+    public static final QueryCache<GetQuery> GET = of(q -> new GetQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>put</b> statement.
+     */
+    public static final QueryCache<PutQuery> PUT = of(q -> new PutQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    /**
+     * The shared cache to the <b>del</b> statement.
+     */
+    public static final QueryCache<DelQuery> DEL = of(q -> new DelQueryConverter().apply(q), SHARED_MAX_SIZE);
+
+    private final Function<String, T> parser;
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, CachedQuery<T>> queries = new ConcurrentHashMap<>();
+
+    private final Queue<String> order = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private QueryCache(Function<String, T> parser, int maxSize) {
+        this.parser = parser;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the parsed query from the cache, otherwise parses the text and stores the result.
+     *
+     * @param query the query as text
+     * @return the parsed query
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    @Override
+    public T apply(String query) {
+        Objects.requireNonNull(query, "query is required");
+        CachedQuery<T> cached = queries.get(query);
+        if (cached != null) {
+            cached.accessed = true;
+            hits.increment();
+            return cached.query;
+        }
+        misses.increment();
+        T parsed = parser.apply(query);
+        if (queries.putIfAbsent(query, new CachedQuery<>(parsed)) == null) {
+            order.offer(query);
+            if (size.incrementAndGet() > maxSize) {
+                evict();
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * @return the number of queries returned from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that required parsing
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of queries removed because the cache was full
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of queries at the cache
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return the maximum number of queries at the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the queries from the cache, the counters are kept.
+     */
+    public void clear() {
+        queries.clear();
+        order.clear();
+        size.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache{" +
+                "size=" + size +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    private void evict() {
+        int chances = maxSize;
+        while (size.get() > maxSize) {
+            String key = order.poll();
+            if (key == null) {
+                return;
+            }
+            CachedQuery<T> cached = queries.get(key);
+            if (cached == null) {
+                continue;
+            }
+            if (cached.accessed && chances-- > 0) {
+                cached.accessed = false;
+                order.offer(key);
+            } else if (queries.remove(key, cached)) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Creates a new cache instance
+     *
+     * @param parser  the parser to the cache misses
+     * @param maxSize the maximum number of queries
+     * @param <T>     the query type
+     * @return a new {@link QueryCache} instance
+     * @throws NullPointerException     when the parser is null
+     * @throws IllegalArgumentException when the maxSize is not positive
+     */
+    public static <T> QueryCache<T> of(Function<String, T> parser, int maxSize) {
+        Objects.requireNonNull(parser, "parser is required");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maxSize must be positive: " + maxSize);
+        }
+        return new QueryCache<>(parser, maxSize);
+    }
+
+    private static final class CachedQuery<T> {
+
+        private final T query;
+
+        private volatile boolean accessed;
+
+        private CachedQuery(T query) {
+            this.query = query;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lifts the string, number and array literals of the <b>select</b>, <b>delete</b>, <b>insert</b> and <b>update</b>
+ * statements out of the query text into parameters, thus, queries that differ only by their literals have the same
+ * {@link NormalizedQuery#query()} and share the parsed and the prepared query. E.g.:
+ * {@code select * from Order where customer = 'c-123'} becomes {@code select * from Order where customer = @_1}
+ * with the parameter {@code _1} equal to {@code "c-123"}.
+ * The literals are bound as values at the execution, they are never written back into a query text.
+ * Only the literals at the value of a condition or a change are lifted; the skip, limit, TTL, like, function and JSON
+ * values are kept as they are. This normalization is opt-in through the {@link QueryNormalizer#ENABLED_PROPERTY}
+ * system property.
+ */
+public final class QueryNormalizer {
+
+    /**
+     * The system property that enables the normalization at the query parsers and templates.
+     */
+    public static final String ENABLED_PROPERTY = "jnosql.query.normalize";
+
+    /**
+     * The prefix of the parameters names created by the normalization.
+     */
+    public static final String PARAMETER_PREFIX = "_";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final List<String> COMMANDS = List.of("select", "delete", "insert", "update");
+
+    private static final List<String> FUNCTIONS = List.of("convert", "count", "sum", "min", "max", "avg");
+
+    private final String query;
+
+    private final StringBuilder text;
+
+    private final Map<String, Object> params = new LinkedHashMap<>();
+
+    private int position;
+
+    private QueryNormalizer(String query) {
+        this.query = query;
+        this.text = new StringBuilder(query.length());
+    }
+
+    /**
+     * @return true when the {@link QueryNormalizer#ENABLED_PROPERTY} is true
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Lifts the literals of the query into parameters.
+     *
+     * @param query the query
+     * @return the normalized query or {@link Optional#empty()} when there is no literal to lift, when the query
+     * already has parameters or when it has a shape that is not supported, e.g., comments
+     * @throws NullPointerException when the query is null
+     */
+    public static Optional<NormalizedQuery> normalize(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return Optional.ofNullable(new QueryNormalizer(query).normalize());
+    }
+
+    private NormalizedQuery normalize() {
+        String command = word();
+        if (command == null || !COMMANDS.contains(command)) {
+            return null;
+        }
+        append(command);
+        boolean value = false;
+        boolean between = false;
+        boolean in = false;
+        while (true) {
+            skipWhitespace();
+            if (position == query.length()) {
+                break;
+            }
+            char current = query.charAt(position);
+            if (value && isLiteral(current)) {
+                Object literal = literal();
+                if (literal == null) {
+                    return null;
+                }
+                String name = PARAMETER_PREFIX + (params.size() + 1);
+                params.put(name, literal);
+                append("@" + name);
+                value = false;
+                continue;
+            }
+            value = false;
+            if (current == '@' || current == '/') {
+                return null;
+            } else if (current == '\'' || current == '"') {
+                if (!copyString()) {
+                    return null;
+                }
+                between = false;
+            } else if (current == '=') {
+                position++;
+                append("=");
+                value = true;
+            } else if (current == '>' || current == '<') {
+                position++;
+                boolean equals = position < query.length() && query.charAt(position) == '=';
+                if (equals) {
+                    position++;
+                }
+                append(current + (equals ? "=" : ""));
+                value = true;
+            } else if (current == '(' && in) {
+                position++;
+                append("(");
+                value = true;
+            } else if (current == ',' && in) {
+                position++;
+                append(",");
+                value = true;
+            } else if (current == ')' && in) {
+                position++;
+                append(")");
+                in = false;
+            } else if (isDigit(current)) {
+                copyNumber();
+                between = false;
+            } else if (isNameStart(current)) {
+                String word = word();
+                if (FUNCTIONS.contains(word) && position < query.length() && query.charAt(position) == '(') {
+                    position++;
+                    append(word + "(");
+                } else {
+                    append(word);
+                    value = "between".equals(word) || (between && "and".equals(word));
+                    between = "between".equals(word);
+                    in = in || "in".equals(word);
+                }
+            } else {
+                position++;
+                append(String.valueOf(current));
+                between = false;
+            }
+        }
+        if (params.isEmpty()) {
+            return null;
+        }
+        return new NormalizedQuery(text.toString(), Collections.unmodifiableMap(params));
+    }
+
+    private Object literal() {
+        char current = query.charAt(position);
+        if (current == '\'' || current == '"') {
+            return string();
+        } else if (current == '{') {
+            return array();
+        }
+        return number();
+    }
+
+    private List<Object> array() {
+        position++;
+        List<Object> elements = new ArrayList<>();
+        do {
+            skipWhitespace();
+            char current = position < query.length() ? query.charAt(position) : 0;
+            Object element;
+            if (current == '\'' || current == '"') {
+                element = string();
+            } else if (current == '-' || isDigit(current)) {
+                element = number();
+            } else {
+                return null;
+            }
+            if (element == null) {
+                return null;
+            }
+            elements.add(element);
+            skipWhitespace();
+        } while (match(','));
+        if (!match('}')) {
+            return null;
+        }
+        return elements;
+    }
+
+    private String string() {
+        int end = stringEnd();
+        if (end < 0) {
+            return null;
+        }
+        String string = query.substring(position + 1, end - 1);
+        position = end;
+        return string;
+    }
+
+    private boolean copyString() {
+        int end = stringEnd();
+        if (end < 0) {
+            return false;
+        }
+        append(query.substring(position, end));
+        position = end;
+        return true;
+    }
+
+    private int stringEnd() {
+        char quote = query.charAt(position);
+        int index = position + 1;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (current == quote) {
+                return index + 1;
+            } else if (current == '\\') {
+                index += 2;
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    private void copyNumber() {
+        int start = position;
+        while (position < query.length() && (isDigit(query.charAt(position)) || query.charAt(position) == '.')) {
+            position++;
+        }
+        append(query.substring(start, position));
+    }
+
+    private Number number() {
+        int start = position;
+        match('-');
+        skipWhitespace();
+        int digits = position;
+        while (position < query.length() && isDigit(query.charAt(position))) {
+            position++;
+        }
+        if (position == digits) {
+            return null;
+        }
+        boolean decimal = match('.');
+        while (position < query.length() && isDigit(query.charAt(position))) {
+            position++;
+        }
+        if (position < query.length() && isNameStart(query.charAt(position))) {
+            return null;
+        }
+        String number = query.substring(start, position).replaceAll("\\s", "");
+        try {
+            if (decimal) {
+                return Double.valueOf(number);
+            }
+            return Long.valueOf(number);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private String word() {
+        skipWhitespace();
+        int start = position;
+        if (position >= query.length() || !isNameStart(query.charAt(position))) {
+            return null;
+        }
+        while (position < query.length() && (isNameStart(query.charAt(position)) || isDigit(query.charAt(position)))) {
+            position++;
+        }
+        return query.substring(start, position);
+    }
+
+    private void append(String token) {
+        if (!text.isEmpty()) {
+            text.append(' ');
+        }
+        text.append(token);
+    }
+
+    private boolean match(char expected) {
+        if (position < query.length() && query.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < query.length()) {
+            char current = query.charAt(position);
+            if (current != ' ' && current != '\t' && current != '\r' && current != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private static boolean isLiteral(char current) {
+        return current == '\'' || current == '"' || current == '{' || current == '-' || isDigit(current);
+    }
+
+    private static boolean isDigit(char current) {
+        return current >= '0' && current <= '9';
+    }
+
+    private static boolean isNameStart(char current) {
+        return (current >= 'a' && current <= 'z') || (current >= 'A' && current <= 'Z')
+                || current == '_' || current == '.';
+    }
+}
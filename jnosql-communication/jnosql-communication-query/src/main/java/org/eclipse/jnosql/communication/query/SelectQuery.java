@@ -13,7 +13,9 @@
 package org.eclipse.jnosql.communication.query;
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Aggregation;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,4 +66,24 @@ public interface SelectQuery extends Query {
      * @return the order list
      */
     List<Sort> orderBy();
+
+    /**
+     * The aggregate functions of this query, e.g.: {@code sum(amount)}. When either this list or the
+     * {@link SelectQuery#groupBy()} is not empty, the query returns one row per group instead of the entities,
+     * and the {@link SelectQuery#fields()} are the group by fields it returns.
+     *
+     * @return the aggregations list
+     */
+    default List<Aggregation> aggregations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The fields used to group the entities of the {@link SelectQuery#aggregations()}
+     *
+     * @return the group by fields
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
 }
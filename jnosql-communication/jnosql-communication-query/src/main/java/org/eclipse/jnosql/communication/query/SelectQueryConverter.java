@@ -15,14 +15,18 @@ package org.eclipse.jnosql.communication.query;
 import org.antlr.v4.runtime.tree.ParseTree;
 import jakarta.data.repository.Sort;
 import jakarta.data.repository.Direction;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.AggregationType;
+import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 /**
  * A provider to {@link DefaultSelectQuery}, this provider converts text into {@link DefaultSelectQuery}
@@ -39,10 +43,31 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     private long limit;
 
+    private List<Aggregation> aggregations = emptyList();
+
+    private List<String> groupBy = emptyList();
+
+    private final List<Aggregation> sortAggregations = new ArrayList<>();
+
 
     @Override
     public void exitFields(QueryParser.FieldsContext ctx) {
-        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
+        List<String> names = new ArrayList<>();
+        List<Aggregation> functions = new ArrayList<>();
+        for (QueryParser.FieldContext field : ctx.field()) {
+            if (field.name() != null) {
+                names.add(field.name().getText());
+            } else {
+                functions.add(aggregation(field.aggregate()));
+            }
+        }
+        this.fields = List.copyOf(names);
+        this.aggregations = List.copyOf(functions);
+    }
+
+    @Override
+    public void exitGroup(QueryParser.GroupContext ctx) {
+        this.groupBy = ctx.name().stream().map(QueryParser.NameContext::getText).toList();
     }
 
     @Override
@@ -62,13 +87,35 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public void enterOrder(QueryParser.OrderContext ctx) {
-        this.sorts = ctx.orderName().stream().map(this::sort).collect(Collectors.toList());
+        this.sorts = ctx.orderName().stream().map(this::sort).toList();
     }
 
 
     @Override
     public DefaultSelectQuery apply(String query) {
+        DefaultSelectQuery selectQuery = FastQueryParser.select(query);
+        if (Objects.nonNull(selectQuery)) {
+            return selectQuery;
+        }
+        return parse(query);
+    }
+
+    /**
+     * Converts the query using the ANTLR parser, skipping the fast path.
+     *
+     * @param query the query
+     * @return the query result
+     */
+    DefaultSelectQuery parse(String query) {
         runQuery(query);
+        sortAggregations.stream().filter(a -> !aggregations.contains(a)).findFirst().ifPresent(a -> {
+            throw new QueryException(String.format("The order by %s requires the aggregation at the select",
+                    a.alias()));
+        });
+        if (!aggregations.isEmpty() || !groupBy.isEmpty()) {
+            checkGroupBy();
+            return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where, aggregations, groupBy);
+        }
         return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
     }
 
@@ -77,8 +124,37 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
         return QueryParser::select;
     }
 
+    private void checkGroupBy() {
+        if (fields.isEmpty() && aggregations.isEmpty()) {
+            throw new QueryException("The group by requires the fields to select instead of *");
+        }
+        fields.stream().filter(f -> !groupBy.contains(f)).findFirst().ifPresent(f -> {
+            throw new QueryException(String.format("The field %s must be at the group by to be selected with an " +
+                    "aggregation", f));
+        });
+    }
+
+    private Aggregation aggregation(QueryParser.AggregateContext context) {
+        String function = context.aggregateFunction().getText();
+        AggregationType type = AggregationType.valueOf(function.substring(0, function.length() - 1)
+                .toUpperCase(Locale.US));
+        if (context.name() != null) {
+            return Aggregation.of(type, context.name().getText());
+        } else if (AggregationType.COUNT.equals(type)) {
+            return Aggregation.count();
+        }
+        throw new QueryException(String.format("The function %s requires a field instead of *", type.function()));
+    }
+
     private Sort sort(QueryParser.OrderNameContext context) {
-        String text = context.name().getText();
+        String text;
+        if (context.name() != null) {
+            text = context.name().getText();
+        } else {
+            Aggregation aggregation = aggregation(context.aggregate());
+            sortAggregations.add(aggregation);
+            text = aggregation.alias();
+        }
         Direction type = context.desc() == null? Direction.ASC: Direction.DESC;
         return Sort.of(text, type, false);
     }
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs an ANTLR parser in two stages. The first stage uses the {@link PredictionMode#SLL} prediction with an error
+ * strategy that bails out at the first error, which is enough to the valid queries and cheaper than the full
+ * context prediction. When it fails, the input is parsed again with the {@link PredictionMode#LL} prediction and the
+ * {@link QueryErrorListener}, thus, an invalid query reports the same {@link org.eclipse.jnosql.communication.QueryException}
+ * as a single stage parser.
+ */
+public final class TwoStageParser {
+
+    private TwoStageParser() {
+    }
+
+    /**
+     * Parses the input of the parser with the rule
+     *
+     * @param parser the parser, the error listeners of it are replaced
+     * @param rule   the start rule
+     * @param <P>    the parser type
+     * @return the parse tree
+     * @throws NullPointerException                            when there is null parameter
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    public static <P extends Parser> ParseTree parse(P parser, Function<P, ParseTree> rule) {
+        Objects.requireNonNull(parser, "parser is required");
+        Objects.requireNonNull(rule, "rule is required");
+
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return rule.apply(parser);
+        } catch (ParseCancellationException exception) {
+            parser.reset();
+            parser.addErrorListener(QueryErrorListener.INSTANCE);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            return rule.apply(parser);
+        }
+    }
+}
@@ -19,8 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * A provider to {@link UpdateQuery}, this provider converts text into {@link UpdateQuery}
  */
@@ -44,7 +42,7 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
 
     @Override
     public void exitChanges(QueryParser.ChangesContext ctx) {
-        this.conditions = ctx.change().stream().map(this::getCondition).collect(toList());
+        this.conditions = ctx.change().stream().map(this::getCondition).toList();
     }
 
     @Override
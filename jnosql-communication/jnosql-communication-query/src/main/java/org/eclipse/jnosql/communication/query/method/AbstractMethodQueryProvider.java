@@ -23,6 +23,7 @@ import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.eclipse.jnosql.communication.query.TwoStageParser;
 import org.eclipse.jnosql.communication.query.Where;
 import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
 import org.eclipse.jnosql.query.grammar.method.MethodLexer;
@@ -66,11 +67,9 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         MethodParser parser = new MethodParser(tokens);
         lexer.removeErrorListeners();
-        parser.removeErrorListeners();
         lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
 
-        ParseTree tree = getParserTree().apply(parser);
+        ParseTree tree = TwoStageParser.parse(parser, getParserTree());
         ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(this, tree);
 
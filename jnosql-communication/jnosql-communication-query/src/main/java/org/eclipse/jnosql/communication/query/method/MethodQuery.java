@@ -21,7 +21,7 @@ import java.util.regex.Pattern;
 public final class MethodQuery implements Supplier<String> {
 
     private final String value;
-    private static final Pattern PATTERN = Pattern.compile("findBy|deleteBy|countBy|existsBy|"
+    private static final Pattern PATTERN = Pattern.compile("find(?:First|Top)\\d*By|findBy|deleteBy|countBy|existsBy|"
             + "OrderBy|"
             + "And|Or(?!der)|Not|Equals|GreaterThanEqual|True|False|" +
             "LessThanEqual|GreaterThan|LessThan|Between|In|Like|Asc|Desc");
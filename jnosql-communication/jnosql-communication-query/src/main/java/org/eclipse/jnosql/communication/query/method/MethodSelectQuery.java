@@ -29,10 +29,13 @@ final class MethodSelectQuery  implements SelectQuery {
 
     private final List<Sort> sorts;
 
-    MethodSelectQuery(String entity, List<Sort> sorts, Where where) {
+    private final long limit;
+
+    MethodSelectQuery(String entity, List<Sort> sorts, Where where, long limit) {
         this.entity = entity;
         this.sorts = sorts;
         this.where = where;
+        this.limit = limit;
     }
 
 
@@ -57,7 +60,7 @@ final class MethodSelectQuery  implements SelectQuery {
 
     @Override
     public long limit() {
-        return 0;
+        return limit;
     }
 
     @Override
@@ -73,17 +76,18 @@ final class MethodSelectQuery  implements SelectQuery {
             return false;
         }
         MethodSelectQuery that = (MethodSelectQuery) o;
-        return Objects.equals(entity, that.entity) &&
+        return limit == that.limit &&
+                Objects.equals(entity, that.entity) &&
                 Objects.equals(where, that.where);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entity, where);
+        return Objects.hash(entity, where, limit);
     }
 
     @Override
     public String toString() {
-        return entity + " where " + where + " orderBy " + sorts;
+        return entity + " where " + where + " orderBy " + sorts + " limit " + limit;
     }
 }
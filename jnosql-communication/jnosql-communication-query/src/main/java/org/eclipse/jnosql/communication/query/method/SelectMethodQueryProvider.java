@@ -14,6 +14,7 @@ package org.eclipse.jnosql.communication.query.method;
 import org.antlr.v4.runtime.tree.ParseTree;
 import jakarta.data.repository.Sort;
 import jakarta.data.repository.Direction;
+import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.query.grammar.method.MethodParser;
 
@@ -27,12 +28,17 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private long limit;
+
+    private String method;
+
     @Override
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
+        this.method = query;
         runQuery(MethodQuery.of(query).get());
-        return new MethodSelectQuery(entity, sorts, where);
+        return new MethodSelectQuery(entity, sorts, where, limit);
     }
 
     @Override
@@ -40,6 +46,22 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
         sorts.add(this.sort(ctx));
     }
 
+    @Override
+    public void exitFirst(MethodParser.FirstContext ctx) {
+        String text = ctx.getText();
+        String digits = text.substring(text.startsWith("findFirst") ? 9 : 7, text.length() - 2);
+        try {
+            this.limit = digits.isEmpty() ? 1 : Long.parseLong(digits);
+        } catch (NumberFormatException exception) {
+            throw new QueryException("The number of entities at the method " + method + " is not valid: " + digits,
+                    exception);
+        }
+        if (limit <= 0) {
+            throw new QueryException("The number of entities at the method " + method
+                    + " must be greater than zero: " + digits);
+        }
+    }
+
     @Override
     Function<MethodParser, ParseTree> getParserTree() {
         return MethodParser::select;
@@ -34,6 +34,14 @@ class DefaultArrayQueryValueTest {
         assertThat(array.get()).containsExactly(BooleanQueryValue.FALSE, BooleanQueryValue.TRUE);
     }
 
+    @Test
+    public void shouldReturnCopyOfArrayValue() {
+        ArrayQueryValue array = DefaultArrayQueryValue.of(new QueryValue<?>[]{
+                BooleanQueryValue.FALSE, BooleanQueryValue.TRUE});
+        array.get()[0] = BooleanQueryValue.TRUE;
+        assertThat(array.get()).containsExactly(BooleanQueryValue.FALSE, BooleanQueryValue.TRUE);
+    }
+
     @Test
     public void shouldEquals(){
         ArrayQueryValue array = DefaultArrayQueryValue.of(new QueryValue<?>[]{
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class FastQueryParserTest {
+
+    @ParameterizedTest(name = "Should parse the same as ANTLR {0}")
+    @ArgumentsSource(FastPathArgumentProvider.class)
+    public void shouldParseAsAntlr(String query) {
+        Query fast = fast(query);
+        Assertions.assertNotNull(fast, "The fast path should support the query: " + query);
+        Assertions.assertEquals(antlr(query), fast);
+    }
+
+    @ParameterizedTest(name = "Should fall back to ANTLR {0}")
+    @ArgumentsSource(FastPathFallbackArgumentProvider.class)
+    public void shouldFallback(String query) {
+        Assertions.assertNull(fast(query));
+    }
+
+    @ParameterizedTest(name = "Should parse the same as ANTLR {0}")
+    @ArgumentsSource(SelectQueryArgumentProvider.class)
+    public void shouldParseSelectAsAntlr(String query) {
+        DefaultSelectQuery fast = FastQueryParser.select(query);
+        if (fast != null) {
+            Assertions.assertEquals(new SelectQueryConverter().parse(query), fast);
+        }
+    }
+
+    @ParameterizedTest(name = "Should parse the same as ANTLR {0}")
+    @ArgumentsSource(DeleteQueryArgumentProvider.class)
+    public void shouldParseDeleteAsAntlr(String query) {
+        DeleteQuery fast = FastQueryParser.delete(query);
+        if (fast != null) {
+            Assertions.assertEquals(new DeleteQueryConverter().parse(query), fast);
+        }
+    }
+
+    @ParameterizedTest(name = "Should not accept the invalid query {0}")
+    @ArgumentsSource(WrongSelectQueryArgumentProvider.class)
+    public void shouldNotAcceptInvalidSelect(String query) {
+        Assertions.assertNull(FastQueryParser.select(query));
+    }
+
+    @ParameterizedTest(name = "Should not accept the invalid query {0}")
+    @ArgumentsSource(WrongDeleteQueryArgumentProvider.class)
+    public void shouldNotAcceptInvalidDelete(String query) {
+        Assertions.assertNull(FastQueryParser.delete(query));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> FastQueryParser.select(null));
+        Assertions.assertThrows(NullPointerException.class, () -> FastQueryParser.delete(null));
+    }
+
+    @Test
+    public void shouldUseFastPathAtConverter() {
+        String query = "select * from Person where id = @id limit 1";
+        Assertions.assertEquals(FastQueryParser.select(query), new SelectQueryConverter().apply(query));
+    }
+
+    private static Query fast(String query) {
+        if (query.trim().startsWith("delete")) {
+            return FastQueryParser.delete(query);
+        }
+        return FastQueryParser.select(query);
+    }
+
+    private static Query antlr(String query) {
+        try {
+            if (query.trim().startsWith("delete")) {
+                return new DeleteQueryConverter().parse(query);
+            }
+            return new SelectQueryConverter().parse(query);
+        } catch (QueryException exception) {
+            return null;
+        }
+    }
+
+    public static class FastPathArgumentProvider extends AbstractArgumentProvider {
+
+        @Override
+        protected String getFile() {
+            return "/fast_path_jnosql.nosql";
+        }
+    }
+
+    public static class FastPathFallbackArgumentProvider extends AbstractArgumentProvider {
+
+        @Override
+        protected String getFile() {
+            return "/fast_path_fallback.nosql";
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.of(null, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> QueryCache.of(q -> new SelectQueryConverter().apply(q), 0));
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.SELECT.apply(null));
+    }
+
+    @Test
+    public void shouldSkipParserWhenHit() {
+        AtomicInteger parsed = new AtomicInteger();
+        QueryCache<SelectQuery> cache = QueryCache.of(counter(parsed), 10);
+
+        SelectQuery first = cache.apply("select * from God where age = 10");
+        SelectQuery second = cache.apply("select * from God where age = 10");
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertEquals(1, cache.hits());
+        Assertions.assertEquals(1, cache.misses());
+        Assertions.assertEquals(0, cache.evictions());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldReturnSameResultAsConverter() {
+        String query = "select name, age from God where age > 10 and name = 'Ada' skip 2 limit 5 order by name desc";
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
+        Assertions.assertEquals(new SelectQueryConverter().apply(query), selectQuery);
+    }
+
+    @Test
+    public void shouldEvictWhenFull() {
+        AtomicInteger parsed = new AtomicInteger();
+        QueryCache<SelectQuery> cache = QueryCache.of(counter(parsed), 2);
+
+        cache.apply("select * from God");
+        cache.apply("select * from Person");
+        cache.apply("select * from Animal");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.evictions());
+        Assertions.assertEquals(3, cache.misses());
+
+        cache.apply("select * from God");
+        Assertions.assertEquals(4, parsed.get());
+    }
+
+    @Test
+    public void shouldKeepRecentlyReadQuery() {
+        AtomicInteger parsed = new AtomicInteger();
+        QueryCache<SelectQuery> cache = QueryCache.of(counter(parsed), 2);
+
+        cache.apply("select * from God");
+        cache.apply("select * from Person");
+        cache.apply("select * from God");
+        cache.apply("select * from Animal");
+
+        cache.apply("select * from God");
+        Assertions.assertEquals(3, parsed.get());
+        Assertions.assertEquals(2, cache.hits());
+    }
+
+    @Test
+    public void shouldNotCacheInvalidQuery() {
+        QueryCache<SelectQuery> cache = QueryCache.of(q -> new SelectQueryConverter().apply(q), 10);
+        Assertions.assertThrows(QueryException.class, () -> cache.apply("select * from"));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void shouldClear() {
+        QueryCache<GetQuery> cache = QueryCache.of(q -> new GetQueryConverter().apply(q), 10);
+        cache.apply("get \"Ada Lovelace\"");
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        cache.apply("get \"Ada Lovelace\"");
+        Assertions.assertEquals(2, cache.misses());
+    }
+
+    @Test
+    public void shouldReturnImmutableFields() {
+        SelectQuery query = QueryCache.SELECT.apply("select name, age from God order by name");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.fields().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.orderBy().clear());
+    }
+
+    @Test
+    public void shouldHaveSharedCaches() {
+        assertThat(QueryCache.DELETE.apply("delete from God")).isInstanceOf(DeleteQuery.class);
+        assertThat(QueryCache.INSERT.apply("insert God (name = \"Diana\")")).isInstanceOf(InsertQuery.class);
+        assertThat(QueryCache.UPDATE.apply("update God (name = \"Diana\")")).isInstanceOf(UpdateQuery.class);
+        assertThat(QueryCache.GET.apply("get \"Diana\"")).isInstanceOf(GetQuery.class);
+        assertThat(QueryCache.PUT.apply("put {\"Diana\", \"Hunt\"}")).isInstanceOf(PutQuery.class);
+        assertThat(QueryCache.DEL.apply("del \"Diana\"")).isInstanceOf(DelQuery.class);
+    }
+
+    private Function<String, SelectQuery> counter(AtomicInteger parsed) {
+        return q -> {
+            parsed.incrementAndGet();
+            return new SelectQueryConverter().apply(q);
+        };
+    }
+}
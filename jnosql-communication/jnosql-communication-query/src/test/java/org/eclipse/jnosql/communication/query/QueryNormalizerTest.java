@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryNormalizerTest {
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> QueryNormalizer.normalize(null));
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(QueryNormalizer.isEnabled());
+    }
+
+    @Test
+    public void shouldLiftString() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from Order where customer = 'c-123'")
+                .orElseThrow();
+        Assertions.assertEquals("select * from Order where customer = @_1", query.query());
+        Assertions.assertEquals(Map.of("_1", "c-123"), query.params());
+    }
+
+    @Test
+    public void shouldShareShape() {
+        NormalizedQuery first = QueryNormalizer.normalize("select * from Order where customer = 'c-123'")
+                .orElseThrow();
+        NormalizedQuery second = QueryNormalizer.normalize("select  *  from Order where customer=\"c-456\"")
+                .orElseThrow();
+        Assertions.assertEquals(first.query(), second.query());
+        Assertions.assertEquals("c-456", second.params().get("_1"));
+    }
+
+    @Test
+    public void shouldLiftNumbers() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where age > 10 and salary <= -12.5 " +
+                "or stamina >= 3 and level < - 2").orElseThrow();
+        Assertions.assertEquals("select * from God where age > @_1 and salary <= @_2 or stamina >= @_3 " +
+                "and level < @_4", query.query());
+        assertThat(query.params().values()).containsExactly(10L, -12.5D, 3L, -2L);
+    }
+
+    @Test
+    public void shouldLiftBetween() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where age between 10 and 30 " +
+                "and name = 'Diana'").orElseThrow();
+        Assertions.assertEquals("select * from God where age between @_1 and @_2 and name = @_3", query.query());
+        assertThat(query.params().values()).containsExactly(10L, 30L, "Diana");
+    }
+
+    @Test
+    public void shouldLiftIn() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where name not in ('Ada', 'Diana') " +
+                "and age = 10").orElseThrow();
+        Assertions.assertEquals("select * from God where name not in ( @_1 , @_2 ) and age = @_3", query.query());
+        assertThat(query.params().values()).containsExactly("Ada", "Diana", 10L);
+    }
+
+    @Test
+    public void shouldLiftArray() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where age = {1, 'two', 3.5}")
+                .orElseThrow();
+        Assertions.assertEquals("select * from God where age = @_1", query.query());
+        Assertions.assertEquals(List.of(1L, "two", 3.5D), query.params().get("_1"));
+    }
+
+    @Test
+    public void shouldKeepSkipLimitAndOrder() {
+        NormalizedQuery query = QueryNormalizer.normalize("select name from God where age = 10 skip 2 limit 5 " +
+                "order by name desc").orElseThrow();
+        Assertions.assertEquals("select name from God where age = @_1 skip 2 limit 5 order by name desc",
+                query.query());
+    }
+
+    @Test
+    public void shouldKeepLike() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where name like 'Di%' and age = 10")
+                .orElseThrow();
+        Assertions.assertEquals("select * from God where name like 'Di%' and age = @_1", query.query());
+    }
+
+    @Test
+    public void shouldKeepFunction() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from God where age = convert(12, " +
+                "java.lang.Integer) and name = 'Ada'").orElseThrow();
+        Assertions.assertEquals("select * from God where age = convert( 12 , java.lang.Integer ) and name = @_1",
+                query.query());
+    }
+
+    @Test
+    public void shouldKeepAggregateFunction() {
+        NormalizedQuery query = QueryNormalizer.normalize("select name, sum(age), count(*) from God where age > 10 " +
+                "group by name").orElseThrow();
+        Assertions.assertEquals("select name , sum( age ) , count( * ) from God where age > @_1 group by name",
+                query.query());
+        Assertions.assertEquals(Map.of("_1", 10L), query.params());
+    }
+
+    @Test
+    public void shouldLiftInsertAndKeepTTL() {
+        NormalizedQuery query = QueryNormalizer.normalize("insert God (name = 'Diana', age = 10) 1 day")
+                .orElseThrow();
+        Assertions.assertEquals("insert God ( name = @_1 , age = @_2 ) 1 day", query.query());
+        assertThat(query.params().values()).containsExactly("Diana", 10L);
+    }
+
+    @Test
+    public void shouldLiftUpdate() {
+        NormalizedQuery query = QueryNormalizer.normalize("update God (name = 'Diana')").orElseThrow();
+        Assertions.assertEquals("update God ( name = @_1 )", query.query());
+    }
+
+    @Test
+    public void shouldLiftDelete() {
+        NormalizedQuery query = QueryNormalizer.normalize("delete from God where name = 'Diana'").orElseThrow();
+        Assertions.assertEquals("delete from God where name = @_1", query.query());
+    }
+
+    @Test
+    public void shouldKeepJSON() {
+        Assertions.assertEquals(Optional.empty(),
+                QueryNormalizer.normalize("insert God {\"name\": \"Diana\", \"age\": 10}"));
+        Assertions.assertEquals(Optional.empty(),
+                QueryNormalizer.normalize("update God (address = {\"city\": \"Paris\"})"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"select * from God", "select * from God where age = @age and name = 'Ada'",
+            "//comment\nselect * from God where age = 10", "get 'Diana'", "put {'Diana', 'Hunt'}",
+            "del 'Diana'", "select * from God where name = 'Ada", "select * from God where age = 10a", ""})
+    public void shouldNotNormalize(String query) {
+        Assertions.assertEquals(Optional.empty(), QueryNormalizer.normalize(query));
+    }
+
+    @Test
+    public void shouldNotReturnLiteralsAtToString() {
+        NormalizedQuery query = QueryNormalizer.normalize("select * from Order where customer = 'c-123'")
+                .orElseThrow();
+        assertThat(query.toString()).doesNotContain("c-123").contains("_1");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SelectQueryArgumentProvider.class)
+    public void shouldKeepSelectValid(String query) {
+        QueryNormalizer.normalize(query).ifPresent(n -> assertThat(new SelectQueryConverter().apply(n.query()))
+                .isNotNull());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(DeleteQueryArgumentProvider.class)
+    public void shouldKeepDeleteValid(String query) {
+        QueryNormalizer.normalize(query).ifPresent(n -> assertThat(new DeleteQueryConverter().apply(n.query()))
+                .isNotNull());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(InsertQueryArgumentProvider.class)
+    public void shouldKeepInsertValid(String query) {
+        QueryNormalizer.normalize(query).ifPresent(n -> assertThat(new InsertQueryConverter().apply(n.query()))
+                .isNotNull());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(UpdateQueryArgumentProvider.class)
+    public void shouldKeepUpdateValid(String query) {
+        QueryNormalizer.normalize(query).ifPresent(n -> assertThat(new UpdateQueryConverter().apply(n.query()))
+                .isNotNull());
+    }
+}
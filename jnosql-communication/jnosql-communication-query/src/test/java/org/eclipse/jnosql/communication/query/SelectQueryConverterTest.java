@@ -12,7 +12,9 @@
 
 package org.eclipse.jnosql.communication.query;
 
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -661,6 +663,53 @@ class SelectQueryConverterTest {
     }
 
 
+    @Test
+    public void shouldParseAggregations() {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply("select count(*), count(name), sum(age), " +
+                "min(age), max(age), avg(age) from God");
+        assertEquals("God", selectQuery.entity());
+        assertTrue(selectQuery.fields().isEmpty());
+        assertTrue(selectQuery.groupBy().isEmpty());
+        assertThat(selectQuery.aggregations()).containsExactly(Aggregation.count(), Aggregation.count("name"),
+                Aggregation.sum("age"), Aggregation.min("age"), Aggregation.max("age"), Aggregation.avg("age"));
+    }
+
+    @Test
+    public void shouldParseGroupBy() {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply("select name, sum(age) from God where age > 10 " +
+                "group by name skip 1 limit 2 order by name desc");
+        assertThat(selectQuery.fields()).containsExactly("name");
+        assertThat(selectQuery.groupBy()).containsExactly("name");
+        assertThat(selectQuery.aggregations()).containsExactly(Aggregation.sum("age"));
+        assertThat(selectQuery.orderBy()).containsExactly(Sort.desc("name"));
+        assertEquals(1, selectQuery.skip());
+        assertEquals(2, selectQuery.limit());
+        QueryCondition condition = selectQuery.where().orElseThrow().condition();
+        assertEquals(Condition.GREATER_THAN, condition.condition());
+    }
+
+    @Test
+    public void shouldOrderByAggregation() {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply("select name, count(*) from God group by name " +
+                "order by count(*) desc name");
+        assertThat(selectQuery.orderBy()).containsExactly(Sort.desc("count(*)"), Sort.asc("name"));
+    }
+
+    @Test
+    public void shouldKeepFieldsNamedAsFunction() {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply("select count, sum from God where max = 1");
+        assertThat(selectQuery.fields()).containsExactly("count", "sum");
+        assertTrue(selectQuery.aggregations().isEmpty());
+    }
+
+    @ParameterizedTest(name = "Should return error at the aggregation {0}")
+    @ValueSource(strings = {"select sum(*) from God", "select name, sum(age) from God",
+            "select name, age, count(*) from God group by name", "select * from God group by name",
+            "select * from God order by sum(age)", "select name, count(*) from God group by name order by max(age)"})
+    public void shouldReturnErrorAtInvalidAggregation(String query) {
+        Assertions.assertThrows(QueryException.class, () -> selectQueryConverter.apply(query));
+    }
+
 
     private DefaultSelectQuery checkSelectFromStart(String query) {
         DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
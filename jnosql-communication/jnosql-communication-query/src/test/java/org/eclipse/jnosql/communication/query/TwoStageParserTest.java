@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.method.MethodQuery;
+import org.eclipse.jnosql.query.grammar.QueryLexer;
+import org.eclipse.jnosql.query.grammar.QueryParser;
+import org.eclipse.jnosql.query.grammar.method.MethodLexer;
+import org.eclipse.jnosql.query.grammar.method.MethodParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.function.Function;
+
+class TwoStageParserTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> TwoStageParser.parse(null, QueryParser::select));
+        Assertions.assertThrows(NullPointerException.class, () -> TwoStageParser.parse(queryParser("select * from God"),
+                null));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SelectQueryArgumentProvider.class)
+    public void shouldParseSelect(String query) {
+        checkTree(query, QueryParser::select);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(InsertQueryArgumentProvider.class)
+    public void shouldParseInsert(String query) {
+        checkTree(query, QueryParser::insert);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(UpdateQueryArgumentProvider.class)
+    public void shouldParseUpdate(String query) {
+        checkTree(query, QueryParser::update);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(DeleteQueryArgumentProvider.class)
+    public void shouldParseDelete(String query) {
+        checkTree(query, QueryParser::delete);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongSelectQueryArgumentProvider.class)
+    public void shouldReturnSameErrorAtSelect(String query) {
+        checkError(query, QueryParser::select);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongInsertQueryArgumentProvider.class)
+    public void shouldReturnSameErrorAtInsert(String query) {
+        checkError(query, QueryParser::insert);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongUpdateQueryArgumentProvider.class)
+    public void shouldReturnSameErrorAtUpdate(String query) {
+        checkError(query, QueryParser::update);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongDeleteQueryArgumentProvider.class)
+    public void shouldReturnSameErrorAtDelete(String query) {
+        checkError(query, QueryParser::delete);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"findByNameAndAgeGreaterThanEqualOrSalaryBetweenAndActiveTrueOrderByNameAscAgeDesc",
+            "findByAddress_CityAndAddress_ZipCodeInOrNameNotLikeAndAgeLessThan", "countByNameNotEquals",
+            "existsByActiveFalse", "findBy", "findFirst3ByNameOrderByAge", "findTopBy"})
+    public void shouldParseMethod(String query) {
+        String expected = llMethodParser(query).select().toStringTree();
+        String actual = TwoStageParser.parse(methodParser(query), MethodParser::select).toStringTree();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"findByNameAndOrderBy", "findByNameOr", "findByNameAndAgeOrderBy"})
+    public void shouldReturnSameErrorAtMethod(String query) {
+        String expected = Assertions.assertThrows(QueryException.class,
+                () -> llMethodParser(query).select()).getMessage();
+        String actual = Assertions.assertThrows(QueryException.class,
+                () -> TwoStageParser.parse(methodParser(query), MethodParser::select)).getMessage();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private void checkTree(String query, Function<QueryParser, ParseTree> rule) {
+        String expected = rule.apply(llQueryParser(query)).toStringTree();
+        String actual = TwoStageParser.parse(queryParser(query), rule).toStringTree();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private void checkError(String query, Function<QueryParser, ParseTree> rule) {
+        String expected = Assertions.assertThrows(QueryException.class,
+                () -> rule.apply(llQueryParser(query))).getMessage();
+        String actual = Assertions.assertThrows(QueryException.class,
+                () -> TwoStageParser.parse(queryParser(query), rule)).getMessage();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private QueryParser queryParser(String query) {
+        QueryLexer lexer = new QueryLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        return new QueryParser(new CommonTokenStream(lexer));
+    }
+
+    private QueryParser llQueryParser(String query) {
+        QueryParser parser = queryParser(query);
+        parser.removeErrorListeners();
+        parser.addErrorListener(QueryErrorListener.INSTANCE);
+        return parser;
+    }
+
+    private MethodParser methodParser(String query) {
+        MethodLexer lexer = new MethodLexer(CharStreams.fromString(MethodQuery.of(query).get()));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        return new MethodParser(new CommonTokenStream(lexer));
+    }
+
+    private MethodParser llMethodParser(String query) {
+        MethodParser parser = methodParser(query);
+        parser.removeErrorListeners();
+        parser.addErrorListener(QueryErrorListener.INSTANCE);
+        return parser;
+    }
+}
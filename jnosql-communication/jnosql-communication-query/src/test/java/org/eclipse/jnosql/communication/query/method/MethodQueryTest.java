@@ -47,6 +47,14 @@ class MethodQueryTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findFirst10ByAgeOrderByName"})
+    public void shouldRunFirstQuery(String query) {
+        MethodQuery methodQuery = MethodQuery.of(query);
+        assertEquals("findFirst10By Age OrderBy Name", methodQuery.get());
+        assertEquals("findTopBy Name In", MethodQuery.of("findTopByNameIn").get());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"findByNameAndAge"})
     public void shouldRunQuery1(String query) {
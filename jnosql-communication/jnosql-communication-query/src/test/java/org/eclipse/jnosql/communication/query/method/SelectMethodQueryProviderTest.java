@@ -12,6 +12,7 @@
 package org.eclipse.jnosql.communication.query.method;
 
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
 import jakarta.data.repository.Direction;
 import org.eclipse.jnosql.communication.query.BooleanQueryValue;
@@ -22,12 +23,15 @@ import org.eclipse.jnosql.communication.query.QueryValue;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.Where;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -54,6 +58,49 @@ class SelectMethodQueryProviderTest {
         assertFalse(where.isPresent());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @CsvSource({"findFirstBy,1", "findTopBy,1", "findFirst5By,5", "findTop10By,10", "findFirst1By,1"})
+    public void shouldReturnParserFirstQuery(String query, long limit) {
+        SelectQuery selectQuery = queryProvider.apply(query, "entity");
+        assertEquals(limit, selectQuery.limit());
+        assertEquals(0, selectQuery.skip());
+        assertFalse(selectQuery.where().isPresent());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findFirst3ByNameOrderByAgeDesc", "findTop3ByNameOrderByAgeDesc"})
+    public void shouldReturnParserFirstQueryWithCondition(String query) {
+        SelectQuery selectQuery = queryProvider.apply(query, "entity");
+        assertEquals(3, selectQuery.limit());
+        assertEquals(List.of(Sort.of("age", Direction.DESC, false)), selectQuery.orderBy());
+        QueryCondition condition = selectQuery.where().orElseThrow().condition();
+        assertEquals(Condition.EQUALS, condition.condition());
+        assertEquals("name", condition.name());
+    }
+
+    @ParameterizedTest(name = "Should return error at the query {0}")
+    @ValueSource(strings = {"findTop0ByName", "findFirst0ByName", "findTop00By"})
+    public void shouldReturnErrorWhenFirstIsZero(String query) {
+        QueryException exception = Assertions.assertThrows(QueryException.class,
+                () -> queryProvider.apply(query, "entity"));
+        assertThat(exception.getMessage()).contains(query);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFirstIsTooLarge() {
+        String query = "findTop99999999999999999999ByName";
+        QueryException exception = Assertions.assertThrows(QueryException.class,
+                () -> queryProvider.apply(query, "entity"));
+        assertThat(exception.getMessage()).contains(query);
+        assertThat(exception.getCause()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void shouldNotBeEqualsWhenLimitIsDifferent() {
+        assertNotEquals(queryProvider.apply("findFirst2ByName", "entity"),
+                new SelectMethodQueryProvider().apply("findByName", "entity"));
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"findByName", "countByName", "existsByName"})
     public void shouldReturnParserQuery1(String query) {
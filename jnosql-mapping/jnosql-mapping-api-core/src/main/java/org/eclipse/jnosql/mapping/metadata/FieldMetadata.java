@@ -89,6 +89,19 @@ public interface FieldMetadata {
      */
     Object value(Value value);
 
+    /**
+     * Converts the {@link Value} to the field type, as {@link FieldMetadata#value(Value)}, and writes it through the
+     * bean. The implementations might write the primitive fields without boxing the value, e.g.: using
+     * {@link Value#getAsInt()}.
+     *
+     * @param bean  the bean
+     * @param value the value to convert and write
+     * @throws NullPointerException when there is null parameter
+     */
+    default void writeValue(Object bean, Value value) {
+        write(bean, value(value));
+    }
+
     /**
      * Returns true is the field is annotated with {@link Id}
      *
@@ -16,17 +16,33 @@ package org.eclipse.jnosql.mapping.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnConditionOptimizer;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParser;
+import org.eclipse.jnosql.communication.query.NormalizedQuery;
+import org.eclipse.jnosql.communication.query.QueryCache;
+import org.eclipse.jnosql.communication.query.QueryNormalizer;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
+import org.eclipse.jnosql.mapping.NoSQLPage;
+import org.eclipse.jnosql.mapping.SingleValuedFields;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -34,10 +50,13 @@ import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +71,8 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     private static final ColumnQueryParser PARSER = new ColumnQueryParser();
 
+    private static final int MAX_PREPARED_STATEMENTS = 1_000;
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnManager getManager();
@@ -68,6 +89,10 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     private ColumnObserverParser observer;
 
+    private volatile PreparedQueries preparedQueries;
+
+    private volatile SingleValuedFields singleValuedFields;
+
 
     private ColumnObserverParser getObserver() {
         if (Objects.isNull(observer)) {
@@ -76,6 +101,23 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         return observer;
     }
 
+    private Optional<ColumnQuery> optimize(ColumnQuery query) {
+        return ColumnConditionOptimizer.optimize(query, singleValued(query.name()));
+    }
+
+    private Optional<ColumnDeleteQuery> optimize(ColumnDeleteQuery query) {
+        return ColumnConditionOptimizer.optimize(query, singleValued(query.name()));
+    }
+
+    private Predicate<String> singleValued(String entity) {
+        SingleValuedFields fields = singleValuedFields;
+        if (fields == null) {
+            fields = SingleValuedFields.of(getEntities());
+            singleValuedFields = fields;
+        }
+        return fields.fields(entity);
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
@@ -123,7 +165,7 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
-        getManager().delete(query);
+        optimize(query).ifPresent(getManager()::delete);
     }
 
 
@@ -135,12 +177,49 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     @Override
     public long count(ColumnQuery query) {
-        return getManager().count(query);
+        return optimize(query).map(getManager()::count).orElse(0L);
+    }
+
+    @Override
+    public <T> Page<T> select(ColumnQuery query, Pageable pageable) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageable, "pageable is required");
+        if (!KeysetPagination.isKeyset(pageable)) {
+            ColumnQuery page = new MappingColumnQuery(query.sorts(), pageable.size(), NoSQLPage.skip(pageable),
+                    query.condition().orElse(null), query.name());
+            return NoSQLPage.of(this.<T>executeQuery(page).toList(), pageable);
+        }
+        return selectKeyset(query, pageable);
+    }
+
+    @Override
+    public <T> KeysetAwarePage<T> selectKeyset(ColumnQuery query, Pageable pageable) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageable, "pageable is required");
+        long skip = KeysetPagination.isKeyset(pageable) ? 0 : NoSQLPage.skip(pageable);
+        List<Sort> sorts = KeysetPagination.sorts(query.sorts(), pageable);
+        ColumnCondition keyset = KeysetPagination.condition(sorts, pageable, ColumnKeysetCondition.INSTANCE);
+        ColumnCondition condition = query.condition()
+                .map(c -> keyset == null ? c : ColumnCondition.and(c, keyset))
+                .orElse(keyset);
+        ColumnQuery page = new MappingColumnQuery(sorts, pageable.size(), skip, condition, query.name());
+        List<ColumnEntity> entities = KeysetPagination.content(optimize(page)
+                .map(q -> getManager().select(q).toList()).orElseGet(List::of), pageable);
+        List<Pageable.Cursor> cursors = entities.stream().map(e -> cursor(e, sorts)).toList();
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        List<T> content = entities.stream().map(function).peek(getEventManager()::firePostEntity).toList();
+        return NoSQLKeysetPage.of(content, pageable, cursors);
     }
 
     @Override
     public boolean exists(ColumnQuery query) {
-        return getManager().exists(query);
+        return optimize(query).map(getManager()::exists).orElse(false);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().aggregate(query).map(ColumnEntity::toMap);
     }
 
     @Override
@@ -195,6 +274,12 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
+        if (QueryNormalizer.isEnabled()) {
+            Optional<PreparedStatement> statement = normalized(query);
+            if (statement.isPresent()) {
+                return statement.get().result();
+            }
+        }
         return PARSER.query(query, getManager(), getObserver()).map(c -> getConverter().toEntity(c));
     }
 
@@ -213,9 +298,37 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
+    private Optional<PreparedStatement> normalized(String query) {
+        Optional<NormalizedQuery> normalized = QueryNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        PreparedStatement statement;
+        try {
+            statement = prepare(normalized.get().query());
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
+        normalized.get().params().forEach(statement::bind);
+        return Optional.of(statement);
+    }
+
     @Override
     public PreparedStatement prepare(String query) {
-        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        return prepareBatch(query);
+    }
+
+    @Override
+    public BatchPreparedStatement prepareBatch(String query) {
+        requireNonNull(query, "query is required");
+        ColumnManager manager = getManager();
+        PreparedQueries prepared = preparedQueries;
+        if (prepared == null || prepared.manager() != manager) {
+            prepared = new PreparedQueries(manager, QueryCache.of(q -> PARSER.prepare(q, manager, getObserver()),
+                    MAX_PREPARED_STATEMENTS));
+            preparedQueries = prepared;
+        }
+        return new ColumnPreparedStatement(prepared.statements().apply(query).newBinding(), getConverter());
     }
 
 
@@ -232,9 +345,18 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         return getManager().count(entityMetadata.name());
     }
 
+    private static Pageable.Cursor cursor(ColumnEntity entity, List<Sort> sorts) {
+        Object[] keyset = new Object[sorts.size()];
+        for (int index = 0; index < keyset.length; index++) {
+            keyset[index] = entity.find(sorts.get(index).property()).map(Column::get).orElse(null);
+        }
+        return NoSQLKeysetPage.cursor(keyset);
+    }
+
     private <T> Stream<T> executeQuery(ColumnQuery query) {
         requireNonNull(query, "query is required");
-        Stream<ColumnEntity> entities = getManager().select(query);
+        Stream<ColumnEntity> entities = optimize(query).map(getManager()::select)
+                .orElseGet(Stream::empty);
         Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
@@ -286,4 +408,9 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
             return t;
         };
     }
+
+    private record PreparedQueries(ColumnManager manager,
+                                   QueryCache<org.eclipse.jnosql.communication.column.ColumnPreparedStatement>
+                                           statements) {
+    }
 }
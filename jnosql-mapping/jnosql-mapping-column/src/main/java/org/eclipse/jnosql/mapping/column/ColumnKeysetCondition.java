@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+
+import java.util.List;
+
+enum ColumnKeysetCondition implements KeysetPagination.ConditionFactory<ColumnCondition> {
+
+    INSTANCE;
+
+    @Override
+    public ColumnCondition eq(String name, Object value) {
+        return ColumnCondition.eq(name, value);
+    }
+
+    @Override
+    public ColumnCondition gt(String name, Object value) {
+        return ColumnCondition.gt(name, value);
+    }
+
+    @Override
+    public ColumnCondition lt(String name, Object value) {
+        return ColumnCondition.lt(name, value);
+    }
+
+    @Override
+    public ColumnCondition and(List<ColumnCondition> conditions) {
+        return ColumnCondition.and(conditions.toArray(ColumnCondition[]::new));
+    }
+
+    @Override
+    public ColumnCondition or(List<ColumnCondition> conditions) {
+        return ColumnCondition.or(conditions.toArray(ColumnCondition[]::new));
+    }
+}
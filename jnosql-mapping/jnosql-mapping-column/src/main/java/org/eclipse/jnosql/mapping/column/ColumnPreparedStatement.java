@@ -14,13 +14,13 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
-import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
-final class ColumnPreparedStatement implements PreparedStatement {
+final class ColumnPreparedStatement implements BatchPreparedStatement {
 
     private final org.eclipse.jnosql.communication.column.ColumnPreparedStatement preparedStatement;
 
@@ -33,7 +33,7 @@ final class ColumnPreparedStatement implements PreparedStatement {
     }
 
     @Override
-    public PreparedStatement bind(String name, Object value) {
+    public BatchPreparedStatement bind(String name, Object value) {
         preparedStatement.bind(name, value);
         return this;
     }
@@ -48,4 +48,21 @@ final class ColumnPreparedStatement implements PreparedStatement {
         Optional<ColumnEntity> singleResult = preparedStatement.singleResult();
         return singleResult.map(converter::toEntity);
     }
+
+    @Override
+    public BatchPreparedStatement addBatch() {
+        preparedStatement.addBatch();
+        return this;
+    }
+
+    @Override
+    public BatchPreparedStatement batchSize(int batchSize) {
+        preparedStatement.batchSize(batchSize);
+        return this;
+    }
+
+    @Override
+    public <T> Stream<T> executeBatch() {
+        return preparedStatement.executeBatch().map(converter::toEntity);
+    }
 }
@@ -104,7 +104,7 @@ enum FieldConverter {
                     Object attributeConverted = attributeConverter.convertToEntityAttribute(attr);
                     field.write(instance, field.value(Value.of(attributeConverted)));
                 } else {
-                    field.write(instance, field.value(value));
+                    field.writeValue(instance, value);
                 }
             }
         }
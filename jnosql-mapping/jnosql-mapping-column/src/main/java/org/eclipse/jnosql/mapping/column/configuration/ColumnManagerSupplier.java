@@ -20,6 +20,7 @@ import org.eclipse.jnosql.communication.column.ColumnConfiguration;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnManagerFactory;
 import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -44,8 +45,9 @@ class ColumnManagerSupplier implements Supplier<ColumnManager> {
     @ApplicationScoped
     public ColumnManager get() {
         Settings settings = MicroProfileSettings.INSTANCE;
+        SettingsSnapshot snapshot = SettingsSnapshot.current();
 
-        ColumnConfiguration configuration = settings.get(COLUMN_PROVIDER, Class.class)
+        ColumnConfiguration configuration = snapshot.type(COLUMN_PROVIDER)
                 .filter(ColumnConfiguration.class::isAssignableFrom)
                 .map(c -> {
                     final Reflections reflections = CDI.current().select(Reflections.class).get();
@@ -54,7 +56,7 @@ class ColumnManagerSupplier implements Supplier<ColumnManager> {
 
         ColumnManagerFactory managerFactory = configuration.apply(settings);
 
-        Optional<String> database = settings.get(COLUMN_DATABASE, String.class);
+        Optional<String> database = snapshot.get(COLUMN_DATABASE);
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + COLUMN_DATABASE.get()));
         ColumnManager manager = managerFactory.apply(db);
@@ -17,7 +17,10 @@ package org.eclipse.jnosql.mapping.column.query;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.KeysetPagination;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
@@ -46,6 +49,16 @@ public abstract class AbstractColumnRepository<T, K> implements PageableReposito
 
     protected abstract EntityMetadata getEntityMetadata();
 
+    /**
+     * The converters of the values of the cursor at the keyset pagination, by default, the values are kept as they
+     * are.
+     *
+     * @return the converters
+     */
+    protected Optional<Converters> getConverters() {
+        return Optional.empty();
+    }
+
 
     @Override
     public <S extends T> S save(S entity) {
@@ -115,6 +128,15 @@ public abstract class AbstractColumnRepository<T, K> implements PageableReposito
     public Page findAll(Pageable pageable) {
         Objects.requireNonNull(pageable, "pageable is required");
         EntityMetadata metadata = getEntityMetadata();
+        if (KeysetPagination.isKeyset(pageable)) {
+            List<Sort> sorts = pageable.sorts().stream()
+                    .map(s -> new Sort(metadata.columnField(s.property()), s.isAscending(), s.ignoreCase()))
+                    .toList();
+            Pageable keyset = getConverters().map(c -> KeysetPagination.convert(pageable, sorts, metadata, c))
+                    .orElse(pageable);
+            return getTemplate().select(new MappingColumnQuery(sorts, pageable.size(), 0, null, metadata.name()),
+                    keyset);
+        }
         ColumnQuery query = new MappingColumnQuery(pageable.sorts(),
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null ,metadata.name());
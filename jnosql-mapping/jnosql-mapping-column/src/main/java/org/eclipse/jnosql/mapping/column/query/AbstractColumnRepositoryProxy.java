@@ -57,6 +57,9 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends BaseColumnRepo
             case EXISTS_BY -> {
                 return executeExistsByQuery(getQuery(method, args));
             }
+            case AGGREGATE -> {
+                return executeAggregation(method);
+            }
             case FIND_ALL -> {
                 ColumnQuery queryFindAll = ColumnQuery.select().from(getEntityMetadata().name()).build();
                 return executeFindByQuery(method, args, typeClass, updateQueryDynamically(args, queryFindAll));
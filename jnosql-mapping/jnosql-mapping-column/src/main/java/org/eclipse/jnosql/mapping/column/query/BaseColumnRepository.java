@@ -15,46 +15,48 @@
 package org.eclipse.jnosql.mapping.column.query;
 
 
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Sort;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
-import org.eclipse.jnosql.communication.column.ColumnDeleteQueryParams;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
-import org.eclipse.jnosql.communication.column.ColumnQueryParams;
-import org.eclipse.jnosql.communication.column.DeleteQueryParser;
-import org.eclipse.jnosql.communication.column.SelectQueryParser;
-import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.KeysetPagination;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.query.AggregationMethod;
+import org.eclipse.jnosql.mapping.query.RepositoryType;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.repository.SpecialParameters;
-import org.eclipse.jnosql.mapping.util.ParamsBinder;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 public abstract class BaseColumnRepository<T> {
 
-    private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
+    private static final Logger LOGGER = Logger.getLogger(BaseColumnRepository.class.getName());
 
-    private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
     private static final Object[] EMPTY_PARAM = new Object[0];
 
+    private final Map<Method, SelectMethodPlan> selectPlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, DeleteMethodPlan> deletePlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, AggregationMethod> aggregationPlans = new ConcurrentHashMap<>();
+
     protected abstract Converters getConverters();
 
     protected abstract EntityMetadata getEntityMetadata();
@@ -63,16 +65,10 @@ public abstract class BaseColumnRepository<T> {
 
     private ColumnObserverParser parser;
 
-    private ParamsBinder paramsBinder;
-
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
-        SelectQuery selectQuery = provider.apply(method, getEntityMetadata().name());
-        ColumnQueryParams queryParams = SELECT_PARSER.apply(selectQuery, getParser());
-        ColumnQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
+        SelectMethodPlan plan = selectPlans.computeIfAbsent(method, this::compileSelect);
+        ColumnQuery query = plan.apply(getArgs(args));
         return updateQueryDynamically(getArgs(args), query);
     }
 
@@ -81,13 +77,45 @@ public abstract class BaseColumnRepository<T> {
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getEntityMetadata().name());
-        ColumnDeleteQueryParams queryParams = DELETE_PARSER.apply(deleteQuery, getParser());
-        ColumnDeleteQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
-        return query;
+        DeleteMethodPlan plan = deletePlans.computeIfAbsent(method, this::compileDelete);
+        return plan.apply(getArgs(args));
+    }
+
+    /**
+     * Compiles the find, count, exists, delete and aggregation methods of the repository interface, thus, the calls do not
+     * parse the method name again. A method that cannot be compiled is skipped, and it will throw the error when
+     * it is called.
+     *
+     * @param repositoryType the repository interface
+     */
+    protected void compile(Class<?> repositoryType) {
+        for (Method method : repositoryType.getMethods()) {
+            try {
+                switch (RepositoryType.of(method)) {
+                    case FIND_BY, COUNT_BY, EXISTS_BY -> selectPlans.computeIfAbsent(method, this::compileSelect);
+                    case DELETE_BY -> deletePlans.computeIfAbsent(method, this::compileDelete);
+                    case AGGREGATE -> aggregationPlans.computeIfAbsent(method, this::compileAggregation);
+                    default -> {
+                    }
+                }
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.FINEST, exception, () -> "It could not compile the method: " + method);
+            }
+        }
+    }
+
+    private SelectMethodPlan compileSelect(Method method) {
+        return SelectMethodPlan.of(method, getEntityMetadata(), getConverters(), getParser());
+    }
+
+    private DeleteMethodPlan compileDelete(Method method) {
+        return DeleteMethodPlan.of(method, getEntityMetadata(), getConverters(), getParser());
+    }
+
+    private AggregationMethod compileAggregation(Method method) {
+        EntityMetadata entity = getEntityMetadata();
+        return AggregationMethod.of(method, field -> entity.fieldMapping(field).isPresent(),
+                field -> getParser().fireField(entity.name(), field));
     }
 
 
@@ -98,13 +126,6 @@ public abstract class BaseColumnRepository<T> {
         return parser;
     }
 
-    protected ParamsBinder getParamsBinder() {
-        if (Objects.isNull(paramsBinder)) {
-            this.paramsBinder = new ParamsBinder(getEntityMetadata(), getConverters());
-        }
-        return paramsBinder;
-    }
-
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, ColumnQuery query) {
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
@@ -114,7 +135,7 @@ public abstract class BaseColumnRepository<T> {
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
+                .withPage(getPage(method, query))
                 .build();
         return dynamicReturn.execute();
     }
@@ -127,9 +148,26 @@ public abstract class BaseColumnRepository<T> {
         return getTemplate().exists(query);
     }
 
+    protected Object executeAggregation(Method method) {
+        AggregationMethod plan = aggregationPlans.computeIfAbsent(method, this::compileAggregation);
+        ColumnQuery.ColumnQueryBuilder builder = ColumnQuery.builder()
+                .from(getEntityMetadata().name())
+                .aggregate(plan.aggregation());
+        plan.groupBy().ifPresent(field -> builder.select(field).groupBy(field));
+        return plan.result(getTemplate().aggregate(builder.build()));
+    }
+
 
     protected Function<Pageable, Page<T>> getPage(ColumnQuery query) {
+        return getPage(null, query);
+    }
+
+    protected Function<Pageable, Page<T>> getPage(Method method, ColumnQuery query) {
+        boolean keysetAware = method != null && KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
         return p -> {
+            if (keysetAware || KeysetPagination.isKeyset(p)) {
+                return getTemplate().selectKeyset(query, keyset(query, p));
+            }
             Stream<T> entities = getTemplate().select(query);
             return NoSQLPage.of(entities.toList(), p);
         };
@@ -140,7 +178,16 @@ public abstract class BaseColumnRepository<T> {
     }
 
     protected Function<Pageable, Stream<T>> streamPagination(ColumnQuery query) {
-        return p -> getTemplate().select(query);
+        return p -> {
+            if (KeysetPagination.isKeyset(p)) {
+                return getTemplate().<T>selectKeyset(query, keyset(query, p)).content().stream();
+            }
+            return getTemplate().select(query);
+        };
+    }
+
+    private Pageable keyset(ColumnQuery query, Pageable pageable) {
+        return KeysetPagination.convert(pageable, query.sorts(), getEntityMetadata(), getConverters());
     }
 
 
@@ -152,9 +199,7 @@ public abstract class BaseColumnRepository<T> {
         }
         Optional<Limit> limit = special.limit();
         if (special.hasOnlySort()) {
-            List<Sort> sorts = new ArrayList<>();
-            sorts.addAll(query.sorts());
-            sorts.addAll(special.sorts());
+            List<Sort> sorts = sorts(query, special);
             long skip = limit.map(l -> l.startAt() - 1).orElse(query.skip());
             long max = limit.map(Limit::maxResults).orElse((int) query.limit());
             return new MappingColumnQuery(sorts, max,
@@ -175,15 +220,24 @@ public abstract class BaseColumnRepository<T> {
         return special.pageable().<ColumnQuery>map(p -> {
             long size = p.size();
             long skip = NoSQLPage.skip(p);
-            List<Sort> sorts = query.sorts();
-            if (!special.sorts().isEmpty()) {
-                sorts = new ArrayList<>(query.sorts());
-                sorts.addAll(special.sorts());
-            }
+            List<Sort> sorts = sorts(query, special);
             return new MappingColumnQuery(sorts, size, skip,
                     query.condition().orElse(null), query.name());
         }).orElse(query);
     }
 
+    private List<Sort> sorts(ColumnQuery query, SpecialParameters special) {
+        if (special.sorts().isEmpty()) {
+            return query.sorts();
+        }
+        String entity = getEntityMetadata().name();
+        List<Sort> sorts = new ArrayList<>(query.sorts());
+        for (Sort sort : special.sorts()) {
+            sorts.add(new Sort(getParser().fireField(entity, sort.property()), sort.isAscending(),
+                    sort.ignoreCase()));
+        }
+        return sorts;
+    }
+
 
 }
@@ -22,6 +22,7 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Optional;
 
 
 /**
@@ -47,8 +48,9 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new ColumnRepository(template, entityMetadata);
+        this.repository = new ColumnRepository(template, entityMetadata, converters);
         this.converters = converters;
+        compile(repositoryType);
     }
 
     @Override
@@ -78,9 +80,12 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
 
         private final EntityMetadata entityMetadata;
 
-        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -93,5 +98,10 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
             return entityMetadata;
         }
 
+        @Override
+        protected Optional<Converters> getConverters() {
+            return Optional.of(converters);
+        }
+
     }
 }
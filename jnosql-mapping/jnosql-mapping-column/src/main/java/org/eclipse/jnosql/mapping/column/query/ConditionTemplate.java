@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.util.MethodParamsBinder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link ColumnCondition} of a repository method parsed once, where each parameter holds the index of its
+ * argument instead of a value. Each call creates a new condition from this template with the arguments converted by
+ * the {@link MethodParamsBinder}, thus, the template is never changed after its creation and might be shared across
+ * threads.
+ */
+final class ConditionTemplate {
+
+    private final ColumnCondition condition;
+
+    private final List<String> names;
+
+    private final MethodParamsBinder binder;
+
+    private ConditionTemplate(ColumnCondition condition, List<String> names, MethodParamsBinder binder) {
+        this.condition = condition;
+        this.names = names;
+        this.binder = binder;
+    }
+
+    /**
+     * Creates the condition to the call with the arguments bound
+     *
+     * @param args the method arguments
+     * @return the condition or {@link Optional#empty()} when the method has no condition
+     * @throws org.eclipse.jnosql.mapping.DynamicQueryException when there are fewer arguments than parameters
+     */
+    Optional<ColumnCondition> bind(Object[] args) {
+        Object[] values = binder.convert(args);
+        return Optional.ofNullable(condition).map(c -> bind(c, values));
+    }
+
+    private ColumnCondition bind(ColumnCondition condition, Object[] values) {
+        Column column = condition.column();
+        return switch (condition.condition()) {
+            case EQUALS -> ColumnCondition.eq(bind(column, values));
+            case GREATER_THAN -> ColumnCondition.gt(bind(column, values));
+            case GREATER_EQUALS_THAN -> ColumnCondition.gte(bind(column, values));
+            case LESSER_THAN -> ColumnCondition.lt(bind(column, values));
+            case LESSER_EQUALS_THAN -> ColumnCondition.lte(bind(column, values));
+            case IN -> ColumnCondition.in(bind(column, values));
+            case LIKE -> ColumnCondition.like(bind(column, values));
+            case BETWEEN -> ColumnCondition.between(bind(column, values));
+            case NOT -> bind((ColumnCondition) column.get(), values).negate();
+            case AND -> ColumnCondition.and(bind((List<?>) column.get(), values));
+            case OR -> ColumnCondition.or(bind((List<?>) column.get(), values));
+            default -> throw new QueryException("There is not support the type: " + condition.condition());
+        };
+    }
+
+    private ColumnCondition[] bind(List<?> conditions, Object[] values) {
+        return conditions.stream().map(c -> bind((ColumnCondition) c, values)).toArray(ColumnCondition[]::new);
+    }
+
+    private Column bind(Column column, Object[] values) {
+        return Column.of(column.name(), bind(column.get(), values));
+    }
+
+    private Object bind(Object value, Object[] values) {
+        if (value instanceof Parameter parameter) {
+            Object argument = values[parameter.index()];
+            return argument == null ? Params.newParams().add(names.get(parameter.index())) : argument;
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : iterable) {
+                elements.add(element instanceof Value item ? value(bind(item.get(), values)) : bind(element, values));
+            }
+            return elements;
+        }
+        return value;
+    }
+
+    private static Value value(Object value) {
+        return value instanceof Value item ? item : Value.of(value);
+    }
+
+    /**
+     * Creates the template from a condition parsed with the params of the method query
+     *
+     * @param condition      the condition, it might be null
+     * @param params         the params used to parse the condition, this method binds them
+     * @param method         the repository method
+     * @param entityMetadata the entity metadata
+     * @param converters     the converters
+     * @return a new {@link ConditionTemplate} instance
+     */
+    static ConditionTemplate of(ColumnCondition condition, Params params, Method method,
+                                EntityMetadata entityMetadata, Converters converters) {
+        List<String> names = List.copyOf(params.getParametersNames());
+        MethodParamsBinder binder = MethodParamsBinder.of(names, method, entityMetadata, converters);
+        for (int index = 0; index < names.size(); index++) {
+            params.bind(names.get(index), new Parameter(index));
+        }
+        return new ConditionTemplate(condition, names, binder);
+    }
+
+    private record Parameter(int index) {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQueryParams;
+import org.eclipse.jnosql.communication.column.ColumnObserverParser;
+import org.eclipse.jnosql.communication.column.DeleteQueryParser;
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.lang.reflect.Method;
+
+/**
+ * The delete repository method compiled once: the method name parsed and converted to a {@link ColumnDeleteQuery}
+ * template, whose condition is a {@link ConditionTemplate}.
+ * Each call creates its own {@link ColumnDeleteQuery} from the template with the arguments bound, thus, it might be
+ * shared across threads.
+ */
+final class DeleteMethodPlan {
+
+    private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
+
+    private final ColumnDeleteQuery query;
+
+    private final ConditionTemplate condition;
+
+    private DeleteMethodPlan(ColumnDeleteQuery query, ConditionTemplate condition) {
+        this.query = query;
+        this.condition = condition;
+    }
+
+    /**
+     * Creates the {@link ColumnDeleteQuery} to the call with the arguments bound
+     *
+     * @param args the method arguments
+     * @return the {@link ColumnDeleteQuery} to the call
+     */
+    ColumnDeleteQuery apply(Object[] args) {
+        ColumnDeleteQuery.ColumnDeleteQueryBuilder builder = ColumnDeleteQuery
+                .builder(query.columns().toArray(String[]::new))
+                .from(query.name());
+        condition.bind(args).ifPresent(builder::where);
+        return builder.build();
+    }
+
+    static DeleteMethodPlan of(Method method, EntityMetadata entityMetadata, Converters converters,
+                               ColumnObserverParser parser) {
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, entityMetadata.name());
+        ColumnDeleteQueryParams queryParams = DELETE_PARSER.apply(query, parser);
+        ColumnDeleteQuery template = queryParams.query();
+        return new DeleteMethodPlan(template, ConditionTemplate.of(template.condition().orElse(null),
+                queryParams.params(), method, entityMetadata, converters));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.column.ColumnObserverParser;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.communication.column.ColumnQueryParams;
+import org.eclipse.jnosql.communication.column.SelectQueryParser;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.lang.reflect.Method;
+
+/**
+ * The find, count and exists repository method compiled once: the method name parsed and converted to a
+ * {@link ColumnQuery} template, whose condition is a {@link ConditionTemplate}.
+ * Each call creates its own {@link ColumnQuery} from the template with the arguments bound, thus, it might be shared
+ * across threads.
+ */
+final class SelectMethodPlan {
+
+    private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
+
+    private final ColumnQuery query;
+
+    private final ConditionTemplate condition;
+
+    private SelectMethodPlan(ColumnQuery query, ConditionTemplate condition) {
+        this.query = query;
+        this.condition = condition;
+    }
+
+    /**
+     * Creates the {@link ColumnQuery} to the call with the arguments bound
+     *
+     * @param args the method arguments
+     * @return the {@link ColumnQuery} to the call
+     */
+    ColumnQuery apply(Object[] args) {
+        ColumnQuery.ColumnQueryBuilder builder = ColumnQuery.builder(query.columns().toArray(String[]::new))
+                .from(query.name())
+                .sort(query.sorts().toArray(Sort[]::new))
+                .skip(query.skip())
+                .limit(query.limit());
+        condition.bind(args).ifPresent(builder::where);
+        return builder.build();
+    }
+
+    static SelectMethodPlan of(Method method, EntityMetadata entityMetadata, Converters converters,
+                               ColumnObserverParser parser) {
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, entityMetadata.name());
+        ColumnQueryParams queryParams = SELECT_PARSER.apply(query, parser);
+        ColumnQuery template = queryParams.query();
+        return new SelectMethodPlan(template, ConditionTemplate.of(template.condition().orElse(null),
+                queryParams.params(), method, entityMetadata, converters));
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.MockProducer;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -52,6 +53,7 @@ class ColumnManagerSupplierTest {
     public void shouldGetManager() {
         System.setProperty(COLUMN_PROVIDER.get(), ColumnConfigurationMock.class.getName());
         System.setProperty(COLUMN_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(ColumnConfigurationMock.ColumnManagerMock.class);
@@ -62,6 +64,7 @@ class ColumnManagerSupplierTest {
     public void shouldUseDefaultConfigurationWhenProviderIsWrong() {
         System.setProperty(COLUMN_PROVIDER.get(), Integer.class.getName());
         System.setProperty(COLUMN_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
@@ -70,6 +73,7 @@ class ColumnManagerSupplierTest {
     @Test
     public void shouldUseDefaultConfiguration() {
         System.setProperty(COLUMN_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         ColumnManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(ColumnConfigurationMock2.ColumnManagerMock.class);
@@ -77,6 +81,7 @@ class ColumnManagerSupplierTest {
 
     @Test
     public void shouldReturnErrorWhenThereIsNotDatabase() {
+        SettingsSnapshot.refresh();
         Assertions.assertThrows(MappingException.class, () -> supplier.get());
     }
 }
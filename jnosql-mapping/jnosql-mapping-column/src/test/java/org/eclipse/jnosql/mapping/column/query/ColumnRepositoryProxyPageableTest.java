@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.column.query;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -28,6 +30,7 @@ import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
@@ -606,6 +609,103 @@ public class ColumnRepositoryProxyPageableTest {
     }
 
 
+    @Test
+    public void shouldFindByNameSortWithTheDatabaseName() {
+        personRepository.findByName("name", Sort.desc("id"));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.desc("_id"));
+    }
+
+    @Test
+    public void shouldFindByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("id")).afterKeyset("Ada", 10L);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(List.of(Person.builder().withName("Diana").build()),
+                pagination, List.of(NoSQLKeysetPage.cursor("Diana", 12L)));
+        when(template.<Person>selectKeyset(any(ColumnQuery.class), any(Pageable.class))).thenReturn(page);
+
+        KeysetAwareSlice<Person> slice = personRepository.findByAgeGreaterThanOrderByName(10, pagination);
+        assertEquals(page, slice);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).selectKeyset(captor.capture(), Mockito.eq(pagination));
+        ColumnQuery query = captor.getValue();
+        ColumnCondition condition = query.condition().orElseThrow();
+        assertEquals("Person", query.name());
+        assertEquals(GREATER_THAN, condition.condition());
+        assertEquals(Column.of("age", 10), condition.column());
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+    }
+
+    @Test
+    public void shouldFindFirstPageByKeyset() {
+        Pageable pagination = Pageable.ofSize(2);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), pagination,
+                Collections.emptyList());
+        when(template.<Person>selectKeyset(any(ColumnQuery.class), any(Pageable.class))).thenReturn(page);
+
+        assertEquals(page, personRepository.findByAgeGreaterThanOrderByName(10, pagination));
+        verify(template).selectKeyset(any(ColumnQuery.class), Mockito.eq(pagination));
+        verify(template, Mockito.never()).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldStreamByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).afterKeyset("Ada");
+        Person diana = Person.builder().withName("Diana").build();
+        when(template.<Person>selectKeyset(any(ColumnQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(List.of(diana), pagination, List.of(NoSQLKeysetPage.cursor("Diana"))));
+
+        Stream<Person> people = personRepository.findByNameAndAgeOrderByName("name", 10, pagination);
+        assertThat(people).containsExactly(diana);
+        verify(template).selectKeyset(any(ColumnQuery.class), Mockito.eq(pagination));
+        verify(template, Mockito.never()).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldFindAllByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.desc("id")).afterKeyset(10L);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), pagination,
+                Collections.emptyList());
+        when(template.<Person>select(any(ColumnQuery.class), any(Pageable.class))).thenReturn(page);
+
+        assertEquals(page, personRepository.findAll(pagination));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertTrue(query.condition().isEmpty());
+        assertEquals(2, query.limit());
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.desc("_id"));
+    }
+
+    @Test
+    public void shouldConvertTheKeysetCursor() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("id")).afterKeyset("Ada", 10);
+        Pageable all = Pageable.ofSize(2).sortBy(Sort.desc("id")).beforeKeyset(12);
+        when(template.<Person>selectKeyset(any(ColumnQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(Collections.emptyList(), pagination, Collections.emptyList()));
+        when(template.<Person>select(any(ColumnQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(Collections.emptyList(), all, Collections.emptyList()));
+
+        personRepository.findByAgeGreaterThanOrderByName(10, pagination);
+        personRepository.findAll(all);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(template).selectKeyset(any(ColumnQuery.class), captor.capture());
+        assertEquals(Pageable.Mode.CURSOR_NEXT, captor.getValue().mode());
+        assertEquals(NoSQLKeysetPage.cursor("Ada", 10L), captor.getValue().cursor());
+        verify(template).select(any(ColumnQuery.class), captor.capture());
+        assertEquals(Pageable.Mode.CURSOR_PREVIOUS, captor.getValue().mode());
+        assertEquals(NoSQLKeysetPage.cursor(12L), captor.getValue().cursor());
+        assertEquals(2, captor.getValue().size());
+    }
+
     private Pageable getPageable() {
         return Pageable.ofPage(2).size(6);
     }
@@ -624,6 +724,8 @@ public class ColumnRepositoryProxyPageableTest {
 
         Slice<Person> findByAge(String age, Pageable pagination);
 
+        KeysetAwareSlice<Person> findByAgeGreaterThanOrderByName(Integer age, Pageable pagination);
+
         List<Person> findByNameAndAge(String name, Integer age, Pageable pagination);
 
         Set<Person> findByAgeAndName(Integer age, String name, Pageable pagination);
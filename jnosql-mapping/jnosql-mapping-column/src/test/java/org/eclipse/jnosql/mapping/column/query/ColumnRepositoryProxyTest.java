@@ -22,6 +22,7 @@ import jakarta.data.repository.Query;
 import jakarta.data.repository.Sort;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
@@ -251,6 +252,53 @@ class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindFirstByName() {
+        when(template.singleResult(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Optional.of(Person.builder().withName("Ada").build()));
+
+        Optional<Person> person = personRepository.findFirstByNameOrderByAge("Ada");
+        assertTrue(person.isPresent());
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).singleResult(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(1, query.limit());
+        assertEquals(0, query.skip());
+        assertEquals(List.of(Sort.asc("age")), query.sorts());
+        assertEquals(ColumnCondition.eq(Column.of("name", "Ada")), query.condition().orElseThrow());
+    }
+
+    @Test
+    void shouldFindTopByAge() {
+        when(template.select(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Stream.of(Person.builder().withName("Ada").build()));
+
+        List<Person> persons = personRepository.findTop10ByAgeGreaterThanOrderByAgeDesc(20);
+        assertEquals(1, persons.size());
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(10, query.limit());
+        assertEquals(List.of(Sort.desc("age")), query.sorts());
+        assertEquals(ColumnCondition.gt(Column.of("age", 20)), query.condition().orElseThrow());
+    }
+
+    @Test
+    void shouldFindFirstWithSort() {
+        when(template.select(Mockito.any(ColumnQuery.class))).thenReturn(Stream.empty());
+
+        personRepository.findFirst3ByName("Ada", Sort.asc("age"));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(3, query.limit());
+        assertEquals(List.of(Sort.asc("age")), query.sorts());
+    }
+
     @Test
     void shouldDeleteByName() {
         ArgumentCaptor<ColumnDeleteQuery> captor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
@@ -786,8 +834,60 @@ class ColumnRepositoryProxyTest {
         }
     }
 
+    @Test
+    void shouldAggregate() {
+        when(template.aggregate(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(Map.of("sum(age)", 30L)));
+
+        int result = personRepository.sumAge();
+        assertEquals(30, result);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).aggregate(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(List.of(Aggregation.sum("age")), query.aggregations());
+        assertTrue(query.groupBy().isEmpty());
+        assertFalse(query.condition().isPresent());
+    }
+
+    @Test
+    void shouldAggregateOptional() {
+        when(template.aggregate(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(Collections.singletonMap("avg(age)", null)));
+
+        assertTrue(personRepository.avgAge().isEmpty());
+    }
+
+    @Test
+    void shouldReturnErrorWhenAggregationFieldIsNotFromTheEntity() {
+        Assertions.assertThrows(MappingException.class, () -> personRepository.countActive());
+        verify(template, never()).aggregate(any());
+    }
+
+    @Test
+    void shouldAggregateByGroup() {
+        when(template.aggregate(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(Map.of("name", "Ada", "count(_id)", 2L),
+                        Map.of("name", "Poliana", "count(_id)", 1L)));
+
+        Map<String, Long> result = personRepository.countIdByName();
+        assertEquals(Map.of("Ada", 2L, "Poliana", 1L), result);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).aggregate(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(List.of(Aggregation.count("_id")), query.aggregations());
+        assertEquals(List.of("name"), query.groupBy());
+        assertEquals(List.of("name"), query.columns());
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long>, BaseQuery<Person> {
 
+        Optional<Person> findFirstByNameOrderByAge(String name);
+
+        List<Person> findTop10ByAgeGreaterThanOrderByAgeDesc(Integer age);
+
+        List<Person> findFirst3ByName(String name, Sort sort);
+
         List<Person> findByActiveTrue();
 
         List<Person> findByActiveFalse();
@@ -849,6 +949,14 @@ class ColumnRepositoryProxyTest {
         @Query("select * from Person where id = @id")
         Optional<Person> findByQuery(@Param("id") String id);
 
+        int sumAge();
+
+        Optional<Double> avgAge();
+
+        Map<String, Long> countIdByName();
+
+        long countActive();
+
         long countByName(String name);
 
         boolean existsByName(String name);
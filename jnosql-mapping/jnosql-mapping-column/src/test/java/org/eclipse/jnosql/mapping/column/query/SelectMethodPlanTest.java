@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
+import org.eclipse.jnosql.mapping.column.MockProducer;
+import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, ColumnEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, ColumnExtension.class})
+class SelectMethodPlanTest {
+
+    @Inject
+    private EntitiesMetadata mappings;
+
+    @Inject
+    private Converters converters;
+
+    private EntityMetadata entityMetadata;
+
+    private RepositoryColumnObserverParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        this.entityMetadata = mappings.get(Person.class);
+        this.parser = new RepositoryColumnObserverParser(entityMetadata);
+    }
+
+    @Test
+    public void shouldCreateQueryToEachCall() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeAndName"), entityMetadata, converters, parser);
+
+        ColumnQuery ada = plan.apply(new Object[]{10L, "Ada"});
+        ColumnQuery diana = plan.apply(new Object[]{20L, "Diana"});
+
+        Assertions.assertNotSame(ada, diana);
+        assertEquals("Person", ada.name());
+        assertEquals(List.of(10, "Ada"), values(ada.condition().orElseThrow()));
+        assertEquals(List.of(20, "Diana"), values(diana.condition().orElseThrow()));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsMissedArgument() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeAndName"), entityMetadata, converters, parser);
+        Assertions.assertThrows(DynamicQueryException.class, () -> plan.apply(new Object[]{10L}));
+    }
+
+    @Test
+    public void shouldCreateDeleteQueryToEachCall() {
+        DeleteMethodPlan plan = DeleteMethodPlan.of(method("deleteByName"), entityMetadata, converters, parser);
+
+        ColumnDeleteQuery ada = plan.apply(new Object[]{"Ada"});
+        ColumnDeleteQuery diana = plan.apply(new Object[]{"Diana"});
+
+        assertEquals("Ada", ada.condition().map(ColumnCondition::column).map(Column::get).orElseThrow());
+        assertEquals("Diana", diana.condition().map(ColumnCondition::column).map(Column::get).orElseThrow());
+    }
+
+    @Test
+    public void shouldBindTheElementsOfBetweenAndIn() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeBetweenAndNameIn"), entityMetadata, converters,
+                parser);
+
+        ColumnQuery query = plan.apply(new Object[]{10L, 20L, List.of("Ada", "Diana")});
+        ColumnQuery other = plan.apply(new Object[]{30L, 40L, List.of("Poliana")});
+
+        assertEquals(List.of(List.of(Value.of(10), Value.of(20)), List.of("Ada", "Diana")),
+                values(query.condition().orElseThrow()));
+        assertEquals(List.of(List.of(Value.of(30), Value.of(40)), List.of("Poliana")),
+                values(other.condition().orElseThrow()));
+    }
+
+    private List<Object> values(ColumnCondition condition) {
+        List<ColumnCondition> conditions = condition.column().get(new TypeReference<>() {
+        });
+        return conditions.stream().map(ColumnCondition::column)
+                .map(Column::value)
+                .map(Value::get).toList();
+    }
+
+    private Method method(String name) {
+        return Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    interface PersonRepository {
+
+        List<Person> findByAgeAndName(Long age, String name);
+
+        List<Person> findByAgeBetweenAndNameIn(Long from, Long to, List<String> names);
+
+        void deleteByName(String name);
+    }
+}
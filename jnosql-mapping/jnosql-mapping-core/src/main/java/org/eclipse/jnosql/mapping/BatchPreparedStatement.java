@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.nosql.PreparedStatement;
+
+import java.util.stream.Stream;
+
+/**
+ * A {@link PreparedStatement} that also runs the insert and update queries in batches, e.g.:
+ *
+ * <pre>{@code
+ * BatchPreparedStatement statement = template.prepareBatch("insert Person (name = @name, age = @age)");
+ * for (Person person : people) {
+ *     statement.bind("name", person.getName()).bind("age", person.getAge()).addBatch();
+ * }
+ * Stream<Person> inserted = statement.executeBatch();
+ * }</pre>
+ * <p>
+ * Each {@link BatchPreparedStatement#addBatch()} keeps the entity with the values bound and the
+ * {@link BatchPreparedStatement#executeBatch()} writes all of them with a single call of the manager, which takes an
+ * {@link Iterable}, for each chunk of {@link BatchPreparedStatement#batchSize(int)} entities. Thus, the drivers that
+ * support bulk writes use them.
+ */
+public interface BatchPreparedStatement extends PreparedStatement {
+
+    @Override
+    BatchPreparedStatement bind(String name, Object value);
+
+    /**
+     * Adds the entity with the values currently bound to the batch. The values are kept, thus, the next entity only
+     * needs to bind the values that change.
+     *
+     * @return the same statement instance
+     * @throws org.eclipse.jnosql.communication.QueryException when the statement is neither an insert nor an update
+     *                                                         or when there are params left
+     */
+    BatchPreparedStatement addBatch();
+
+    /**
+     * Defines the maximum number of entities written at each call of the manager at the
+     * {@link BatchPreparedStatement#executeBatch()}
+     *
+     * @param batchSize the batch size
+     * @return the same statement instance
+     * @throws IllegalArgumentException when the batch size is not positive
+     */
+    BatchPreparedStatement batchSize(int batchSize);
+
+    /**
+     * Writes the entities of the batch and empties it.
+     *
+     * @param <T> the entity type
+     * @return the entities written
+     */
+    <T> Stream<T> executeBatch();
+}
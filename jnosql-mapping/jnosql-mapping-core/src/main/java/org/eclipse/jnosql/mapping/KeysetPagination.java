@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.util.ConverterUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The keyset, or cursor, pagination. Instead of skipping the entities of the previous pages, the query of a page
+ * continues from the sort keys of the cursor, e.g.: with the sorts {@code name asc, id asc} the page after the
+ * cursor {@code ('Ada', 10)} has the condition {@code name > 'Ada' or (name = 'Ada' and id > 10)}, which is
+ * added to the query condition. Thus, the cost of a page does not grow with the number of the page.
+ * The sorts must identify each entity, otherwise the entities that have the same sort keys of the cursor are lost
+ * between the pages; the id as the last sort does it.
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Creates a condition from its parts, each database type implements it with its condition.
+     *
+     * @param <C> the condition type
+     */
+    public interface ConditionFactory<C> {
+
+        /**
+         * @param name  the field name
+         * @param value the value
+         * @return the condition where the field is equal to the value
+         */
+        C eq(String name, Object value);
+
+        /**
+         * @param name  the field name
+         * @param value the value
+         * @return the condition where the field is greater than the value
+         */
+        C gt(String name, Object value);
+
+        /**
+         * @param name  the field name
+         * @param value the value
+         * @return the condition where the field is lesser than the value
+         */
+        C lt(String name, Object value);
+
+        /**
+         * @param conditions the conditions, there are at least two of them
+         * @return the condition where all the conditions are true
+         */
+        C and(List<C> conditions);
+
+        /**
+         * @param conditions the conditions, there are at least two of them
+         * @return the condition where any condition is true
+         */
+        C or(List<C> conditions);
+    }
+
+    /**
+     * Checks if the pageable is at a keyset mode, {@link Pageable.Mode#CURSOR_NEXT} or
+     * {@link Pageable.Mode#CURSOR_PREVIOUS}.
+     *
+     * @param pageable the pageable, it might be null
+     * @return true when the pageable is not null and is at a keyset mode
+     */
+    public static boolean isKeyset(Pageable pageable) {
+        return pageable != null && pageable.mode() != Pageable.Mode.OFFSET;
+    }
+
+    /**
+     * Returns the sorts to the query of the page. Those are the sorts themselves to the next page and the sorts at
+     * the reverse direction to the previous page, which reads the entities before the cursor from the nearest one.
+     *
+     * @param sorts    the sorts of the query
+     * @param pageable the pageable at a keyset mode
+     * @return the sorts to the query of the page
+     * @throws NullPointerException when there is null parameter
+     * @throws MappingException     when there is no sort or when the cursor does not have a value to each sort
+     */
+    public static List<Sort> sorts(List<Sort> sorts, Pageable pageable) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        if (sorts.isEmpty()) {
+            throw new MappingException("The keyset pagination requires at least one sort, e.g.: the id");
+        }
+        Pageable.Cursor cursor = pageable.cursor();
+        if (cursor != null && cursor.size() != sorts.size()) {
+            throw new MappingException("The cursor must have a value to each sort, sorts: " + sorts
+                    + " cursor: " + cursor);
+        }
+        if (pageable.mode() != Pageable.Mode.CURSOR_PREVIOUS) {
+            return sorts;
+        }
+        List<Sort> reversed = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            reversed.add(new Sort(sort.property(), !sort.isAscending(), sort.ignoreCase()));
+        }
+        return reversed;
+    }
+
+    /**
+     * Returns the pageable with the values of its cursor at the database format, as the parameters of a query, thus,
+     * each value goes through the {@link ConverterUtil#getValue(Object, Converters, FieldMetadata)} of the field of
+     * its sort. When there is no cursor, or when no value changes, it returns the pageable itself.
+     *
+     * @param pageable   the pageable
+     * @param sorts      the sorts of the query, whose properties are the database names of the fields
+     * @param metadata   the entity metadata
+     * @param converters the converters
+     * @return the pageable with the values of the cursor converted
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Pageable convert(Pageable pageable, List<Sort> sorts, EntityMetadata metadata,
+                                   Converters converters) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(converters, "converters is required");
+        Pageable.Cursor cursor = pageable.cursor();
+        if (!isKeyset(pageable) || cursor == null || cursor.size() != sorts.size()) {
+            return pageable;
+        }
+        Map<String, FieldMetadata> fields = metadata.fieldsGroupByName();
+        Object[] keyset = new Object[cursor.size()];
+        boolean converted = false;
+        for (int index = 0; index < keyset.length; index++) {
+            Object value = cursor.getKeysetElement(index);
+            FieldMetadata field = fields.get(sorts.get(index).property());
+            keyset[index] = value == null || field == null ? value : ConverterUtil.getValue(value, converters, field);
+            converted |= keyset[index] != value;
+        }
+        if (!converted) {
+            return pageable;
+        }
+        Pageable.Cursor convertedCursor = NoSQLKeysetPage.cursor(keyset);
+        return pageable.mode() == Pageable.Mode.CURSOR_NEXT ? pageable.afterKeysetCursor(convertedCursor)
+                : pageable.beforeKeysetCursor(convertedCursor);
+    }
+
+    /**
+     * Creates the condition after the cursor of the pageable at the order of the sorts.
+     *
+     * @param sorts    the sorts to the query of the page, from {@link KeysetPagination#sorts(List, Pageable)}
+     * @param pageable the pageable at a keyset mode
+     * @param factory  the condition factory
+     * @param <C>      the condition type
+     * @return the condition or null when the pageable has no cursor
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <C> C condition(List<Sort> sorts, Pageable pageable, ConditionFactory<C> factory) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(factory, "factory is required");
+        Pageable.Cursor cursor = pageable.cursor();
+        if (cursor == null) {
+            return null;
+        }
+        List<C> conditions = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            List<C> keys = new ArrayList<>(index + 1);
+            for (int previous = 0; previous < index; previous++) {
+                keys.add(factory.eq(sorts.get(previous).property(), cursor.getKeysetElement(previous)));
+            }
+            Sort sort = sorts.get(index);
+            Object value = cursor.getKeysetElement(index);
+            keys.add(sort.isAscending() ? factory.gt(sort.property(), value) : factory.lt(sort.property(), value));
+            conditions.add(keys.size() == 1 ? keys.get(0) : factory.and(keys));
+        }
+        return conditions.size() == 1 ? conditions.get(0) : factory.or(conditions);
+    }
+
+    /**
+     * Returns the entities of the page at the order of the sorts, the query of the previous page reads them at the
+     * reverse order.
+     *
+     * @param entities the entities from the query of the page
+     * @param pageable the pageable at a keyset mode
+     * @param <T>      the entity type
+     * @return the entities at the order of the sorts
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> List<T> content(List<T> entities, Pageable pageable) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        if (pageable.mode() != Pageable.Mode.CURSOR_PREVIOUS) {
+            return entities;
+        }
+        List<T> reversed = new ArrayList<>(entities);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+}
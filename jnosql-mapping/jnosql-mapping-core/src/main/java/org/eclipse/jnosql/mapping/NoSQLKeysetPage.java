@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A JNoSQL implementation of {@link KeysetAwarePage}, the page of a keyset pagination that has, to each entity,
+ * the cursor with the values of the sort keys, thus, the next and the previous pages continue from those values
+ * instead of skipping the entities of the previous pages.
+ *
+ * @param <T> the entity type
+ */
+public final class NoSQLKeysetPage<T> implements KeysetAwarePage<T> {
+
+    private final List<T> entities;
+
+    private final Pageable pageable;
+
+    private final List<Pageable.Cursor> cursors;
+
+    private NoSQLKeysetPage(List<T> entities, Pageable pageable, List<Pageable.Cursor> cursors) {
+        this.entities = entities;
+        this.pageable = pageable;
+        this.cursors = cursors;
+    }
+
+    @Override
+    public long totalElements() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public long totalPages() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public List<T> content() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !this.entities.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return this.entities.size();
+    }
+
+    @Override
+    public Pageable pageable() {
+        return this.pageable;
+    }
+
+    @Override
+    public Pageable.Cursor getKeysetCursor(int index) {
+        return this.cursors.get(index);
+    }
+
+    /**
+     * Returns the pageable after the cursor of the last entity of this page.
+     *
+     * @return the next pageable or null when this page has no content
+     */
+    @Override
+    public Pageable nextPageable() {
+        if (this.cursors.isEmpty()) {
+            return null;
+        }
+        return this.pageable.afterKeysetCursor(this.cursors.get(this.cursors.size() - 1));
+    }
+
+    /**
+     * Returns the pageable before the cursor of the first entity of this page.
+     *
+     * @return the previous pageable or null when this page has no content
+     */
+    @Override
+    public Pageable previousPageable() {
+        if (this.cursors.isEmpty()) {
+            return null;
+        }
+        return this.pageable.beforeKeysetCursor(this.cursors.get(0));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.entities.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NoSQLKeysetPage<?> that = (NoSQLKeysetPage<?>) o;
+        return Objects.equals(entities, that.entities) && Objects.equals(pageable, that.pageable)
+                && Objects.equals(cursors, that.cursors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, pageable, cursors);
+    }
+
+    @Override
+    public String toString() {
+        return "NoSQLKeysetPage{" +
+                "entities=" + entities +
+                ", pageable=" + pageable +
+                ", cursors=" + cursors +
+                '}';
+    }
+
+    /**
+     * Creates a {@link KeysetAwarePage} implementation from entities, a pageable and the cursor of each entity
+     *
+     * @param entities the entities
+     * @param pageable the pageable
+     * @param cursors  the cursors, at the same order of the entities
+     * @param <T>      the entity type
+     * @return a {@link KeysetAwarePage} instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the number of cursors is not the number of entities
+     */
+    public static <T> KeysetAwarePage<T> of(List<T> entities, Pageable pageable, List<Pageable.Cursor> cursors) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(cursors, "cursors is required");
+        if (entities.size() != cursors.size()) {
+            throw new IllegalArgumentException("There must be a cursor to each entity, entities: " + entities.size()
+                    + " cursors: " + cursors.size());
+        }
+        return new NoSQLKeysetPage<>(entities, pageable, List.copyOf(cursors));
+    }
+
+    /**
+     * Creates a cursor from the values of the sort keys
+     *
+     * @param keyset the values of the sort keys, at the same order of the sorts
+     * @return a {@link Pageable.Cursor} instance
+     * @throws NullPointerException when keyset is null
+     */
+    public static Pageable.Cursor cursor(Object... keyset) {
+        Objects.requireNonNull(keyset, "keyset is required");
+        return new KeysetCursor(keyset.clone());
+    }
+
+    private static final class KeysetCursor implements Pageable.Cursor {
+
+        private final Object[] keyset;
+
+        private KeysetCursor(Object[] keyset) {
+            this.keyset = keyset;
+        }
+
+        @Override
+        public Object getKeysetElement(int index) {
+            return keyset[index];
+        }
+
+        @Override
+        public int size() {
+            return keyset.length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof Pageable.Cursor cursor && cursor.size() == size()) {
+                for (int index = 0; index < keyset.length; index++) {
+                    if (!Objects.equals(keyset[index], cursor.getKeysetElement(index))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(keyset);
+        }
+
+        @Override
+        public String toString() {
+            return "Cursor" + Arrays.toString(keyset);
+        }
+    }
+}
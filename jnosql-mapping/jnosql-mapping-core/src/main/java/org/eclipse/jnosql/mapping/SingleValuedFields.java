@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tells which database fields of an entity hold a single value, thus, a condition optimizer may merge their ranges
+ * and detect their contradictions, e.g.: {@code age = 10 and age = 20} cannot match, but {@code tags = 'a' and
+ * tags = 'b'} matches an entity that has both tags. A field is single-valued when its Java type is not a collection,
+ * a map, an array, an embeddable or an entity; a name that is not a field of the entity, such as the path of a
+ * sub-entity field, is not single-valued.
+ */
+public final class SingleValuedFields {
+
+    private static final Predicate<String> NONE = name -> false;
+
+    private final EntitiesMetadata entities;
+
+    private final Map<String, Predicate<String>> fields = new ConcurrentHashMap<>();
+
+    private SingleValuedFields(EntitiesMetadata entities) {
+        this.entities = entities;
+    }
+
+    /**
+     * Returns the single-valued fields of the entity
+     *
+     * @param entity the entity name
+     * @return checks whether the database field name is a single-valued field of the entity, no field is when the
+     * entity is not found
+     * @throws NullPointerException when entity is null
+     */
+    public Predicate<String> fields(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Predicate<String> predicate = fields.get(entity);
+        if (predicate != null) {
+            return predicate;
+        }
+        try {
+            EntityMetadata metadata = entities.findByName(entity);
+            Set<String> names = metadata.fields().stream()
+                    .filter(SingleValuedFields::isSingleValued)
+                    .map(FieldMetadata::name)
+                    .collect(Collectors.toUnmodifiableSet());
+            return fields.computeIfAbsent(entity, k -> names::contains);
+        } catch (ClassInformationNotFoundException exception) {
+            return NONE;
+        }
+    }
+
+    private static boolean isSingleValued(FieldMetadata field) {
+        return MappingType.DEFAULT.equals(field.mappingType()) && !field.type().isArray();
+    }
+
+    /**
+     * Creates a {@link SingleValuedFields} instance
+     *
+     * @param entities the entities
+     * @return a {@link SingleValuedFields} instance
+     * @throws NullPointerException when entities is null
+     */
+    public static SingleValuedFields of(EntitiesMetadata entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return new SingleValuedFields(entities);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * An immutable copy of the {@code jnosql.*} properties of {@link MicroProfileSettings}, resolved once into typed
+ * fields, thus, the mapping components read the configuration at each operation without looking it up at
+ * the {@link org.eclipse.microprofile.config.Config}.
+ * The snapshot is loaded at the first use; when a dynamic config source changes, {@link SettingsSnapshot#refresh()}
+ * loads a new snapshot and notifies the listeners registered by {@link SettingsSnapshot#addListener(Consumer)}.
+ * The {@link SettingsSnapshotExtension} loads it again at each CDI container startup; a change to the configuration
+ * after the startup is only visible after a {@link SettingsSnapshot#refresh()}.
+ */
+public final class SettingsSnapshot {
+
+    /**
+     * The prefix of the properties kept at the snapshot.
+     */
+    public static final String PREFIX = "jnosql.";
+
+    private static final List<Consumer<SettingsSnapshot>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile SettingsSnapshot current;
+
+    private final Settings settings;
+
+    private final Map<MappingConfigurations, String> configurations;
+
+    private final boolean graphTransactionAutomatic;
+
+    private SettingsSnapshot(Map<String, Object> properties) {
+        this.settings = Settings.of(properties);
+        this.configurations = new EnumMap<>(MappingConfigurations.class);
+        for (MappingConfigurations configuration : MappingConfigurations.values()) {
+            Object value = properties.get(configuration.get());
+            if (value != null) {
+                configurations.put(configuration, value.toString());
+            }
+        }
+        this.graphTransactionAutomatic = Optional.ofNullable(configurations
+                        .get(MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC))
+                .map(Boolean::valueOf).orElse(true);
+    }
+
+    /**
+     * Returns the current snapshot, it is loaded at the first call.
+     *
+     * @return the current snapshot
+     */
+    public static SettingsSnapshot current() {
+        SettingsSnapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (SettingsSnapshot.class) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = load();
+                    current = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Loads the properties again into a new snapshot, that becomes the current one, and notifies the listeners.
+     * A dynamic config source calls it when its properties change.
+     *
+     * @return the new snapshot
+     */
+    public static SettingsSnapshot refresh() {
+        SettingsSnapshot snapshot;
+        synchronized (SettingsSnapshot.class) {
+            snapshot = load();
+            current = snapshot;
+        }
+        for (Consumer<SettingsSnapshot> listener : LISTENERS) {
+            listener.accept(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Registers a listener that receives the new snapshot at each {@link SettingsSnapshot#refresh()}
+     *
+     * @param listener the listener
+     * @throws NullPointerException when the listener is null
+     */
+    public static void addListener(Consumer<SettingsSnapshot> listener) {
+        Objects.requireNonNull(listener, "listener is required");
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener registered by {@link SettingsSnapshot#addListener(Consumer)}
+     *
+     * @param listener the listener
+     * @throws NullPointerException when the listener is null
+     */
+    public static void removeListener(Consumer<SettingsSnapshot> listener) {
+        Objects.requireNonNull(listener, "listener is required");
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * @return the {@code jnosql.*} properties of this snapshot
+     */
+    public Settings settings() {
+        return settings;
+    }
+
+    /**
+     * Returns the value of a {@link MappingConfigurations}
+     *
+     * @param configuration the configuration
+     * @return the value or {@link Optional#empty()} when it is not defined
+     * @throws NullPointerException when the configuration is null
+     */
+    public Optional<String> get(MappingConfigurations configuration) {
+        Objects.requireNonNull(configuration, "configuration is required");
+        return Optional.ofNullable(configurations.get(configuration));
+    }
+
+    /**
+     * Returns the class whose name is the value of a {@link MappingConfigurations}, such as
+     * {@link MappingConfigurations#DOCUMENT_PROVIDER}
+     *
+     * @param configuration the configuration
+     * @return the class or {@link Optional#empty()} when it is not defined
+     * @throws NullPointerException when the configuration is null
+     * @throws MappingException     when the class is not found
+     */
+    public Optional<Class<?>> type(MappingConfigurations configuration) {
+        return get(configuration).map(SettingsSnapshot::load);
+    }
+
+    /**
+     * @return the {@link MappingConfigurations#GRAPH_TRANSACTION_AUTOMATIC}, by default it is true
+     */
+    public boolean isGraphTransactionAutomatic() {
+        return graphTransactionAutomatic;
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsSnapshot{" +
+                "configurations=" + configurations +
+                ", graphTransactionAutomatic=" + graphTransactionAutomatic +
+                '}';
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException exception) {
+            throw new MappingException("The class " + name + " was not found", exception);
+        }
+    }
+
+    private static SettingsSnapshot load() {
+        MicroProfileSettings settings = MicroProfileSettings.INSTANCE;
+        Map<String, Object> properties = new HashMap<>();
+        for (String key : settings.keySet()) {
+            if (key.startsWith(PREFIX)) {
+                settings.get(key).ifPresent(value -> properties.put(key, value));
+            }
+        }
+        return new SettingsSnapshot(properties);
+    }
+}
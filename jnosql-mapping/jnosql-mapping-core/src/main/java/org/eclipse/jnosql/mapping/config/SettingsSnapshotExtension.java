@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+
+import java.util.logging.Logger;
+
+/**
+ * This class is a CDI extension that loads the {@link SettingsSnapshot} again at each container startup,
+ * thus, a new container reads the current {@link org.eclipse.microprofile.config.Config} instead of
+ * the snapshot of a previous one.
+ */
+public class SettingsSnapshotExtension implements Extension {
+
+    private static final Logger LOGGER = Logger.getLogger(SettingsSnapshotExtension.class.getName());
+
+    void beforeBeanDiscovery(@Observes BeforeBeanDiscovery event) {
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        LOGGER.fine("Loading the settings snapshot at the container startup: " + snapshot);
+    }
+}
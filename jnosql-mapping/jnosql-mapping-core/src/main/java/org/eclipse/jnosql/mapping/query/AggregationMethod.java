@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.query;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.AggregationType;
+import org.eclipse.jnosql.communication.Value;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The aggregation query method of a repository, it has the aggregate function, the field and, optionally, the field
+ * to group by, e.g.:
+ * <ul>
+ *     <li>{@code BigDecimal sumAmount()} returns the sum of the amount of all entities</li>
+ *     <li>{@code Map<String, BigDecimal> sumAmountByCustomer()} returns the sum of the amount per customer</li>
+ *     <li>{@code Optional<Integer> maxAge()} returns the highest age</li>
+ * </ul>
+ * The functions are count, sum, min, max and avg. A method with group by returns a {@link Map} from the group value
+ * to the aggregation result; the results are converted to the generic types of the method return.
+ * The method does not have parameters, and the fields must be fields of the entity.
+ */
+public final class AggregationMethod {
+
+    private static final Pattern PATTERN = Pattern.compile("^(count|sum|min|max|avg)([A-Z][A-Za-z0-9_]*?)"
+            + "(?:By([A-Z][A-Za-z0-9_]*))?$");
+
+    private static final String SUB_ENTITY_FLAG = "_";
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(int.class, Integer.class, long.class, Long.class,
+            double.class, Double.class, float.class, Float.class, short.class, Short.class, byte.class, Byte.class,
+            boolean.class, Boolean.class, char.class, Character.class);
+
+    private final Aggregation aggregation;
+
+    private final String groupBy;
+
+    private final Class<?> keyType;
+
+    private final Class<?> valueType;
+
+    private final boolean optional;
+
+    private AggregationMethod(Aggregation aggregation, String groupBy, Class<?> keyType, Class<?> valueType,
+                              boolean optional) {
+        this.aggregation = aggregation;
+        this.groupBy = groupBy;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.optional = optional;
+    }
+
+    /**
+     * @return the aggregation with the field converted to the database name
+     */
+    public Aggregation aggregation() {
+        return aggregation;
+    }
+
+    /**
+     * @return the field to group by converted to the database name
+     */
+    public Optional<String> groupBy() {
+        return Optional.ofNullable(groupBy);
+    }
+
+    /**
+     * Converts the rows of the aggregation to the method return.
+     *
+     * @param rows the rows that have the {@link AggregationMethod#groupBy()} and the {@link Aggregation#alias()}
+     * @return the method return
+     * @throws NullPointerException when rows is null
+     */
+    public Object result(Stream<Map<String, Object>> rows) {
+        Objects.requireNonNull(rows, "rows is required");
+        String alias = aggregation.alias();
+        if (groupBy == null) {
+            Object value = rows.findFirst().map(row -> convert(row.get(alias), valueType)).orElse(null);
+            return optional ? Optional.ofNullable(value) : value;
+        }
+        Map<Object, Object> result = new LinkedHashMap<>();
+        rows.forEach(row -> result.put(convert(row.get(groupBy), keyType), convert(row.get(alias), valueType)));
+        return result;
+    }
+
+    /**
+     * Checks whether the method name has the aggregation method shape
+     *
+     * @param methodName the method name
+     * @return true when it is an aggregation method
+     * @throws NullPointerException when methodName is null
+     */
+    public static boolean matches(String methodName) {
+        Objects.requireNonNull(methodName, "methodName is required");
+        return PATTERN.matcher(methodName).matches();
+    }
+
+    /**
+     * Creates an {@link AggregationMethod} from the repository method
+     *
+     * @param method the method
+     * @param field  converts the Java field to the database name
+     * @return the {@link AggregationMethod} instance
+     * @throws NullPointerException when there is null parameter
+     * @throws MappingException     when the method is not an aggregation method, when it has parameters or when a
+     *                              group by method does not return a {@link Map}
+     */
+    public static AggregationMethod of(Method method, UnaryOperator<String> field) {
+        return of(method, javaField -> true, field);
+    }
+
+    /**
+     * Creates an {@link AggregationMethod} from the repository method, checking that the fields belong to the entity,
+     * thus, a method such as {@code countActive()} on an entity without an active field is not an aggregation.
+     *
+     * @param method the method
+     * @param fields checks whether the Java field is a field of the entity; for a sub-entity, it checks the first
+     *               Java field of the path
+     * @param field  converts the Java field to the database name
+     * @return the {@link AggregationMethod} instance
+     * @throws NullPointerException when there is null parameter
+     * @throws MappingException     when the method is not an aggregation method, when it has parameters, when a field
+     *                              is not a field of the entity or when a group by method does not return a
+     *                              {@link Map}
+     */
+    public static AggregationMethod of(Method method, Predicate<String> fields, UnaryOperator<String> field) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(fields, "fields is required");
+        Objects.requireNonNull(field, "field is required");
+        UnaryOperator<String> entityField = javaField -> {
+            if (!fields.test(javaField.split("\\.")[0])) {
+                throw new MappingException("The aggregation method " + method + " has the field " + javaField
+                        + " that is not a field of the entity");
+            }
+            return field.apply(javaField);
+        };
+        Matcher matcher = PATTERN.matcher(method.getName());
+        if (!matcher.matches()) {
+            throw new MappingException("The method " + method + " is not an aggregation method");
+        }
+        if (method.getParameterCount() > 0) {
+            throw new MappingException("The aggregation method " + method + " does not support parameters");
+        }
+        AggregationType type = AggregationType.valueOf(matcher.group(1).toUpperCase(Locale.US));
+        Aggregation aggregation = Aggregation.of(type, entityField.apply(toField(matcher.group(2))));
+        if (matcher.group(3) == null) {
+            boolean optional = Optional.class.equals(method.getReturnType());
+            Class<?> valueType = optional ? typeArgument(method, 0) : method.getReturnType();
+            return new AggregationMethod(aggregation, null, null, valueType, optional);
+        }
+        if (!Map.class.equals(method.getReturnType())) {
+            throw new MappingException("The aggregation method with group by " + method + " must return a Map");
+        }
+        String groupBy = entityField.apply(toField(matcher.group(3)));
+        return new AggregationMethod(aggregation, groupBy, typeArgument(method, 0), typeArgument(method, 1),
+                false);
+    }
+
+    private static String toField(String text) {
+        return Stream.of(text.split(SUB_ENTITY_FLAG))
+                .map(t -> t.isEmpty() ? t : Character.toLowerCase(t.charAt(0)) + t.substring(1))
+                .collect(Collectors.joining("."));
+    }
+
+    private static Class<?> typeArgument(Method method, int index) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[index] instanceof Class<?> argument) {
+            return argument;
+        }
+        return Object.class;
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null || Object.class.equals(type)) {
+            return value;
+        }
+        Class<?> target = wrapper(type);
+        if (target.isInstance(value)) {
+            return value;
+        }
+        return Value.of(value).get(target);
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return PRIMITIVES.getOrDefault(type, type);
+    }
+
+    @Override
+    public String toString() {
+        return "AggregationMethod{" +
+                "aggregation=" + aggregation +
+                ", groupBy='" + groupBy + '\'' +
+                '}';
+    }
+}
@@ -24,6 +24,7 @@ import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * It defines the operation that might be from the Method
@@ -35,7 +36,8 @@ public enum RepositoryType {
      */
     DEFAULT(""),
     /**
-     * General query method returning the repository type.It starts with "findBy" key word
+     * General query method returning the repository type.It starts with "findBy" key word, or with either
+     * "findFirst", "findFirst&lt;N&gt;" or "findTop&lt;N&gt;" followed by "By" to return only the first N entities
      */
     FIND_BY("findBy"),
     /**
@@ -54,6 +56,12 @@ public enum RepositoryType {
      * Exists projection, returning typically a boolean result. It starts with "existsBy" keyword
      */
     EXISTS_BY("existsBy"),
+    /**
+     * Aggregation projection, it starts with either "count", "sum", "min", "max" or "avg" followed by the field
+     * and, optionally, "By" and the field to group by, e.g.: "sumAmountByCustomer"; the method does not have
+     * parameters. See {@link AggregationMethod}
+     */
+    AGGREGATE(""),
     UNKNOWN(""),
     /**
      * Methods from {@link Object}
@@ -75,6 +83,8 @@ public enum RepositoryType {
     private static final Predicate<Class<?>> IS_REPOSITORY_METHOD = Predicate.<Class<?>>isEqual(CrudRepository.class)
             .or(Predicate.isEqual(PageableRepository.class));
 
+    private static final Pattern FIND_FIRST = Pattern.compile("^find(First|Top)\\d*By");
+
     private static final Set<RepositoryType> KEY_WORLD_METHODS = EnumSet.of(FIND_BY, DELETE_BY, COUNT_BY, EXISTS_BY);
     private final String keyword;
 
@@ -112,8 +122,15 @@ public enum RepositoryType {
         if (FIND_ALL.keyword.equals(methodName)) {
             return FIND_ALL;
         }
+        if (FIND_FIRST.matcher(methodName).find()) {
+            return FIND_BY;
+        }
         return KEY_WORLD_METHODS.stream()
                 .filter(k -> methodName.startsWith(k.keyword))
-                .findFirst().orElse(UNKNOWN);
+                .findFirst().orElseGet(() -> isAggregation(method) ? AGGREGATE : UNKNOWN);
+    }
+
+    private static boolean isAggregation(Method method) {
+        return method.getParameterCount() == 0 && AggregationMethod.matches(method.getName());
     }
 }
@@ -185,7 +185,7 @@ class ClassConverter {
         FieldMappingBuilder builder = new FieldMappingBuilder().withName(columnName)
                 .withField(field).withType(mappingType).withId(id)
                 .withReader(bean -> reflections.getValue(bean, field))
-                .withWriter( (bean, value) -> reflections.setValue(bean, field, value));
+                .withWriter(new ReflectionFieldWriter(reflections, field));
 
         if (nonNull(convert)) {
             builder.withConverter(convert.value());
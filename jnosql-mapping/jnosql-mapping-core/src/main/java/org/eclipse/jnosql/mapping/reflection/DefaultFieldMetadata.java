@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.MappingType;
@@ -42,6 +43,23 @@ public class DefaultFieldMetadata extends AbstractFieldMetadata {
         return id;
     }
 
+    @Override
+    public void writeValue(Object bean, Value value) {
+        Objects.requireNonNull(bean, "bean is required");
+        Objects.requireNonNull(value, "value is required");
+        if (int.class.equals(type)) {
+            writer.writeInt(bean, value.getAsInt());
+        } else if (long.class.equals(type)) {
+            writer.writeLong(bean, value.getAsLong());
+        } else if (double.class.equals(type)) {
+            writer.writeDouble(bean, value.getAsDouble());
+        } else if (boolean.class.equals(type)) {
+            writer.writeBoolean(bean, value.getAsBoolean());
+        } else {
+            writer.write(bean, value(value));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.TypeReferenceConverter;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.AttributeConverter;
@@ -34,18 +35,21 @@ final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implement
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final TypeReferenceConverter<?> typeConverter;
+
     DefaultGenericFieldMetadata(MappingType type, Field field, String name, TypeSupplier<?> typeSupplier,
                          Class<? extends AttributeConverter<?, ?>> converter, FieldReader reader, FieldWriter writer) {
         super(type, field, name, converter, reader, writer);
         this.typeSupplier = typeSupplier;
+        this.typeConverter = TypeReferenceConverter.of(typeSupplier);
     }
 
     @Override
     public Object value(Value value) {
         if(value.get() instanceof Iterable) {
-            return value.get(typeSupplier);
+            return typeConverter.convert(value);
         } else {
-            return Value.of(Collections.singletonList(value.get())).get(typeSupplier);
+            return typeConverter.convert(Collections.singletonList(value.get()));
         }
     }
 
@@ -17,8 +17,10 @@ package org.eclipse.jnosql.mapping.repository;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class RepositoryObserverParser {
 
@@ -26,6 +28,8 @@ public final class RepositoryObserverParser {
 
     private final EntityMetadata metadata;
 
+    private final Map<String, String> fields = new ConcurrentHashMap<>();
+
     private RepositoryObserverParser(EntityMetadata metadata) {
         this.metadata = metadata;
     }
@@ -42,12 +46,17 @@ public final class RepositoryObserverParser {
 
     /**
      * Given a Java field, it will convert it to native if it does exist,
-     * otherwise, it will return the same value
+     * otherwise, it will return the same value. The result is kept, thus the next calls with the same
+     * field do not walk the mapping again.
      *
      * @param field the field
      * @return the field result
      */
     public String field(String field) {
+        return fields.computeIfAbsent(field, this::toNative);
+    }
+
+    private String toNative(String field) {
         if (metadata.fieldMapping(field).isPresent()) {
             return metadata.columnField(field);
         } else {
@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.repository.returns;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Slice;
 import org.eclipse.jnosql.mapping.DynamicQueryException;
@@ -32,11 +34,18 @@ public class PageRepositoryReturn extends AbstractRepositoryReturn {
 
     @Override
     public <T> Object convertPageable(DynamicReturn<T> dynamicReturn) {
-        return dynamicReturn.getPage();
+        Page<T> page = dynamicReturn.getPage();
+        Class<?> returnType = dynamicReturn.getMethod().getReturnType();
+        if (KeysetAwareSlice.class.isAssignableFrom(returnType) && !returnType.isInstance(page)) {
+            throw new DynamicQueryException("The method " + dynamicReturn.getMethod() + " returns a keyset page, " +
+                    "it requires a pageable at a keyset mode, e.g.: Pageable.afterKeyset");
+        }
+        return page;
     }
 
     @Override
     public boolean isCompatible(Class<?> entity, Class<?> returnType) {
-        return Page.class.equals(returnType) || Slice.class.equals(returnType);
+        return Page.class.equals(returnType) || Slice.class.equals(returnType)
+                || KeysetAwarePage.class.equals(returnType) || KeysetAwareSlice.class.equals(returnType);
     }
 }
@@ -76,6 +76,31 @@ public final class ConverterUtil {
                 .orElse(value);
     }
 
+    /**
+     * Converts the value to the type when they are not the same.
+     *
+     * @param value the value
+     * @param type  the expected type
+     * @return the value converted or the same value when it is not possible to convert
+     */
+    static Object getValue(Object value, Class<?> type) {
+        if (type.equals(value.getClass())) {
+            return value;
+        }
+        return getSupplier(value, type).get();
+    }
+
+    /**
+     * Returns the database column type of the converter, the Y at {@link AttributeConverter}.
+     *
+     * @param converter the converter
+     * @return the database column type
+     * @throws IllegalArgumentException when the converter does not implement {@link AttributeConverter} directly
+     */
+    static Type columnType(AttributeConverter<?, ?> converter) {
+        return getGenericInterface(converter).getActualTypeArguments()[1];
+    }
+
     private static Supplier<Object> getSupplier(Object value, Class<?> type) {
         return () -> {
             if (Iterable.class.isAssignableFrom(type)) {
@@ -102,7 +127,7 @@ public final class ConverterUtil {
     }
 
     private static Predicate<AttributeConverter> isNative(Object value) {
-        return a -> getGenericInterface(a).getActualTypeArguments()[1].equals(value.getClass());
+        return a -> columnType(a).equals(value.getClass());
     }
 
     private static ParameterizedType getGenericInterface(AttributeConverter a) {
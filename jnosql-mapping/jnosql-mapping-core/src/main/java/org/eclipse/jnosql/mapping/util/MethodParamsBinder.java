@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.util;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link ParamsBinder} compiled to a single repository method. It resolves, once, the parameter names of the
+ * method query to the argument index, the {@link FieldMetadata} and the {@link AttributeConverter}; thus, a call only
+ * converts the arguments and binds them. This instance is immutable and might be shared across threads.
+ */
+public final class MethodParamsBinder {
+
+    private final Method method;
+
+    private final Binding[] bindings;
+
+    private MethodParamsBinder(Method method, Binding[] bindings) {
+        this.method = method;
+        this.bindings = bindings;
+    }
+
+    /**
+     * Fill up the Params with the args, the params must have the same names used to compile this binder.
+     *
+     * @param params the params
+     * @param args   the args
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when the number of parameters is bigger than the number of args
+     */
+    public void bind(Params params, Object[] args) {
+        Objects.requireNonNull(params, "params is required");
+        Object[] values = convert(args);
+        for (int index = 0; index < bindings.length; index++) {
+            params.bind(bindings[index].name, values[index]);
+        }
+    }
+
+    /**
+     * Converts each argument to the database format of the field bound to its parameter
+     *
+     * @param args the args
+     * @return the arguments converted, one for each parameter at the method query
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when the number of parameters is bigger than the number of args
+     */
+    public Object[] convert(Object[] args) {
+        Objects.requireNonNull(args, "args is required");
+        if (bindings.length > args.length) {
+            throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
+                    "parameters in the method: " + method);
+        }
+        Object[] values = new Object[bindings.length];
+        for (int index = 0; index < bindings.length; index++) {
+            values[index] = bindings[index].getValue(args[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Converts the argument to the database format of the field bound to the parameter
+     *
+     * @param index the parameter index, the same as the method argument index
+     * @param value the argument
+     * @return the argument converted, or a list with each element converted when it is an {@link Iterable}
+     * @throws IndexOutOfBoundsException when there is no parameter at the index
+     */
+    public Object convert(int index, Object value) {
+        return bindings[index].getValue(value);
+    }
+
+    /**
+     * @return the number of parameters at the method query
+     */
+    public int size() {
+        return bindings.length;
+    }
+
+    /**
+     * Creates a binder to the method from the parameters names of its query
+     *
+     * @param names      the parameters names at the query, in the same order as the method arguments
+     * @param method     the method
+     * @param mapping    the mapping of the used class
+     * @param converters the converters
+     * @return a new {@link MethodParamsBinder} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static MethodParamsBinder of(List<String> names, Method method, EntityMetadata mapping,
+                                        Converters converters) {
+        Objects.requireNonNull(names, "names is required");
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        Objects.requireNonNull(converters, "converters is required");
+
+        Binding[] bindings = new Binding[names.size()];
+        for (int index = 0; index < bindings.length; index++) {
+            String name = names.get(index);
+            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+            String fieldName = name.substring(0, lastIndex);
+            FieldMetadata field = mapping.fields().stream()
+                    .filter(f -> f.name().equals(fieldName))
+                    .findFirst().orElse(null);
+            bindings[index] = Binding.of(name, field, converters);
+        }
+        return new MethodParamsBinder(method, bindings);
+    }
+
+    private static final class Binding {
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final AttributeConverter<Object, Object> converter;
+
+        private final Type columnType;
+
+        private Binding(String name, Class<?> type, AttributeConverter<Object, Object> converter, Type columnType) {
+            this.name = name;
+            this.type = type;
+            this.converter = converter;
+            this.columnType = columnType;
+        }
+
+        private Object getValue(Object value) {
+            if (type == null) {
+                return value;
+            }
+            if (value instanceof Iterable<?> iterable) {
+                List<Object> values = new ArrayList<>();
+                for (Object item : iterable) {
+                    values.add(convert(item));
+                }
+                return values;
+            }
+            return convert(value);
+        }
+
+        private Object convert(Object value) {
+            if (converter == null) {
+                return ConverterUtil.getValue(value, type);
+            }
+            if (columnType.equals(value.getClass())) {
+                return value;
+            }
+            return converter.convertToDatabaseColumn(value);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Binding of(String name, FieldMetadata field, Converters converters) {
+            if (field == null) {
+                return new Binding(name, null, null, null);
+            }
+            AttributeConverter converter = field.converter().map(c -> (AttributeConverter) converters.get(c))
+                    .orElse(null);
+            Type columnType = converter == null ? null : ConverterUtil.columnType(converter);
+            return new Binding(name, field.type(), converter, columnType);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+class KeysetPaginationTest {
+
+    private static final KeysetPagination.ConditionFactory<String> FACTORY = new KeysetPagination.ConditionFactory<>() {
+        @Override
+        public String eq(String name, Object value) {
+            return name + " = " + value;
+        }
+
+        @Override
+        public String gt(String name, Object value) {
+            return name + " > " + value;
+        }
+
+        @Override
+        public String lt(String name, Object value) {
+            return name + " < " + value;
+        }
+
+        @Override
+        public String and(List<String> conditions) {
+            return conditions.stream().collect(joining(" and ", "(", ")"));
+        }
+
+        @Override
+        public String or(List<String> conditions) {
+            return conditions.stream().collect(joining(" or ", "(", ")"));
+        }
+    };
+
+    @Test
+    public void shouldCheckKeyset() {
+        Assertions.assertFalse(KeysetPagination.isKeyset(null));
+        Assertions.assertFalse(KeysetPagination.isKeyset(Pageable.ofPage(2)));
+        Assertions.assertTrue(KeysetPagination.isKeyset(Pageable.ofSize(2).afterKeyset("Ada")));
+        Assertions.assertTrue(KeysetPagination.isKeyset(Pageable.ofSize(2).beforeKeyset("Ada")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada");
+        List<Sort> sorts = List.of(Sort.asc("name"));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.sorts(null, pageable));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.sorts(sorts, null));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.condition(null, pageable, FACTORY));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.condition(sorts, null, FACTORY));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.condition(sorts, pageable, null));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.content(null, pageable));
+        Assertions.assertThrows(NullPointerException.class, () -> KeysetPagination.content(List.of(), null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoSort() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada");
+        Assertions.assertThrows(MappingException.class, () -> KeysetPagination.sorts(List.of(), pageable));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCursorDoesNotMatchSorts() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada");
+        Assertions.assertThrows(MappingException.class, () ->
+                KeysetPagination.sorts(List.of(Sort.asc("name"), Sort.asc("id")), pageable));
+    }
+
+    @Test
+    public void shouldKeepSortsAtNext() {
+        List<Sort> sorts = List.of(Sort.asc("name"), Sort.desc("age"));
+        Assertions.assertEquals(sorts, KeysetPagination.sorts(sorts, Pageable.ofSize(2).afterKeyset("Ada", 10)));
+    }
+
+    @Test
+    public void shouldReverseSortsAtPrevious() {
+        List<Sort> sorts = List.of(Sort.asc("name"), Sort.descIgnoreCase("city"));
+        List<Sort> reversed = KeysetPagination.sorts(sorts, Pageable.ofSize(2).beforeKeyset("Ada", "Paris"));
+        Assertions.assertEquals(List.of(Sort.desc("name"), Sort.ascIgnoreCase("city")), reversed);
+    }
+
+    @Test
+    public void shouldCreateConditionToSingleSort() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada");
+        Assertions.assertEquals("name > Ada", KeysetPagination.condition(List.of(Sort.asc("name")), pageable,
+                FACTORY));
+        Assertions.assertEquals("name < Ada", KeysetPagination.condition(List.of(Sort.desc("name")), pageable,
+                FACTORY));
+    }
+
+    @Test
+    public void shouldCreateConditionToSorts() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada", 10, 3);
+        List<Sort> sorts = List.of(Sort.asc("name"), Sort.desc("age"), Sort.asc("id"));
+        Assertions.assertEquals("(name > Ada or (name = Ada and age < 10) or (name = Ada and age = 10 and id > 3))",
+                KeysetPagination.condition(sorts, pageable, FACTORY));
+    }
+
+    @Test
+    public void shouldCreateConditionToPrevious() {
+        Pageable pageable = Pageable.ofSize(2).beforeKeyset("Ada", 3);
+        List<Sort> sorts = KeysetPagination.sorts(List.of(Sort.asc("name"), Sort.asc("id")), pageable);
+        Assertions.assertEquals("(name < Ada or (name = Ada and id < 3))",
+                KeysetPagination.condition(sorts, pageable, FACTORY));
+    }
+
+    @Test
+    public void shouldReturnNullConditionWithoutCursor() {
+        Assertions.assertNull(KeysetPagination.condition(List.of(Sort.asc("name")), Pageable.ofSize(2), FACTORY));
+    }
+
+    @Test
+    public void shouldReturnContent() {
+        List<String> entities = List.of("Ada", "Otavio");
+        Assertions.assertEquals(entities, KeysetPagination.content(entities, Pageable.ofSize(2).afterKeyset("A")));
+        Assertions.assertEquals(List.of("Otavio", "Ada"),
+                KeysetPagination.content(entities, Pageable.ofSize(2).beforeKeyset("Z")));
+    }
+}
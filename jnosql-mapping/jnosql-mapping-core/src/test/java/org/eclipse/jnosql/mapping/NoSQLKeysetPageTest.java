@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+class NoSQLKeysetPageTest {
+
+    private final Person ada = Person.builder().withName("Ada").withAge(10).build();
+
+    private final Person otavio = Person.builder().withName("Otavio").withAge(20).build();
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Pageable pageable = Pageable.ofSize(2);
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.of(null, pageable, Collections.emptyList()));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.of(Collections.emptyList(), null, Collections.emptyList()));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.of(Collections.emptyList(), pageable, null));
+        Assertions.assertThrows(NullPointerException.class, () -> NoSQLKeysetPage.cursor((Object[]) null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoCursorToEachEntity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                NoSQLKeysetPage.of(List.of(ada, otavio), Pageable.ofSize(2), List.of(NoSQLKeysetPage.cursor("Ada"))));
+    }
+
+    @Test
+    public void shouldReturnUnsupportedOperation() {
+        KeysetAwarePage<Person> page = page();
+        Assertions.assertThrows(UnsupportedOperationException.class, page::totalPages);
+        Assertions.assertThrows(UnsupportedOperationException.class, page::totalElements);
+    }
+
+    @Test
+    public void shouldReturnContent() {
+        KeysetAwarePage<Person> page = page();
+        Assertions.assertEquals(List.of(ada, otavio), page.content());
+        Assertions.assertTrue(page.hasContent());
+        Assertions.assertEquals(2, page.numberOfElements());
+        Assertions.assertEquals(ada, page.iterator().next());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> page.content().clear());
+    }
+
+    @Test
+    public void shouldReturnKeysetCursor() {
+        KeysetAwarePage<Person> page = page();
+        Pageable.Cursor cursor = page.getKeysetCursor(1);
+        Assertions.assertEquals(2, cursor.size());
+        Assertions.assertEquals("Otavio", cursor.getKeysetElement(0));
+        Assertions.assertEquals(20, cursor.getKeysetElement(1));
+    }
+
+    @Test
+    public void shouldReturnNextPageable() {
+        KeysetAwarePage<Person> page = page();
+        Pageable next = page.nextPageable();
+        Assertions.assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        Assertions.assertEquals(NoSQLKeysetPage.cursor("Otavio", 20), next.cursor());
+        Assertions.assertEquals(2, next.size());
+    }
+
+    @Test
+    public void shouldReturnPreviousPageable() {
+        KeysetAwarePage<Person> page = page();
+        Pageable previous = page.previousPageable();
+        Assertions.assertEquals(Pageable.Mode.CURSOR_PREVIOUS, previous.mode());
+        Assertions.assertEquals(NoSQLKeysetPage.cursor("Ada", 10), previous.cursor());
+    }
+
+    @Test
+    public void shouldReturnNullPageableWhenThereIsNoContent() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), Pageable.ofSize(2),
+                Collections.emptyList());
+        Assertions.assertFalse(page.hasContent());
+        Assertions.assertNull(page.nextPageable());
+        Assertions.assertNull(page.previousPageable());
+    }
+
+    @Test
+    public void shouldCompareCursor() {
+        Pageable.Cursor cursor = NoSQLKeysetPage.cursor("Ada", 10);
+        Assertions.assertEquals(NoSQLKeysetPage.cursor("Ada", 10), cursor);
+        Assertions.assertEquals(NoSQLKeysetPage.cursor("Ada", 10).hashCode(), cursor.hashCode());
+        Assertions.assertTrue(cursor.equals(Pageable.ofSize(1).afterKeyset("Ada", 10).cursor()));
+        Assertions.assertNotEquals(NoSQLKeysetPage.cursor("Ada"), cursor);
+        Assertions.assertNotEquals(NoSQLKeysetPage.cursor("Ada", 11), cursor);
+    }
+
+    @Test
+    public void shouldCopyCursorValues() {
+        Object[] keyset = {"Ada", 10};
+        Pageable.Cursor cursor = NoSQLKeysetPage.cursor(keyset);
+        keyset[0] = "Otavio";
+        Assertions.assertEquals("Ada", cursor.getKeysetElement(0));
+    }
+
+    private KeysetAwarePage<Person> page() {
+        return NoSQLKeysetPage.of(List.of(ada, otavio), Pageable.ofSize(2),
+                List.of(NoSQLKeysetPage.cursor("Ada", 10), NoSQLKeysetPage.cursor("Otavio", 20)));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class SingleValuedFieldsTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> SingleValuedFields.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> SingleValuedFields.of(entities).fields(null));
+    }
+
+    @Test
+    public void shouldReturnSingleValuedFields() {
+        Predicate<String> fields = SingleValuedFields.of(entities).fields("Person");
+        Assertions.assertTrue(fields.test("_id"));
+        Assertions.assertTrue(fields.test("name"));
+        Assertions.assertTrue(fields.test("age"));
+        Assertions.assertFalse(fields.test("phones"));
+        Assertions.assertFalse(fields.test("ignore"));
+    }
+
+    @Test
+    public void shouldNotReturnArrayField() {
+        Predicate<String> fields = SingleValuedFields.of(entities).fields("download");
+        Assertions.assertTrue(fields.test("_id"));
+        Assertions.assertFalse(fields.test("contents"));
+    }
+
+    @Test
+    public void shouldNotReturnFieldsWhenEntityIsNotFound() {
+        Predicate<String> fields = SingleValuedFields.of(entities).fields("Unknown");
+        Assertions.assertFalse(fields.test("name"));
+    }
+}
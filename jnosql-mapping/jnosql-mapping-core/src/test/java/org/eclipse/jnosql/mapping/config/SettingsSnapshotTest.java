@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import jakarta.data.exceptions.MappingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.DOCUMENT_DATABASE;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.DOCUMENT_PROVIDER;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC;
+
+class SettingsSnapshotTest {
+
+    @AfterEach
+    public void afterEach() {
+        System.clearProperty(DOCUMENT_DATABASE.get());
+        System.clearProperty(DOCUMENT_PROVIDER.get());
+        System.clearProperty(GRAPH_TRANSACTION_AUTOMATIC.get());
+        System.clearProperty("jnosql.snapshot.key");
+        SettingsSnapshot.refresh();
+    }
+
+    @Test
+    public void shouldReturnSameSnapshot() {
+        Assertions.assertSame(SettingsSnapshot.current(), SettingsSnapshot.current());
+    }
+
+    @Test
+    public void shouldBeAutomaticByDefault() {
+        Assertions.assertTrue(SettingsSnapshot.refresh().isGraphTransactionAutomatic());
+    }
+
+    @Test
+    public void shouldKeepValuesUntilRefresh() {
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        System.setProperty(DOCUMENT_DATABASE.get(), "library");
+        System.setProperty(GRAPH_TRANSACTION_AUTOMATIC.get(), "false");
+        Assertions.assertEquals(Optional.empty(), SettingsSnapshot.current().get(DOCUMENT_DATABASE));
+        Assertions.assertTrue(SettingsSnapshot.current().isGraphTransactionAutomatic());
+
+        SettingsSnapshot refreshed = SettingsSnapshot.refresh();
+        Assertions.assertNotSame(snapshot, refreshed);
+        Assertions.assertSame(refreshed, SettingsSnapshot.current());
+        Assertions.assertEquals(Optional.of("library"), refreshed.get(DOCUMENT_DATABASE));
+        Assertions.assertFalse(refreshed.isGraphTransactionAutomatic());
+    }
+
+    @Test
+    public void shouldKeepOnlyJNoSQLProperties() {
+        System.setProperty("jnosql.snapshot.key", "value");
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        assertThat(snapshot.settings().get("jnosql.snapshot.key")).contains("value");
+        assertThat(snapshot.settings().keySet()).allMatch(k -> k.startsWith(SettingsSnapshot.PREFIX));
+    }
+
+    @Test
+    public void shouldNotifyListeners() {
+        List<SettingsSnapshot> snapshots = new ArrayList<>();
+        Consumer<SettingsSnapshot> listener = snapshots::add;
+        SettingsSnapshot.addListener(listener);
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        SettingsSnapshot.removeListener(listener);
+        SettingsSnapshot.refresh();
+        assertThat(snapshots).containsExactly(snapshot);
+    }
+
+    @Test
+    public void shouldReturnType() {
+        System.setProperty(DOCUMENT_PROVIDER.get(), String.class.getName());
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        assertThat(snapshot.type(DOCUMENT_PROVIDER)).contains(String.class);
+        assertThat(snapshot.type(DOCUMENT_DATABASE)).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotFound() {
+        System.setProperty(DOCUMENT_PROVIDER.get(), "org.eclipse.jnosql.NotFound");
+        SettingsSnapshot snapshot = SettingsSnapshot.refresh();
+        Assertions.assertThrows(MappingException.class, () -> snapshot.type(DOCUMENT_PROVIDER));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> SettingsSnapshot.addListener(null));
+        Assertions.assertThrows(NullPointerException.class, () -> SettingsSnapshot.removeListener(null));
+        Assertions.assertThrows(NullPointerException.class, () -> SettingsSnapshot.current().get(null));
+    }
+}
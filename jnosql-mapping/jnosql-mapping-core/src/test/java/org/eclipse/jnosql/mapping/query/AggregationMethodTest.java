@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.query;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregationMethodTest {
+
+    private static final UnaryOperator<String> FIELD = UnaryOperator.identity();
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() throws NoSuchMethodException {
+        Method method = getMethod("sumSalary");
+        Assertions.assertThrows(NullPointerException.class, () -> AggregationMethod.of(null, FIELD));
+        Assertions.assertThrows(NullPointerException.class, () -> AggregationMethod.of(method, null));
+        Assertions.assertThrows(NullPointerException.class, () -> AggregationMethod.matches(null));
+    }
+
+    @Test
+    public void shouldMatch() {
+        Assertions.assertTrue(AggregationMethod.matches("sumSalary"));
+        Assertions.assertTrue(AggregationMethod.matches("sumSalaryByLanguage"));
+        Assertions.assertTrue(AggregationMethod.matches("countNameByAddress_City"));
+        Assertions.assertFalse(AggregationMethod.matches("summary"));
+        Assertions.assertFalse(AggregationMethod.matches("sum"));
+        Assertions.assertFalse(AggregationMethod.matches("findByName"));
+    }
+
+    @Test
+    public void shouldCreateWithoutGroup() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("sumSalary"), f -> "_" + f);
+        Assertions.assertEquals(Aggregation.sum("_salary"), method.aggregation());
+        Assertions.assertEquals(Optional.empty(), method.groupBy());
+    }
+
+    @Test
+    public void shouldCreateWithGroup() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("avgSalaryByAddress_City"), FIELD);
+        Assertions.assertEquals(Aggregation.avg("salary"), method.aggregation());
+        Assertions.assertEquals(Optional.of("address.city"), method.groupBy());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIsNotAggregation() {
+        Assertions.assertThrows(MappingException.class, () -> AggregationMethod.of(getMethod("summary"), FIELD));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsParameter() {
+        Assertions.assertThrows(MappingException.class, () -> AggregationMethod.of(
+                DevRepository.class.getMethod("maxAge", String.class), FIELD));
+    }
+
+    @Test
+    public void shouldCreateWhenFieldsBelongToTheEntity() throws NoSuchMethodException {
+        Set<String> fields = Set.of("salary", "address");
+        AggregationMethod method = AggregationMethod.of(getMethod("avgSalaryByAddress_City"), fields::contains, FIELD);
+        Assertions.assertEquals(Aggregation.avg("salary"), method.aggregation());
+        Assertions.assertEquals(Optional.of("address.city"), method.groupBy());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFieldIsNotFromTheEntity() {
+        Set<String> fields = Set.of("salary", "language");
+        Assertions.assertThrows(MappingException.class, () -> AggregationMethod.of(getMethod("countActive"),
+                fields::contains, FIELD));
+        Assertions.assertThrows(MappingException.class, () -> AggregationMethod.of(getMethod("avgSalaryByAddress_City"),
+                fields::contains, FIELD));
+        Assertions.assertThrows(NullPointerException.class, () -> AggregationMethod.of(getMethod("sumSalary"),
+                null, FIELD));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenGroupIsNotMap() {
+        Assertions.assertThrows(MappingException.class, () -> AggregationMethod.of(getMethod("minSalaryByLanguage"),
+                FIELD));
+    }
+
+    @Test
+    public void shouldConvertValue() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("sumSalary"), FIELD);
+        Object result = method.result(Stream.of(Map.of("sum(salary)", 10L)));
+        assertThat(result).isInstanceOf(BigDecimal.class);
+        Assertions.assertEquals(0, BigDecimal.TEN.compareTo((BigDecimal) result));
+    }
+
+    @Test
+    public void shouldConvertPrimitive() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("countName"), FIELD);
+        Assertions.assertEquals(3, method.result(Stream.of(Map.of("count(name)", 3L))));
+    }
+
+    @Test
+    public void shouldConvertOptional() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("maxSalary"), FIELD);
+        Assertions.assertEquals(Optional.of(12D), method.result(Stream.of(Map.of("max(salary)", 12))));
+        Map<String, Object> row = new HashMap<>();
+        row.put("max(salary)", null);
+        Assertions.assertEquals(Optional.empty(), method.result(Stream.of(row)));
+    }
+
+    @Test
+    public void shouldConvertMap() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("sumSalaryByLanguage"), FIELD);
+        Object result = method.result(Stream.of(Map.of("language", "Java", "sum(salary)", 10L),
+                Map.of("language", "Go", "sum(salary)", 2.5D)));
+        assertThat(result).isInstanceOf(Map.class);
+        Map<?, ?> map = (Map<?, ?>) result;
+        Assertions.assertEquals(List.of("Java", "Go"), List.copyOf(map.keySet()));
+        Assertions.assertEquals(List.of(10D, 2.5D), List.copyOf(map.values()));
+    }
+
+    @Test
+    public void shouldKeepGroupOrder() throws NoSuchMethodException {
+        AggregationMethod method = AggregationMethod.of(getMethod("countNameByLanguage"), FIELD);
+        Map<?, ?> result = (Map<?, ?>) method.result(Stream.of(Map.of("language", "Java", "count(name)", 1L),
+                Map.of("language", "Go", "count(name)", 2L), Map.of("language", "Rust", "count(name)", 3L)));
+        Assertions.assertEquals(List.of("Java", "Go", "Rust"), List.copyOf(result.keySet()));
+        Assertions.assertEquals(List.of(1L, 2L, 3L), List.copyOf(result.values()));
+    }
+
+    private Method getMethod(String name) throws NoSuchMethodException {
+        return DevRepository.class.getMethod(name);
+    }
+
+    interface DevRepository {
+
+        BigDecimal sumSalary();
+
+        int countName();
+
+        Optional<Double> maxSalary();
+
+        Map<String, Double> sumSalaryByLanguage();
+
+        Map<String, Double> avgSalaryByAddress_City();
+
+        Map<String, Long> countNameByLanguage();
+
+        Double minSalaryByLanguage();
+
+        Integer maxAge(String name);
+
+        long countActive();
+
+        String summary();
+    }
+}
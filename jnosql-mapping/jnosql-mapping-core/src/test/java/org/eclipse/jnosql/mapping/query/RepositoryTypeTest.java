@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 class RepositoryTypeTest {
@@ -50,6 +52,18 @@ class RepositoryTypeTest {
         Assertions.assertEquals(RepositoryType.FIND_BY, RepositoryType.of(getMethod(DevRepository.class, "findByName")));
     }
 
+    @Test
+    public void shouldReturnFindFirstBy() throws NoSuchMethodException {
+        Assertions.assertEquals(RepositoryType.FIND_BY, RepositoryType.of(getMethod(DevRepository.class,
+                "findFirstByName")));
+        Assertions.assertEquals(RepositoryType.FIND_BY, RepositoryType.of(getMethod(DevRepository.class,
+                "findFirst3ByName")));
+        Assertions.assertEquals(RepositoryType.FIND_BY, RepositoryType.of(getMethod(DevRepository.class,
+                "findTop10ByOrderByName")));
+        Assertions.assertEquals(RepositoryType.UNKNOWN, RepositoryType.of(getMethod(DevRepository.class,
+                "findFirstName")));
+    }
+
     @Test
     public void shouldReturnDeleteBy() throws NoSuchMethodException {
         Assertions.assertEquals(RepositoryType.DELETE_BY, RepositoryType.of(getMethod(DevRepository.class, "deleteByName")));
@@ -80,6 +94,22 @@ class RepositoryTypeTest {
         Assertions.assertEquals(RepositoryType.EXISTS_BY, RepositoryType.of(getMethod(DevRepository.class, "existsByName")));
     }
 
+    @Test
+    public void shouldReturnAggregate() throws NoSuchMethodException {
+        Assertions.assertEquals(RepositoryType.AGGREGATE, RepositoryType.of(getMethod(DevRepository.class,
+                "sumSalaryByLanguage")));
+        Assertions.assertEquals(RepositoryType.AGGREGATE, RepositoryType.of(getMethod(DevRepository.class,
+                "maxSalary")));
+        Assertions.assertEquals(RepositoryType.UNKNOWN, RepositoryType.of(getMethod(DevRepository.class,
+                "summary")));
+    }
+
+    @Test
+    public void shouldReturnUnknownWhenAggregationHasParameters() throws NoSuchMethodException {
+        Assertions.assertEquals(RepositoryType.UNKNOWN, RepositoryType.of(DevRepository.class.getMethod("maxRetries",
+                int.class)));
+    }
+
     @Test
     public void shouldReturnOrder() throws NoSuchMethodException {
         Assertions.assertEquals(RepositoryType.ORDER_BY, RepositoryType.of(getMethod(DevRepository.class,
@@ -105,6 +135,14 @@ class RepositoryTypeTest {
 
         String findByName(String name);
 
+        String findFirstByName(String name);
+
+        List<String> findFirst3ByName(String name);
+
+        List<String> findTop10ByOrderByName();
+
+        String findFirstName();
+
         String deleteByName(String name);
 
         Stream<String> findAll();
@@ -118,6 +156,14 @@ class RepositoryTypeTest {
 
         void nope();
 
+        Map<String, Long> sumSalaryByLanguage();
+
+        Long maxSalary();
+
+        Long maxRetries(int limit);
+
+        String summary();
+
         @OrderBy("sample")
         String order();
 
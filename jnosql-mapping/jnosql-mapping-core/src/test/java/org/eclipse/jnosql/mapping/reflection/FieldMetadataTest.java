@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.nosql.Column;
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Embeddable;
 import org.eclipse.jnosql.mapping.VetedConverter;
@@ -152,6 +153,24 @@ public class FieldMetadataTest {
         assertEquals(forClass.barClass, barClass.read(forClass));
     }
 
+    @Test
+    public void shouldWriteValue() {
+        PrimitiveClass primitive = new PrimitiveClass();
+        EntityMetadata entityMetadata = classConverter.create(PrimitiveClass.class);
+
+        entityMetadata.fieldMapping("integer").orElseThrow().writeValue(primitive, Value.ofInt(10));
+        entityMetadata.fieldMapping("number").orElseThrow().writeValue(primitive, Value.of("20"));
+        entityMetadata.fieldMapping("decimal").orElseThrow().writeValue(primitive, Value.ofLong(30L));
+        entityMetadata.fieldMapping("active").orElseThrow().writeValue(primitive, Value.ofBoolean(true));
+        entityMetadata.fieldMapping("boxed").orElseThrow().writeValue(primitive, Value.ofInt(40));
+
+        assertEquals(10, primitive.integer);
+        assertEquals(20L, primitive.number);
+        assertEquals(30D, primitive.decimal);
+        assertEquals(true, primitive.active);
+        assertEquals(40, primitive.boxed);
+    }
+
     @Test
     public void shouldReadFromAnnotation(){
         EntityMetadata entityMetadata = classConverter.create(ForClass.class);
@@ -207,6 +226,24 @@ public class FieldMetadataTest {
     }
 
 
+    public static class PrimitiveClass {
+
+        @Column
+        private int integer;
+
+        @Column
+        private long number;
+
+        @Column
+        private double decimal;
+
+        @Column
+        private boolean active;
+
+        @Column
+        private Integer boxed;
+    }
+
     public static class ForClass {
 
         @Column("stringTypeAnnotation")
@@ -14,10 +14,13 @@
  */
 package org.eclipse.jnosql.mapping.repository.returns;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Slice;
 import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.repository.RepositoryReturn;
 import org.junit.jupiter.api.Assertions;
@@ -48,6 +51,8 @@ class PageRepositoryReturnTest {
     public void shouldReturnIsCompatible() {
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Page.class));
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Slice.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwarePage.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwareSlice.class));
         assertFalse(repositoryReturn.isCompatible(Object.class, Person.class));
         assertFalse(repositoryReturn.isCompatible(Person.class, Object.class));
     }
@@ -102,6 +107,44 @@ class PageRepositoryReturnTest {
         assertEquals(ada, content.get(0));
     }
 
+    @Test
+    public void shouldReturnKeysetPage() throws NoSuchMethodException {
+        Person ada = new Person("Ada");
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada");
+        KeysetAwarePage<Person> keysetPage = NoSQLKeysetPage.of(List.of(ada), pageable,
+                List.of(NoSQLKeysetPage.cursor("Ada")));
+
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withSingleResult(Optional::empty)
+                .withResult(Collections::emptyList)
+                .withSingleResultPagination(p -> Optional.empty())
+                .withStreamPagination(p -> Stream.of(ada))
+                .withMethodSource(PersonRepository.class.getMethod("findAll", Pageable.class))
+                .withPagination(pageable)
+                .withPage(p -> keysetPage)
+                .build();
+
+        assertEquals(keysetPage, repositoryReturn.convertPageable(dynamic));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetPageHasOffsetPageable() throws NoSuchMethodException {
+        Person ada = new Person("Ada");
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withSingleResult(Optional::empty)
+                .withResult(Collections::emptyList)
+                .withSingleResultPagination(p -> Optional.empty())
+                .withStreamPagination(p -> Stream.of(ada))
+                .withMethodSource(PersonRepository.class.getMethod("findAll", Pageable.class))
+                .withPagination(Pageable.ofPage(2))
+                .withPage(p -> page)
+                .build();
+
+        Assertions.assertThrows(DynamicQueryException.class, () -> repositoryReturn.convertPageable(dynamic));
+    }
+
     @Test
     public void shouldReturnErrorWhenUsePage() {
 
@@ -115,6 +158,11 @@ class PageRepositoryReturnTest {
         Assertions.assertThrows(DynamicQueryException.class, () -> repositoryReturn.convert(dynamic));
     }
 
+    private interface PersonRepository {
+
+        KeysetAwarePage<Person> findAll(Pageable pageable);
+    }
+
     private static class Person implements Comparable<Person> {
 
         private String name;
@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.util;
+
+import jakarta.data.repository.CrudRepository;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Money;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class MethodParamsBinderTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private EntityMetadata metadata;
+
+    private Method method;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        this.metadata = entities.get(Person.class);
+        this.method = PersonRepository.class.getDeclaredMethod("findByName", String.class);
+    }
+
+    @Test
+    public void shouldReturnNPEWhenThereIsNullParameter() {
+        Assertions.assertThrows(NullPointerException.class, () ->
+                MethodParamsBinder.of(null, method, metadata, converters));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                MethodParamsBinder.of(List.of("name"), null, metadata, converters));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                MethodParamsBinder.of(List.of("name"), method, null, converters));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                MethodParamsBinder.of(List.of("name"), method, metadata, null));
+
+        MethodParamsBinder binder = MethodParamsBinder.of(List.of("name"), method, metadata, converters);
+        Assertions.assertThrows(NullPointerException.class, () -> binder.bind(null, new Object[0]));
+        Assertions.assertThrows(NullPointerException.class, () -> binder.bind(Params.newParams(), null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsIsBiggerThanArgs() {
+        Params params = Params.newParams();
+        params.add("name");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+        Assertions.assertThrows(DynamicQueryException.class, () -> binder.bind(params, new Object[0]));
+    }
+
+    @Test
+    public void shouldBindParameter() {
+        Params params = Params.newParams();
+        Value value = params.add("name_1212");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+        binder.bind(params, new Object[]{"otavio"});
+
+        Assertions.assertEquals(1, binder.size());
+        Assertions.assertEquals("otavio", value.get());
+    }
+
+    @Test
+    public void shouldReuseBinderWithNewParams() {
+        Params params = Params.newParams();
+        params.add("name_1212");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+
+        Params ada = Params.newParams();
+        Value adaValue = ada.add("name_1212");
+        Params diana = Params.newParams();
+        Value dianaValue = diana.add("name_1212");
+
+        binder.bind(ada, new Object[]{"Ada"});
+        binder.bind(diana, new Object[]{"Diana"});
+
+        Assertions.assertEquals("Ada", adaValue.get());
+        Assertions.assertEquals("Diana", dianaValue.get());
+    }
+
+    @Test
+    public void shouldConvertByIndex() {
+        Params params = Params.newParams();
+        Value name = params.add("name_1");
+        Value age = params.add("age_2");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+        binder.bind(params, new Object[]{"otavio", 10L});
+
+        Assertions.assertEquals("otavio", name.get());
+        Assertions.assertEquals(10, age.get());
+    }
+
+    @Test
+    public void shouldConvertIterable() {
+        Params params = Params.newParams();
+        Value value = params.add("age");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+        binder.bind(params, new Object[]{Arrays.asList(1L, 2L)});
+
+        Assertions.assertEquals(Arrays.asList(1, 2), value.get());
+    }
+
+    @Test
+    public void shouldKeepValueWhenThereIsNoField() {
+        Params params = Params.newParams();
+        Value value = params.add("unknown_1212");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method, metadata, converters);
+        binder.bind(params, new Object[]{10L});
+
+        Assertions.assertEquals(10L, value.get());
+    }
+
+    @Test
+    public void shouldUseAttributeConverter() {
+        Params params = Params.newParams();
+        Value value = params.add("money_1212");
+        MethodParamsBinder binder = MethodParamsBinder.of(params.getParametersNames(), method,
+                entities.get(Worker.class), converters);
+        binder.bind(params, new Object[]{new Money("USD", BigDecimal.TEN)});
+        Assertions.assertEquals("USD 10", value.get());
+
+        binder.bind(params, new Object[]{"BRL 20"});
+        Assertions.assertEquals("BRL 20", value.get());
+    }
+
+    @Test
+    public void shouldConvertArgumentOfTheIndex() {
+        MethodParamsBinder binder = MethodParamsBinder.of(List.of("name_0", "money_1"), method,
+                entities.get(Worker.class), converters);
+        Assertions.assertEquals("Ada", binder.convert(0, "Ada"));
+        Assertions.assertEquals("USD 10", binder.convert(1, new Money("USD", BigDecimal.TEN)));
+        Assertions.assertEquals(List.of("USD 10", "BRL 20"), binder.convert(1, List.of(new Money("USD", BigDecimal.TEN),
+                "BRL 20")));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> binder.convert(2, "Ada"));
+    }
+
+    @Test
+    public void shouldConvertArguments() {
+        MethodParamsBinder binder = MethodParamsBinder.of(List.of("name_0", "money_1"), method,
+                entities.get(Worker.class), converters);
+        Object[] values = binder.convert(new Object[]{"Ada", new Money("USD", BigDecimal.TEN), "ignored"});
+        Assertions.assertArrayEquals(new Object[]{"Ada", "USD 10"}, values);
+        Assertions.assertThrows(DynamicQueryException.class, () -> binder.convert(new Object[]{"Ada"}));
+        Assertions.assertThrows(NullPointerException.class, () -> binder.convert(null));
+    }
+
+    interface PersonRepository extends CrudRepository<Person, Long> {
+
+        Optional<Person> findByName(String name);
+    }
+
+}
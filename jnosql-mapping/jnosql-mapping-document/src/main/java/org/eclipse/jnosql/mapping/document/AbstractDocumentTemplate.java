@@ -16,16 +16,32 @@ package org.eclipse.jnosql.mapping.document;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentConditionOptimizer;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.DocumentQueryParser;
+import org.eclipse.jnosql.communication.query.NormalizedQuery;
+import org.eclipse.jnosql.communication.query.QueryCache;
+import org.eclipse.jnosql.communication.query.QueryNormalizer;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
+import org.eclipse.jnosql.mapping.NoSQLPage;
+import org.eclipse.jnosql.mapping.SingleValuedFields;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -33,10 +49,13 @@ import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +71,8 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     private static final DocumentQueryParser PARSER = new DocumentQueryParser();
 
+    private static final int MAX_PREPARED_STATEMENTS = 1_000;
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentManager getManager();
@@ -68,6 +89,10 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     private DocumentObserverParser columnQueryParser;
 
+    private volatile PreparedQueries preparedQueries;
+
+    private volatile SingleValuedFields singleValuedFields;
+
 
     private DocumentObserverParser getObserver() {
         if (Objects.isNull(columnQueryParser)) {
@@ -76,6 +101,23 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         return columnQueryParser;
     }
 
+    private Optional<DocumentQuery> optimize(DocumentQuery query) {
+        return DocumentConditionOptimizer.optimize(query, singleValued(query.name()));
+    }
+
+    private Optional<DocumentDeleteQuery> optimize(DocumentDeleteQuery query) {
+        return DocumentConditionOptimizer.optimize(query, singleValued(query.name()));
+    }
+
+    private Predicate<String> singleValued(String entity) {
+        SingleValuedFields fields = singleValuedFields;
+        if (fields == null) {
+            fields = SingleValuedFields.of(getEntities());
+            singleValuedFields = fields;
+        }
+        return fields.fields(entity);
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
@@ -121,7 +163,7 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
-        getManager().delete(query);
+        optimize(query).ifPresent(getManager()::delete);
     }
 
     @Override
@@ -130,14 +172,51 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         return executeQuery(query);
     }
 
+    @Override
+    public <T> Page<T> select(DocumentQuery query, Pageable pageable) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageable, "pageable is required");
+        if (!KeysetPagination.isKeyset(pageable)) {
+            DocumentQuery page = new MappingDocumentQuery(query.sorts(), pageable.size(), NoSQLPage.skip(pageable),
+                    query.condition().orElse(null), query.name());
+            return NoSQLPage.of(this.<T>executeQuery(page).toList(), pageable);
+        }
+        return selectKeyset(query, pageable);
+    }
+
+    @Override
+    public <T> KeysetAwarePage<T> selectKeyset(DocumentQuery query, Pageable pageable) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageable, "pageable is required");
+        long skip = KeysetPagination.isKeyset(pageable) ? 0 : NoSQLPage.skip(pageable);
+        List<Sort> sorts = KeysetPagination.sorts(query.sorts(), pageable);
+        DocumentCondition keyset = KeysetPagination.condition(sorts, pageable, DocumentKeysetCondition.INSTANCE);
+        DocumentCondition condition = query.condition()
+                .map(c -> keyset == null ? c : DocumentCondition.and(c, keyset))
+                .orElse(keyset);
+        DocumentQuery page = new MappingDocumentQuery(sorts, pageable.size(), skip, condition, query.name());
+        List<DocumentEntity> entities = KeysetPagination.content(optimize(page)
+                .map(q -> getManager().select(q).toList()).orElseGet(List::of), pageable);
+        List<Pageable.Cursor> cursors = entities.stream().map(e -> cursor(e, sorts)).toList();
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        List<T> content = entities.stream().map(function).peek(getEventManager()::firePostEntity).toList();
+        return NoSQLKeysetPage.of(content, pageable, cursors);
+    }
+
     @Override
     public boolean exists(DocumentQuery query) {
-        return getManager().exists(query);
+        return optimize(query).map(getManager()::exists).orElse(false);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> aggregate(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().aggregate(query).map(DocumentEntity::toMap);
     }
 
     @Override
     public long count(DocumentQuery query) {
-        return getManager().count(query);
+        return optimize(query).map(getManager()::count).orElse(0L);
     }
 
     @Override
@@ -189,6 +268,12 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
+        if (QueryNormalizer.isEnabled()) {
+            Optional<PreparedStatement> statement = normalized(query);
+            if (statement.isPresent()) {
+                return statement.get().result();
+            }
+        }
         return PARSER.query(query, getManager(), getObserver()).map(c -> getConverter().toEntity(c));
     }
 
@@ -207,9 +292,37 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
+    private Optional<PreparedStatement> normalized(String query) {
+        Optional<NormalizedQuery> normalized = QueryNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        PreparedStatement statement;
+        try {
+            statement = prepare(normalized.get().query());
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
+        normalized.get().params().forEach(statement::bind);
+        return Optional.of(statement);
+    }
+
     @Override
     public PreparedStatement prepare(String query) {
-        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        return prepareBatch(query);
+    }
+
+    @Override
+    public BatchPreparedStatement prepareBatch(String query) {
+        requireNonNull(query, "query is required");
+        DocumentManager manager = getManager();
+        PreparedQueries prepared = preparedQueries;
+        if (prepared == null || prepared.manager() != manager) {
+            prepared = new PreparedQueries(manager, QueryCache.of(q -> PARSER.prepare(q, manager, getObserver()),
+                    MAX_PREPARED_STATEMENTS));
+            preparedQueries = prepared;
+        }
+        return new DocumentPreparedStatement(prepared.statements().apply(query).newBinding(), getConverter());
     }
 
 
@@ -224,9 +337,18 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         return getManager().count(entityMetadata.name());
     }
 
+    private static Pageable.Cursor cursor(DocumentEntity entity, List<Sort> sorts) {
+        Object[] keyset = new Object[sorts.size()];
+        for (int index = 0; index < keyset.length; index++) {
+            keyset[index] = entity.find(sorts.get(index).property()).map(Document::get).orElse(null);
+        }
+        return NoSQLKeysetPage.cursor(keyset);
+    }
+
     private <T> Stream<T> executeQuery(DocumentQuery query) {
         requireNonNull(query, "query is required");
-        Stream<DocumentEntity> entities = getManager().select(query);
+        Stream<DocumentEntity> entities = optimize(query).map(getManager()::select)
+                .orElseGet(Stream::empty);
         Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
@@ -278,4 +400,9 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
             return t;
         };
     }
+
+    private record PreparedQueries(DocumentManager manager,
+                                   QueryCache<org.eclipse.jnosql.communication.document.DocumentPreparedStatement>
+                                           statements) {
+    }
 }
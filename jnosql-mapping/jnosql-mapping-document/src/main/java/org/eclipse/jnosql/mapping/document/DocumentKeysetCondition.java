@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+
+import java.util.List;
+
+enum DocumentKeysetCondition implements KeysetPagination.ConditionFactory<DocumentCondition> {
+
+    INSTANCE;
+
+    @Override
+    public DocumentCondition eq(String name, Object value) {
+        return DocumentCondition.eq(name, value);
+    }
+
+    @Override
+    public DocumentCondition gt(String name, Object value) {
+        return DocumentCondition.gt(name, value);
+    }
+
+    @Override
+    public DocumentCondition lt(String name, Object value) {
+        return DocumentCondition.lt(name, value);
+    }
+
+    @Override
+    public DocumentCondition and(List<DocumentCondition> conditions) {
+        return DocumentCondition.and(conditions.toArray(DocumentCondition[]::new));
+    }
+
+    @Override
+    public DocumentCondition or(List<DocumentCondition> conditions) {
+        return DocumentCondition.or(conditions.toArray(DocumentCondition[]::new));
+    }
+}
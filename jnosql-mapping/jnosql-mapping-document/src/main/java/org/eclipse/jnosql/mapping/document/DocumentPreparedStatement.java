@@ -14,13 +14,13 @@
  */
 package org.eclipse.jnosql.mapping.document;
 
-import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
-final class DocumentPreparedStatement implements PreparedStatement {
+final class DocumentPreparedStatement implements BatchPreparedStatement {
 
     private final org.eclipse.jnosql.communication.document.DocumentPreparedStatement preparedStatement;
 
@@ -34,7 +34,7 @@ final class DocumentPreparedStatement implements PreparedStatement {
     }
 
     @Override
-    public PreparedStatement bind(String name, Object value) {
+    public BatchPreparedStatement bind(String name, Object value) {
         preparedStatement.bind(name, value);
         return this;
     }
@@ -49,4 +49,21 @@ final class DocumentPreparedStatement implements PreparedStatement {
         Optional<DocumentEntity> singleResult = preparedStatement.singleResult();
         return singleResult.map(converter::toEntity);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchPreparedStatement addBatch() {
+        preparedStatement.addBatch();
+        return this;
+    }
+
+    @Override
+    public BatchPreparedStatement batchSize(int batchSize) {
+        preparedStatement.batchSize(batchSize);
+        return this;
+    }
+
+    @Override
+    public <T> Stream<T> executeBatch() {
+        return preparedStatement.executeBatch().map(converter::toEntity);
+    }
+}
@@ -17,10 +17,15 @@
 package org.eclipse.jnosql.mapping.document;
 
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Pageable;
 import jakarta.nosql.document.DocumentTemplate;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -47,6 +52,40 @@ public interface JNoSQLDocumentTemplate extends DocumentTemplate {
      */
     <T> Stream<T> select(DocumentQuery query);
 
+    /**
+     * Returns a page from the query. The query sorts define the order of the entities; the
+     * {@link Pageable#sorts()} are not applied, thus, include them at the query.
+     * With an offset pageable, the page skips the entities of the previous pages. With a keyset pageable, e.g.:
+     * {@link Pageable#afterKeysetCursor(Pageable.Cursor)}, the condition after, or before, the cursor at the order
+     * of the sorts is added to the query condition, thus, the page does not read the previous pages, and the page
+     * is a {@link KeysetAwarePage} that has the cursor of each entity.
+     *
+     * @param query    the query
+     * @param pageable the pageable
+     * @param <T>      the instance type
+     * @return the page
+     * @throws NullPointerException                     when there is null parameter
+     * @throws jakarta.data.exceptions.MappingException when the pageable is a keyset one and the query has no sort
+     * @see JNoSQLDocumentTemplate#selectKeyset(DocumentQuery, Pageable)
+     */
+    <T> Page<T> select(DocumentQuery query, Pageable pageable);
+
+    /**
+     * Returns a page from the query that has the cursor of each entity. The query sorts define the order of the
+     * entities and the cursor has a value to each sort. With a keyset pageable, the condition after, or before, the
+     * cursor is added to the query condition; with an offset pageable, e.g.: the first page, the page skips the
+     * entities of the previous pages, and the {@link KeysetAwarePage#nextPageable()} continues from the cursor.
+     *
+     * @param query    the query
+     * @param pageable the pageable
+     * @param <T>      the instance type
+     * @return the page
+     * @throws NullPointerException                     when there is null parameter
+     * @throws jakarta.data.exceptions.MappingException when the query has no sort
+     * @see org.eclipse.jnosql.mapping.KeysetPagination
+     */
+    <T> KeysetAwarePage<T> selectKeyset(DocumentQuery query, Pageable pageable);
+
     /**
      * Returns the number of items in the collection that match a specified query.
      *
@@ -65,6 +104,28 @@ public interface JNoSQLDocumentTemplate extends DocumentTemplate {
      */
     boolean exists(DocumentQuery query);
 
+    /**
+     * Returns the aggregated rows from a query that has aggregations, e.g.: the sum of a field by another field.
+     * Each row has the group by fields and the {@link org.eclipse.jnosql.communication.Aggregation#alias()} of the
+     * aggregations as keys.
+     *
+     * @param query the query with aggregations
+     * @return the aggregated rows
+     * @throws NullPointerException when query is null
+     * @see org.eclipse.jnosql.communication.document.DocumentManager#aggregate(DocumentQuery)
+     */
+    Stream<Map<String, Object>> aggregate(DocumentQuery query);
+
+    /**
+     * Creates a {@link BatchPreparedStatement}, a {@link jakarta.nosql.PreparedStatement} that also runs
+     * the insert and update queries in batches
+     *
+     * @param query the query
+     * @return a {@link BatchPreparedStatement} instance
+     * @throws NullPointerException when the query is null
+     */
+    BatchPreparedStatement prepareBatch(String query);
+
     /**
      * Returns a single entity from query
      *
@@ -20,6 +20,7 @@ import org.eclipse.jnosql.communication.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
 import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -44,8 +45,9 @@ class DocumentManagerSupplier implements Supplier<DocumentManager> {
     @ApplicationScoped
     public DocumentManager get() {
         Settings settings = MicroProfileSettings.INSTANCE;
+        SettingsSnapshot snapshot = SettingsSnapshot.current();
 
-        DocumentConfiguration configuration = settings.get(DOCUMENT_PROVIDER, Class.class)
+        DocumentConfiguration configuration = snapshot.type(DOCUMENT_PROVIDER)
                 .filter(DocumentConfiguration.class::isAssignableFrom)
                 .map(c -> {
                     final Reflections reflections = CDI.current().select(Reflections.class).get();
@@ -54,7 +56,7 @@ class DocumentManagerSupplier implements Supplier<DocumentManager> {
 
         DocumentManagerFactory managerFactory = configuration.apply(settings);
 
-        Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
+        Optional<String> database = snapshot.get(DOCUMENT_DATABASE);
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + DOCUMENT_DATABASE.get()));
         DocumentManager manager = managerFactory.apply(db);
@@ -17,7 +17,10 @@ package org.eclipse.jnosql.mapping.document.query;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.KeysetPagination;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MappingDocumentQuery;
@@ -46,6 +49,16 @@ public abstract class AbstractDocumentRepository<T, K> implements PageableReposi
 
     protected abstract EntityMetadata getEntityMetadata();
 
+    /**
+     * The converters of the values of the cursor at the keyset pagination, by default, the values are kept as they
+     * are.
+     *
+     * @return the converters
+     */
+    protected Optional<Converters> getConverters() {
+        return Optional.empty();
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         Objects.requireNonNull(entity, "Entity is required");
@@ -110,6 +123,15 @@ public abstract class AbstractDocumentRepository<T, K> implements PageableReposi
     public Page findAll(Pageable pageable) {
         Objects.requireNonNull(pageable, "pageable is required");
         EntityMetadata metadata = getEntityMetadata();
+        if (KeysetPagination.isKeyset(pageable)) {
+            List<Sort> sorts = pageable.sorts().stream()
+                    .map(s -> new Sort(metadata.columnField(s.property()), s.isAscending(), s.ignoreCase()))
+                    .toList();
+            Pageable keyset = getConverters().map(c -> KeysetPagination.convert(pageable, sorts, metadata, c))
+                    .orElse(pageable);
+            return getTemplate().select(new MappingDocumentQuery(sorts, pageable.size(), 0, null, metadata.name()),
+                    keyset);
+        }
         DocumentQuery query = new MappingDocumentQuery(pageable.sorts(),
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null ,metadata.name());
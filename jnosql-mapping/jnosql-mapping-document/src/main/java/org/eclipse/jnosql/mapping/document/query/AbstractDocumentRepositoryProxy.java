@@ -56,6 +56,9 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             case EXISTS_BY -> {
                 return executeExistsByQuery(getQuery(method, args));
             }
+            case AGGREGATE -> {
+                return executeAggregation(method);
+            }
             case FIND_ALL -> {
                 DocumentQuery queryFindAll = select().from(getEntityMetadata().name()).build();
                 return executeFindByQuery(method, args, typeClass, updateQueryDynamically(args, queryFindAll));
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document.query;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.util.MethodParamsBinder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link DocumentCondition} of a repository method parsed once, where each parameter holds the index of its
+ * argument instead of a value. Each call creates a new condition from this template with the arguments converted by
+ * the {@link MethodParamsBinder}, thus, the template is never changed after its creation and might be shared across
+ * threads.
+ */
+final class ConditionTemplate {
+
+    private final DocumentCondition condition;
+
+    private final List<String> names;
+
+    private final MethodParamsBinder binder;
+
+    private ConditionTemplate(DocumentCondition condition, List<String> names, MethodParamsBinder binder) {
+        this.condition = condition;
+        this.names = names;
+        this.binder = binder;
+    }
+
+    /**
+     * Creates the condition to the call with the arguments bound
+     *
+     * @param args the method arguments
+     * @return the condition or {@link Optional#empty()} when the method has no condition
+     * @throws org.eclipse.jnosql.mapping.DynamicQueryException when there are fewer arguments than parameters
+     */
+    Optional<DocumentCondition> bind(Object[] args) {
+        Object[] values = binder.convert(args);
+        return Optional.ofNullable(condition).map(c -> bind(c, values));
+    }
+
+    private DocumentCondition bind(DocumentCondition condition, Object[] values) {
+        Document document = condition.document();
+        return switch (condition.condition()) {
+            case EQUALS -> DocumentCondition.eq(bind(document, values));
+            case GREATER_THAN -> DocumentCondition.gt(bind(document, values));
+            case GREATER_EQUALS_THAN -> DocumentCondition.gte(bind(document, values));
+            case LESSER_THAN -> DocumentCondition.lt(bind(document, values));
+            case LESSER_EQUALS_THAN -> DocumentCondition.lte(bind(document, values));
+            case IN -> DocumentCondition.in(bind(document, values));
+            case LIKE -> DocumentCondition.like(bind(document, values));
+            case BETWEEN -> DocumentCondition.between(bind(document, values));
+            case NOT -> bind((DocumentCondition) document.get(), values).negate();
+            case AND -> DocumentCondition.and(bind((List<?>) document.get(), values));
+            case OR -> DocumentCondition.or(bind((List<?>) document.get(), values));
+            default -> throw new QueryException("There is not support the type: " + condition.condition());
+        };
+    }
+
+    private DocumentCondition[] bind(List<?> conditions, Object[] values) {
+        return conditions.stream().map(c -> bind((DocumentCondition) c, values)).toArray(DocumentCondition[]::new);
+    }
+
+    private Document bind(Document document, Object[] values) {
+        return Document.of(document.name(), bind(document.get(), values));
+    }
+
+    private Object bind(Object value, Object[] values) {
+        if (value instanceof Parameter parameter) {
+            Object argument = values[parameter.index()];
+            return argument == null ? Params.newParams().add(names.get(parameter.index())) : argument;
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : iterable) {
+                elements.add(element instanceof Value item ? value(bind(item.get(), values)) : bind(element, values));
+            }
+            return elements;
+        }
+        return value;
+    }
+
+    private static Value value(Object value) {
+        return value instanceof Value item ? item : Value.of(value);
+    }
+
+    /**
+     * Creates the template from a condition parsed with the params of the method query
+     *
+     * @param condition      the condition, it might be null
+     * @param params         the params used to parse the condition, this method binds them
+     * @param method         the repository method
+     * @param entityMetadata the entity metadata
+     * @param converters     the converters
+     * @return a new {@link ConditionTemplate} instance
+     */
+    static ConditionTemplate of(DocumentCondition condition, Params params, Method method,
+                                EntityMetadata entityMetadata, Converters converters) {
+        List<String> names = List.copyOf(params.getParametersNames());
+        MethodParamsBinder binder = MethodParamsBinder.of(names, method, entityMetadata, converters);
+        for (int index = 0; index < names.size(); index++) {
+            params.bind(names.get(index), new Parameter(index));
+        }
+        return new ConditionTemplate(condition, names, binder);
+    }
+
+    private record Parameter(int index) {
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Optional;
 
 
 /**
@@ -46,8 +47,9 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new DocumentRepository(template, entityMetadata);
+        this.repository = new DocumentRepository(template, entityMetadata, converters);
         this.converters = converters;
+        compile(repositoryType);
     }
 
 
@@ -78,9 +80,12 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
 
         private final EntityMetadata entityMetadata;
 
-        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -93,6 +98,11 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
             return entityMetadata;
         }
 
+        @Override
+        protected Optional<Converters> getConverters() {
+            return Optional.of(converters);
+        }
+
 
     }
 }
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document.query;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.document.DocumentObserverParser;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.communication.document.DocumentQueryParams;
+import org.eclipse.jnosql.communication.document.SelectQueryParser;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.lang.reflect.Method;
+
+/**
+ * The find, count and exists repository method compiled once: the method name parsed and converted to a
+ * {@link DocumentQuery} template, whose condition is a {@link ConditionTemplate}.
+ * Each call creates its own {@link DocumentQuery} from the template with the arguments bound, thus, it might be shared
+ * across threads.
+ */
+final class SelectMethodPlan {
+
+    private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
+
+    private final DocumentQuery query;
+
+    private final ConditionTemplate condition;
+
+    private SelectMethodPlan(DocumentQuery query, ConditionTemplate condition) {
+        this.query = query;
+        this.condition = condition;
+    }
+
+    /**
+     * Creates the {@link DocumentQuery} to the call with the arguments bound
+     *
+     * @param args the method arguments
+     * @return the {@link DocumentQuery} to the call
+     */
+    DocumentQuery apply(Object[] args) {
+        DocumentQuery.DocumentQueryBuilder builder = DocumentQuery.builder(query.documents().toArray(String[]::new))
+                .from(query.name())
+                .sort(query.sorts().toArray(Sort[]::new))
+                .skip(query.skip())
+                .limit(query.limit());
+        condition.bind(args).ifPresent(builder::where);
+        return builder.build();
+    }
+
+    static SelectMethodPlan of(Method method, EntityMetadata entityMetadata, Converters converters,
+                               DocumentObserverParser parser) {
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, entityMetadata.name());
+        DocumentQueryParams queryParams = SELECT_PARSER.apply(query, parser);
+        DocumentQuery template = queryParams.query();
+        return new SelectMethodPlan(template, ConditionTemplate.of(template.condition().orElse(null),
+                queryParams.params(), method, entityMetadata, converters));
+    }
+}
@@ -14,18 +14,26 @@
  */
 package org.eclipse.jnosql.mapping.document;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.BatchPreparedStatement;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.document.entities.Job;
 import org.eclipse.jnosql.mapping.document.entities.Movie;
 import org.eclipse.jnosql.mapping.document.entities.Person;
@@ -43,11 +51,15 @@ import org.mockito.Mockito;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.builder;
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -265,6 +277,31 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).count(query);
     }
 
+    @Test
+    public void shouldNotReachManagerWhenConditionCannotMatch() {
+        DocumentQuery query = select().from("Person").where("age").eq(10).and("age").eq(20).build();
+        assertThat(template.count(query)).isZero();
+        assertThat(template.<Person>select(query)).isEmpty();
+        assertThat(template.exists(query)).isFalse();
+        Mockito.verifyNoInteractions(managerMock);
+    }
+
+    @Test
+    public void shouldNotMergeConditionsOfFieldsThatAreNotSingleValued() {
+        DocumentQuery query = select().from("Person").where("phones").eq("123").and("phones").eq("456").build();
+        template.count(query);
+        verify(managerMock).count(query);
+    }
+
+    @Test
+    public void shouldOptimizeCondition() {
+        DocumentQuery query = select().from("Person").where("age").gt(10).and("age").gt(15).build();
+        template.count(query);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).count(captor.capture());
+        assertThat(captor.getValue().condition()).contains(DocumentCondition.gt("age", 15));
+    }
+
     @Test
     public void shouldGroupBy() {
         DocumentQuery query = select().from("Person").where("age").gt(10)
@@ -273,6 +310,137 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).count(query);
     }
 
+    @Test
+    public void shouldAggregate() {
+        DocumentQuery query = builder("age").from("Person").aggregate(Aggregation.count()).groupBy("age")
+                .build();
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("age", 10);
+        entity.add("count(*)", 2L);
+        when(managerMock.aggregate(query)).thenReturn(Stream.of(entity));
+
+        List<Map<String, Object>> rows = template.aggregate(query).toList();
+        assertEquals(List.of(Map.of("age", 10, "count(*)", 2L)), rows);
+        verify(managerMock).aggregate(query);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenAggregateQueryIsNull() {
+        assertThrows(NullPointerException.class, () -> template.aggregate(null));
+    }
+
+    @Test
+    public void shouldSelectPage() {
+        DocumentQuery query = select().from("Person").where("age").gt(10).orderBy("name").asc().build();
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(entity("Ada", 20)));
+
+        Page<Person> page = template.select(query, Pageable.ofPage(3).size(2));
+        assertEquals(List.of("Ada"), page.content().stream().map(Person::getName).toList());
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery value = queryCaptor.getValue();
+        assertEquals(4, value.skip());
+        assertEquals(2, value.limit());
+        assertEquals(query.condition(), value.condition());
+        assertEquals(query.sorts(), value.sorts());
+    }
+
+    @Test
+    public void shouldSelectNextKeysetPage() {
+        DocumentQuery query = select().from("Person").where("age").gt(10)
+                .orderBy("name").asc().orderBy("age").desc().build();
+        when(managerMock.select(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(entity("Diana", 30), entity("Otavio", 20)));
+
+        Page<Person> page = template.select(query, Pageable.ofSize(2).afterKeyset("Ada", 40));
+        assertThat(page).isInstanceOf(KeysetAwarePage.class);
+        assertEquals(List.of("Diana", "Otavio"), page.content().stream().map(Person::getName).toList());
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery value = queryCaptor.getValue();
+        assertEquals(0, value.skip());
+        assertEquals(2, value.limit());
+        assertEquals(query.sorts(), value.sorts());
+        DocumentCondition keyset = DocumentCondition.or(DocumentCondition.gt("name", "Ada"),
+                DocumentCondition.and(DocumentCondition.eq("name", "Ada"), DocumentCondition.lt("age", 40)));
+        assertEquals(Optional.of(DocumentCondition.and(DocumentCondition.gt("age", 10), keyset)), value.condition());
+
+        KeysetAwarePage<Person> keysetPage = (KeysetAwarePage<Person>) page;
+        assertEquals(NoSQLKeysetPage.cursor("Diana", 30), keysetPage.getKeysetCursor(0));
+        Pageable next = keysetPage.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals(NoSQLKeysetPage.cursor("Otavio", 20), next.cursor());
+        assertEquals(NoSQLKeysetPage.cursor("Diana", 30), keysetPage.previousPageable().cursor());
+    }
+
+    @Test
+    public void shouldSelectPreviousKeysetPage() {
+        DocumentQuery query = select().from("Person").orderBy("name").asc().build();
+        when(managerMock.select(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(entity("Diana", 30), entity("Ada", 20)));
+
+        KeysetAwarePage<Person> page = (KeysetAwarePage<Person>) template.<Person>select(query,
+                Pageable.ofSize(2).beforeKeyset("Otavio"));
+        assertEquals(List.of("Ada", "Diana"), page.content().stream().map(Person::getName).toList());
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery value = queryCaptor.getValue();
+        assertEquals(List.of(Sort.desc("name")), value.sorts());
+        assertEquals(Optional.of(DocumentCondition.lt("name", "Otavio")), value.condition());
+        assertEquals(NoSQLKeysetPage.cursor("Ada"), page.previousPageable().cursor());
+        assertEquals(NoSQLKeysetPage.cursor("Diana"), page.nextPageable().cursor());
+    }
+
+    @Test
+    public void shouldSelectFirstKeysetPage() {
+        DocumentQuery query = select().from("Person").orderBy("name").asc().build();
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(entity("Ada", 20)));
+
+        KeysetAwarePage<Person> page = template.selectKeyset(query, Pageable.ofSize(1));
+        Pageable next = page.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals(NoSQLKeysetPage.cursor("Ada"), next.cursor());
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(Optional.empty(), queryCaptor.getValue().condition());
+        assertEquals(0, queryCaptor.getValue().skip());
+        assertEquals(1, queryCaptor.getValue().limit());
+    }
+
+    @Test
+    public void shouldNotSkipAtDeepKeysetPage() {
+        DocumentQuery query = select().from("Person").orderBy("name").asc().build();
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> Stream.of(entity("Ada", 20)));
+        Pageable offset = Pageable.ofPage(10_000).size(10);
+
+        template.select(query, offset);
+        template.select(query, offset.afterKeyset("Ada"));
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, times(2)).select(queryCaptor.capture());
+        assertEquals(99_990, queryCaptor.getAllValues().get(0).skip());
+        assertEquals(0, queryCaptor.getAllValues().get(1).skip());
+        assertEquals(10, queryCaptor.getAllValues().get(1).limit());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetPageHasNoSort() {
+        DocumentQuery query = select().from("Person").build();
+        assertThrows(MappingException.class, () -> template.select(query, Pageable.ofSize(2).afterKeyset("Ada")));
+        assertThrows(MappingException.class, () -> template.selectKeyset(query, Pageable.ofSize(2)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSelectPageHasNullParameter() {
+        DocumentQuery query = select().from("Person").build();
+        assertThrows(NullPointerException.class, () -> template.select(null, Pageable.ofSize(2)));
+        assertThrows(NullPointerException.class, () -> template.select(query, null));
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         DocumentEntity documentEntity = DocumentEntity.of("Person");
@@ -366,6 +534,34 @@ public class DefaultDocumentTemplateTest {
         assertEquals("Person", query.name());
     }
 
+    @Test
+    public void shouldReusePreparedStatement() {
+        PreparedStatement ada = template.prepare("select * from Person where name = @name");
+        PreparedStatement lovelace = template.prepare("select * from Person where name = @name");
+        lovelace.bind("name", "Lovelace");
+        ada.bind("name", "Ada");
+        ada.result();
+        lovelace.result();
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, times(2)).select(queryCaptor.capture());
+        assertEquals("Ada", queryCaptor.getAllValues().get(0).condition().orElseThrow().document().get());
+        assertEquals("Lovelace", queryCaptor.getAllValues().get(1).condition().orElseThrow().document().get());
+    }
+
+    @Test
+    public void shouldPrepareAgainWhenManagerChanges() {
+        DocumentManager otherManager = Mockito.mock(DocumentManager.class);
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock, otherManager);
+        DefaultDocumentTemplate template = new DefaultDocumentTemplate(converter, instance,
+                documentEventPersistManager, entities, converters);
+
+        template.prepare("select * from Person where name = @name").bind("name", "Ada").result();
+        template.prepare("select * from Person where name = @name").bind("name", "Ada").result();
+        verify(managerMock).select(any(DocumentQuery.class));
+        verify(otherManager).select(any(DocumentQuery.class));
+    }
+
     @Test
     public void shouldConvertEntity() {
         Stream<Movie> movies = template.query("select * from Movie");
@@ -386,6 +582,23 @@ public class DefaultDocumentTemplateTest {
         assertEquals("Person", query.name());
     }
 
+    @Test
+    public void shouldExecuteBatch() {
+        when(managerMock.insert(Mockito.<DocumentEntity>anyIterable())).thenAnswer(i -> i.getArgument(0));
+        BatchPreparedStatement statement = template.prepareBatch("insert Person (name = @name, age = @age)")
+                .batchSize(2);
+        statement.bind("age", 10);
+        List<Person> people = statement.bind("name", "Ada").addBatch()
+                .bind("name", "Lovelace").addBatch()
+                .bind("name", "Diana").addBatch()
+                .<Person>executeBatch().toList();
+
+        verify(managerMock, times(2)).insert(Mockito.<DocumentEntity>anyIterable());
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
+        assertThat(people).extracting(Person::getName).containsExactly("Ada", "Lovelace", "Diana");
+        assertThat(people).extracting(Person::getAge).containsOnly(10);
+    }
+
     @Test
     public void shouldCount() {
         template.count("Person");
@@ -410,5 +623,11 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).delete(delete().from("Person").build());
     }
 
-
+    private DocumentEntity entity(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("_id", 1L);
+        entity.add("name", name);
+        entity.add("age", age);
+        return entity;
+    }
 }
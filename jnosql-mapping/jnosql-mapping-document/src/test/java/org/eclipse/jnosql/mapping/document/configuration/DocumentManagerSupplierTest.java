@@ -18,6 +18,7 @@ import jakarta.data.exceptions.MappingException;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.MockProducer;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
@@ -52,6 +53,7 @@ class DocumentManagerSupplierTest {
     public void shouldGetManager() {
         System.setProperty(DOCUMENT_PROVIDER.get(), DocumentConfigurationMock.class.getName());
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(DocumentConfigurationMock.DocumentManagerMock.class);
@@ -62,6 +64,7 @@ class DocumentManagerSupplierTest {
     public void shouldUseDefaultConfigurationWhenProviderIsWrong() {
         System.setProperty(DOCUMENT_PROVIDER.get(), Integer.class.getName());
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
@@ -70,6 +73,7 @@ class DocumentManagerSupplierTest {
     @Test
     public void shouldUseDefaultConfiguration() {
         System.setProperty(DOCUMENT_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         DocumentManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(DocumentConfigurationMock2.DocumentManagerMock.class);
@@ -77,6 +81,7 @@ class DocumentManagerSupplierTest {
 
     @Test
     public void shouldReturnErrorWhenThereIsNotDatabase() {
+        SettingsSnapshot.refresh();
         Assertions.assertThrows(MappingException.class, () -> supplier.get());
     }
 }
@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -28,6 +30,7 @@ import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
@@ -609,6 +612,103 @@ class DocumentRepositoryProxyPageableTest {
         assertEquals(Document.of("name", "name"), condition.document());
     }
 
+    @Test
+    public void shouldFindByNameSortWithTheDatabaseName() {
+        personRepository.findByName("name", Sort.desc("id"));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.desc("_id"));
+    }
+
+    @Test
+    public void shouldFindByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("id")).afterKeyset("Ada", 10L);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(List.of(Person.builder().withName("Diana").build()),
+                pagination, List.of(NoSQLKeysetPage.cursor("Diana", 12L)));
+        when(template.<Person>selectKeyset(any(DocumentQuery.class), any(Pageable.class))).thenReturn(page);
+
+        KeysetAwareSlice<Person> slice = personRepository.findByAgeGreaterThanOrderByName(10, pagination);
+        assertEquals(page, slice);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).selectKeyset(captor.capture(), Mockito.eq(pagination));
+        DocumentQuery query = captor.getValue();
+        DocumentCondition condition = query.condition().orElseThrow();
+        assertEquals("Person", query.name());
+        assertEquals(GREATER_THAN, condition.condition());
+        assertEquals(Document.of("age", 10), condition.document());
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+    }
+
+    @Test
+    public void shouldFindFirstPageByKeyset() {
+        Pageable pagination = Pageable.ofSize(2);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), pagination,
+                Collections.emptyList());
+        when(template.<Person>selectKeyset(any(DocumentQuery.class), any(Pageable.class))).thenReturn(page);
+
+        assertEquals(page, personRepository.findByAgeGreaterThanOrderByName(10, pagination));
+        verify(template).selectKeyset(any(DocumentQuery.class), Mockito.eq(pagination));
+        verify(template, Mockito.never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldStreamByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).afterKeyset("Ada");
+        Person diana = Person.builder().withName("Diana").build();
+        when(template.<Person>selectKeyset(any(DocumentQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(List.of(diana), pagination, List.of(NoSQLKeysetPage.cursor("Diana"))));
+
+        Stream<Person> people = personRepository.findByNameAndAgeOrderByName("name", 10, pagination);
+        assertThat(people).containsExactly(diana);
+        verify(template).selectKeyset(any(DocumentQuery.class), Mockito.eq(pagination));
+        verify(template, Mockito.never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldFindAllByKeyset() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.desc("id")).afterKeyset(10L);
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), pagination,
+                Collections.emptyList());
+        when(template.<Person>select(any(DocumentQuery.class), any(Pageable.class))).thenReturn(page);
+
+        assertEquals(page, personRepository.findAll(pagination));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        DocumentQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertTrue(query.condition().isEmpty());
+        assertEquals(2, query.limit());
+        assertEquals(0, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.desc("_id"));
+    }
+
+    @Test
+    public void shouldConvertTheKeysetCursor() {
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("id")).afterKeyset("Ada", 10);
+        Pageable all = Pageable.ofSize(2).sortBy(Sort.desc("id")).beforeKeyset(12);
+        when(template.<Person>selectKeyset(any(DocumentQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(Collections.emptyList(), pagination, Collections.emptyList()));
+        when(template.<Person>select(any(DocumentQuery.class), any(Pageable.class)))
+                .thenReturn(NoSQLKeysetPage.of(Collections.emptyList(), all, Collections.emptyList()));
+
+        personRepository.findByAgeGreaterThanOrderByName(10, pagination);
+        personRepository.findAll(all);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(template).selectKeyset(any(DocumentQuery.class), captor.capture());
+        assertEquals(Pageable.Mode.CURSOR_NEXT, captor.getValue().mode());
+        assertEquals(NoSQLKeysetPage.cursor("Ada", 10L), captor.getValue().cursor());
+        verify(template).select(any(DocumentQuery.class), captor.capture());
+        assertEquals(Pageable.Mode.CURSOR_PREVIOUS, captor.getValue().mode());
+        assertEquals(NoSQLKeysetPage.cursor(12L), captor.getValue().cursor());
+        assertEquals(2, captor.getValue().size());
+    }
+
     private Pageable getPageable() {
         return Pageable.ofPage(2).size(6);
     }
@@ -628,6 +728,8 @@ class DocumentRepositoryProxyPageableTest {
 
         Slice<Person> findByAge(String age, Pageable Pageable);
 
+        KeysetAwareSlice<Person> findByAgeGreaterThanOrderByName(Integer age, Pageable pageable);
+
         List<Person> findByNameAndAge(String name, Integer age, Pageable Pageable);
 
         Set<Person> findByAgeAndName(Integer age, String name, Pageable Pageable);
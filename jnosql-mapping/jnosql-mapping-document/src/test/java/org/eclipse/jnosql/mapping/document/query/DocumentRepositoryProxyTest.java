@@ -14,12 +14,14 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
 import jakarta.data.repository.Sort;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
+import org.eclipse.jnosql.communication.Aggregation;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
@@ -51,6 +53,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -245,6 +248,53 @@ class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindFirstByName() {
+        when(template.singleResult(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Optional.of(Person.builder().withName("Ada").build()));
+
+        Optional<Person> person = personRepository.findFirstByNameOrderByAge("Ada");
+        assertTrue(person.isPresent());
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).singleResult(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(1, query.limit());
+        assertEquals(0, query.skip());
+        assertEquals(List.of(Sort.asc("age")), query.sorts());
+        assertEquals(DocumentCondition.eq(Document.of("name", "Ada")), query.condition().orElseThrow());
+    }
+
+    @Test
+    void shouldFindTopByAge() {
+        when(template.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Stream.of(Person.builder().withName("Ada").build()));
+
+        List<Person> persons = personRepository.findTop10ByAgeGreaterThanOrderByAgeDesc(20);
+        assertEquals(1, persons.size());
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(10, query.limit());
+        assertEquals(List.of(Sort.desc("age")), query.sorts());
+        assertEquals(DocumentCondition.gt(Document.of("age", 20)), query.condition().orElseThrow());
+    }
+
+    @Test
+    void shouldFindFirstWithSort() {
+        when(template.select(Mockito.any(DocumentQuery.class))).thenReturn(Stream.empty());
+
+        personRepository.findFirst3ByName("Ada", Sort.asc("age"));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(3, query.limit());
+        assertEquals(List.of(Sort.asc("age")), query.sorts());
+    }
+
     @Test
     void shouldDeleteByName() {
         ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
@@ -680,8 +730,68 @@ class DocumentRepositoryProxyTest {
     }
 
 
+    @Test
+    void shouldAggregate() {
+        when(template.aggregate(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(Map.of("sum(age)", 30L)));
+
+        int result = personRepository.sumAge();
+        assertEquals(30, result);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).aggregate(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(List.of(Aggregation.sum("age")), query.aggregations());
+        assertTrue(query.groupBy().isEmpty());
+        assertFalse(query.condition().isPresent());
+    }
+
+    @Test
+    void shouldAggregateOptional() {
+        when(template.aggregate(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(Collections.singletonMap("avg(age)", null)));
+
+        assertTrue(personRepository.avgAge().isEmpty());
+    }
+
+    @Test
+    void shouldReturnErrorWhenAggregationFieldIsNotFromTheEntity() {
+        Assertions.assertThrows(MappingException.class, () -> personRepository.countActive());
+        verify(template, never()).aggregate(any());
+    }
+
+    @Test
+    void shouldAggregateByGroup() {
+        when(template.aggregate(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(Map.of("name", "Ada", "count(_id)", 2L),
+                        Map.of("name", "Poliana", "count(_id)", 1L)));
+
+        Map<String, Long> result = personRepository.countIdByName();
+        assertEquals(Map.of("Ada", 2L, "Poliana", 1L), result);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).aggregate(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(List.of(Aggregation.count("_id")), query.aggregations());
+        assertEquals(List.of("name"), query.groupBy());
+        assertEquals(List.of("name"), query.documents());
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long> {
 
+        Optional<Person> findFirstByNameOrderByAge(String name);
+
+        List<Person> findTop10ByAgeGreaterThanOrderByAgeDesc(Integer age);
+
+        List<Person> findFirst3ByName(String name, Sort sort);
+
+
+        int sumAge();
+
+        Optional<Double> avgAge();
+
+        Map<String, Long> countIdByName();
+
+        long countActive();
 
         long countByName(String name);
 
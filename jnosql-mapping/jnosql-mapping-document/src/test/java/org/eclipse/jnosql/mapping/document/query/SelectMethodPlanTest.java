@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document.query;
+
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
+import org.eclipse.jnosql.mapping.document.MockProducer;
+import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, DocumentEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class SelectMethodPlanTest {
+
+    @Inject
+    private EntitiesMetadata mappings;
+
+    @Inject
+    private Converters converters;
+
+    private EntityMetadata entityMetadata;
+
+    private RepositoryDocumentObserverParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        this.entityMetadata = mappings.get(Person.class);
+        this.parser = new RepositoryDocumentObserverParser(entityMetadata);
+    }
+
+    @Test
+    public void shouldCreateQueryToEachCall() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeAndName"), entityMetadata, converters, parser);
+
+        DocumentQuery ada = plan.apply(new Object[]{10L, "Ada"});
+        DocumentQuery diana = plan.apply(new Object[]{20L, "Diana"});
+
+        Assertions.assertNotSame(ada, diana);
+        assertEquals("Person", ada.name());
+        assertEquals(List.of(10, "Ada"), values(ada.condition().orElseThrow()));
+        assertEquals(List.of(20, "Diana"), values(diana.condition().orElseThrow()));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsMissedArgument() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeAndName"), entityMetadata, converters, parser);
+        Assertions.assertThrows(DynamicQueryException.class, () -> plan.apply(new Object[]{10L}));
+    }
+
+    @Test
+    public void shouldCreateDeleteQueryToEachCall() {
+        DeleteMethodPlan plan = DeleteMethodPlan.of(method("deleteByName"), entityMetadata, converters, parser);
+
+        DocumentDeleteQuery ada = plan.apply(new Object[]{"Ada"});
+        DocumentDeleteQuery diana = plan.apply(new Object[]{"Diana"});
+
+        assertEquals("Ada", ada.condition().map(DocumentCondition::document).map(Document::get).orElseThrow());
+        assertEquals("Diana", diana.condition().map(DocumentCondition::document).map(Document::get).orElseThrow());
+    }
+
+    @Test
+    public void shouldBindTheElementsOfBetweenAndIn() {
+        SelectMethodPlan plan = SelectMethodPlan.of(method("findByAgeBetweenAndNameIn"), entityMetadata, converters,
+                parser);
+
+        DocumentQuery query = plan.apply(new Object[]{10L, 20L, List.of("Ada", "Diana")});
+        DocumentQuery other = plan.apply(new Object[]{30L, 40L, List.of("Poliana")});
+
+        assertEquals(List.of(List.of(Value.of(10), Value.of(20)), List.of("Ada", "Diana")),
+                values(query.condition().orElseThrow()));
+        assertEquals(List.of(List.of(Value.of(30), Value.of(40)), List.of("Poliana")),
+                values(other.condition().orElseThrow()));
+    }
+
+    private List<Object> values(DocumentCondition condition) {
+        List<DocumentCondition> conditions = condition.document().get(new TypeReference<>() {
+        });
+        return conditions.stream().map(DocumentCondition::document)
+                .map(Document::value)
+                .map(Value::get).toList();
+    }
+
+    private Method method(String name) {
+        return Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    interface PersonRepository {
+
+        List<Person> findByAgeAndName(Long age, String name);
+
+        List<Person> findByAgeBetweenAndNameIn(Long from, Long to, List<String> names);
+
+        void deleteByName(String name);
+    }
+}
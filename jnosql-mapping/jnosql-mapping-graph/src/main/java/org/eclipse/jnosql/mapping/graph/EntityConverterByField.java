@@ -106,7 +106,7 @@ final class EntityConverterByField<T> implements Supplier<T> {
             Object attributeConverted = attributeConverter.convertToEntityAttribute((Y) value);
             field.write(instance, field.value(Value.of(attributeConverted)));
         } else {
-            field.write(instance, field.value(Value.of(value)));
+            field.writeValue(instance, Value.of(value));
         }
     }
 
@@ -16,13 +16,11 @@ package org.eclipse.jnosql.mapping.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
-import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import static org.eclipse.jnosql.mapping.config.MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC;
-
 /**
  * Utilitarian to {@link org.apache.tinkerpop.gremlin.structure.Transaction}
  */
@@ -72,14 +70,13 @@ final class GraphTransactionUtil {
     }
 
     /**
-     * Check if the transaction is enabled
+     * Check if the transaction is enabled, it reads the {@link SettingsSnapshot}, thus, a change of the property
+     * after the container startup is visible after {@link SettingsSnapshot#refresh()}
      *
      * @return Check if the transaction is enabled
      */
     static boolean isAutomatic() {
-        return MicroProfileSettings.INSTANCE.get(GRAPH_TRANSACTION_AUTOMATIC, String.class)
-                .map(Boolean::valueOf)
-                .orElse(true);
+        return SettingsSnapshot.current().isGraphTransactionAutomatic();
     }
 
     private static boolean isNotLock() {
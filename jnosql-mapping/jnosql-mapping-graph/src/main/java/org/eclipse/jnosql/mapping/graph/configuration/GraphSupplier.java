@@ -21,6 +21,7 @@ import jakarta.enterprise.inject.spi.CDI;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.graph.GraphConfiguration;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -37,8 +38,9 @@ class GraphSupplier implements Supplier<Graph> {
     @ApplicationScoped
     public Graph get(){
         Settings settings = MicroProfileSettings.INSTANCE;
+        SettingsSnapshot snapshot = SettingsSnapshot.current();
 
-        GraphConfiguration configuration = settings.get(GRAPH_PROVIDER, Class.class)
+        GraphConfiguration configuration = snapshot.type(GRAPH_PROVIDER)
                 .filter(GraphConfiguration.class::isAssignableFrom)
                 .map(c -> {
                     final Reflections reflections = CDI.current().select(Reflections.class).get();
@@ -17,10 +17,16 @@ package org.eclipse.jnosql.mapping.graph.query;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.KeysetPagination;
 import org.eclipse.jnosql.mapping.NoSQLPage;
+import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
 
 import java.util.List;
 import java.util.Objects;
@@ -37,10 +43,16 @@ import static org.eclipse.jnosql.mapping.IdNotFoundException.KEY_NOT_FOUND_EXCEP
 
 abstract class AbstractGraphRepository<T, K> implements PageableRepository<T, K> {
 
+    private volatile RepositoryObserverParser parser;
+
     protected abstract GraphTemplate getTemplate();
 
     protected abstract EntityMetadata getEntityMetadata();
 
+    protected abstract Graph getGraph();
+
+    protected abstract GraphConverter getConverter();
+
 
     @Override
     public <S extends T> S save(S entity) {
@@ -98,6 +110,11 @@ abstract class AbstractGraphRepository<T, K> implements PageableRepository<T, K>
     public Page findAll(Pageable pageable) {
         Objects.requireNonNull(pageable, "pageable is required");
         EntityMetadata metadata = getEntityMetadata();
+        if (KeysetPagination.isKeyset(pageable)) {
+            GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V().hasLabel(metadata.name());
+            return SelectQueryConverter.keysetPage(traversal, pageable.sorts(), pageable, getParser(),
+                    getConverter()::toEntity);
+        }
 
         List<Object> entities = getTemplate().traversalVertex()
                 .hasLabel(metadata.type())
@@ -138,4 +155,13 @@ abstract class AbstractGraphRepository<T, K> implements PageableRepository<T, K>
             return entity.isPresent() ? Stream.of(entity.get()) : Stream.empty();
         };
     }
+
+    private RepositoryObserverParser getParser() {
+        RepositoryObserverParser observerParser = parser;
+        if (observerParser == null) {
+            observerParser = RepositoryObserverParser.of(getEntityMetadata());
+            parser = observerParser;
+        }
+        return observerParser;
+    }
 }
@@ -15,13 +15,16 @@
 package org.eclipse.jnosql.mapping.graph.query;
 
 import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.data.repository.Sort;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.KeysetPagination;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
@@ -29,15 +32,21 @@ import org.eclipse.jnosql.mapping.query.RepositoryType;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.repository.DynamicQueryMethodReturn;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
 import org.eclipse.jnosql.mapping.repository.ThrowingSupplier;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +57,13 @@ import java.util.stream.Stream;
  */
 abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
+    private static final Logger LOGGER = Logger.getLogger(AbstractGraphRepositoryProxy.class.getName());
+
+    private final Map<Method, GraphMethodPlan> selectPlans = new ConcurrentHashMap<>();
+
+    private final Map<Method, GraphMethodPlan> deletePlans = new ConcurrentHashMap<>();
+
+    private volatile RepositoryObserverParser parser;
 
     protected abstract EntityMetadata getEntityMetadata();
 
@@ -95,6 +111,9 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
             }
             case ORDER_BY ->
                     throw new MappingException("Eclipse JNoSQL has not support for method that has OrderBy annotation");
+            case AGGREGATE ->
+                    throw new MappingException("Eclipse JNoSQL has not support for aggregation method at Graph: "
+                            + method);
             case QUERY -> {
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
@@ -116,12 +135,19 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
             GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V().hasLabel(getEntityMetadata().name());
 
-            SelectQueryConverter.updateDynamicParameter(args, traversal, getEntityMetadata());
+            SelectQueryConverter.updateDynamicParameter(withoutPageable(args), traversal, getParser());
             return traversal.toStream()
                     .map(getConverter()::toEntity);
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        Function<Pageable, Page<?>> keysetPage = p -> {
+            GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V().hasLabel(getEntityMetadata().name());
+            SelectQueryConverter.updateDynamicParameter(args, traversal, getParser());
+            List<Sort> sorts = DynamicReturn.findSpecialParameters(args).sorts();
+            return SelectQueryConverter.keysetPage(traversal, sorts, p, getParser(), getConverter()::toEntity);
+        };
+
+        return converter(method, typeClass, querySupplier, keysetPage, args);
     }
 
     private Object existsBy(Method method, Object[] args) {
@@ -131,49 +157,61 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
     private Object countBy(Method method, Object[] args) {
 
-        Supplier<Long> querySupplier = () -> {
-            GraphQueryMethod queryMethod = new GraphQueryMethod(getEntityMetadata(),
-                    getGraph().traversal().V(),
-                    getConverters(), method, args);
-            return CountQueryConverter.INSTANCE.apply(queryMethod, args);
-        };
+        Supplier<Long> querySupplier = () -> CountQueryConverter.INSTANCE.apply(getSelectPlan(method),
+                getGraph().traversal().V(), args);
 
         return querySupplier.get();
     }
 
     private Object findBy(Method method, Object[] args, Class<?> typeClass) {
 
-        Supplier<Stream<?>> querySupplier = () -> {
-            GraphQueryMethod queryMethod = new GraphQueryMethod(getEntityMetadata(),
-                    getGraph().traversal().V(),
-                    getConverters(), method, args);
-
-            return SelectQueryConverter.INSTANCE.apply(queryMethod, args)
-                    .map(getConverter()::toEntity);
+        Supplier<Stream<?>> querySupplier = () -> SelectQueryConverter.INSTANCE.traversal(getSelectPlan(method),
+                        getGraph().traversal().V(), args, args).toStream()
+                .map(getConverter()::toEntity);
+
+        Function<Pageable, Page<?>> keysetPage = p -> {
+            GraphMethodPlan plan = getSelectPlan(method);
+            List<Sort> sorts = new ArrayList<>(plan.sorts());
+            sorts.addAll(DynamicReturn.findSpecialParameters(args).sorts());
+            GraphTraversal<Vertex, Vertex> traversal = SelectQueryConverter.INSTANCE.traversal(plan,
+                    getGraph().traversal().V(), args, withoutPageable(args));
+            return SelectQueryConverter.keysetPage(traversal, sorts, p, plan.parser(), getConverter()::toEntity);
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        return converter(method, typeClass, querySupplier, keysetPage, args);
     }
 
     private Object converter(Method method, Class<?> typeClass,
                              Supplier<Stream<?>> querySupplier,
+                             Function<Pageable, Page<?>> keysetPage,
                              Object[] args) {
 
         Supplier<Optional<?>> singleSupplier =
                 DynamicReturn.toSingleResult(method).apply(querySupplier);
 
+        boolean keysetAware = KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
         Function<Pageable, Page<?>> pageFunction = p -> {
+            if (keysetAware || KeysetPagination.isKeyset(p)) {
+                return keysetPage.apply(p);
+            }
             List<?> entities = querySupplier.get().toList();
             return NoSQLPage.of(entities, p);
         };
 
+        Function<Pageable, Stream<?>> streamFunction = p -> {
+            if (KeysetPagination.isKeyset(p)) {
+                return keysetPage.apply(p).content().stream();
+            }
+            return querySupplier.get();
+        };
+
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
                 .withResult(querySupplier)
                 .withSingleResult(singleSupplier)
                 .withPagination(DynamicReturn.findPageable(args))
-                .withStreamPagination(p -> querySupplier.get())
+                .withStreamPagination(streamFunction)
                 .withSingleResultPagination(p -> singleSupplier.get())
                 .withPage(pageFunction)
                 .build();
@@ -183,15 +221,60 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
     private Object executeDeleteMethod(Method method, Object[] args) {
 
-        GraphQueryMethod queryMethod = new GraphQueryMethod(getEntityMetadata(),
-                getGraph().traversal().V(),
-                getConverters(), method, args);
-
-        List<Vertex> vertices = DeleteQueryConverter.INSTANCE.apply(queryMethod);
+        List<Vertex> vertices = DeleteQueryConverter.INSTANCE.apply(getDeletePlan(method), getGraph().traversal().V(),
+                args);
         vertices.forEach(Vertex::remove);
         return Void.class;
     }
 
+    /**
+     * Compiles the find, count, exists and delete methods of the repository interface, thus, the calls do not
+     * parse the method name, convert the fields names nor look up the converters again. A method that cannot be
+     * compiled is skipped, and it will throw the error when it is called.
+     *
+     * @param repositoryType the repository interface
+     */
+    protected void compile(Class<?> repositoryType) {
+        for (Method method : repositoryType.getMethods()) {
+            try {
+                switch (RepositoryType.of(method)) {
+                    case FIND_BY, COUNT_BY, EXISTS_BY -> getSelectPlan(method);
+                    case DELETE_BY -> getDeletePlan(method);
+                    default -> {
+                    }
+                }
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.FINEST, exception, () -> "It could not compile the method: " + method);
+            }
+        }
+    }
+
+    private GraphMethodPlan getSelectPlan(Method method) {
+        return selectPlans.computeIfAbsent(method,
+                m -> GraphMethodPlan.select(m, getEntityMetadata(), getConverters(), getParser()));
+    }
+
+    private GraphMethodPlan getDeletePlan(Method method) {
+        return deletePlans.computeIfAbsent(method,
+                m -> GraphMethodPlan.delete(m, getEntityMetadata(), getConverters(), getParser()));
+    }
+
+    private RepositoryObserverParser getParser() {
+        RepositoryObserverParser observerParser = parser;
+        if (observerParser == null) {
+            observerParser = RepositoryObserverParser.of(getEntityMetadata());
+            parser = observerParser;
+        }
+        return observerParser;
+    }
+
+    private static Object[] withoutPageable(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        return Stream.of(args).filter(arg -> !(arg instanceof Pageable)).toArray();
+    }
+
     private Object unwrapInvocationTargetException(ThrowingSupplier<Object> supplier) throws Throwable {
         try {
             return supplier.get();
@@ -16,13 +16,11 @@ package org.eclipse.jnosql.mapping.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
-import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
 
 import java.util.function.BiFunction;
 
-final class CountQueryConverter extends AbstractQueryConvert implements BiFunction<GraphQueryMethod, Object[], Long> {
+final class CountQueryConverter implements BiFunction<GraphQueryMethod, Object[], Long> {
 
     static final CountQueryConverter INSTANCE = new CountQueryConverter();
 
@@ -31,15 +29,12 @@ final class CountQueryConverter extends AbstractQueryConvert implements BiFuncti
 
     @Override
     public Long apply(GraphQueryMethod graphQuery, Object[] params) {
-
-        SelectQuery query = SelectMethodProvider.INSTANCE.apply(graphQuery.getMethod(), graphQuery.getEntityName());
-        EntityMetadata mapping = graphQuery.getMapping();
-        GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::where, mapping);
-        traversal.hasLabel(mapping.name());
-        return traversal.count().next();
+        GraphMethodPlan plan = GraphMethodPlan.select(graphQuery.getMethod(), graphQuery.getMapping(),
+                graphQuery.getConverters(), RepositoryObserverParser.of(graphQuery.getMapping()));
+        return apply(plan, graphQuery.getTraversal(), graphQuery.getArgs());
     }
 
-
-
-
+    Long apply(GraphMethodPlan plan, GraphTraversal<Vertex, Vertex> traversal, Object[] args) {
+        return plan.filter(traversal, args).count().next();
+    }
 }
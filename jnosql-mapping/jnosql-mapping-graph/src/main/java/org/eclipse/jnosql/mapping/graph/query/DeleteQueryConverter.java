@@ -16,14 +16,12 @@ package org.eclipse.jnosql.mapping.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
-import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
 
 import java.util.List;
 import java.util.function.Function;
 
-final class DeleteQueryConverter extends AbstractQueryConvert implements Function<GraphQueryMethod, List<Vertex>> {
+final class DeleteQueryConverter implements Function<GraphQueryMethod, List<Vertex>> {
 
     static final DeleteQueryConverter INSTANCE = new DeleteQueryConverter();
 
@@ -32,11 +30,12 @@ final class DeleteQueryConverter extends AbstractQueryConvert implements Functio
 
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
-        DeleteMethodProvider provider = DeleteMethodProvider.INSTANCE;
-        DeleteQuery deleteQuery = provider.apply(graphQuery.getMethod(), graphQuery.getEntityName());
-        EntityMetadata mapping = graphQuery.getMapping();
-        GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, deleteQuery::where, mapping);
-        traversal.hasLabel(mapping.name());
-        return traversal.toList();
+        GraphMethodPlan plan = GraphMethodPlan.delete(graphQuery.getMethod(), graphQuery.getMapping(),
+                graphQuery.getConverters(), RepositoryObserverParser.of(graphQuery.getMapping()));
+        return apply(plan, graphQuery.getTraversal(), graphQuery.getArgs());
+    }
+
+    List<Vertex> apply(GraphMethodPlan plan, GraphTraversal<Vertex, Vertex> traversal, Object[] args) {
+        return plan.filter(traversal, args).toList();
     }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+
+import java.util.List;
+
+enum GraphKeysetCondition implements KeysetPagination.ConditionFactory<Traversal<?, ?>> {
+
+    INSTANCE;
+
+    @Override
+    public Traversal<?, ?> eq(String name, Object value) {
+        return __.has(name, P.eq(value));
+    }
+
+    @Override
+    public Traversal<?, ?> gt(String name, Object value) {
+        return __.has(name, P.gt(value));
+    }
+
+    @Override
+    public Traversal<?, ?> lt(String name, Object value) {
+        return __.has(name, P.lt(value));
+    }
+
+    @Override
+    public Traversal<?, ?> and(List<Traversal<?, ?>> conditions) {
+        return __.and(conditions.toArray(Traversal[]::new));
+    }
+
+    @Override
+    public Traversal<?, ?> or(List<Traversal<?, ?>> conditions) {
+        return __.or(conditions.toArray(Traversal[]::new));
+    }
+}
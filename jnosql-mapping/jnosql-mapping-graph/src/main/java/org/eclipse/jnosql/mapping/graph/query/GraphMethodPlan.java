@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph.query;
+
+import jakarta.data.repository.Sort;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.BooleanQueryValue;
+import org.eclipse.jnosql.communication.query.ConditionQueryValue;
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.QueryCondition;
+import org.eclipse.jnosql.communication.query.QueryValue;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.Where;
+import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
+import org.eclipse.jnosql.mapping.util.MethodParamsBinder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The find, count, exists and delete repository method compiled once: the method name parsed, the fields converted
+ * to the database names and each argument index bound to its field with the {@link MethodParamsBinder}, which
+ * resolves the {@link org.eclipse.jnosql.mapping.AttributeConverter}. A call only converts the arguments and
+ * creates the traversal, thus, it might be shared across threads.
+ */
+final class GraphMethodPlan {
+
+    private final Method method;
+
+    private final String label;
+
+    private final Function<Object[], GraphTraversal<Vertex, Vertex>> condition;
+
+    private final int arguments;
+
+    private final List<Sort> sorts;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final RepositoryObserverParser parser;
+
+    private GraphMethodPlan(Method method, String label, Function<Object[], GraphTraversal<Vertex, Vertex>> condition,
+                            int arguments, List<Sort> sorts, long skip, long limit,
+                            RepositoryObserverParser parser) {
+        this.method = method;
+        this.label = label;
+        this.condition = condition;
+        this.arguments = arguments;
+        this.sorts = sorts;
+        this.skip = skip;
+        this.limit = limit;
+        this.parser = parser;
+    }
+
+    /**
+     * Filters the traversal by the entity label and by the method condition with the arguments bound
+     *
+     * @param traversal the traversal
+     * @param args      the method arguments
+     * @return the traversal
+     * @throws DynamicQueryException when there are fewer arguments than the method condition has
+     */
+    GraphTraversal<Vertex, Vertex> filter(GraphTraversal<Vertex, Vertex> traversal, Object[] args) {
+        if (condition != null) {
+            if (arguments > 0 && (args == null || args.length < arguments)) {
+                throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
+                        method));
+            }
+            traversal.filter(condition.apply(args));
+        }
+        return traversal.hasLabel(label);
+    }
+
+    /**
+     * @return the sorts from the method name, with the entity fields names
+     */
+    List<Sort> sorts() {
+        return sorts;
+    }
+
+    long skip() {
+        return skip;
+    }
+
+    long limit() {
+        return limit;
+    }
+
+    /**
+     * @return the parser that converts the entity fields to the database names
+     */
+    RepositoryObserverParser parser() {
+        return parser;
+    }
+
+    static GraphMethodPlan select(Method method, EntityMetadata mapping, Converters converters,
+                                  RepositoryObserverParser parser) {
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, mapping.name());
+        Compiler compiler = new Compiler(method, mapping, converters, parser, query.where().orElse(null));
+        return new GraphMethodPlan(method, mapping.name(), compiler.condition, compiler.arguments, query.orderBy(),
+                query.skip(), query.limit(), parser);
+    }
+
+    static GraphMethodPlan delete(Method method, EntityMetadata mapping, Converters converters,
+                                  RepositoryObserverParser parser) {
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, mapping.name());
+        Compiler compiler = new Compiler(method, mapping, converters, parser, query.where().orElse(null));
+        return new GraphMethodPlan(method, mapping.name(), compiler.condition, compiler.arguments, List.of(), 0, 0,
+                parser);
+    }
+
+    /**
+     * Walks the condition in the same order the arguments are taken, thus, each value gets the next argument index.
+     */
+    private static final class Compiler {
+
+        private final RepositoryObserverParser parser;
+
+        private final List<String> names = new ArrayList<>();
+
+        private final MethodParamsBinder binder;
+
+        private final Function<Object[], GraphTraversal<Vertex, Vertex>> condition;
+
+        private final int arguments;
+
+        private Compiler(Method method, EntityMetadata mapping, Converters converters,
+                         RepositoryObserverParser parser, Where where) {
+            this.parser = parser;
+            this.condition = where == null ? null : compile(where.condition());
+            this.arguments = names.size();
+            this.binder = MethodParamsBinder.of(names, method, mapping, converters);
+        }
+
+        private Function<Object[], GraphTraversal<Vertex, Vertex>> compile(QueryCondition condition) {
+            Condition operator = condition.condition();
+            String name = parser.field(condition.name());
+            QueryValue<?> value = condition.value();
+            switch (operator) {
+                case EQUALS -> {
+                    Function<Object[], Object> argument = argument(name, value);
+                    return args -> __.has(name, P.eq(argument.apply(args)));
+                }
+                case GREATER_THAN -> {
+                    Function<Object[], Object> argument = argument(name, value);
+                    return args -> __.has(name, P.gt(argument.apply(args)));
+                }
+                case GREATER_EQUALS_THAN -> {
+                    Function<Object[], Object> argument = argument(name, value);
+                    return args -> __.has(name, P.gte(argument.apply(args)));
+                }
+                case LESSER_THAN -> {
+                    Function<Object[], Object> argument = argument(name, value);
+                    return args -> __.has(name, P.lt(argument.apply(args)));
+                }
+                case LESSER_EQUALS_THAN -> {
+                    Function<Object[], Object> argument = argument(name, value);
+                    return args -> __.has(name, P.lte(argument.apply(args)));
+                }
+                case BETWEEN -> {
+                    Function<Object[], Object> from = argument(name, value);
+                    Function<Object[], Object> to = argument(name, value);
+                    return args -> __.has(name, P.between(from.apply(args), to.apply(args)));
+                }
+                case IN -> {
+                    Function<Object[], Object> argument = argument(name, null);
+                    return args -> __.has(name, P.within((Collection<?>) argument.apply(args)));
+                }
+                case NOT -> {
+                    Function<Object[], GraphTraversal<Vertex, Vertex>> negated =
+                            compile(((ConditionQueryValue) value).get().get(0));
+                    return args -> __.not(negated.apply(args));
+                }
+                case AND -> {
+                    List<Function<Object[], GraphTraversal<Vertex, Vertex>>> conditions = compile(value);
+                    return args -> conditions.stream().map(c -> c.apply(args)).reduce(GraphTraversal::and)
+                            .orElseThrow(() -> new UnsupportedOperationException(
+                                    "There is an inconsistency at the AND operator"));
+                }
+                case OR -> {
+                    List<Function<Object[], GraphTraversal<Vertex, Vertex>>> conditions = compile(value);
+                    if (conditions.isEmpty()) {
+                        throw new UnsupportedOperationException("There is an inconsistency at the OR operator");
+                    }
+                    return args -> __.or(conditions.stream().map(c -> c.apply(args)).toArray(Traversal[]::new));
+                }
+                default -> throw new UnsupportedOperationException("There is not support to the type " + operator
+                        + " in graph");
+            }
+        }
+
+        private List<Function<Object[], GraphTraversal<Vertex, Vertex>>> compile(QueryValue<?> value) {
+            return ((ConditionQueryValue) value).get().stream().map(this::compile).toList();
+        }
+
+        /**
+         * Binds the value to the next argument index, the boolean value of the method name, e.g.: findByActiveTrue,
+         * does not take an argument.
+         */
+        private Function<Object[], Object> argument(String name, QueryValue<?> value) {
+            if (value instanceof BooleanQueryValue bool) {
+                Object constant = bool.get();
+                return args -> constant;
+            }
+            int index = names.size();
+            names.add(name + '_' + index);
+            if (value == null) {
+                return args -> {
+                    Object converted = binder.convert(index, args[index]);
+                    return converted instanceof Collection<?> ? converted : Collections.singletonList(converted);
+                };
+            }
+            return args -> binder.convert(index, args[index]);
+        }
+    }
+}
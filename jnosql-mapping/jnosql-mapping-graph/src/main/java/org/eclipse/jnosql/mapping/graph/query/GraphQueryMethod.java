@@ -16,19 +16,10 @@ package org.eclipse.jnosql.mapping.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.eclipse.jnosql.communication.query.BooleanQueryValue;
-import org.eclipse.jnosql.communication.query.QueryValue;
 import org.eclipse.jnosql.mapping.Converters;
-import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
-import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.lang.reflect.Method;
-import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-
-import static java.util.Collections.singletonList;
 
 final class GraphQueryMethod {
 
@@ -37,7 +28,6 @@ final class GraphQueryMethod {
     private final Object[] args;
     private final Converters converters;
     private final Method method;
-    private int counter = 0;
 
     GraphQueryMethod(EntityMetadata mapping,
                      GraphTraversal<Vertex, Vertex> traversal,
@@ -65,32 +55,11 @@ final class GraphQueryMethod {
         return traversal;
     }
 
-    public Object getValue(String name, QueryValue<?> value) {
-        if (value instanceof BooleanQueryValue) {
-            return BooleanQueryValue.class.cast(value).get();
-        }
-        return ConverterUtil.getValue(getValue(), mapping, name, converters);
-    }
-
-    public Collection<?> getInValue(String name) {
-        Object value = getValue();
-        if (value instanceof Iterable<?>) {
-            return (Collection<?>) StreamSupport.stream(((Iterable) value).spliterator(), false)
-                    .map(v -> ConverterUtil.getValue(v, mapping, name, converters))
-                    .collect(Collectors.toList());
-        }
-        return singletonList(ConverterUtil.getValue(value, mapping, name, converters));
+    public Converters getConverters() {
+        return converters;
     }
 
-    private Object getValue() {
-        if ((counter + 1) > args.length) {
-            throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                    method));
-        }
-        Object value = args[counter];
-        counter++;
-        return value;
+    public Object[] getArgs() {
+        return args;
     }
-
-
 }
@@ -57,10 +57,10 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
         this.graph = graph;
         this.converter = converter;
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new GraphRepository(template, entityMetadata);
+        this.repository = new GraphRepository(template, entityMetadata, graph, converter);
         this.template = template;
         this.converters = converters;
-
+        compile(repositoryType);
     }
 
     @Override
@@ -100,9 +100,16 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
 
         private final EntityMetadata entityMetadata;
 
-        GraphRepository(GraphTemplate template, EntityMetadata entityMetadata) {
+        private final Graph graph;
+
+        private final GraphConverter converter;
+
+        GraphRepository(GraphTemplate template, EntityMetadata entityMetadata, Graph graph,
+                        GraphConverter converter) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.graph = graph;
+            this.converter = converter;
         }
 
         @Override
@@ -115,5 +122,15 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
             return entityMetadata;
         }
 
+        @Override
+        protected Graph getGraph() {
+            return graph;
+        }
+
+        @Override
+        protected GraphConverter getConverter() {
+            return converter;
+        }
+
     }
 }
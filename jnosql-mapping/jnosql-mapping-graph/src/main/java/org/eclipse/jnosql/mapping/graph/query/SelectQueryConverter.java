@@ -14,25 +14,29 @@
  */
 package org.eclipse.jnosql.mapping.graph.query;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Sort;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.mapping.KeysetPagination;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.NoSQLPage;
-import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
 import org.eclipse.jnosql.mapping.repository.SpecialParameters;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.Order.asc;
 import static org.apache.tinkerpop.gremlin.process.traversal.Order.desc;
 
-final class SelectQueryConverter extends AbstractQueryConvert implements BiFunction<GraphQueryMethod, Object[], Stream<Vertex>> {
+final class SelectQueryConverter implements BiFunction<GraphQueryMethod, Object[], Stream<Vertex>> {
 
     static final SelectQueryConverter INSTANCE = new SelectQueryConverter();
 
@@ -41,16 +45,70 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
 
     @Override
     public Stream<Vertex> apply(GraphQueryMethod graphQuery, Object[] params) {
+        GraphMethodPlan plan = GraphMethodPlan.select(graphQuery.getMethod(), graphQuery.getMapping(),
+                graphQuery.getConverters(), RepositoryObserverParser.of(graphQuery.getMapping()));
+        return traversal(plan, graphQuery.getTraversal(), graphQuery.getArgs(), params).toStream();
+    }
 
-        SelectMethodProvider selectMethodFactory = SelectMethodProvider.INSTANCE;
-        SelectQuery query = selectMethodFactory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
-        EntityMetadata mapping = graphQuery.getMapping();
-        RepositoryObserverParser parser = RepositoryObserverParser.of(mapping);
-        GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::where, mapping);
-        traversal.hasLabel(mapping.name());
-        query.orderBy().forEach(getSort(traversal, parser));
-        updateDynamicParameter(params, traversal, query, parser);
-        return traversal.toStream();
+    /**
+     * Creates the traversal of the compiled method
+     *
+     * @param plan      the compiled method
+     * @param traversal the traversal to start from
+     * @param args      the arguments bound to the method condition
+     * @param params    the arguments with the special parameters, e.g.: {@link Sort} and {@link Pageable}
+     * @return the traversal
+     */
+    GraphTraversal<Vertex, Vertex> traversal(GraphMethodPlan plan, GraphTraversal<Vertex, Vertex> traversal,
+                                             Object[] args, Object[] params) {
+        RepositoryObserverParser parser = plan.parser();
+        plan.filter(traversal, args);
+        plan.sorts().forEach(getSort(traversal, parser));
+        updateDynamicParameter(params, traversal, plan.skip(), plan.limit(), parser);
+        return traversal;
+    }
+
+    /**
+     * Reads the page of a keyset pagination: it filters the vertices after, or before, the cursor of the pageable
+     * and orders them by all the sorts, instead of skipping the vertices of the previous pages. An offset pageable,
+     * e.g.: the first page, skips the previous pages and returns the cursors to continue from.
+     *
+     * @param traversal the traversal with the query conditions and without the pagination
+     * @param sorts     the sorts with the entity fields names
+     * @param pageable  the pageable
+     * @param parser    the parser that converts the entity fields to the database names
+     * @param converter the converter from vertex to entity
+     * @param <T>       the entity type
+     * @return the page with the cursor of each entity
+     */
+    static <T> KeysetAwarePage<T> keysetPage(GraphTraversal<Vertex, Vertex> traversal, List<Sort> sorts,
+                                             Pageable pageable, RepositoryObserverParser parser,
+                                             Function<Vertex, T> converter) {
+        List<Sort> fields = sorts.stream()
+                .map(s -> new Sort(parser.field(s.property()), s.isAscending(), s.ignoreCase()))
+                .toList();
+        List<Sort> keysetSorts = KeysetPagination.sorts(fields, pageable);
+        Traversal<?, ?> condition = KeysetPagination.condition(keysetSorts, pageable, GraphKeysetCondition.INSTANCE);
+        if (condition != null) {
+            traversal.filter(condition);
+        }
+        GraphTraversal<Vertex, Vertex> order = traversal.order();
+        keysetSorts.forEach(s -> order.by(s.property(), s.isAscending() ? asc : desc));
+        if (!KeysetPagination.isKeyset(pageable)) {
+            order.skip(NoSQLPage.skip(pageable));
+        }
+        List<Vertex> vertices = KeysetPagination.content(order.limit(pageable.size()).toList(), pageable);
+        List<Pageable.Cursor> cursors = vertices.stream().map(v -> cursor(v, fields)).toList();
+        List<T> entities = vertices.stream().map(converter).toList();
+        return NoSQLKeysetPage.of(entities, pageable, cursors);
+    }
+
+    private static Pageable.Cursor cursor(Vertex vertex, List<Sort> sorts) {
+        Object[] keyset = new Object[sorts.size()];
+        for (int index = 0; index < keyset.length; index++) {
+            keyset[index] = vertex.property(sorts.get(index).property()).orElse(null);
+        }
+        return NoSQLKeysetPage.cursor(keyset);
     }
 
 
@@ -65,23 +123,22 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
     }
 
 
-    static void updateDynamicParameter(Object[] args, GraphTraversal<Vertex, Vertex> traversal, EntityMetadata mapping) {
-        updateDynamicParameter(args, traversal, null, RepositoryObserverParser.of(mapping));
+    static void updateDynamicParameter(Object[] args, GraphTraversal<Vertex, Vertex> traversal,
+                                       RepositoryObserverParser parser) {
+        updateDynamicParameter(args, traversal, 0, 0, parser);
     }
 
 
     private static void updateDynamicParameter(Object[] args, GraphTraversal<Vertex, Vertex> traversal,
-                                               SelectQuery query, RepositoryObserverParser parser) {
+                                               long skip, long limit, RepositoryObserverParser parser) {
         SpecialParameters special = DynamicReturn.findSpecialParameters(args);
 
-        if (query != null) {
-            if (query.skip() > 0) {
-                traversal.skip(query.skip());
-            }
+        if (skip > 0) {
+            traversal.skip(skip);
+        }
 
-            if (query.limit() > 0) {
-                traversal.limit((int) query.limit());
-            }
+        if (limit > 0) {
+            traversal.limit((int) limit);
         }
         if (special.isEmpty()) {
             return;
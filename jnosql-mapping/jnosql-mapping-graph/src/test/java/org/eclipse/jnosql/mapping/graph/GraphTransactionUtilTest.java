@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -30,8 +31,10 @@ class GraphTransactionUtilTest {
     public void shouldReturnFalse() {
         synchronized (GraphTransactionUtil.class) {
             System.setProperty(GRAPH_TRANSACTION_AUTOMATIC.get(), Boolean.FALSE.toString());
+            SettingsSnapshot.refresh();
             Assertions.assertFalse(GraphTransactionUtil.isAutomatic());
             System.clearProperty(GRAPH_TRANSACTION_AUTOMATIC.get());
+            SettingsSnapshot.refresh();
         }
     }
 
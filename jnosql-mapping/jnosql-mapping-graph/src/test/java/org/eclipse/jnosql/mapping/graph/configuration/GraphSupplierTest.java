@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.graph.configuration;
 import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.graph.BookRepository;
 import org.eclipse.jnosql.mapping.graph.Transactional;
 import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
@@ -48,6 +49,7 @@ class GraphSupplierTest {
     @Test
     public void shouldGetGraph() {
         System.setProperty(GRAPH_PROVIDER.get(), GraphConfigurationMock.class.getName());
+        SettingsSnapshot.refresh();
         Graph graph = supplier.get();
         Assertions.assertNotNull(graph);
         assertThat(graph).isInstanceOf(GraphConfigurationMock.GraphMock.class);
@@ -57,6 +59,7 @@ class GraphSupplierTest {
     @Test
     public void shouldUseDefaultConfigurationWhenProviderIsWrong() {
         System.setProperty(GRAPH_PROVIDER.get(), Integer.class.getName());
+        SettingsSnapshot.refresh();
         Graph graph = supplier.get();
         Assertions.assertNotNull(graph);
         assertThat(graph).isInstanceOf(GraphConfigurationMock2.GraphMock.class);
@@ -64,6 +67,7 @@ class GraphSupplierTest {
 
     @Test
     public void shouldUseDefaultConfiguration() {
+        SettingsSnapshot.refresh();
         Graph graph = supplier.get();
         Assertions.assertNotNull(graph);
         assertThat(graph).isInstanceOf(GraphConfigurationMock2.GraphMock.class);
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph.query;
+
+import jakarta.inject.Inject;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.graph.BookRepository;
+import org.eclipse.jnosql.mapping.graph.Transactional;
+import org.eclipse.jnosql.mapping.graph.entities.Person;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.repository.RepositoryObserverParser;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, Transactional.class})
+@AddPackages(BookRepository.class)
+@AddExtensions({EntityMetadataExtension.class, GraphExtension.class})
+class GraphMethodPlanTest {
+
+    @Inject
+    private EntitiesMetadata mappings;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private Graph graph;
+
+    private EntityMetadata entityMetadata;
+
+    private RepositoryObserverParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        graph.traversal().E().toList().forEach(Edge::remove);
+        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Diana", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 40);
+        this.entityMetadata = mappings.get(Person.class);
+        this.parser = RepositoryObserverParser.of(entityMetadata);
+    }
+
+    @Test
+    public void shouldFilterToEachCall() {
+        GraphMethodPlan plan = GraphMethodPlan.select(method("findByAgeGreaterThanAndName"), entityMetadata,
+                converters, parser);
+
+        assertEquals(List.of("Diana"), names(plan, 10L, "Diana"));
+        assertEquals(List.of("Poliana"), names(plan, 30L, "Poliana"));
+        assertEquals(List.of(), names(plan, 30L, "Diana"));
+    }
+
+    @Test
+    public void shouldBindTheArgumentsInOrder() {
+        GraphMethodPlan plan = GraphMethodPlan.select(method("findByAgeBetweenAndNameIn"), entityMetadata,
+                converters, parser);
+
+        assertEquals(List.of("Diana"), names(plan, 10L, 35L, List.of("Diana", "Poliana")));
+        assertEquals(List.of("Poliana"), names(plan, 25L, 45L, List.of("Ada", "Poliana")));
+    }
+
+    @Test
+    public void shouldMatchEitherConditionOfOr() {
+        GraphMethodPlan plan = GraphMethodPlan.select(method("findByNameOrAge"), entityMetadata, converters, parser);
+
+        assertEquals(List.of("Ada", "Poliana"), names(plan, "Ada", 40));
+        assertEquals(List.of("Diana"), names(plan, "Diana", 30));
+        List<Object> chained = graph.traversal().V().filter(__.has("name", "Ada").or(__.has("age", 40)))
+                .values("name").toList();
+        assertEquals(List.of(), chained, "or() chained to the first predicate behaves like an AND");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsMissedArgument() {
+        GraphMethodPlan plan = GraphMethodPlan.select(method("findByAgeGreaterThanAndName"), entityMetadata,
+                converters, parser);
+        Assertions.assertThrows(DynamicQueryException.class, () -> names(plan, 10L));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNotSupported() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () ->
+                GraphMethodPlan.select(method("findByNameLike"), entityMetadata, converters, parser));
+    }
+
+    @Test
+    public void shouldFilterDelete() {
+        GraphMethodPlan plan = GraphMethodPlan.delete(method("deleteByName"), entityMetadata, converters, parser);
+
+        assertEquals(List.of("Ada"), names(plan, "Ada"));
+        assertEquals(List.of("Diana"), names(plan, "Diana"));
+    }
+
+    private List<String> names(GraphMethodPlan plan, Object... args) {
+        return plan.filter(graph.traversal().V(), args).<String>values("name").toList().stream().sorted().toList();
+    }
+
+    private Method method(String name) {
+        return Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    interface PersonRepository {
+
+        List<Person> findByAgeGreaterThanAndName(Long age, String name);
+
+        List<Person> findByAgeBetweenAndNameIn(Long from, Long to, List<String> names);
+
+        List<Person> findByNameOrAge(String name, Integer age);
+
+        List<Person> findByNameLike(String name);
+
+        void deleteByName(String name);
+    }
+}
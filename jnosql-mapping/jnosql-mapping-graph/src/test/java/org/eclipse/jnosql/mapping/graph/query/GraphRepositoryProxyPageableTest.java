@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.graph.query;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -26,6 +28,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.graph.BookRepository;
 import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
@@ -233,12 +236,52 @@ public class GraphRepositoryProxyPageableTest {
                 .contains("Otavio", "Poliana");
     }
 
+    @Test
+    public void shouldFindByKeyset() {
+        graph.addVertex(T.label, "Person", "name", "Rafael", "age", 15);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Lucas", "age", 3);
+
+        KeysetAwareSlice<Person> slice = personRepository.findByAgeGreaterThanOrderByName(5, Pageable.ofSize(2));
+        assertThat(slice.content()).map(Person::getName).containsExactly("Ada", "Otavio");
+
+        graph.addVertex(T.label, "Person", "name", "Bruno", "age", 40);
+        Pageable next = slice.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        slice = personRepository.findByAgeGreaterThanOrderByName(5, next);
+        assertThat(slice.content()).map(Person::getName).containsExactly("Poliana", "Rafael");
+
+        assertThat(personRepository.findByAgeGreaterThanOrderByName(5, slice.nextPageable()).content()).isEmpty();
+
+        slice = personRepository.findByAgeGreaterThanOrderByName(5, slice.previousPageable());
+        assertThat(slice.content()).map(Person::getName).containsExactly("Bruno", "Otavio");
+    }
+
+    @Test
+    public void shouldFindAllByKeyset() {
+        graph.addVertex(T.label, "Person", "name", "Rafael", "age", 15);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(3).sortBy(Sort.desc("age"), Sort.asc("name"))
+                .afterKeyset(30, "Ada"));
+        assertThat(page).isInstanceOf(KeysetAwarePage.class);
+        assertThat(page.content()).map(Person::getName).containsExactly("Otavio", "Poliana", "Rafael");
+        KeysetAwarePage<Person> keysetPage = (KeysetAwarePage<Person>) page;
+        assertEquals(NoSQLKeysetPage.cursor(15, "Rafael"), keysetPage.getKeysetCursor(2));
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long> {
 
         List<Person> findByName(String name, Pageable Pageable);
 
         List<Person> findByAgeGreaterThanOrderByName(Integer age, Limit limit);
 
+        KeysetAwareSlice<Person> findByAgeGreaterThanOrderByName(Integer age, Pageable pageable);
+
         List<Person> findByName(String name, Sort sort);
 
         List<Person> findByAgeGreaterThan(Integer age, Sort sort, Pageable pageable);
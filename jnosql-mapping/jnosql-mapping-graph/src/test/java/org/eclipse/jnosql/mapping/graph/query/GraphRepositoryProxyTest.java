@@ -210,6 +210,26 @@ class GraphRepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindFirstByName() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+
+        Optional<Person> person = personRepository.findFirstByNameOrderByAge("name");
+        assertThat(person).isPresent().get().extracting(Person::getAge).isEqualTo(20);
+    }
+
+    @Test
+    void shouldFindTopByAge() {
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 25);
+        graph.addVertex(T.label, "Person", "name", "Rafael", "age", 10);
+
+        List<Person> people = personRepository.findTop2ByAgeGreaterThanOrderByAgeDesc(15);
+        assertThat(people).map(Person::getName).containsExactly("Ada", "Poliana");
+    }
+
     @Test
     void shouldDeleteByName() {
         Vertex vertex = graph.addVertex(T.label, "Person", "name", "Ada", "age", 20);
@@ -517,6 +537,10 @@ class GraphRepositoryProxyTest {
 
         List<Person> findByActiveTrue();
 
+        Optional<Person> findFirstByNameOrderByAge(String name);
+
+        List<Person> findTop2ByAgeGreaterThanOrderByAgeDesc(Integer age);
+
         List<Person> findByActiveFalse();
 
         Long countByActiveTrue();
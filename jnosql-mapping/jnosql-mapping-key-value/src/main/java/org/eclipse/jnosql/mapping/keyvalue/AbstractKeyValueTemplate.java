@@ -22,12 +22,15 @@ import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +44,10 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    private static final int MAX_PREPARED_STATEMENTS = 1_000;
+
+    private volatile PreparedQueries preparedQueries;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -162,7 +169,29 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <T> PreparedStatement prepare(String query, Class<T> type) {
         requireNonNull(query, "query is required");
         requireNonNull(type, "type is required");
-        return new KeyValuePreparedStatement(getManager().prepare(query), type);
+        BucketManager manager = getManager();
+        PreparedQueries prepared = preparedQueries;
+        if (prepared == null || prepared.manager() != manager) {
+            prepared = new PreparedQueries(manager, QueryCache.of(q -> binding(manager, q), MAX_PREPARED_STATEMENTS));
+            preparedQueries = prepared;
+        }
+        return new KeyValuePreparedStatement(prepared.statements().apply(query).get(), type);
+    }
+
+    /**
+     * A statement is only shared when its newBinding returns a new instance, otherwise, the query is prepared on
+     * each call.
+     */
+    private static Supplier<org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement> binding(
+            BucketManager manager, String query) {
+        org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement statement = manager.prepare(query);
+        org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement binding = statement.newBinding();
+        if (binding == null || binding == statement) {
+            AtomicReference<org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement> first =
+                    new AtomicReference<>(statement);
+            return () -> Optional.ofNullable(first.getAndSet(null)).orElseGet(() -> manager.prepare(query));
+        }
+        return statement::newBinding;
     }
 
     @Override
@@ -202,4 +231,9 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
             return t;
         };
     }
+
+    private record PreparedQueries(
+            BucketManager manager,
+            QueryCache<Supplier<org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement>> statements) {
+    }
 }
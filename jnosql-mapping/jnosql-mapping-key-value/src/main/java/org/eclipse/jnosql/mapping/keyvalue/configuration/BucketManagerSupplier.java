@@ -20,6 +20,7 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -45,8 +46,9 @@ class BucketManagerSupplier implements Supplier<BucketManager> {
     public BucketManager get() {
 
         Settings settings = MicroProfileSettings.INSTANCE;
+        SettingsSnapshot snapshot = SettingsSnapshot.current();
 
-        KeyValueConfiguration configuration = settings.get(KEY_VALUE_PROVIDER, Class.class)
+        KeyValueConfiguration configuration = snapshot.type(KEY_VALUE_PROVIDER)
                 .filter(KeyValueConfiguration.class::isAssignableFrom)
                 .map(c -> {
                     final Reflections reflections = CDI.current().select(Reflections.class).get();
@@ -55,7 +57,7 @@ class BucketManagerSupplier implements Supplier<BucketManager> {
 
         BucketManagerFactory managerFactory = configuration.apply(settings);
 
-        Optional<String> database = settings.get(KEY_VALUE_DATABASE, String.class);
+        Optional<String> database = snapshot.get(KEY_VALUE_DATABASE);
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + KEY_VALUE_DATABASE.get()));
         BucketManager manager = managerFactory.apply(db);
@@ -336,6 +336,32 @@ public class DefaultKeyValueTemplateTest {
         assertEquals(12, singleResult.get());
     }
 
+    @Test
+    public void shouldPrepareOnce() {
+        org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement prepare = Mockito.mock(KeyValuePreparedStatement.class);
+        org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement binding = Mockito.mock(KeyValuePreparedStatement.class);
+        when(prepare.newBinding()).thenReturn(binding);
+        when(manager.prepare("get @id")).thenReturn(prepare);
+
+        template.prepare("get @id", Integer.class);
+        template.prepare("get @id", Integer.class);
+
+        Mockito.verify(manager, Mockito.times(1)).prepare("get @id");
+        Mockito.verify(prepare, Mockito.times(3)).newBinding();
+    }
+
+    @Test
+    public void shouldPrepareEachTimeWhenStatementIsNotShared() {
+        org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement prepare = Mockito.mock(KeyValuePreparedStatement.class,
+                Mockito.CALLS_REAL_METHODS);
+        when(manager.prepare("get @id")).thenReturn(prepare);
+
+        template.prepare("get @id", Integer.class);
+        template.prepare("get @id", Integer.class);
+
+        Mockito.verify(manager, Mockito.times(2)).prepare("get @id");
+    }
+
     @Test
     public void shouldUnsupportedExceptionOnSelect() {
         assertThrows(UnsupportedOperationException.class, ()-> template.select(Person.class));
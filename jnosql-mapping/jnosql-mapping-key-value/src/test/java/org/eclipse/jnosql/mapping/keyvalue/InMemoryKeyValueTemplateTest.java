@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.nosql.keyvalue.KeyValueTemplate;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.InMemoryKeyValueConfiguration;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.User;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class InMemoryKeyValueTemplateTest {
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Inject
+    private KeyValueEventPersistManager eventManager;
+
+    private BucketManagerFactory factory;
+
+    private KeyValueTemplate template;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new InMemoryKeyValueConfiguration().apply(Settings.builder().build());
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(factory.apply("users"));
+        template = new DefaultKeyValueTemplate(converter, instance, eventManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    public void shouldPutGetAndDelete() {
+        User ada = new User("ada", "Ada", 36);
+        template.put(List.of(ada, new User("poliana", "Poliana", 10)));
+        assertThat(template.get("ada", User.class)).contains(ada);
+        assertThat(template.find(User.class, "poliana")).map(User::getName).contains("Poliana");
+        assertThat(template.get(List.of("poliana", "none", "ada"), User.class)).extracting(User::getName)
+                .containsExactly("Poliana", "Ada");
+        template.delete(User.class, "ada");
+        assertThat(template.get("ada", User.class)).isEmpty();
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        template.put(new User("ada", "Ada", 36), Duration.ofMillis(1));
+        Thread.sleep(20L);
+        assertThat(template.get("ada", User.class)).isEmpty();
+    }
+}
@@ -18,6 +18,7 @@ import jakarta.data.exceptions.MappingException;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.config.SettingsSnapshot;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
 import org.eclipse.jnosql.mapping.keyvalue.MockProducer;
 import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
@@ -52,6 +53,7 @@ class BucketManagerSupplierTest {
     public void shouldGetBucketManager() {
         System.setProperty(KEY_VALUE_PROVIDER.get(), KeyValueConfigurationMock.class.getName());
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(KeyValueConfigurationMock.BucketManagerMock.class);
@@ -62,6 +64,7 @@ class BucketManagerSupplierTest {
     public void shouldUseDefaultConfigurationWhenProviderIsWrong() {
         System.setProperty(KEY_VALUE_PROVIDER.get(), Integer.class.getName());
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
@@ -70,6 +73,7 @@ class BucketManagerSupplierTest {
     @Test
     public void shouldUseDefaultConfiguration() {
         System.setProperty(KEY_VALUE_DATABASE.get(), "database");
+        SettingsSnapshot.refresh();
         BucketManager manager = supplier.get();
         Assertions.assertNotNull(manager);
         assertThat(manager).isInstanceOf(KeyValueConfigurationMock2.BucketManagerMock.class);
@@ -77,6 +81,7 @@ class BucketManagerSupplierTest {
 
     @Test
     public void shouldReturnErrorWhenThereIsNotDatabase() {
+        SettingsSnapshot.refresh();
         Assertions.assertThrows(MappingException.class, () -> supplier.get());
     }
 